@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.benchmarks.model.Author;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared benchmark state: a SessionFactory over an in-memory H2 database seeded with
+ * {@link #bookCount} books spread over {@link #AUTHOR_COUNT} authors.
+ * <p/>
+ * Settings passed as system properties prefixed with {@code hibernate.} (for example through
+ * {@code -PjmhArgs="-jvmArgs -Dhibernate.jdbc.batch_size=50"}) override the defaults below, which
+ * allows measuring the impact of a configuration change against the recorded baseline.
+ */
+@State( Scope.Benchmark )
+public class BenchmarkDatabase {
+	public static final int AUTHOR_COUNT = 20;
+
+	@Param( { "1000" } )
+	public int bookCount;
+
+	private StandardServiceRegistry serviceRegistry;
+	private SessionFactory sessionFactory;
+
+	@Setup( Level.Trial )
+	public void setUp() {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.DIALECT, "org.hibernate.dialect.H2Dialect" )
+				.applySetting( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1;LOCK_MODE=0" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.POOL_SIZE, "5" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, "50" )
+				.applySetting( AvailableSettings.SHOW_SQL, "false" );
+		for ( String name : System.getProperties().stringPropertyNames() ) {
+			if ( name.startsWith( "hibernate." ) ) {
+				registryBuilder.applySetting( name, System.getProperty( name ) );
+			}
+		}
+		serviceRegistry = registryBuilder.build();
+
+		sessionFactory = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( Author.class )
+				.addAnnotatedClass( Book.class )
+				.buildMetadata()
+				.buildSessionFactory();
+
+		populate();
+	}
+
+	private void populate() {
+		final Session session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		final Author[] authors = new Author[AUTHOR_COUNT];
+		for ( int i = 0; i < AUTHOR_COUNT; i++ ) {
+			authors[i] = new Author( (long) i, "Author #" + i, i % 2 == 0 ? "NL" : "US" );
+			session.persist( authors[i] );
+		}
+		final Date now = new Date();
+		for ( int i = 0; i < bookCount; i++ ) {
+			session.persist(
+					new Book(
+							(long) i,
+							"Book #" + i,
+							"isbn-" + i,
+							new BigDecimal( i % 100 ).add( new BigDecimal( "0.99" ) ),
+							100 + i % 900,
+							now,
+							authors[i % AUTHOR_COUNT]
+					)
+			);
+			if ( i % 50 == 0 ) {
+				session.flush();
+				session.clear();
+			}
+		}
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( serviceRegistry != null ) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	public SessionFactory getSessionFactory() {
+		return sessionFactory;
+	}
+
+	public int getBookCount() {
+		return bookCount;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures flushing a session holding every book, which is dominated by the dirty checking done in
+ * {@code DefaultFlushEntityEventListener#onFlushEntity}.  The transactions are rolled back so that every
+ * invocation sees the same data.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+@Fork( 1 )
+public class FlushBenchmark {
+
+	@Benchmark
+	@SuppressWarnings( "unchecked" )
+	public int flushUnmodified(BenchmarkDatabase database) {
+		final Session session = database.getSessionFactory().openSession();
+		try {
+			session.getTransaction().begin();
+			final List<Book> books = session.createQuery( "from Book" ).list();
+			session.flush();
+			session.getTransaction().rollback();
+			return books.size();
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings( "unchecked" )
+	public int flushEveryTenthModified(BenchmarkDatabase database) {
+		final Session session = database.getSessionFactory().openSession();
+		try {
+			session.getTransaction().begin();
+			final List<Book> books = session.createQuery( "from Book" ).list();
+			for ( int i = 0; i < books.size(); i += 10 ) {
+				final Book book = books.get( i );
+				book.setPages( book.getPages() + 1 );
+			}
+			session.flush();
+			session.getTransaction().rollback();
+			return books.size();
+		}
+		finally {
+			session.close();
+		}
+	}
+}
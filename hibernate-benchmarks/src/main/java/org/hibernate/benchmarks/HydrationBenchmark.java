@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures row hydration through {@code Loader#doQuery} for HQL queries returning every book, as managed
+ * entities, as read-only entities and as scalar projections.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+@Fork( 1 )
+public class HydrationBenchmark {
+
+	@Benchmark
+	public List entities(BenchmarkDatabase database) {
+		return list( database, "from Book", false );
+	}
+
+	@Benchmark
+	public List readOnlyEntities(BenchmarkDatabase database) {
+		return list( database, "from Book", true );
+	}
+
+	@Benchmark
+	public List entitiesWithJoinFetch(BenchmarkDatabase database) {
+		return list( database, "from Book b join fetch b.author", false );
+	}
+
+	@Benchmark
+	public List scalars(BenchmarkDatabase database) {
+		return list( database, "select b.id, b.title, b.isbn, b.price, b.pages, b.published from Book b", false );
+	}
+
+	private static List list(BenchmarkDatabase database, String hql, boolean readOnly) {
+		final Session session = database.getSessionFactory().openSession();
+		try {
+			session.getTransaction().begin();
+			final List result = session.createQuery( hql ).setReadOnly( readOnly ).list();
+			session.getTransaction().commit();
+			return result;
+		}
+		finally {
+			session.close();
+		}
+	}
+}
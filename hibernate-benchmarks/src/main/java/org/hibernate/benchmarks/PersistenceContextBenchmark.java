@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+import org.hibernate.engine.internal.StatefulPersistenceContext;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the raw {@link StatefulPersistenceContext} entity registration and lookup operations in
+ * isolation from any JDBC work.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class PersistenceContextBenchmark {
+	@Param( { "1000", "100000" } )
+	public int entityCount;
+
+	private Session session;
+	private EntityKey[] keys;
+	private Book[] entities;
+
+	@Setup( Level.Trial )
+	public void setUp(BenchmarkDatabase database) {
+		session = database.getSessionFactory().openSession();
+		final SessionImplementor sessionImplementor = (SessionImplementor) session;
+		final EntityPersister persister = sessionImplementor.getFactory().getEntityPersister( Book.class.getName() );
+		keys = new EntityKey[entityCount];
+		entities = new Book[entityCount];
+		for ( int i = 0; i < entityCount; i++ ) {
+			keys[i] = sessionImplementor.generateEntityKey( (long) i, persister );
+			entities[i] = new Book();
+		}
+	}
+
+	@TearDown( Level.Trial )
+	public void tearDown() {
+		session.close();
+	}
+
+	@Benchmark
+	public StatefulPersistenceContext add() {
+		final StatefulPersistenceContext persistenceContext = new StatefulPersistenceContext( (SessionImplementor) session );
+		for ( int i = 0; i < entityCount; i++ ) {
+			persistenceContext.addEntity( keys[i], entities[i] );
+		}
+		return persistenceContext;
+	}
+
+	@Benchmark
+	public void addAndLookup(Blackhole blackhole) {
+		final StatefulPersistenceContext persistenceContext = add();
+		for ( int i = 0; i < entityCount; i++ ) {
+			blackhole.consume( persistenceContext.getEntity( keys[i] ) );
+		}
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.benchmarks.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code Session#get} and {@code Session#load} of every book in a fresh session, which drives
+ * {@code SessionImpl} id lookups, the persistence context and single-row entity loading.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5 )
+@Measurement( iterations = 10 )
+@Fork( 1 )
+public class SessionLoadBenchmark {
+
+	@Benchmark
+	public void get(BenchmarkDatabase database, Blackhole blackhole) {
+		final Session session = database.getSessionFactory().openSession();
+		try {
+			session.getTransaction().begin();
+			for ( long id = 0; id < database.getBookCount(); id++ ) {
+				blackhole.consume( session.get( Book.class, id ) );
+			}
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public void getFromPersistenceContext(BenchmarkDatabase database, Blackhole blackhole) {
+		final Session session = database.getSessionFactory().openSession();
+		try {
+			session.getTransaction().begin();
+			session.createQuery( "from Book" ).list();
+			for ( long id = 0; id < database.getBookCount(); id++ ) {
+				blackhole.consume( session.get( Book.class, id ) );
+			}
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	@Benchmark
+	public void loadAndInitialize(BenchmarkDatabase database, Blackhole blackhole) {
+		final Session session = database.getSessionFactory().openSession();
+		try {
+			session.getTransaction().begin();
+			for ( long id = 0; id < database.getBookCount(); id++ ) {
+				final Object proxy = session.load( Book.class, id );
+				Hibernate.initialize( proxy );
+				blackhole.consume( proxy );
+			}
+			session.getTransaction().commit();
+		}
+		finally {
+			session.close();
+		}
+	}
+}
@@ -0,0 +1,15 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * JMH benchmarks covering the session hot paths (loading, flushing/dirty checking, row hydration and
+ * persistence context bookkeeping) against an in-memory H2 database.
+ * <p/>
+ * Run them using {@code ./gradlew :hibernate-benchmarks:jmh}; the results (including the allocation rates
+ * reported by the gc profiler) are written to {@code hibernate-benchmarks/target/jmh/results.json}.
+ */
+package org.hibernate.benchmarks;
@@ -0,0 +1,112 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate;
+
+import org.hibernate.engine.HibernateIterator;
+
+/**
+ * Reads the instances of an entity in parallel, for bulk reads such as exports.  The instances are split into
+ * partitions by ranges of an integral property, the identifier by default; each partition is read by a worker
+ * thread through its own {@link StatelessSession}, and so its own JDBC connection.
+ * <p/>
+ * The partitions are read in separate transactions, so they do not share a consistent view of the database.
+ * As with any stateless session, the lazy associations of the instances cannot be initialized once their
+ * partition has been read.
+ *
+ * @see StatelessSession#createPartitionedScroll(String)
+ */
+public interface PartitionedScroll {
+	/**
+	 * The alias of the entity within the {@link #setRestriction restriction}.
+	 */
+	public static final String ALIAS = "e";
+
+	/**
+	 * Set the number of partitions, the number of available processors by default.  Fewer partitions are used if
+	 * the range of the partition property is smaller.
+	 *
+	 * @param partitions The number of partitions
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public PartitionedScroll setPartitions(int partitions);
+
+	/**
+	 * Set the integral property whose ranges define the partitions, the identifier by default.  The instances whose
+	 * property is null are read with the first partition.
+	 *
+	 * @param propertyName The name of the property
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public PartitionedScroll setPartitionProperty(String propertyName);
+
+	/**
+	 * Restrict the instances read, with an HQL condition referencing the entity through the {@link #ALIAS} alias,
+	 * such as {@code e.status = :status}.
+	 *
+	 * @param condition The HQL condition
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public PartitionedScroll setRestriction(String condition);
+
+	/**
+	 * Bind a value to a named parameter of the restriction.
+	 *
+	 * @param name The name of the parameter
+	 * @param value The value
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public PartitionedScroll setParameter(String name, Object value);
+
+	/**
+	 * Set the JDBC fetch size of the partitions.
+	 *
+	 * @param fetchSize The fetch size
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see Query#setFetchSize(int)
+	 */
+	public PartitionedScroll setFetchSize(int fetchSize);
+
+	/**
+	 * Read the partitions, passing each of them to the given handler from the worker thread reading it.  Returns
+	 * once all the partitions have been read.
+	 *
+	 * @param handler The handler of the partitions
+	 *
+	 * @throws HibernateException The failure of the first partition failing, the others being cancelled (and waited
+	 * for, the reads in progress not being interruptible)
+	 */
+	public void scroll(PartitionHandler handler);
+
+	/**
+	 * Read the partitions, returning their instances merged, in no particular order.  The worker threads read ahead
+	 * a bounded number of instances.  The iterator has to be {@link HibernateIterator#close closed} if it is not
+	 * read to its end.
+	 *
+	 * @return The iterator of the instances
+	 */
+	public HibernateIterator iterate();
+
+	/**
+	 * Handles the partitions read by a {@link PartitionedScroll}.  Partitions are handled concurrently, each one
+	 * from the worker thread reading it.
+	 */
+	public static interface PartitionHandler {
+		/**
+		 * Handle a partition.
+		 *
+		 * @param partition The index of the partition
+		 * @param results The instances of the partition, read forward only; closed once handled
+		 */
+		public void handle(int partition, ScrollableResults results);
+	}
+}
@@ -108,6 +108,33 @@ public interface Query extends BasicQueryContract {
 	 */
 	public Query setFirstResult(int firstResult);
 
+	/**
+	 * Obtain the partition of the tables of the query declared for the invalidation of its cached results.
+	 *
+	 * @return The partition, or {@code null} if none was declared.
+	 *
+	 * @see #setCachePartition
+	 */
+	public Serializable getCachePartition();
+
+	/**
+	 * Declare the partition of the tables of the query for the invalidation of its cached results (if cached at all).
+	 * The cached results are then only invalidated by the changes to the entities of this partition, for the tables
+	 * of the entities with a {@link org.hibernate.annotations.QueryCachePartition} property, rather than by any
+	 * change to those tables.
+	 * <p/>
+	 * The query is expected to restrict its results to the entities of this partition, typically through a
+	 * restriction of the partition property to a parameter bound to the same value.
+	 *
+	 * @param partition The value of the {@link org.hibernate.annotations.QueryCachePartition} properties of the
+	 * entities the query returns, or {@code null} to have the results invalidated by any change to their tables
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see #getCachePartition()
+	 */
+	public Query setCachePartition(Serializable partition);
+
 	@Override
 	public Query setFlushMode(FlushMode flushMode);
 
@@ -255,6 +282,27 @@ public interface Query extends BasicQueryContract {
 	 */
 	public ScrollableResults scroll(ScrollMode scrollMode);
 
+	/**
+	 * Return the query results as <tt>ScrollableResults</tt> to be read forward only, one row at a time, for
+	 * processing a number of results too large to be held in memory.
+	 * <p/>
+	 * The rows are read from the JDBC <tt>ResultSet</tt> as the results are advanced, in batches of the
+	 * {@link #setFetchSize fetch size} if one is specified (or <tt>hibernate.jdbc.fetch_size</tt>).  If the query is
+	 * {@link #setReadOnly read-only} (or the session is {@link Session#setDefaultReadOnly read-only by default}),
+	 * the entities loaded from each row are evicted from the session, as by {@link Session#evict}, when advancing
+	 * to the next row or closing the results, so that the session does not retain them; the entities the
+	 * session already contained are left alone.  A <tt>StatelessSession</tt> does not retain the results in the
+	 * first place.
+	 * <p/>
+	 * The results must be {@link ScrollableResults#close closed} once processed.
+	 *
+	 * @return the result iterator
+	 *
+	 * @see ScrollableResults
+	 * @see ScrollMode#FORWARD_ONLY
+	 */
+	public ScrollableResults stream();
+
 	/**
 	 * Return the query results as a <tt>List</tt>. If the query contains
 	 * multiple results per row, the results are returned in an instance
@@ -154,6 +154,26 @@ public interface StatelessSession extends SharedSessionContract, java.io.Closeab
 	 */
 	public void refresh(String entityName, Object entity, LockMode lockMode);
 
+	/**
+	 * Create a {@link PartitionedScroll} reading the instances of the given entity in parallel partitions, each
+	 * one through its own stateless session.
+	 *
+	 * @param entityName The name of the entity to read
+	 *
+	 * @return The partitioned scroll
+	 */
+	public PartitionedScroll createPartitionedScroll(String entityName);
+
+	/**
+	 * Create a {@link PartitionedScroll} reading the instances of the given entity in parallel partitions, each
+	 * one through its own stateless session.
+	 *
+	 * @param entityClass The class of the entity to read
+	 *
+	 * @return The partitioned scroll
+	 */
+	public PartitionedScroll createPartitionedScroll(Class entityClass);
+
 	/**
 	 * Returns the current JDBC connection associated with this
 	 * instance.<br>
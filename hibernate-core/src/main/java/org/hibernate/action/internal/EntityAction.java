@@ -19,6 +19,7 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.pretty.MessageHelper;
 
 /**
@@ -131,6 +132,22 @@ public abstract class EntityAction
 		return persister.getPropertySpaces();
 	}
 
+	/**
+	 * The partition of the entity for the invalidation of the cached query results.
+	 *
+	 * @return The value of the {@link org.hibernate.annotations.QueryCachePartition} property of the entity, or
+	 * {@code null} if the entity is not partitioned or its partition is not known
+	 */
+	public Serializable getQueryCachePartition() {
+		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
+		if ( entityMetamodel == null || instance == null ) {
+			return null;
+		}
+		final int index = entityMetamodel.getQueryCachePartitionPropertyIndex();
+		// the property is checked to be Serializable when the partitioned spaces are registered
+		return index < 0 ? null : (Serializable) persister.getPropertyValue( instance, index );
+	}
+
 	@Override
 	public void beforeExecutions() {
 		throw new AssertionFailure( "beforeExecutions() called for non-collection action" );
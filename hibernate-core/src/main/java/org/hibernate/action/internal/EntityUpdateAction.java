@@ -295,6 +295,17 @@ public final class EntityUpdateAction extends EntityAction {
 		}
 	}
 
+	@Override
+	public Serializable getQueryCachePartition() {
+		final Serializable partition = super.getQueryCachePartition();
+		if ( partition == null || previousState == null ) {
+			return null;
+		}
+		// an update moving the entity to another partition invalidates the results of both
+		final int index = getPersister().getEntityMetamodel().getQueryCachePartitionPropertyIndex();
+		return getPersister().getPropertyTypes()[index].isEqual( previousState[index], partition ) ? partition : null;
+	}
+
 	@Override
 	protected boolean hasPostCommitEventListeners() {
 		final EventListenerGroup<PostUpdateEventListener> group = listenerGroup( EventType.POST_COMMIT_UPDATE );
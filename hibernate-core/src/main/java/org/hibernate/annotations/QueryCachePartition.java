@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * This specifies that the tables of the entity are partitioned by the value of a basic property (a tenant or a
+ * customer column for example) for the invalidation of the cached query results.
+ * <p/>
+ * Inserting, updating or deleting such an entity only invalidates the cached results of the queries declaring the
+ * same {@link org.hibernate.Query#setCachePartition partition}, along with the results of the queries declaring no
+ * partition.  Changes whose partition is not known (bulk operations, native queries, changes of the partition of an
+ * entity) still invalidate the results of every query.
+ *
+ * @see org.hibernate.Query#setCachePartition
+ */
+@Target( { METHOD, FIELD } )
+@Retention( RUNTIME )
+public @interface QueryCachePartition {
+}
@@ -13,6 +13,7 @@ import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.EntityMode;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.NullPrecedence;
 import org.hibernate.SessionFactory;
@@ -20,6 +21,7 @@ import org.hibernate.SessionFactoryObserver;
 import org.hibernate.cache.spi.QueryCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -299,6 +301,19 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyMaximumFetchDepth(int depth);
 
+	/**
+	 * Should the load plan based loaders initialize the entities which have no associations as soon as their
+	 * row is read, rather than keeping their hydrated state until the whole result set has been read?  This
+	 * setting is {@code false} by default.
+	 *
+	 * @param enabled {@code true} to initialize entities as their row is read
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STREAMING_HYDRATION
+	 */
+	public SessionFactoryBuilder applyStreamingHydration(boolean enabled);
+
 	/**
 	 * Apply a null precedence (NULLS FIRST, NULLS LAST) to be applied order-by clauses rendered into
 	 * SQL queries.
@@ -337,6 +352,18 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyOrderingOfUpdates(boolean enabled);
 
+	/**
+	 * Apply the kind of storage used by the persistence context of each Session for its entity and collection
+	 * lookups.
+	 *
+	 * @param storage The storage to use
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_STORAGE
+	 */
+	public SessionFactoryBuilder applyPersistenceContextStorage(PersistenceContextStorage storage);
+
 	/**
 	 * Apply the form of multi-tenancy used by the application
 	 *
@@ -427,6 +454,54 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyNamedQueryCheckingOnStartup(boolean enabled);
 
+	/**
+	 * Apply the number of threads used to compile the named queries (and the queries of the query plan cache
+	 * snapshot) during startup.
+	 *
+	 * @param parallelism The number of threads
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECK_PARALLELISM
+	 */
+	public SessionFactoryBuilder applyQueryStartupCheckParallelism(int parallelism);
+
+	/**
+	 * Apply the number of threads used to build the entity and collection persisters during startup.
+	 *
+	 * @param parallelism The number of threads
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTER_INSTANTIATION_PARALLELISM
+	 */
+	public SessionFactoryBuilder applyPersisterInstantiationParallelism(int parallelism);
+
+	/**
+	 * Apply the lock modes for which the entity persisters build their static entity loaders during startup;
+	 * the loaders for other lock modes are built on first use.  By default, only the loaders for
+	 * {@link LockMode#NONE} are built during startup.
+	 *
+	 * @param lockModes The lock modes
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTER_PREWARMED_LOCK_MODES
+	 */
+	public SessionFactoryBuilder applyPrewarmedLockModes(LockMode... lockModes);
+
+	/**
+	 * Apply the file in which the HQL queries of the query plan cache are recorded when the SessionFactory
+	 * is closed, and from which they are compiled when a SessionFactory is built for the same mappings.
+	 *
+	 * @param fileName The file name
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT_FILE
+	 */
+	public SessionFactoryBuilder applyQueryPlanCacheSnapshotFile(String fileName);
+
 	/**
 	 * Should second level caching support be enabled?
 	 *
@@ -462,6 +537,19 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyQueryCacheFactory(QueryCacheFactory factory);
 
+	/**
+	 * Apply the maximum time, in milliseconds, a query cache miss waits for a concurrent execution of the same
+	 * query to cache its results, rather than executing the query as well.  0, the default, disables the
+	 * coordination of concurrent misses.
+	 *
+	 * @param timeout The timeout in milliseconds, or 0
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT
+	 */
+	public SessionFactoryBuilder applyQueryCacheSingleFlightTimeout(int timeout);
+
 	/**
 	 * Apply a prefix to prepended to all cache region names for this SessionFactory.
 	 *
@@ -507,6 +595,20 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyStructuredCacheEntries(boolean enabled);
 
+	/**
+	 * Should the entity and collection cache entries be stored in a compact binary format rather than as
+	 * serializable objects?  The binary format avoids the cost of the Java serialization of the entries by the
+	 * clustered or off-heap cache regions.  This setting is {@code false} by default, and is ignored when
+	 * {@link #applyStructuredCacheEntries structured cache entries} are enabled.
+	 *
+	 * @param enabled {@code true} to store the cache entries in the binary format
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+	 */
+	public SessionFactoryBuilder applyBinaryCacheEntries(boolean enabled);
+
 	/**
 	 * Generally, Hibernate will extract the information from an entity and put that
 	 * extracted information into the second-level cache.  This is by far the safest way to
@@ -568,6 +670,20 @@ public interface SessionFactoryBuilder {
 	 */
 	public SessionFactoryBuilder applyJdbcBatchingForVersionedEntities(boolean enabled);
 
+	/**
+	 * Should a flush execute its JDBC batches back to back, only executing the pending batch when a
+	 * statement of another batch or a non-batched statement is executed rather than after each group of actions
+	 * (inserts, updates, collection changes, deletes), and verify the row counts of the batches at the end of
+	 * the flush?  This setting is {@code false} by default.
+	 *
+	 * @param enabled {@code true} to pipeline flushes
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_PIPELINED_FLUSH
+	 */
+	public SessionFactoryBuilder applyJdbcBatchPipelinedFlush(boolean enabled);
+
 	/**
 	 * Should scrollable results be supported in queries?  We ask the JDBC driver whether it
 	 * supports scrollable result sets as the default for this setting, but some drivers do not
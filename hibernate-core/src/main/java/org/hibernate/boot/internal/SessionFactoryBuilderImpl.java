@@ -19,6 +19,7 @@ import org.hibernate.EmptyInterceptor;
 import org.hibernate.EntityMode;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.NullPrecedence;
 import org.hibernate.SessionEventListener;
@@ -43,8 +44,10 @@ import org.hibernate.engine.config.internal.ConfigurationServiceImpl;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.internal.SessionFactoryImpl;
+import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -59,6 +62,7 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_PIPELINED_FLUSH;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
@@ -77,9 +81,15 @@ import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_STORAGE;
+import static org.hibernate.cfg.AvailableSettings.PERSISTER_INSTANTIATION_PARALLELISM;
+import static org.hibernate.cfg.AvailableSettings.PERSISTER_PREWARMED_LOCK_MODES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT;
+import static org.hibernate.cfg.AvailableSettings.QUERY_PLAN_CACHE_SNAPSHOT_FILE;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECK_PARALLELISM;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
@@ -87,6 +97,8 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.STREAMING_HYDRATION;
+import static org.hibernate.cfg.AvailableSettings.USE_BINARY_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -278,6 +290,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyStreamingHydration(boolean enabled) {
+		this.options.streamingHydrationEnabled = enabled;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyDefaultNullPrecedence(NullPrecedence nullPrecedence) {
 		this.options.defaultNullPrecedence = nullPrecedence;
@@ -296,6 +314,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyPersistenceContextStorage(PersistenceContextStorage storage) {
+		this.options.persistenceContextStorage = storage;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyMultiTenancyStrategy(MultiTenancyStrategy strategy) {
 		this.options.multiTenancyStrategy = strategy;
@@ -327,6 +351,30 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyQueryStartupCheckParallelism(int parallelism) {
+		this.options.queryStartupCheckParallelism = parallelism;
+		return this;
+	}
+
+	@Override
+	public SessionFactoryBuilder applyPersisterInstantiationParallelism(int parallelism) {
+		this.options.persisterInstantiationParallelism = parallelism;
+		return this;
+	}
+
+	@Override
+	public SessionFactoryBuilder applyPrewarmedLockModes(LockMode... lockModes) {
+		this.options.prewarmedLockModes = lockModes;
+		return this;
+	}
+
+	@Override
+	public SessionFactoryBuilder applyQueryPlanCacheSnapshotFile(String fileName) {
+		this.options.queryPlanCacheSnapshotFile = fileName;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applySecondLevelCacheSupport(boolean enabled) {
 		this.options.secondLevelCacheEnabled = enabled;
@@ -345,6 +393,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyQueryCacheSingleFlightTimeout(int timeout) {
+		this.options.queryCacheSingleFlightTimeout = timeout;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyCacheRegionPrefix(String prefix) {
 		this.options.cacheRegionPrefix = prefix;
@@ -363,6 +417,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyBinaryCacheEntries(boolean enabled) {
+		this.options.binaryCacheEntriesEnabled = enabled;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyDirectReferenceCaching(boolean enabled) {
 		this.options.directReferenceCacheEntriesEnabled = enabled;
@@ -387,6 +447,12 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return this;
 	}
 
+	@Override
+	public SessionFactoryBuilder applyJdbcBatchPipelinedFlush(boolean enabled) {
+		this.options.jdbcBatchPipelinedFlush = enabled;
+		return this;
+	}
+
 	@Override
 	public SessionFactoryBuilder applyScrollableResultsSupport(boolean enabled) {
 		this.options.scrollableResultSetsEnabled = enabled;
@@ -493,9 +559,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		private BatchFetchStyle batchFetchStyle;
 		private int defaultBatchFetchSize;
 		private Integer maximumFetchDepth;
+		private boolean streamingHydrationEnabled;
 		private NullPrecedence defaultNullPrecedence;
 		private boolean orderUpdatesEnabled;
 		private boolean orderInsertsEnabled;
+		private PersistenceContextStorage persistenceContextStorage;
 
 		// multi-tenancy
 		private MultiTenancyStrategy multiTenancyStrategy;
@@ -505,14 +573,20 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		private Map querySubstitutions;
 		private boolean strictJpaQueryLanguageCompliance;
 		private boolean namedQueryStartupCheckingEnabled;
+		private int queryStartupCheckParallelism;
+		private int persisterInstantiationParallelism;
+		private LockMode[] prewarmedLockModes;
+		private String queryPlanCacheSnapshotFile;
 
 		// Caching
 		private boolean secondLevelCacheEnabled;
 		private boolean queryCacheEnabled;
 		private QueryCacheFactory queryCacheFactory;
+		private int queryCacheSingleFlightTimeout;
 		private String cacheRegionPrefix;
 		private boolean minimalPutsEnabled;
 		private boolean structuredCacheEntriesEnabled;
+		private boolean binaryCacheEntriesEnabled;
 		private boolean directReferenceCacheEntriesEnabled;
 		private boolean autoEvictCollectionCache;
 
@@ -523,6 +597,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		private boolean getGeneratedKeysEnabled;
 		private int jdbcBatchSize;
 		private boolean jdbcBatchVersionedData;
+		private boolean jdbcBatchPipelinedFlush;
 		private Integer jdbcFetchSize;
 		private boolean scrollableResultSetsEnabled;
 		private boolean commentsEnabled;
@@ -608,18 +683,39 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 			this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 			this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
+			this.streamingHydrationEnabled = ConfigurationHelper.getBoolean( STREAMING_HYDRATION, configurationSettings, false );
 			final String defaultNullPrecedence = ConfigurationHelper.getString(
 					AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
 			);
 			this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 			this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 			this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
+			this.persistenceContextStorage = PersistenceContextStorage.interpret(
+					configurationSettings.get( PERSISTENCE_CONTEXT_STORAGE )
+			);
 
 			this.jtaTrackByThread = cfgService.getSetting( JTA_TRACK_BY_THREAD, BOOLEAN, true );
 
 			this.querySubstitutions = ConfigurationHelper.toMap( QUERY_SUBSTITUTIONS, " ,=;:\n\t\r\f", configurationSettings );
 			this.strictJpaQueryLanguageCompliance = cfgService.getSetting( JPAQL_STRICT_COMPLIANCE, BOOLEAN, false );
 			this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+			this.queryStartupCheckParallelism = ConfigurationHelper.getInt(
+					QUERY_STARTUP_CHECK_PARALLELISM,
+					configurationSettings,
+					Runtime.getRuntime().availableProcessors()
+			);
+			this.persisterInstantiationParallelism = ConfigurationHelper.getInt(
+					PERSISTER_INSTANTIATION_PARALLELISM,
+					configurationSettings,
+					1
+			);
+			this.prewarmedLockModes = interpretLockModes(
+					ConfigurationHelper.getString( PERSISTER_PREWARMED_LOCK_MODES, configurationSettings, "none" )
+			);
+			this.queryPlanCacheSnapshotFile = ConfigurationHelper.getString(
+					QUERY_PLAN_CACHE_SNAPSHOT_FILE,
+					configurationSettings
+			);
 
 			this.secondLevelCacheEnabled = cfgService.getSetting( USE_SECOND_LEVEL_CACHE, BOOLEAN, true );
 			this.queryCacheEnabled = cfgService.getSetting( USE_QUERY_CACHE, BOOLEAN, false );
@@ -628,6 +724,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
 					StandardQueryCacheFactory.INSTANCE
 			);
+			this.queryCacheSingleFlightTimeout = ConfigurationHelper.getInt( QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT, configurationSettings, 0 );
 			this.cacheRegionPrefix = ConfigurationHelper.extractPropertyValue(
 					CACHE_REGION_PREFIX,
 					configurationSettings
@@ -638,6 +735,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 					serviceRegistry.getService( RegionFactory.class ).isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.binaryCacheEntriesEnabled = cfgService.getSetting( USE_BINARY_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting( USE_DIRECT_REFERENCE_CACHE_ENTRIES,BOOLEAN, false );
 			this.autoEvictCollectionCache = cfgService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
 
@@ -667,6 +765,7 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			}
 
 			this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+			this.jdbcBatchPipelinedFlush = ConfigurationHelper.getBoolean( BATCH_PIPELINED_FLUSH, configurationSettings, false );
 			this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 					USE_SCROLLABLE_RESULTSET,
 					configurationSettings,
@@ -698,6 +797,15 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			this.preferUserTransaction = ConfigurationHelper.getBoolean( PREFER_USER_TRANSACTION, configurationSettings, false  );
 		}
 
+		private static LockMode[] interpretLockModes(String lockModeNames) {
+			final String[] names = StringHelper.split( ", ", lockModeNames );
+			final LockMode[] lockModes = new LockMode[names.length];
+			for ( int i = 0; i < names.length; i++ ) {
+				lockModes[i] = LockMode.fromExternalForm( names[i] );
+			}
+			return lockModes;
+		}
+
 		@Override
 		public StandardServiceRegistry getServiceRegistry() {
 			return serviceRegistry;
@@ -808,6 +916,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return maximumFetchDepth;
 		}
 
+		@Override
+		public boolean isStreamingHydrationEnabled() {
+			return streamingHydrationEnabled;
+		}
+
 		@Override
 		public NullPrecedence getDefaultNullPrecedence() {
 			return defaultNullPrecedence;
@@ -823,6 +936,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return orderInsertsEnabled;
 		}
 
+		@Override
+		public PersistenceContextStorage getPersistenceContextStorage() {
+			return persistenceContextStorage;
+		}
+
 		@Override
 		public MultiTenancyStrategy getMultiTenancyStrategy() {
 			return multiTenancyStrategy;
@@ -853,6 +971,26 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return namedQueryStartupCheckingEnabled;
 		}
 
+		@Override
+		public int getQueryStartupCheckParallelism() {
+			return queryStartupCheckParallelism;
+		}
+
+		@Override
+		public int getPersisterInstantiationParallelism() {
+			return persisterInstantiationParallelism;
+		}
+
+		@Override
+		public LockMode[] getPrewarmedLockModes() {
+			return prewarmedLockModes;
+		}
+
+		@Override
+		public String getQueryPlanCacheSnapshotFile() {
+			return queryPlanCacheSnapshotFile;
+		}
+
 		@Override
 		public boolean isSecondLevelCacheEnabled() {
 			return secondLevelCacheEnabled;
@@ -868,6 +1006,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return queryCacheFactory;
 		}
 
+		@Override
+		public int getQueryCacheSingleFlightTimeout() {
+			return queryCacheSingleFlightTimeout;
+		}
+
 		@Override
 		public String getCacheRegionPrefix() {
 			return cacheRegionPrefix;
@@ -883,6 +1026,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return structuredCacheEntriesEnabled;
 		}
 
+		@Override
+		public boolean isBinaryCacheEntriesEnabled() {
+			return binaryCacheEntriesEnabled;
+		}
+
 		@Override
 		public boolean isDirectReferenceCacheEntriesEnabled() {
 			return directReferenceCacheEntriesEnabled;
@@ -908,6 +1056,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 			return jdbcBatchVersionedData;
 		}
 
+		@Override
+		public boolean isJdbcBatchPipelinedFlush() {
+			return jdbcBatchPipelinedFlush;
+		}
+
 		@Override
 		public boolean isScrollableResultSetsEnabled() {
 			return scrollableResultSetsEnabled;
@@ -1074,6 +1227,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.getMaximumFetchDepth();
 	}
 
+	@Override
+	public boolean isStreamingHydrationEnabled() {
+		return options.isStreamingHydrationEnabled();
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return options.getDefaultNullPrecedence();
@@ -1089,6 +1247,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public PersistenceContextStorage getPersistenceContextStorage() {
+		return options.getPersistenceContextStorage();
+	}
+
 	@Override
 	public MultiTenancyStrategy getMultiTenancyStrategy() {
 		return options.getMultiTenancyStrategy();
@@ -1119,6 +1282,26 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public int getQueryStartupCheckParallelism() {
+		return options.getQueryStartupCheckParallelism();
+	}
+
+	@Override
+	public int getPersisterInstantiationParallelism() {
+		return options.getPersisterInstantiationParallelism();
+	}
+
+	@Override
+	public LockMode[] getPrewarmedLockModes() {
+		return options.getPrewarmedLockModes();
+	}
+
+	@Override
+	public String getQueryPlanCacheSnapshotFile() {
+		return options.getQueryPlanCacheSnapshotFile();
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return options.isSecondLevelCacheEnabled();
@@ -1134,6 +1317,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.getQueryCacheFactory();
 	}
 
+	@Override
+	public int getQueryCacheSingleFlightTimeout() {
+		return options.getQueryCacheSingleFlightTimeout();
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return options.getCacheRegionPrefix();
@@ -1149,6 +1337,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return options.isBinaryCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return options.isDirectReferenceCacheEntriesEnabled();
@@ -1174,6 +1367,11 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 		return options.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchPipelinedFlush() {
+		return options.isJdbcBatchPipelinedFlush();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return options.isScrollableResultSetsEnabled();
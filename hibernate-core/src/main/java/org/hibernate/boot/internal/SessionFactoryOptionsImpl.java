@@ -13,6 +13,7 @@ import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.EntityMode;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.NullPrecedence;
 import org.hibernate.SessionFactoryObserver;
@@ -24,6 +25,7 @@ import org.hibernate.cache.spi.QueryCacheFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -75,9 +77,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 	private final BatchFetchStyle batchFetchStyle;
 	private final int defaultBatchFetchSize;
 	private final Integer maximumFetchDepth;
+	private final boolean streamingHydrationEnabled;
 	private final NullPrecedence defaultNullPrecedence;
 	private final boolean orderUpdatesEnabled;
 	private final boolean orderInsertsEnabled;
+	private final PersistenceContextStorage persistenceContextStorage;
 
 	// multi-tenancy
 	private final MultiTenancyStrategy multiTenancyStrategy;
@@ -87,14 +91,20 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 	private final Map querySubstitutions;
 	private final boolean strictJpaQueryLanguageCompliance;
 	private final boolean namedQueryStartupCheckingEnabled;
+	private final int queryStartupCheckParallelism;
+	private final int persisterInstantiationParallelism;
+	private final LockMode[] prewarmedLockModes;
+	private final String queryPlanCacheSnapshotFile;
 
 	// Caching
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
 	private final QueryCacheFactory queryCacheFactory;
+	private final int queryCacheSingleFlightTimeout;
 	private final String cacheRegionPrefix;
 	private final boolean minimalPutsEnabled;
 	private final boolean structuredCacheEntriesEnabled;
+	private final boolean binaryCacheEntriesEnabled;
 	private final boolean directReferenceCacheEntriesEnabled;
 	private final boolean autoEvictCollectionCache;
 
@@ -105,6 +115,7 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 	private final boolean getGeneratedKeysEnabled;
 	private final int jdbcBatchSize;
 	private final boolean jdbcBatchVersionedData;
+	private final boolean jdbcBatchPipelinedFlush;
 	private final Integer jdbcFetchSize;
 	private final boolean scrollableResultSetsEnabled;
 	private final boolean commentsEnabled;
@@ -147,9 +158,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		this.batchFetchStyle = state.getBatchFetchStyle();
 		this.defaultBatchFetchSize = state.getDefaultBatchFetchSize();
 		this.maximumFetchDepth = state.getMaximumFetchDepth();
+		this.streamingHydrationEnabled = state.isStreamingHydrationEnabled();
 		this.defaultNullPrecedence = state.getDefaultNullPrecedence();
 		this.orderUpdatesEnabled = state.isOrderUpdatesEnabled();
 		this.orderInsertsEnabled = state.isOrderInsertsEnabled();
+		this.persistenceContextStorage = state.getPersistenceContextStorage();
 
 		this.multiTenancyStrategy = state.getMultiTenancyStrategy();
 		this.currentTenantIdentifierResolver = state.getCurrentTenantIdentifierResolver();
@@ -157,13 +170,19 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		this.querySubstitutions = state.getQuerySubstitutions();
 		this.strictJpaQueryLanguageCompliance = state.isStrictJpaQueryLanguageCompliance();
 		this.namedQueryStartupCheckingEnabled = state.isNamedQueryStartupCheckingEnabled();
+		this.queryStartupCheckParallelism = state.getQueryStartupCheckParallelism();
+		this.persisterInstantiationParallelism = state.getPersisterInstantiationParallelism();
+		this.prewarmedLockModes = state.getPrewarmedLockModes();
+		this.queryPlanCacheSnapshotFile = state.getQueryPlanCacheSnapshotFile();
 
 		this.secondLevelCacheEnabled = state.isSecondLevelCacheEnabled();
 		this.queryCacheEnabled = state.isQueryCacheEnabled();
 		this.queryCacheFactory = state.getQueryCacheFactory();
+		this.queryCacheSingleFlightTimeout = state.getQueryCacheSingleFlightTimeout();
 		this.cacheRegionPrefix = state.getCacheRegionPrefix();
 		this.minimalPutsEnabled = state.isMinimalPutsEnabled();
 		this.structuredCacheEntriesEnabled = state.isStructuredCacheEntriesEnabled();
+		this.binaryCacheEntriesEnabled = state.isBinaryCacheEntriesEnabled();
 		this.directReferenceCacheEntriesEnabled = state.isDirectReferenceCacheEntriesEnabled();
 		this.autoEvictCollectionCache = state.isAutoEvictCollectionCache();
 
@@ -172,6 +191,7 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		this.getGeneratedKeysEnabled = state.isGetGeneratedKeysEnabled();
 		this.jdbcBatchSize = state.getJdbcBatchSize();
 		this.jdbcBatchVersionedData = state.isJdbcBatchVersionedData();
+		this.jdbcBatchPipelinedFlush = state.isJdbcBatchPipelinedFlush();
 		this.jdbcFetchSize = state.getJdbcFetchSize();
 		this.scrollableResultSetsEnabled = state.isScrollableResultSetsEnabled();
 		this.wrapResultSetsEnabled = state.isWrapResultSetsEnabled();
@@ -289,6 +309,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return maximumFetchDepth;
 	}
 
+	@Override
+	public boolean isStreamingHydrationEnabled() {
+		return streamingHydrationEnabled;
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
@@ -304,6 +329,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public PersistenceContextStorage getPersistenceContextStorage() {
+		return persistenceContextStorage;
+	}
+
 	@Override
 	public MultiTenancyStrategy getMultiTenancyStrategy() {
 		return multiTenancyStrategy;
@@ -334,6 +364,26 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public int getQueryStartupCheckParallelism() {
+		return queryStartupCheckParallelism;
+	}
+
+	@Override
+	public int getPersisterInstantiationParallelism() {
+		return persisterInstantiationParallelism;
+	}
+
+	@Override
+	public LockMode[] getPrewarmedLockModes() {
+		return prewarmedLockModes;
+	}
+
+	@Override
+	public String getQueryPlanCacheSnapshotFile() {
+		return queryPlanCacheSnapshotFile;
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return secondLevelCacheEnabled;
@@ -349,6 +399,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return queryCacheFactory;
 	}
 
+	@Override
+	public int getQueryCacheSingleFlightTimeout() {
+		return queryCacheSingleFlightTimeout;
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return cacheRegionPrefix;
@@ -364,6 +419,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -388,6 +448,11 @@ public class SessionFactoryOptionsImpl implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isJdbcBatchPipelinedFlush() {
+		return jdbcBatchPipelinedFlush;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
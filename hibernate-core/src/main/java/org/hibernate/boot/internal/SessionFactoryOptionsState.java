@@ -13,6 +13,7 @@ import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.EntityMode;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.NullPrecedence;
 import org.hibernate.SessionFactoryObserver;
@@ -23,6 +24,7 @@ import org.hibernate.cache.spi.QueryCacheFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -79,12 +81,16 @@ public interface SessionFactoryOptionsState {
 
 	public Integer getMaximumFetchDepth();
 
+	public boolean isStreamingHydrationEnabled();
+
 	public NullPrecedence getDefaultNullPrecedence();
 
 	public boolean isOrderUpdatesEnabled();
 
 	public boolean isOrderInsertsEnabled();
 
+	public PersistenceContextStorage getPersistenceContextStorage();
+
 	public MultiTenancyStrategy getMultiTenancyStrategy();
 
 	public CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -97,18 +103,30 @@ public interface SessionFactoryOptionsState {
 
 	public boolean isNamedQueryStartupCheckingEnabled();
 
+	public int getQueryStartupCheckParallelism();
+
+	public int getPersisterInstantiationParallelism();
+
+	public LockMode[] getPrewarmedLockModes();
+
+	public String getQueryPlanCacheSnapshotFile();
+
 	public boolean isSecondLevelCacheEnabled();
 
 	public boolean isQueryCacheEnabled();
 
 	public QueryCacheFactory getQueryCacheFactory();
 
+	public int getQueryCacheSingleFlightTimeout();
+
 	public String getCacheRegionPrefix();
 
 	public boolean isMinimalPutsEnabled();
 
 	public boolean isStructuredCacheEntriesEnabled();
 
+	public boolean isBinaryCacheEntriesEnabled();
+
 	public boolean isDirectReferenceCacheEntriesEnabled();
 
 	public boolean isAutoEvictCollectionCache();
@@ -119,6 +137,8 @@ public interface SessionFactoryOptionsState {
 
 	public boolean isJdbcBatchVersionedData();
 
+	public boolean isJdbcBatchPipelinedFlush();
+
 	public boolean isScrollableResultSetsEnabled();
 
 	public boolean isWrapResultSetsEnabled();
@@ -13,6 +13,7 @@ import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.EntityMode;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.NullPrecedence;
 import org.hibernate.SessionFactoryObserver;
@@ -21,6 +22,7 @@ import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.cache.spi.QueryCacheFactory;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -197,6 +199,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyStreamingHydration(boolean enabled) {
+		delegate.applyStreamingHydration( enabled );
+		return getThis();
+	}
+
 	@Override
 	public T applyDefaultNullPrecedence(NullPrecedence nullPrecedence) {
 		delegate.applyDefaultNullPrecedence( nullPrecedence );
@@ -215,6 +223,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyPersistenceContextStorage(PersistenceContextStorage storage) {
+		delegate.applyPersistenceContextStorage( storage );
+		return getThis();
+	}
+
 	@Override
 	public T applyMultiTenancyStrategy(MultiTenancyStrategy strategy) {
 		delegate.applyMultiTenancyStrategy( strategy );
@@ -258,6 +272,30 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyQueryStartupCheckParallelism(int parallelism) {
+		delegate.applyQueryStartupCheckParallelism( parallelism );
+		return getThis();
+	}
+
+	@Override
+	public T applyPersisterInstantiationParallelism(int parallelism) {
+		delegate.applyPersisterInstantiationParallelism( parallelism );
+		return getThis();
+	}
+
+	@Override
+	public T applyPrewarmedLockModes(LockMode... lockModes) {
+		delegate.applyPrewarmedLockModes( lockModes );
+		return getThis();
+	}
+
+	@Override
+	public T applyQueryPlanCacheSnapshotFile(String fileName) {
+		delegate.applyQueryPlanCacheSnapshotFile( fileName );
+		return getThis();
+	}
+
 	@Override
 	public T applySecondLevelCacheSupport(boolean enabled) {
 		delegate.applySecondLevelCacheSupport( enabled );
@@ -276,6 +314,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyQueryCacheSingleFlightTimeout(int timeout) {
+		delegate.applyQueryCacheSingleFlightTimeout( timeout );
+		return getThis();
+	}
+
 	@Override
 	public T applyCacheRegionPrefix(String prefix) {
 		delegate.applyCacheRegionPrefix( prefix );
@@ -294,6 +338,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyBinaryCacheEntries(boolean enabled) {
+		delegate.applyBinaryCacheEntries( enabled );
+		return getThis();
+	}
+
 	@Override
 	public T applyDirectReferenceCaching(boolean enabled) {
 		delegate.applyDirectReferenceCaching( enabled );
@@ -318,6 +368,12 @@ public abstract class AbstractDelegatingSessionFactoryBuilder<T extends Abstract
 		return getThis();
 	}
 
+	@Override
+	public T applyJdbcBatchPipelinedFlush(boolean enabled) {
+		delegate.applyJdbcBatchPipelinedFlush( enabled );
+		return getThis();
+	}
+
 	@Override
 	public T applyScrollableResultsSupport(boolean enabled) {
 		delegate.applyScrollableResultsSupport( enabled );
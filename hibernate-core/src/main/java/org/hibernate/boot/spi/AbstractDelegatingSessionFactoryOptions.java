@@ -13,6 +13,7 @@ import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.EntityMode;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.NullPrecedence;
 import org.hibernate.SessionFactoryObserver;
@@ -23,6 +24,7 @@ import org.hibernate.cache.spi.QueryCacheFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -151,6 +153,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.getMaximumFetchDepth();
 	}
 
+	@Override
+	public boolean isStreamingHydrationEnabled() {
+		return delegate.isStreamingHydrationEnabled();
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -166,6 +173,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public PersistenceContextStorage getPersistenceContextStorage() {
+		return delegate.getPersistenceContextStorage();
+	}
+
 	@Override
 	public MultiTenancyStrategy getMultiTenancyStrategy() {
 		return delegate.getMultiTenancyStrategy();
@@ -196,6 +208,26 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public int getQueryStartupCheckParallelism() {
+		return delegate.getQueryStartupCheckParallelism();
+	}
+
+	@Override
+	public int getPersisterInstantiationParallelism() {
+		return delegate.getPersisterInstantiationParallelism();
+	}
+
+	@Override
+	public LockMode[] getPrewarmedLockModes() {
+		return delegate.getPrewarmedLockModes();
+	}
+
+	@Override
+	public String getQueryPlanCacheSnapshotFile() {
+		return delegate.getQueryPlanCacheSnapshotFile();
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return delegate.isSecondLevelCacheEnabled();
@@ -211,6 +243,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.getQueryCacheFactory();
 	}
 
+	@Override
+	public int getQueryCacheSingleFlightTimeout() {
+		return delegate.getQueryCacheSingleFlightTimeout();
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return delegate.getCacheRegionPrefix();
@@ -226,6 +263,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -251,6 +293,11 @@ public abstract class AbstractDelegatingSessionFactoryOptions implements Session
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchPipelinedFlush() {
+		return delegate.isJdbcBatchPipelinedFlush();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
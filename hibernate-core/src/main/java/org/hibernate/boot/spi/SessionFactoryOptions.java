@@ -13,6 +13,7 @@ import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.EntityMode;
 import org.hibernate.EntityNameResolver;
 import org.hibernate.Interceptor;
+import org.hibernate.LockMode;
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.NullPrecedence;
 import org.hibernate.SessionFactoryObserver;
@@ -23,6 +24,7 @@ import org.hibernate.cache.spi.QueryCacheFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.PersistenceContextStorage;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.proxy.EntityNotFoundDelegate;
@@ -103,12 +105,22 @@ public interface SessionFactoryOptions {
 
 	public Integer getMaximumFetchDepth();
 
+	/**
+	 * Should the load plan based loaders initialize the entities without associations as soon as their row
+	 * is read, rather than after reading the whole result set?
+	 *
+	 * @return {@code true} if entities are initialized as their row is read
+	 */
+	public boolean isStreamingHydrationEnabled();
+
 	public NullPrecedence getDefaultNullPrecedence();
 
 	public boolean isOrderUpdatesEnabled();
 
 	public boolean isOrderInsertsEnabled();
 
+	public PersistenceContextStorage getPersistenceContextStorage();
+
 	public MultiTenancyStrategy getMultiTenancyStrategy();
 
 	public CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -121,18 +133,64 @@ public interface SessionFactoryOptions {
 
 	public boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * The number of threads used to compile the named queries (and the queries of the query plan cache
+	 * snapshot) during startup.
+	 *
+	 * @return The number of threads
+	 */
+	public int getQueryStartupCheckParallelism();
+
+	/**
+	 * The number of threads used to build the entity and collection persisters during startup.
+	 *
+	 * @return The number of threads
+	 */
+	public int getPersisterInstantiationParallelism();
+
+	/**
+	 * The lock modes for which the entity persisters build their static entity loaders during startup.
+	 *
+	 * @return The lock modes
+	 */
+	public LockMode[] getPrewarmedLockModes();
+
+	/**
+	 * The file in which the HQL queries of the query plan cache are recorded on close, and from which
+	 * they are compiled on startup.
+	 *
+	 * @return The file name, or {@code null}
+	 */
+	public String getQueryPlanCacheSnapshotFile();
+
 	public boolean isSecondLevelCacheEnabled();
 
 	public boolean isQueryCacheEnabled();
 
 	public QueryCacheFactory getQueryCacheFactory();
 
+	/**
+	 * The maximum time, in milliseconds, a query cache miss waits for a concurrent execution of the same query
+	 * to cache its results, rather than executing the query as well.  0 when concurrent misses are not coordinated.
+	 *
+	 * @return The timeout in milliseconds, or 0
+	 */
+	public int getQueryCacheSingleFlightTimeout();
+
 	public String getCacheRegionPrefix();
 
 	public boolean isMinimalPutsEnabled();
 
 	public boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * Should the entity and collection cache entries be stored in the compact binary format, rather than as
+	 * serializable objects?  Structured cache entries take precedence.
+	 *
+	 * @return {@code true} if the cache entries are stored in the binary format
+	 */
+	public boolean isBinaryCacheEntriesEnabled();
+
 	public boolean isDirectReferenceCacheEntriesEnabled();
 
 	public boolean isAutoEvictCollectionCache();
@@ -143,6 +201,14 @@ public interface SessionFactoryOptions {
 
 	public boolean isJdbcBatchVersionedData();
 
+	/**
+	 * Should a flush execute its JDBC batches without synchronizing after each group of actions, verifying
+	 * the row counts of the batches at the end of the flush?
+	 *
+	 * @return {@code true} if flushes are pipelined
+	 */
+	public boolean isJdbcBatchPipelinedFlush();
+
 	public boolean isScrollableResultSetsEnabled();
 
 	public boolean isWrapResultSetsEnabled();
@@ -9,6 +9,7 @@ package org.hibernate.bytecode.internal.javassist;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.security.ProtectionDomain;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javassist.CannotCompileException;
 import javassist.bytecode.AccessFlag;
@@ -38,7 +39,8 @@ class BulkAccessorFactory {
 	private static final String THROWABLE_CLASS_NAME = Throwable.class.getName();
 	private static final String BULKEXCEPTION_CLASS_NAME = BulkAccessorException.class.getName();
 
-	private static int counter;
+	// persisters, and so their bulk accessors, may be built concurrently
+	private static final AtomicInteger counter = new AtomicInteger();
 
 	private Class targetBean;
 	private String[] getterNames;
@@ -93,7 +95,7 @@ class BulkAccessorFactory {
 	private ClassFile make(Method[] getters, Method[] setters) throws CannotCompileException {
 		String className = targetBean.getName();
 		// set the name of bulk accessor.
-		className = className + "_$$_bulkaccess_" + counter++;
+		className = className + "_$$_bulkaccess_" + counter.getAndIncrement();
 		if ( className.startsWith( "java." ) ) {
 			className = PACKAGE_NAME_PREFIX + className;
 		}
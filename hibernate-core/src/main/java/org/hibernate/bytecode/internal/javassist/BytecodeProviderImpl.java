@@ -8,11 +8,13 @@ package org.hibernate.bytecode.internal.javassist;
 
 import java.lang.reflect.Modifier;
 
-import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.AccessorReflectionOptimizerProvider;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
 
 import org.jboss.logging.Logger;
 
@@ -21,7 +23,7 @@ import org.jboss.logging.Logger;
  *
  * @author Steve Ebersole
  */
-public class BytecodeProviderImpl implements BytecodeProvider {
+public class BytecodeProviderImpl implements AccessorReflectionOptimizerProvider {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			CoreMessageLogger.class,
 			BytecodeProviderImpl.class.getName()
@@ -92,4 +94,32 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		return null;
 	}
 
+	@Override
+	public ReflectionOptimizer getReflectionOptimizer(Class clazz, Getter[] getters, Setter[] setters) {
+		final DirectAccessor directAccessor;
+		try {
+			directAccessor = DirectAccessor.create( clazz, getters, setters );
+			if ( directAccessor.isInstantiable() ) {
+				//test out the optimizer:
+				final Object instance = directAccessor.newInstance();
+				directAccessor.setPropertyValues( instance, directAccessor.getPropertyValues( instance ) );
+			}
+		}
+		catch ( Throwable t ) {
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf(
+						"Reflection optimizer disabled for %s [%s: %s]",
+						clazz.getName(),
+						StringHelper.unqualify( t.getClass().getName() ),
+						t.getMessage()
+				);
+			}
+			return null;
+		}
+
+		return new ReflectionOptimizerImpl(
+				directAccessor.isInstantiable() ? new DirectInstantiationOptimizerAdapter( directAccessor, clazz ) : null,
+				new AccessOptimizerAdapter( directAccessor, clazz )
+		);
+	}
 }
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.javassist;
+
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
+
+/**
+ * A {@link BulkAccessor} generated from the {@link Getter getters} and {@link Setter setters} of the properties
+ * of a class, rather than from the names of its getter and setter methods.  The generated class is defined in the
+ * package of the accessed class, so that it invokes the accessor methods or accesses the fields of the properties
+ * directly, as long as they are not private; the properties the generated class cannot access are delegated to
+ * their getter and setter.
+ */
+public abstract class DirectAccessor extends BulkAccessor {
+	protected Getter[] propertyGetters;
+	protected Setter[] propertySetters;
+	protected boolean instantiable;
+
+	/**
+	 * Protected access constructor so the generated class has access to it.
+	 */
+	protected DirectAccessor() {
+	}
+
+	/**
+	 * Can the accessed class be instantiated through {@link #newInstance()}?
+	 *
+	 * @return {@code true} if the accessed class is concrete, and has a no-argument constructor accessible to the
+	 * generated class
+	 */
+	public boolean isInstantiable() {
+		return instantiable;
+	}
+
+	/**
+	 * Instantiates the accessed class through its no-argument constructor.
+	 *
+	 * @return The new instance
+	 */
+	public abstract Object newInstance();
+
+	/**
+	 * Creates a new instance of <code>DirectAccessor</code>.
+	 *
+	 * @param beanClass The accessed class
+	 * @param getters The getters of the accessed properties
+	 * @param setters The setters of the accessed properties
+	 *
+	 * @return The created DirectAccessor
+	 */
+	public static DirectAccessor create(Class beanClass, Getter[] getters, Setter[] setters) {
+		return new DirectAccessorFactory( beanClass, getters, setters ).create();
+	}
+}
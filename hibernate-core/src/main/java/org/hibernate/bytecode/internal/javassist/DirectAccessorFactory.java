@@ -0,0 +1,333 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.javassist;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.GetterMethodImpl;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+import org.hibernate.property.access.spi.SetterMethodImpl;
+
+/**
+ * A factory of direct accessors, generating the accessor source code compiled by Javassist.
+ * <p/>
+ * The generated class is a separate class of the package of the accessed class, so it can only reach the members
+ * the Java access rules let it reach: the private fields and accessor methods, and those of classes of another
+ * class loader or package, are still read and written through their reflective {@link Getter} and {@link Setter}.
+ * This includes the private fields of entities mapped with field access.  The other ways to reach private members
+ * do not fit: method handles and nest-mates require a later Java version than the one targeted, and the
+ * {@code $$_hibernate_read_}/{@code $$_hibernate_write_} methods of enhanced entities go through the lazy loading
+ * and dirty tracking interceptors, which a raw state read or write must bypass.  The properties accessed through
+ * reflection are logged at debug level.
+ */
+class DirectAccessorFactory {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( DirectAccessorFactory.class );
+
+	private static final AtomicInteger COUNTER = new AtomicInteger();
+
+	private final Class targetClass;
+	private final Getter[] getters;
+	private final Setter[] setters;
+	private final ClassLoader loader;
+	private int reflectiveGetterCount;
+	private int reflectiveSetterCount;
+
+	DirectAccessorFactory(Class targetClass, Getter[] getters, Setter[] setters) {
+		this.targetClass = targetClass;
+		this.getters = getters;
+		this.setters = setters;
+		this.loader = targetClass.getClassLoader();
+	}
+
+	DirectAccessor create() {
+		if ( loader == null || targetClass.getName().startsWith( "java." ) ) {
+			throw new BulkAccessorException( "Cannot define a direct accessor for " + targetClass.getName() );
+		}
+		try {
+			if ( loader.loadClass( DirectAccessor.class.getName() ) != DirectAccessor.class ) {
+				throw new BulkAccessorException( "DirectAccessor is not visible to the class loader of " + targetClass.getName() );
+			}
+		}
+		catch (ClassNotFoundException e) {
+			throw new BulkAccessorException( "DirectAccessor is not visible to the class loader of " + targetClass.getName(), e );
+		}
+
+		for ( int i = 0; i < getters.length; i++ ) {
+			// other getters and setters, such as backrefs, are not plain property reads and writes
+			if ( getters[i].getClass() != GetterMethodImpl.class && getters[i].getClass() != GetterFieldImpl.class
+					|| setters[i].getClass() != SetterMethodImpl.class && setters[i].getClass() != SetterFieldImpl.class ) {
+				throw new BulkAccessorException( "Unsupported property access", i );
+			}
+		}
+
+		final boolean instantiable = isInstantiable();
+		final Class accessorClass;
+		try {
+			final ClassPool pool = new ClassPool( false );
+			pool.appendClassPath( new LoaderClassPath( loader ) );
+			pool.appendClassPath( new LoaderClassPath( DirectAccessor.class.getClassLoader() ) );
+
+			final CtClass accessor = pool.makeClass(
+					targetClass.getName() + "_$$_directaccess_" + COUNTER.getAndIncrement(),
+					pool.get( DirectAccessor.class.getName() )
+			);
+			accessor.addConstructor( CtNewConstructor.defaultConstructor( accessor ) );
+			accessor.addMethod( CtNewMethod.make( makeGetter(), accessor ) );
+			accessor.addMethod( CtNewMethod.make( makeSetter(), accessor ) );
+			accessor.addMethod( CtNewMethod.make( makeNewInstance( instantiable ), accessor ) );
+			accessorClass = accessor.toClass( loader, targetClass.getProtectionDomain() );
+			accessor.detach();
+		}
+		catch (Exception e) {
+			throw new BulkAccessorException( e.getMessage(), e );
+		}
+
+		if ( LOG.isDebugEnabled() && ( reflectiveGetterCount > 0 || reflectiveSetterCount > 0 ) ) {
+			LOG.debugf(
+					"Direct accessor of %s reads %s and writes %s of its %s properties through reflection",
+					targetClass.getName(),
+					reflectiveGetterCount,
+					reflectiveSetterCount,
+					getters.length
+			);
+		}
+
+		try {
+			final DirectAccessor instance = (DirectAccessor) accessorClass.newInstance();
+			instance.target = targetClass;
+			instance.propertyGetters = getters.clone();
+			instance.propertySetters = setters.clone();
+			instance.instantiable = instantiable;
+			instance.getters = new String[getters.length];
+			instance.setters = new String[setters.length];
+			instance.types = new Class[getters.length];
+			for ( int i = 0; i < getters.length; i++ ) {
+				instance.getters[i] = getters[i].getMember() == null ? null : getters[i].getMember().getName();
+				instance.setters[i] = setters[i].getMethodName() == null ? instance.getters[i] : setters[i].getMethodName();
+				instance.types[i] = getters[i].getReturnType();
+			}
+			return instance;
+		}
+		catch (Exception e) {
+			throw new BulkAccessorException( e.getMessage(), e );
+		}
+	}
+
+	private String makeGetter() {
+		final StringBuilder source = new StringBuilder( "public void getPropertyValues(Object bean, Object[] values) {" );
+		for ( int i = 0; i < getters.length; i++ ) {
+			source.append( "$2[" ).append( i ).append( "] = " );
+			final Member member = directMember( getters[i] );
+			if ( member instanceof Method ) {
+				final Method method = (Method) member;
+				source.append( box( cast( "$1", method.getDeclaringClass() ) + "." + method.getName() + "()", method.getReturnType() ) );
+			}
+			else if ( member instanceof Field ) {
+				final Field field = (Field) member;
+				source.append( box( cast( "$1", field.getDeclaringClass() ) + "." + field.getName(), field.getType() ) );
+			}
+			else {
+				source.append( "propertyGetters[" ).append( i ).append( "].get( $1 )" );
+				reflectiveGetterCount++;
+			}
+			source.append( ';' );
+		}
+		return source.append( '}' ).toString();
+	}
+
+	private String makeSetter() {
+		final StringBuilder source = new StringBuilder( "public void setPropertyValues(Object bean, Object[] values) {" );
+		for ( int i = 0; i < setters.length; i++ ) {
+			final String value = "$2[" + i + "]";
+			final String delegate = "propertySetters[" + i + "].set( $1, " + value + ", null );";
+			final Member member = directMember( setters[i], getters[i] );
+			final Class type;
+			final String assignment;
+			if ( member instanceof Method ) {
+				final Method method = (Method) member;
+				type = method.getParameterTypes()[0];
+				assignment = cast( "$1", method.getDeclaringClass() ) + "." + method.getName() + "( " + unbox( value, type ) + " );";
+			}
+			else if ( member instanceof Field ) {
+				final Field field = (Field) member;
+				type = field.getType();
+				assignment = cast( "$1", field.getDeclaringClass() ) + "." + field.getName() + " = " + unbox( value, type ) + ";";
+			}
+			else {
+				source.append( delegate );
+				reflectiveSetterCount++;
+				continue;
+			}
+			if ( type.isPrimitive() ) {
+				// let the setter report the null value assigned to a primitive
+				source.append( "if ( " ).append( value ).append( " == null ) { " ).append( delegate ).append( " } else { " )
+						.append( assignment ).append( " }" );
+			}
+			else {
+				source.append( assignment );
+			}
+		}
+		return source.append( '}' ).toString();
+	}
+
+	private String makeNewInstance(boolean instantiable) {
+		if ( instantiable ) {
+			return "public Object newInstance() { return new " + sourceName( targetClass ) + "(); }";
+		}
+		return "public Object newInstance() { throw new UnsupportedOperationException( \"Not instantiable\" ); }";
+	}
+
+	private boolean isInstantiable() {
+		if ( targetClass.isInterface() || Modifier.isAbstract( targetClass.getModifiers() ) || !isAccessible( targetClass ) ) {
+			return false;
+		}
+		try {
+			final Constructor constructor = targetClass.getDeclaredConstructor();
+			return isAccessible( constructor );
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * The getter method or field read by the generated class, or {@code null} if the property has to be read
+	 * through its getter.
+	 */
+	private Member directMember(Getter getter) {
+		final Member member = getter.getMember();
+		return isAccessible( member ) ? member : null;
+	}
+
+	/**
+	 * The setter method or field written by the generated class, or {@code null} if the property has to be
+	 * written through its setter.
+	 */
+	private Member directMember(Setter setter, Getter getter) {
+		final Member member;
+		final Class type;
+		if ( setter.getClass() == SetterMethodImpl.class ) {
+			member = setter.getMethod();
+			type = setter.getMethod().getParameterTypes()[0];
+		}
+		else if ( setter.getClass() == SetterFieldImpl.class && getter.getClass() == GetterFieldImpl.class ) {
+			// the field setter does not expose its field, being the field of the getter
+			member = getter.getMember();
+			type = ( (Field) member ).getType();
+			if ( Modifier.isFinal( member.getModifiers() ) ) {
+				return null;
+			}
+		}
+		else {
+			return null;
+		}
+		return isAccessible( member ) && isAccessible( type ) ? member : null;
+	}
+
+	private boolean isAccessible(Member member) {
+		final int modifiers = member.getModifiers();
+		if ( Modifier.isPrivate( modifiers ) || Modifier.isStatic( modifiers ) && !( member instanceof Constructor ) ) {
+			return false;
+		}
+		final Class declaringClass = member.getDeclaringClass();
+		if ( !isAccessible( declaringClass ) ) {
+			return false;
+		}
+		return Modifier.isPublic( modifiers ) || isSamePackage( declaringClass );
+	}
+
+	private boolean isAccessible(Class type) {
+		if ( type.isArray() ) {
+			return isAccessible( type.getComponentType() );
+		}
+		if ( type.isPrimitive() ) {
+			return true;
+		}
+		final int modifiers = type.getModifiers();
+		if ( Modifier.isPrivate( modifiers ) ) {
+			return false;
+		}
+		return Modifier.isPublic( modifiers ) || isSamePackage( type );
+	}
+
+	private boolean isSamePackage(Class type) {
+		// the generated class is defined by the class loader of the target class, in its package
+		return type.getClassLoader() == loader && packageName( type ).equals( packageName( targetClass ) );
+	}
+
+	private static String packageName(Class type) {
+		final String name = type.getName();
+		final int index = name.lastIndexOf( '.' );
+		return index < 0 ? "" : name.substring( 0, index );
+	}
+
+	private static String sourceName(Class type) {
+		return type.isArray() ? sourceName( type.getComponentType() ) + "[]" : type.getName();
+	}
+
+	private static String cast(String expression, Class type) {
+		return "((" + sourceName( type ) + ") " + expression + ")";
+	}
+
+	private static String box(String expression, Class type) {
+		if ( !type.isPrimitive() ) {
+			return expression;
+		}
+		return wrapperType( type ).getName() + ".valueOf( " + expression + " )";
+	}
+
+	private static String unbox(String expression, Class type) {
+		if ( !type.isPrimitive() ) {
+			return cast( expression, type );
+		}
+		return cast( expression, wrapperType( type ) ) + "." + type.getName() + "Value()";
+	}
+
+	private static Class wrapperType(Class primitiveType) {
+		if ( primitiveType == int.class ) {
+			return Integer.class;
+		}
+		else if ( primitiveType == long.class ) {
+			return Long.class;
+		}
+		else if ( primitiveType == boolean.class ) {
+			return Boolean.class;
+		}
+		else if ( primitiveType == double.class ) {
+			return Double.class;
+		}
+		else if ( primitiveType == float.class ) {
+			return Float.class;
+		}
+		else if ( primitiveType == short.class ) {
+			return Short.class;
+		}
+		else if ( primitiveType == byte.class ) {
+			return Byte.class;
+		}
+		else if ( primitiveType == char.class ) {
+			return Character.class;
+		}
+		throw new BulkAccessorException( "Unexpected primitive type " + primitiveType );
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.javassist;
+
+import java.io.Serializable;
+
+import org.hibernate.InstantiationException;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+
+/**
+ * The {@link org.hibernate.bytecode.spi.ReflectionOptimizer.InstantiationOptimizer} implementation for Javassist
+ * which simply acts as an adapter to the {@link DirectAccessor} class.
+ */
+public class DirectInstantiationOptimizerAdapter implements ReflectionOptimizer.InstantiationOptimizer, Serializable {
+	private final DirectAccessor directAccessor;
+	private final Class mappedClass;
+
+	/**
+	 * Constructs the DirectInstantiationOptimizerAdapter
+	 *
+	 * @param directAccessor The direct accessor of the class to be instantiated here.
+	 * @param mappedClass The mapped class
+	 */
+	public DirectInstantiationOptimizerAdapter(DirectAccessor directAccessor, Class mappedClass) {
+		this.directAccessor = directAccessor;
+		this.mappedClass = mappedClass;
+	}
+
+	@Override
+	public Object newInstance() {
+		try {
+			return directAccessor.newInstance();
+		}
+		catch ( Exception e ) {
+			throw new InstantiationException(
+					"Could not instantiate entity with Javassist optimizer: ",
+					mappedClass,
+					e
+			);
+		}
+	}
+}
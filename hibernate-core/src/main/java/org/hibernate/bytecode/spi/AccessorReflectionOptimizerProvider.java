@@ -0,0 +1,29 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.Setter;
+
+/**
+ * Optional contract for {@link BytecodeProvider}s able to generate reflection optimization components accessing
+ * the properties as the given getters and setters do, whether through methods or fields.  Providers not
+ * implementing it get the property accessor method names, through
+ * {@link BytecodeProvider#getReflectionOptimizer(Class, String[], String[], Class[])}.
+ */
+public interface AccessorReflectionOptimizerProvider extends BytecodeProvider {
+	/**
+	 * Retrieve the ReflectionOptimizer delegate for this provider capable of generating reflection optimization
+	 * components accessing the properties as the given getters and setters do, whether through methods or fields.
+	 *
+	 * @param clazz The class to be reflected upon.
+	 * @param getters The getters of all properties to be accessed.
+	 * @param setters The setters of all properties to be accessed.
+	 * @return The reflection optimization delegate, or {@code null} if the properties cannot be optimized.
+	 */
+	ReflectionOptimizer getReflectionOptimizer(Class clazz, Getter[] getters, Setter[] setters);
+}
@@ -150,6 +150,9 @@ public class StandardQueryCache implements QueryCache {
 		if ( DEBUGGING ) {
 			LOG.debugf( "Checking cached query results in region: %s", cacheRegion.getName() );
 		}
+		if ( key.getCachePartition() != null ) {
+			updateTimestampsCache.validatePartition( spaces, key.getCachePartition() );
+		}
 
 		final List cacheable = getCachedResults( key, session );
 		logCachedResultDetails( key, spaces, returnTypes, cacheable );
@@ -162,7 +165,7 @@ public class StandardQueryCache implements QueryCache {
 		}
 
 		final Long timestamp = (Long) cacheable.get( 0 );
-		if ( !isNaturalKeyLookup && !isUpToDate( spaces, timestamp, session ) ) {
+		if ( !isNaturalKeyLookup && !isUpToDate( spaces, key.getCachePartition(), timestamp, session ) ) {
 			if ( DEBUGGING ) {
 				LOG.debug( "Cached query results were not up-to-date" );
 			}
@@ -229,10 +232,14 @@ public class StandardQueryCache implements QueryCache {
 
 
 	protected boolean isUpToDate(Set<Serializable> spaces, Long timestamp, SessionImplementor session) {
+		return isUpToDate( spaces, null, timestamp, session );
+	}
+
+	protected boolean isUpToDate(Set<Serializable> spaces, Serializable partition, Long timestamp, SessionImplementor session) {
 		if ( DEBUGGING ) {
 			LOG.debugf( "Checking query spaces are up-to-date: %s", spaces );
 		}
-		return updateTimestampsCache.isUpToDate( spaces, timestamp, session );
+		return updateTimestampsCache.isUpToDate( spaces, partition, timestamp, session );
 	}
 
 	@Override
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Implements the semantics of an {@link org.hibernate.cache.spi.access.AccessType} for the entity, collection and
+ * natural-id access strategies of a region, which only differ in their signatures.  The natural-id and collection
+ * access strategies pass {@code null} versions.
+ */
+abstract class AccessDelegate {
+	private final BaseTransactionalDataRegion region;
+
+	AccessDelegate(BaseTransactionalDataRegion region) {
+		this.region = region;
+	}
+
+	BaseTransactionalDataRegion getRegion() {
+		return region;
+	}
+
+	Object get(SessionImplementor session, Object key, long txTimestamp) throws CacheException {
+		return region.get( session, key );
+	}
+
+	boolean putFromLoad(SessionImplementor session, Object key, Object value, long txTimestamp, Object version)
+			throws CacheException {
+		return putFromLoad( session, key, value, txTimestamp, version, region.getSettings().isMinimalPutsEnabled() );
+	}
+
+	boolean putFromLoad(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			long txTimestamp,
+			Object version,
+			boolean minimalPutOverride) throws CacheException {
+		if ( key == null || value == null ) {
+			return false;
+		}
+		if ( minimalPutOverride && region.contains( key ) ) {
+			return false;
+		}
+		region.put( session, key, value );
+		return true;
+	}
+
+	SoftLock lockItem(SessionImplementor session, Object key, Object version) throws CacheException {
+		return null;
+	}
+
+	void unlockItem(SessionImplementor session, Object key, SoftLock lock) throws CacheException {
+		evict( key );
+	}
+
+	abstract boolean insert(SessionImplementor session, Object key, Object value, Object version)
+			throws CacheException;
+
+	abstract boolean afterInsert(SessionImplementor session, Object key, Object value, Object version)
+			throws CacheException;
+
+	abstract boolean update(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion) throws CacheException;
+
+	abstract boolean afterUpdate(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock) throws CacheException;
+
+	void remove(SessionImplementor session, Object key) throws CacheException {
+	}
+
+	void removeAll() throws CacheException {
+		evictAll();
+	}
+
+	void evict(Object key) throws CacheException {
+		region.evict( key );
+	}
+
+	void evictAll() throws CacheException {
+		region.evictAll();
+	}
+
+	/**
+	 * Region locks are not supported.
+	 *
+	 * @return {@code null}
+	 */
+	SoftLock lockRegion() throws CacheException {
+		return null;
+	}
+
+	/**
+	 * Region locks are not supported, clear the region as a precaution.
+	 */
+	void unlockRegion(SoftLock lock) throws CacheException {
+		evictAll();
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.GeneralDataRegion;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Region storing its entries in an {@link OffHeapStore}.
+ */
+class BaseRegion implements GeneralDataRegion {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BaseRegion.class );
+
+	// 60 seconds
+	static final int TIMEOUT = Timestamper.ONE_MS * 60000;
+
+	private final String name;
+	private final OffHeapStore store;
+
+	BaseRegion(String name, OffHeapStore store) {
+		this.name = name;
+		this.store = store;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object get(SessionImplementor session, Object key) throws CacheException {
+		if ( key == null ) {
+			return null;
+		}
+		final Object value = store.get( key );
+		if ( value != null ) {
+			LOG.debugf( "Cache[%s] hit: %s", name, key );
+		}
+		return value;
+	}
+
+	@Override
+	public void put(SessionImplementor session, Object key, Object value) throws CacheException {
+		if ( key == null || value == null ) {
+			return;
+		}
+		if ( !store.put( key, value ) ) {
+			LOG.debugf( "Cache[%s] unable to store: %s", name, key );
+		}
+	}
+
+	@Override
+	public void evict(Object key) throws CacheException {
+		if ( key != null ) {
+			store.remove( key );
+		}
+	}
+
+	@Override
+	public void evictAll() throws CacheException {
+		store.clear();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return key != null && store.containsKey( key );
+	}
+
+	@Override
+	public void destroy() throws CacheException {
+		store.destroy();
+	}
+
+	/**
+	 * @return the size of the off-heap memory holding the entries
+	 */
+	@Override
+	public long getSizeInMemory() {
+		return store.getSizeInBytes();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return store.getElementCount();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public Map toMap() {
+		return store.toMap();
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return Timestamper.next();
+	}
+
+	@Override
+	public int getTimeout() {
+		return TIMEOUT;
+	}
+
+	/**
+	 * @return the number of entries evicted to make room for other entries
+	 */
+	long getEvictionCount() {
+		return store.getEvictionCount();
+	}
+}
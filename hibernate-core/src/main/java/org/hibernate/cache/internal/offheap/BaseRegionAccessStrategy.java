@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.RegionAccessStrategy;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Base of the access strategies, delegating the operations shared by all the regions to the {@link AccessDelegate}
+ * of the access type.
+ */
+abstract class BaseRegionAccessStrategy implements RegionAccessStrategy {
+	protected final AccessDelegate delegate;
+
+	BaseRegionAccessStrategy(AccessDelegate delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Object get(SessionImplementor session, Object key, long txTimestamp) throws CacheException {
+		return delegate.get( session, key, txTimestamp );
+	}
+
+	@Override
+	public boolean putFromLoad(SessionImplementor session, Object key, Object value, long txTimestamp, Object version)
+			throws CacheException {
+		return delegate.putFromLoad( session, key, value, txTimestamp, version );
+	}
+
+	@Override
+	public boolean putFromLoad(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			long txTimestamp,
+			Object version,
+			boolean minimalPutOverride) throws CacheException {
+		return delegate.putFromLoad( session, key, value, txTimestamp, version, minimalPutOverride );
+	}
+
+	@Override
+	public SoftLock lockItem(SessionImplementor session, Object key, Object version) throws CacheException {
+		return delegate.lockItem( session, key, version );
+	}
+
+	@Override
+	public SoftLock lockRegion() throws CacheException {
+		return delegate.lockRegion();
+	}
+
+	@Override
+	public void unlockItem(SessionImplementor session, Object key, SoftLock lock) throws CacheException {
+		delegate.unlockItem( session, key, lock );
+	}
+
+	@Override
+	public void unlockRegion(SoftLock lock) throws CacheException {
+		delegate.unlockRegion( lock );
+	}
+
+	@Override
+	public void remove(SessionImplementor session, Object key) throws CacheException {
+		delegate.remove( session, key );
+	}
+
+	@Override
+	public void removeAll() throws CacheException {
+		delegate.removeAll();
+	}
+
+	@Override
+	public void evict(Object key) throws CacheException {
+		delegate.evict( key );
+	}
+
+	@Override
+	public void evictAll() throws CacheException {
+		delegate.evictAll();
+	}
+}
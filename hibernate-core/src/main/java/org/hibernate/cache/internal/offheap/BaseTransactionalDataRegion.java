@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.TransactionalDataRegion;
+import org.hibernate.cache.spi.access.AccessType;
+
+/**
+ * Base of the entity, collection and natural-id regions, creating the {@link AccessDelegate} of their access
+ * strategies.
+ */
+class BaseTransactionalDataRegion extends BaseRegion implements TransactionalDataRegion {
+	private final CacheDataDescription metadata;
+	private final SessionFactoryOptions settings;
+
+	BaseTransactionalDataRegion(
+			String name,
+			OffHeapStore store,
+			CacheDataDescription metadata,
+			SessionFactoryOptions settings) {
+		super( name, store );
+		this.metadata = metadata;
+		this.settings = settings;
+	}
+
+	@Override
+	public CacheDataDescription getCacheDataDescription() {
+		return metadata;
+	}
+
+	@Override
+	public boolean isTransactionAware() {
+		return false;
+	}
+
+	SessionFactoryOptions getSettings() {
+		return settings;
+	}
+
+	AccessDelegate createAccessDelegate(AccessType accessType) {
+		switch ( accessType ) {
+			case READ_ONLY:
+				return new ReadOnlyAccessDelegate( this );
+			case NONSTRICT_READ_WRITE:
+				return new NonstrictReadWriteAccessDelegate( this );
+			case READ_WRITE:
+				return new ReadWriteAccessDelegate( this );
+			case TRANSACTIONAL:
+				throw new CacheException(
+						"Transactional access is not supported by off-heap regions, use read-write access instead: "
+								+ getName()
+				);
+			default:
+				throw new IllegalArgumentException( "unrecognized access strategy type [" + accessType + "]" );
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+
+/**
+ * Access strategy of the {@link CollectionRegionImpl off-heap collection regions}.
+ */
+class CollectionRegionAccessStrategyImpl extends BaseRegionAccessStrategy implements CollectionRegionAccessStrategy {
+	private final CollectionRegionImpl region;
+
+	CollectionRegionAccessStrategyImpl(CollectionRegionImpl region, AccessDelegate delegate) {
+		super( delegate );
+		this.region = region;
+	}
+
+	@Override
+	public CollectionRegion getRegion() {
+		return region;
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object id,
+			CollectionPersister persister,
+			SessionFactoryImplementor factory,
+			String tenantIdentifier) {
+		return DefaultCacheKeysFactory.createCollectionKey( id, persister, factory, tenantIdentifier );
+	}
+
+	@Override
+	public Object getCacheKeyId(Object cacheKey) {
+		return DefaultCacheKeysFactory.getCollectionId( cacheKey );
+	}
+}
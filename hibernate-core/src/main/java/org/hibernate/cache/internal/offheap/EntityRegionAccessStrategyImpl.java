@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Access strategy of the {@link EntityRegionImpl off-heap entity regions}.
+ */
+class EntityRegionAccessStrategyImpl extends BaseRegionAccessStrategy implements EntityRegionAccessStrategy {
+	private final EntityRegionImpl region;
+
+	EntityRegionAccessStrategyImpl(EntityRegionImpl region, AccessDelegate delegate) {
+		super( delegate );
+		this.region = region;
+	}
+
+	@Override
+	public EntityRegion getRegion() {
+		return region;
+	}
+
+	@Override
+	public boolean insert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
+		return delegate.insert( session, key, value, version );
+	}
+
+	@Override
+	public boolean afterInsert(SessionImplementor session, Object key, Object value, Object version)
+			throws CacheException {
+		return delegate.afterInsert( session, key, value, version );
+	}
+
+	@Override
+	public boolean update(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion) throws CacheException {
+		return delegate.update( session, key, value, currentVersion, previousVersion );
+	}
+
+	@Override
+	public boolean afterUpdate(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock) throws CacheException {
+		return delegate.afterUpdate( session, key, value, currentVersion, previousVersion, lock );
+	}
+
+	@Override
+	public Object generateCacheKey(
+			Object id,
+			EntityPersister persister,
+			SessionFactoryImplementor factory,
+			String tenantIdentifier) {
+		return DefaultCacheKeysFactory.createEntityKey( id, persister, factory, tenantIdentifier );
+	}
+
+	@Override
+	public Object getCacheKeyId(Object cacheKey) {
+		return DefaultCacheKeysFactory.getEntityId( cacheKey );
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Access strategy of the {@link NaturalIdRegionImpl off-heap natural-id regions}.
+ */
+class NaturalIdRegionAccessStrategyImpl extends BaseRegionAccessStrategy implements NaturalIdRegionAccessStrategy {
+	private final NaturalIdRegionImpl region;
+
+	NaturalIdRegionAccessStrategyImpl(NaturalIdRegionImpl region, AccessDelegate delegate) {
+		super( delegate );
+		this.region = region;
+	}
+
+	@Override
+	public NaturalIdRegion getRegion() {
+		return region;
+	}
+
+	@Override
+	public boolean insert(SessionImplementor session, Object key, Object value) throws CacheException {
+		return delegate.insert( session, key, value, null );
+	}
+
+	@Override
+	public boolean afterInsert(SessionImplementor session, Object key, Object value) throws CacheException {
+		return delegate.afterInsert( session, key, value, null );
+	}
+
+	@Override
+	public boolean update(SessionImplementor session, Object key, Object value) throws CacheException {
+		return delegate.update( session, key, value, null, null );
+	}
+
+	@Override
+	public boolean afterUpdate(SessionImplementor session, Object key, Object value, SoftLock lock)
+			throws CacheException {
+		return delegate.afterUpdate( session, key, value, null, null, lock );
+	}
+
+	@Override
+	public Object generateCacheKey(Object[] naturalIdValues, EntityPersister persister, SessionImplementor session) {
+		return DefaultCacheKeysFactory.createNaturalIdKey( naturalIdValues, persister, session );
+	}
+
+	@Override
+	public Object[] getNaturalIdValues(Object cacheKey) {
+		return DefaultCacheKeysFactory.getNaturalIdValues( cacheKey );
+	}
+}
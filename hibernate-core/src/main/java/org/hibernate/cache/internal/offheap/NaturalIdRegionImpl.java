@@ -0,0 +1,29 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+
+/**
+ * Off-heap natural-id region.
+ */
+class NaturalIdRegionImpl extends BaseTransactionalDataRegion implements NaturalIdRegion {
+	NaturalIdRegionImpl(String name, OffHeapStore store, CacheDataDescription metadata, SessionFactoryOptions settings) {
+		super( name, store, metadata, settings );
+	}
+
+	@Override
+	public NaturalIdRegionAccessStrategy buildAccessStrategy(AccessType accessType) throws CacheException {
+		return new NaturalIdRegionAccessStrategyImpl( this, createAccessDelegate( accessType ) );
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * {@link org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE} semantics: items are not locked, but
+ * evicted when updated or removed.
+ */
+class NonstrictReadWriteAccessDelegate extends AccessDelegate {
+	NonstrictReadWriteAccessDelegate(BaseTransactionalDataRegion region) {
+		super( region );
+	}
+
+	@Override
+	boolean insert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
+		return false;
+	}
+
+	@Override
+	boolean afterInsert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
+		return false;
+	}
+
+	@Override
+	boolean update(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion) throws CacheException {
+		evict( key );
+		return false;
+	}
+
+	@Override
+	boolean afterUpdate(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock) throws CacheException {
+		unlockItem( session, key, lock );
+		return false;
+	}
+
+	@Override
+	void remove(SessionImplementor session, Object key) throws CacheException {
+		evict( key );
+	}
+}
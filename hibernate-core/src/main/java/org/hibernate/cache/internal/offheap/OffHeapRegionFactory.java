@@ -0,0 +1,185 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.NaturalIdRegion;
+import org.hibernate.cache.spi.QueryResultsRegion;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * Region factory storing the entity, collection, natural-id and query results regions in off-heap memory, so that
+ * large amounts of data can be cached without growing the heap, nor the garbage collection pauses.  Selected by
+ * setting {@link AvailableSettings#CACHE_REGION_FACTORY} to {@value #SHORT_NAME}.
+ * <p/>
+ * The regions are local to the VM.  Each region is bounded by {@link AvailableSettings#CACHE_OFF_HEAP_MAX_SIZE}
+ * and evicts its entries following a segmented LRU policy (see {@link OffHeapStore}).  The values are copied in and
+ * out of the off-heap memory on each access; enabling {@link AvailableSettings#USE_BINARY_CACHE_ENTRIES binary cache
+ * entries} makes these copies cheap.  Values which are not serializable, such as
+ * {@link AvailableSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES reference entries}, are not cached.
+ * <p/>
+ * The read-only, nonstrict-read-write and read-write access types are supported, the latter with soft locks; the
+ * transactional access type is not.
+ */
+public class OffHeapRegionFactory implements RegionFactory {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( OffHeapRegionFactory.class );
+
+	/**
+	 * The short name of the factory, for {@link AvailableSettings#CACHE_REGION_FACTORY}.
+	 */
+	public static final String SHORT_NAME = "off-heap";
+
+	private static final String DEFAULT_MAX_SIZE = "64m";
+	private static final int DEFAULT_SEGMENTS = 16;
+	private static final int DEFAULT_BLOCK_SIZE = 128;
+
+	private final List<BaseRegion> regions = new CopyOnWriteArrayList<BaseRegion>();
+	private SessionFactoryOptions settings;
+
+	@Override
+	public void start(SessionFactoryOptions settings, Properties properties) throws CacheException {
+		this.settings = settings;
+	}
+
+	/**
+	 * Releases the off-heap memory of the regions.
+	 */
+	@Override
+	public void stop() {
+		for ( BaseRegion region : regions ) {
+			region.destroy();
+		}
+		regions.clear();
+	}
+
+	@Override
+	public boolean isMinimalPutsEnabledByDefault() {
+		return false;
+	}
+
+	@Override
+	public AccessType getDefaultAccessType() {
+		return AccessType.READ_WRITE;
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return Timestamper.next();
+	}
+
+	@Override
+	public EntityRegion buildEntityRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		return register( new EntityRegionImpl( regionName, createStore( regionName, properties ), metadata, settings ) );
+	}
+
+	@Override
+	public NaturalIdRegion buildNaturalIdRegion(String regionName, Properties properties, CacheDataDescription metadata)
+			throws CacheException {
+		return register(
+				new NaturalIdRegionImpl( regionName, createStore( regionName, properties ), metadata, settings )
+		);
+	}
+
+	@Override
+	public CollectionRegion buildCollectionRegion(
+			String regionName,
+			Properties properties,
+			CacheDataDescription metadata) throws CacheException {
+		return register(
+				new CollectionRegionImpl( regionName, createStore( regionName, properties ), metadata, settings )
+		);
+	}
+
+	@Override
+	public QueryResultsRegion buildQueryResultsRegion(String regionName, Properties properties) throws CacheException {
+		return register( new QueryResultsRegionImpl( regionName, createStore( regionName, properties ) ) );
+	}
+
+	@Override
+	public TimestampsRegion buildTimestampsRegion(String regionName, Properties properties) throws CacheException {
+		return new TimestampsRegionImpl( regionName );
+	}
+
+	private <T extends BaseRegion> T register(T region) {
+		regions.add( region );
+		return region;
+	}
+
+	private OffHeapStore createStore(String regionName, Properties properties) {
+		final String maxSize = ConfigurationHelper.getString(
+				AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE + '.' + regionName,
+				properties,
+				ConfigurationHelper.getString( AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE, properties, DEFAULT_MAX_SIZE )
+		);
+		final long size = parseSize( maxSize );
+		final int segments = ConfigurationHelper.getInt(
+				AvailableSettings.CACHE_OFF_HEAP_SEGMENTS,
+				properties,
+				DEFAULT_SEGMENTS
+		);
+		final int blockSize = ConfigurationHelper.getInt(
+				AvailableSettings.CACHE_OFF_HEAP_BLOCK_SIZE,
+				properties,
+				DEFAULT_BLOCK_SIZE
+		);
+		LOG.debugf(
+				"Creating off-heap region [%s] of at most %s bytes in %s segments of %s byte blocks",
+				regionName,
+				size,
+				segments,
+				blockSize
+		);
+		return new OffHeapStore( size, segments, blockSize );
+	}
+
+	static long parseSize(String size) {
+		final String value = size.trim().toLowerCase( Locale.ROOT );
+		long multiplier = 1;
+		int end = value.length();
+		if ( value.endsWith( "k" ) ) {
+			multiplier = 1024L;
+			end--;
+		}
+		else if ( value.endsWith( "m" ) ) {
+			multiplier = 1024L * 1024;
+			end--;
+		}
+		else if ( value.endsWith( "g" ) ) {
+			multiplier = 1024L * 1024 * 1024;
+			end--;
+		}
+		try {
+			return Long.parseLong( value.substring( 0, end ).trim() ) * multiplier;
+		}
+		catch (NumberFormatException e) {
+			throw new CacheException( "Invalid off-heap size: " + size, e );
+		}
+	}
+
+	private static class QueryResultsRegionImpl extends BaseRegion implements QueryResultsRegion {
+		QueryResultsRegionImpl(String name, OffHeapStore store) {
+			super( name, store );
+		}
+	}
+}
@@ -0,0 +1,403 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+
+/**
+ * Bounded store keeping the values of a region in direct {@link ByteBuffer} slabs, outside of the Java heap.  The
+ * keys, and a small descriptor per entry, stay on the heap.
+ * <p/>
+ * The store is split into segments, selected by the hash of the keys, each guarded by its own lock.  The off-heap
+ * memory of a segment is divided into fixed size blocks, a value being written into a chain of blocks; the slabs
+ * holding the blocks are allocated on demand, up to the maximum size of the segment.  Beyond it, the segment evicts
+ * entries following a segmented LRU policy: new entries enter a probationary LRU list and are promoted to a
+ * protected LRU list when read again, the eviction taking the least recently used probationary entries first.  A
+ * scan through entries read once (e.g. a bulk load) hence does not evict the entries read repeatedly.
+ *
+ * @see OffHeapValueCodec
+ */
+final class OffHeapStore {
+	private static final int SLAB_SIZE = 1024 * 1024;
+	// the first bytes of each block link it to the next block of its chain
+	private static final int LINK_SIZE = 4;
+	private static final int END_OF_CHAIN = -1;
+
+	private final Segment[] segments;
+	private final int segmentShift;
+
+	/**
+	 * Creates a store.
+	 *
+	 * @param maxSize maximum size in bytes of the off-heap memory of the store
+	 * @param segmentCount number of segments, rounded up to a power of two
+	 * @param blockSize size in bytes of the blocks values are written into
+	 */
+	OffHeapStore(long maxSize, int segmentCount, int blockSize) {
+		if ( blockSize <= LINK_SIZE ) {
+			throw new CacheException( "Off-heap block size must be greater than " + LINK_SIZE + ": " + blockSize );
+		}
+		int segments = 1;
+		int shift = 0;
+		while ( segments < segmentCount ) {
+			segments <<= 1;
+			shift++;
+		}
+		final long maxBlocks = maxSize / segments / blockSize;
+		if ( maxBlocks > Integer.MAX_VALUE ) {
+			throw new CacheException(
+					"Off-heap size " + maxSize + " requires more segments or larger blocks than "
+							+ segments + " segments of " + blockSize + " byte blocks"
+			);
+		}
+		this.segments = new Segment[segments];
+		for ( int i = 0; i < segments; i++ ) {
+			this.segments[i] = new Segment( (int) maxBlocks, blockSize );
+		}
+		this.segmentShift = 32 - shift;
+	}
+
+	/**
+	 * @param key the key of the entry
+	 * @return the value, or {@code null} if the key is not stored
+	 */
+	Object get(Object key) {
+		final Segment segment = segmentFor( key );
+		final byte[] bytes;
+		synchronized ( segment ) {
+			bytes = segment.get( key );
+		}
+		return bytes == null ? null : OffHeapValueCodec.decode( bytes );
+	}
+
+	/**
+	 * Stores a value, replacing the current value of the key.  The value is not stored, and the current value
+	 * removed, if the value cannot be encoded or does not fit in a segment.
+	 *
+	 * @param key the key of the entry
+	 * @param value the value
+	 * @return whether the value was stored
+	 */
+	boolean put(Object key, Object value) {
+		final byte[] bytes = OffHeapValueCodec.encode( value );
+		final Segment segment = segmentFor( key );
+		synchronized ( segment ) {
+			if ( bytes == null ) {
+				segment.remove( key );
+				return false;
+			}
+			return segment.put( key, bytes );
+		}
+	}
+
+	boolean containsKey(Object key) {
+		final Segment segment = segmentFor( key );
+		synchronized ( segment ) {
+			return segment.containsKey( key );
+		}
+	}
+
+	void remove(Object key) {
+		final Segment segment = segmentFor( key );
+		synchronized ( segment ) {
+			segment.remove( key );
+		}
+	}
+
+	void clear() {
+		for ( Segment segment : segments ) {
+			synchronized ( segment ) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * Clears the store and releases its slabs.
+	 */
+	void destroy() {
+		for ( Segment segment : segments ) {
+			synchronized ( segment ) {
+				segment.clear();
+				segment.slabs.clear();
+			}
+		}
+	}
+
+	long getElementCount() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			synchronized ( segment ) {
+				count += segment.probation.size() + segment.protectedEntries.size();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return the size in bytes of the off-heap blocks holding values
+	 */
+	long getSizeInBytes() {
+		long size = 0;
+		for ( Segment segment : segments ) {
+			synchronized ( segment ) {
+				size += (long) segment.usedBlocks * segment.blockSize;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * @return the number of entries evicted so far to make room for other entries
+	 */
+	long getEvictionCount() {
+		long count = 0;
+		for ( Segment segment : segments ) {
+			synchronized ( segment ) {
+				count += segment.evictions;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return a snapshot of the entries, without affecting their eviction order
+	 */
+	Map<Object, Object> toMap() {
+		final Map<Object, byte[]> copies = new HashMap<Object, byte[]>();
+		for ( Segment segment : segments ) {
+			synchronized ( segment ) {
+				segment.copyTo( copies );
+			}
+		}
+		final Map<Object, Object> map = new HashMap<Object, Object>();
+		for ( Map.Entry<Object, byte[]> copy : copies.entrySet() ) {
+			map.put( copy.getKey(), OffHeapValueCodec.decode( copy.getValue() ) );
+		}
+		return map;
+	}
+
+	private Segment segmentFor(Object key) {
+		if ( segments.length == 1 ) {
+			return segments[0];
+		}
+		// spread the hash so that the high bits selecting the segment depend on all its bits
+		int hash = key.hashCode();
+		hash += ( hash << 15 ) ^ 0xffffcd7d;
+		hash ^= ( hash >>> 10 );
+		hash += ( hash << 3 );
+		hash ^= ( hash >>> 6 );
+		hash += ( hash << 2 ) + ( hash << 14 );
+		hash ^= ( hash >>> 16 );
+		return segments[hash >>> segmentShift];
+	}
+
+	private static final class Entry {
+		private final int firstBlock;
+		private final int length;
+		private final int blocks;
+
+		private Entry(int firstBlock, int length, int blocks) {
+			this.firstBlock = firstBlock;
+			this.length = length;
+			this.blocks = blocks;
+		}
+	}
+
+	/**
+	 * A segment of the store; all its methods are called holding the lock of the segment.
+	 */
+	private static final class Segment {
+		private final int maxBlocks;
+		private final int blockSize;
+		private final int blocksPerSlab;
+		private final int maxProtectedBlocks;
+
+		private final List<ByteBuffer> slabs = new ArrayList<ByteBuffer>();
+		// blocks past this index were never used, blocks before it are either used or in the free chain
+		private int highWaterBlock;
+		private int freeBlock = END_OF_CHAIN;
+		private int usedBlocks;
+		private int protectedBlocks;
+		private long evictions;
+
+		private final LinkedHashMap<Object, Entry> probation = new LinkedHashMap<Object, Entry>( 16, 0.75f, true );
+		private final LinkedHashMap<Object, Entry> protectedEntries = new LinkedHashMap<Object, Entry>( 16, 0.75f, true );
+
+		private Segment(int maxBlocks, int blockSize) {
+			this.maxBlocks = maxBlocks;
+			this.blockSize = blockSize;
+			this.blocksPerSlab = Math.max( 1, Math.min( maxBlocks, SLAB_SIZE / blockSize ) );
+			this.maxProtectedBlocks = (int) ( maxBlocks * 0.8 );
+		}
+
+		private byte[] get(Object key) {
+			Entry entry = probation.remove( key );
+			if ( entry != null ) {
+				protect( key, entry );
+			}
+			else {
+				entry = protectedEntries.get( key );
+				if ( entry == null ) {
+					return null;
+				}
+			}
+			return read( entry );
+		}
+
+		private boolean containsKey(Object key) {
+			return probation.containsKey( key ) || protectedEntries.containsKey( key );
+		}
+
+		private boolean put(Object key, byte[] bytes) {
+			final boolean wasProtected = protectedEntries.containsKey( key );
+			remove( key );
+			final int payloadSize = blockSize - LINK_SIZE;
+			final int blocks = Math.max( 1, ( bytes.length + payloadSize - 1 ) / payloadSize );
+			if ( blocks > maxBlocks ) {
+				return false;
+			}
+			while ( maxBlocks - usedBlocks < blocks ) {
+				evict();
+			}
+			final Entry entry = new Entry( write( bytes, blocks ), bytes.length, blocks );
+			usedBlocks += blocks;
+			if ( wasProtected ) {
+				protect( key, entry );
+			}
+			else {
+				probation.put( key, entry );
+			}
+			return true;
+		}
+
+		private void remove(Object key) {
+			Entry entry = probation.remove( key );
+			if ( entry == null ) {
+				entry = protectedEntries.remove( key );
+				if ( entry == null ) {
+					return;
+				}
+				protectedBlocks -= entry.blocks;
+			}
+			release( entry );
+		}
+
+		private void clear() {
+			probation.clear();
+			protectedEntries.clear();
+			highWaterBlock = 0;
+			freeBlock = END_OF_CHAIN;
+			usedBlocks = 0;
+			protectedBlocks = 0;
+		}
+
+		private void copyTo(Map<Object, byte[]> copies) {
+			for ( Map.Entry<Object, Entry> entry : probation.entrySet() ) {
+				copies.put( entry.getKey(), read( entry.getValue() ) );
+			}
+			for ( Map.Entry<Object, Entry> entry : protectedEntries.entrySet() ) {
+				copies.put( entry.getKey(), read( entry.getValue() ) );
+			}
+		}
+
+		private void protect(Object key, Entry entry) {
+			protectedEntries.put( key, entry );
+			protectedBlocks += entry.blocks;
+			// demote the least recently used protected entries to the most recently used probationary entries
+			while ( protectedBlocks > maxProtectedBlocks ) {
+				final Iterator<Map.Entry<Object, Entry>> eldest = protectedEntries.entrySet().iterator();
+				final Map.Entry<Object, Entry> demoted = eldest.next();
+				eldest.remove();
+				protectedBlocks -= demoted.getValue().blocks;
+				probation.put( demoted.getKey(), demoted.getValue() );
+			}
+		}
+
+		private void evict() {
+			final boolean fromProtected = probation.isEmpty();
+			final Iterator<Map.Entry<Object, Entry>> eldest = fromProtected
+					? protectedEntries.entrySet().iterator()
+					: probation.entrySet().iterator();
+			final Entry entry = eldest.next().getValue();
+			eldest.remove();
+			if ( fromProtected ) {
+				protectedBlocks -= entry.blocks;
+			}
+			release( entry );
+			evictions++;
+		}
+
+		private int write(byte[] bytes, int blocks) {
+			final int payloadSize = blockSize - LINK_SIZE;
+			final int firstBlock = allocate();
+			int block = firstBlock;
+			int offset = 0;
+			for ( int i = 0; i < blocks; i++ ) {
+				final int next = i == blocks - 1 ? END_OF_CHAIN : allocate();
+				final ByteBuffer slab = slabs.get( block / blocksPerSlab );
+				final int position = ( block % blocksPerSlab ) * blockSize;
+				slab.putInt( position, next );
+				final int length = Math.min( payloadSize, bytes.length - offset );
+				slab.position( position + LINK_SIZE );
+				slab.put( bytes, offset, length );
+				offset += length;
+				block = next;
+			}
+			return firstBlock;
+		}
+
+		private byte[] read(Entry entry) {
+			final int payloadSize = blockSize - LINK_SIZE;
+			final byte[] bytes = new byte[entry.length];
+			int block = entry.firstBlock;
+			int offset = 0;
+			while ( offset < bytes.length ) {
+				final ByteBuffer slab = slabs.get( block / blocksPerSlab );
+				final int position = ( block % blocksPerSlab ) * blockSize;
+				final int length = Math.min( payloadSize, bytes.length - offset );
+				slab.position( position + LINK_SIZE );
+				slab.get( bytes, offset, length );
+				offset += length;
+				block = slab.getInt( position );
+			}
+			return bytes;
+		}
+
+		private int allocate() {
+			if ( freeBlock != END_OF_CHAIN ) {
+				final int block = freeBlock;
+				freeBlock = slabs.get( block / blocksPerSlab ).getInt( ( block % blocksPerSlab ) * blockSize );
+				return block;
+			}
+			final int block = highWaterBlock++;
+			if ( block / blocksPerSlab == slabs.size() ) {
+				slabs.add( ByteBuffer.allocateDirect( blocksPerSlab * blockSize ) );
+			}
+			return block;
+		}
+
+		private void release(Entry entry) {
+			// prepend the chain of the entry to the free chain
+			int last = entry.firstBlock;
+			for ( int i = 1; i < entry.blocks; i++ ) {
+				last = slabs.get( last / blocksPerSlab ).getInt( ( last % blocksPerSlab ) * blockSize );
+			}
+			slabs.get( last / blocksPerSlab ).putInt( ( last % blocksPerSlab ) * blockSize, freeBlock );
+			freeBlock = entry.firstBlock;
+			usedBlocks -= entry.blocks;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+/**
+ * Encodes the values of an {@link OffHeapStore} into bytes.  Binary cache entries (see
+ * {@link org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES}) are written as is and the read-write
+ * {@link ReadWriteAccessDelegate.Item items} wrapping them without Java serialization, the other values being
+ * serialized.
+ */
+final class OffHeapValueCodec {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( OffHeapValueCodec.class );
+
+	private static final int NULL = 0;
+	private static final int BYTES = 1;
+	private static final int INTEGER = 2;
+	private static final int LONG = 3;
+	private static final int ITEM = 4;
+	private static final int SERIALIZED = 5;
+
+	private OffHeapValueCodec() {
+	}
+
+	/**
+	 * @param value the value to encode
+	 * @return the encoded value, or {@code null} if the value is not serializable
+	 */
+	static byte[] encode(Object value) {
+		if ( value instanceof byte[] ) {
+			// the most common value with binary cache entries, copied without going through a stream
+			final byte[] bytes = (byte[]) value;
+			final byte[] encoded = new byte[bytes.length + 1];
+			encoded[0] = BYTES;
+			System.arraycopy( bytes, 0, encoded, 1, bytes.length );
+			return encoded;
+		}
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 128 );
+		final DataOutputStream output = new DataOutputStream( bytes );
+		try {
+			if ( !writeValue( output, value ) ) {
+				LOG.debugf( "Unable to store non-serializable value off-heap: %s", value );
+				return null;
+			}
+			output.flush();
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to encode off-heap value", e );
+		}
+		return bytes.toByteArray();
+	}
+
+	static Object decode(byte[] encoded) {
+		if ( encoded[0] == BYTES ) {
+			final byte[] bytes = new byte[encoded.length - 1];
+			System.arraycopy( encoded, 1, bytes, 0, bytes.length );
+			return bytes;
+		}
+		try {
+			return readValue( new DataInputStream( new ByteArrayInputStream( encoded ) ) );
+		}
+		catch (IOException e) {
+			throw new CacheException( "Unable to decode off-heap value", e );
+		}
+	}
+
+	private static boolean writeValue(DataOutputStream output, Object value) throws IOException {
+		if ( value == null ) {
+			output.writeByte( NULL );
+		}
+		else if ( value instanceof byte[] ) {
+			output.writeByte( BYTES );
+			writeBytes( output, (byte[]) value );
+		}
+		else if ( value.getClass() == Integer.class ) {
+			output.writeByte( INTEGER );
+			output.writeInt( (Integer) value );
+		}
+		else if ( value.getClass() == Long.class ) {
+			output.writeByte( LONG );
+			output.writeLong( (Long) value );
+		}
+		else if ( value.getClass() == ReadWriteAccessDelegate.Item.class ) {
+			final ReadWriteAccessDelegate.Item item = (ReadWriteAccessDelegate.Item) value;
+			output.writeByte( ITEM );
+			output.writeLong( item.getTimestamp() );
+			return writeValue( output, item.getVersion() ) && writeValue( output, item.getValue() );
+		}
+		else if ( value instanceof Serializable ) {
+			final byte[] bytes;
+			try {
+				bytes = SerializationHelper.serialize( (Serializable) value );
+			}
+			catch (SerializationException e) {
+				return false;
+			}
+			output.writeByte( SERIALIZED );
+			writeBytes( output, bytes );
+		}
+		else {
+			return false;
+		}
+		return true;
+	}
+
+	private static Object readValue(DataInputStream input) throws IOException {
+		final int tag = input.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case BYTES:
+				return readBytes( input );
+			case INTEGER:
+				return input.readInt();
+			case LONG:
+				return input.readLong();
+			case ITEM: {
+				final long timestamp = input.readLong();
+				final Object version = readValue( input );
+				return new ReadWriteAccessDelegate.Item( readValue( input ), version, timestamp );
+			}
+			case SERIALIZED:
+				return SerializationHelper.deserialize( readBytes( input ) );
+			default:
+				throw new CacheException( "Unknown off-heap value tag: " + tag );
+		}
+	}
+
+	private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static byte[] readBytes(DataInputStream input) throws IOException {
+		final byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return bytes;
+	}
+}
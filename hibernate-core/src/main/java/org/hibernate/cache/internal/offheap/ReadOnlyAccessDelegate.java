@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * {@link org.hibernate.cache.spi.access.AccessType#READ_ONLY} semantics: items are cached once their transaction
+ * completed and cannot be updated.
+ */
+class ReadOnlyAccessDelegate extends AccessDelegate {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ReadOnlyAccessDelegate.class );
+
+	ReadOnlyAccessDelegate(BaseTransactionalDataRegion region) {
+		super( region );
+	}
+
+	@Override
+	boolean insert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
+		// wait until the transaction completed, see afterInsert()
+		return false;
+	}
+
+	@Override
+	boolean afterInsert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
+		getRegion().put( session, key, value );
+		return true;
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always, since this cache is read-only
+	 */
+	@Override
+	boolean update(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion) throws CacheException {
+		LOG.invalidEditOfReadOnlyItem( key );
+		throw new UnsupportedOperationException( "Can't write to a readonly object" );
+	}
+
+	/**
+	 * @throws UnsupportedOperationException always, since this cache is read-only
+	 */
+	@Override
+	boolean afterUpdate(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock lock) throws CacheException {
+		LOG.invalidEditOfReadOnlyItem( key );
+		throw new UnsupportedOperationException( "Can't write to a readonly object" );
+	}
+}
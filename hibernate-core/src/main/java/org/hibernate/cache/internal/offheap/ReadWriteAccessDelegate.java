@@ -0,0 +1,395 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * {@link org.hibernate.cache.spi.access.AccessType#READ_WRITE} semantics: the values are wrapped into timestamped
+ * {@link Item items}, replaced by soft {@link Lock locks} while they are being updated or removed.  An item is only
+ * readable by transactions which started after it was cached, and a locked entry is neither readable nor writeable
+ * until it is unlocked or its lock timed out.
+ * <p/>
+ * The read-modify-write sequences on an entry are serialized by a lock striped on the key, the reads going to the
+ * store without locking.
+ */
+class ReadWriteAccessDelegate extends AccessDelegate {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( ReadWriteAccessDelegate.class );
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final UUID uuid = UUID.randomUUID();
+	private final AtomicLong nextLockId = new AtomicLong();
+	private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+	ReadWriteAccessDelegate(BaseTransactionalDataRegion region) {
+		super( region );
+		for ( int i = 0; i < locks.length; i++ ) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * Returns {@code null} if the item is not readable.  Locked items are not readable, nor are items created after
+	 * the start of this transaction.
+	 */
+	@Override
+	Object get(SessionImplementor session, Object key, long txTimestamp) throws CacheException {
+		final Lockable item = (Lockable) getRegion().get( session, key );
+		return item != null && item.isReadable( txTimestamp ) ? item.getValue() : null;
+	}
+
+	/**
+	 * Returns {@code false} and does not put the value if an un-writeable item is mapped to this key.
+	 */
+	@Override
+	boolean putFromLoad(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			long txTimestamp,
+			Object version,
+			boolean minimalPutOverride) throws CacheException {
+		final ReentrantLock lock = lockFor( key );
+		lock.lock();
+		try {
+			final Lockable item = (Lockable) getRegion().get( session, key );
+			if ( item == null || item.isWriteable( txTimestamp, version, getVersionComparator() ) ) {
+				getRegion().put( session, key, new Item( value, version, getRegion().nextTimestamp() ) );
+				return true;
+			}
+			return false;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	SoftLock lockItem(SessionImplementor session, Object key, Object version) throws CacheException {
+		final ReentrantLock lock = lockFor( key );
+		lock.lock();
+		try {
+			final Lockable item = (Lockable) getRegion().get( session, key );
+			final long timeout = getRegion().nextTimestamp() + getRegion().getTimeout();
+			final Lock softLock = item == null
+					? new Lock( timeout, uuid, nextLockId.getAndIncrement(), version )
+					: item.lock( timeout, uuid, nextLockId.getAndIncrement() );
+			getRegion().put( session, key, softLock );
+			return softLock;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	void unlockItem(SessionImplementor session, Object key, SoftLock softLock) throws CacheException {
+		final ReentrantLock lock = lockFor( key );
+		lock.lock();
+		try {
+			final Lockable item = (Lockable) getRegion().get( session, key );
+			if ( item != null && item.isUnlockable( softLock ) ) {
+				decrementLock( session, key, (Lock) item );
+			}
+			else {
+				handleLockExpiry( session, key );
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	boolean insert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
+		return false;
+	}
+
+	@Override
+	boolean afterInsert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
+		final ReentrantLock lock = lockFor( key );
+		lock.lock();
+		try {
+			if ( getRegion().get( session, key ) == null ) {
+				getRegion().put( session, key, new Item( value, version, getRegion().nextTimestamp() ) );
+				return true;
+			}
+			return false;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	boolean update(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion) throws CacheException {
+		return false;
+	}
+
+	@Override
+	boolean afterUpdate(
+			SessionImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			Object previousVersion,
+			SoftLock softLock) throws CacheException {
+		final ReentrantLock lock = lockFor( key );
+		lock.lock();
+		try {
+			final Lockable item = (Lockable) getRegion().get( session, key );
+			if ( item != null && item.isUnlockable( softLock ) ) {
+				final Lock lockItem = (Lock) item;
+				if ( lockItem.wasLockedConcurrently() ) {
+					decrementLock( session, key, lockItem );
+					return false;
+				}
+				getRegion().put( session, key, new Item( value, currentVersion, getRegion().nextTimestamp() ) );
+				return true;
+			}
+			handleLockExpiry( session, key );
+			return false;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private Comparator getVersionComparator() {
+		return getRegion().getCacheDataDescription().getVersionComparator();
+	}
+
+	private ReentrantLock lockFor(Object key) {
+		return locks[( key.hashCode() & Integer.MAX_VALUE ) % LOCK_STRIPES];
+	}
+
+	/**
+	 * Unlock and re-put the given key, lock combination.
+	 */
+	private void decrementLock(SessionImplementor session, Object key, Lock lock) {
+		lock.unlock( getRegion().nextTimestamp() );
+		getRegion().put( session, key, lock );
+	}
+
+	/**
+	 * Handle the timeout of a previous lock mapped to this key.
+	 */
+	private void handleLockExpiry(SessionImplementor session, Object key) {
+		LOG.debugf( "Cached entry expired: %s", key );
+		final long timestamp = getRegion().nextTimestamp() + getRegion().getTimeout();
+		// create new lock that times out immediately
+		final Lock lock = new Lock( timestamp, uuid, nextLockId.getAndIncrement(), null );
+		lock.unlock( timestamp );
+		getRegion().put( session, key, lock );
+	}
+
+	/**
+	 * Interface type implemented by all wrapper objects in the cache.
+	 */
+	interface Lockable {
+		/**
+		 * Returns {@code true} if the enclosed value can be read by a transaction started at the given time.
+		 */
+		boolean isReadable(long txTimestamp);
+
+		/**
+		 * Returns {@code true} if the enclosed value can be replaced with one of the given version by a transaction
+		 * started at the given time.
+		 */
+		boolean isWriteable(long txTimestamp, Object version, Comparator versionComparator);
+
+		/**
+		 * Returns the enclosed value.
+		 */
+		Object getValue();
+
+		/**
+		 * Returns {@code true} if the given lock can be unlocked using the given SoftLock instance as a handle.
+		 */
+		boolean isUnlockable(SoftLock lock);
+
+		/**
+		 * Locks this entry, stamping it with the UUID and lockId given, with the lock timeout occurring at the
+		 * specified time.  The returned Lock object can be used to unlock the entry in the future.
+		 */
+		Lock lock(long timeout, UUID uuid, long lockId);
+	}
+
+	/**
+	 * Wrapper type representing unlocked items, encoded by {@link OffHeapValueCodec} without Java serialization.
+	 */
+	static final class Item implements Serializable, Lockable {
+		private static final long serialVersionUID = 1L;
+
+		private final Object value;
+		private final Object version;
+		private final long timestamp;
+
+		/**
+		 * Creates an unlocked item wrapping the given value with a version and creation timestamp.
+		 */
+		Item(Object value, Object version, long timestamp) {
+			this.value = value;
+			this.version = version;
+			this.timestamp = timestamp;
+		}
+
+		@Override
+		public boolean isReadable(long txTimestamp) {
+			return txTimestamp > timestamp;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean isWriteable(long txTimestamp, Object newVersion, Comparator versionComparator) {
+			return version != null && versionComparator.compare( version, newVersion ) < 0;
+		}
+
+		@Override
+		public Object getValue() {
+			return value;
+		}
+
+		Object getVersion() {
+			return version;
+		}
+
+		long getTimestamp() {
+			return timestamp;
+		}
+
+		@Override
+		public boolean isUnlockable(SoftLock lock) {
+			return false;
+		}
+
+		@Override
+		public Lock lock(long timeout, UUID uuid, long lockId) {
+			return new Lock( timeout, uuid, lockId, version );
+		}
+	}
+
+	/**
+	 * Wrapper type representing locked items.
+	 */
+	static final class Lock implements Serializable, Lockable, SoftLock {
+		private static final long serialVersionUID = 2L;
+
+		private final UUID sourceUuid;
+		private final long lockId;
+		private final Object version;
+
+		private long timeout;
+		private boolean concurrent;
+		private int multiplicity = 1;
+		private long unlockTimestamp;
+
+		/**
+		 * Creates a locked item with the given identifiers and object version.
+		 */
+		Lock(long timeout, UUID sourceUuid, long lockId, Object version) {
+			this.timeout = timeout;
+			this.lockId = lockId;
+			this.version = version;
+			this.sourceUuid = sourceUuid;
+		}
+
+		@Override
+		public boolean isReadable(long txTimestamp) {
+			return false;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public boolean isWriteable(long txTimestamp, Object newVersion, Comparator versionComparator) {
+			if ( txTimestamp > timeout ) {
+				// if timed out then allow write
+				return true;
+			}
+			if ( multiplicity > 0 ) {
+				// if still locked then disallow write
+				return false;
+			}
+			return version == null
+					? txTimestamp > unlockTimestamp
+					: versionComparator.compare( version, newVersion ) < 0;
+		}
+
+		@Override
+		public Object getValue() {
+			return null;
+		}
+
+		@Override
+		public boolean isUnlockable(SoftLock lock) {
+			return equals( lock );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( o == this ) {
+				return true;
+			}
+			else if ( o instanceof Lock ) {
+				return lockId == ( (Lock) o ).lockId && sourceUuid.equals( ( (Lock) o ).sourceUuid );
+			}
+			else {
+				return false;
+			}
+		}
+
+		@Override
+		public int hashCode() {
+			return sourceUuid.hashCode() + (int) ( lockId ^ ( lockId >>> 32 ) );
+		}
+
+		/**
+		 * Returns true if this Lock has been concurrently locked by more than one transaction.
+		 */
+		boolean wasLockedConcurrently() {
+			return concurrent;
+		}
+
+		@Override
+		public Lock lock(long timeout, UUID uuid, long lockId) {
+			concurrent = true;
+			multiplicity++;
+			this.timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * Unlocks this Lock, and timestamps the unlock event.
+		 */
+		void unlock(long timestamp) {
+			if ( --multiplicity == 0 ) {
+				unlockTimestamp = timestamp;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "Lock Source-UUID:" + sourceUuid + " Lock-ID:" + lockId;
+		}
+	}
+}
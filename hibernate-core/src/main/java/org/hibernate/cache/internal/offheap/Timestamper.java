@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates increasing timestamps, within this VM only, with a resolution of {@link #ONE_MS} timestamps per
+ * millisecond so that the timestamps of a busy millisecond remain distinct.
+ */
+final class Timestamper {
+	private static final int BIN_DIGITS = 12;
+	static final int ONE_MS = 1 << BIN_DIGITS;
+	private static final AtomicLong VALUE = new AtomicLong();
+
+	private Timestamper() {
+	}
+
+	static long next() {
+		while ( true ) {
+			final long base = System.currentTimeMillis() << BIN_DIGITS;
+			final long maxValue = base + ONE_MS - 1;
+			for ( long current = VALUE.get(), update = Math.max( base, current + 1 ); update < maxValue;
+					current = VALUE.get(), update = Math.max( base, current + 1 ) ) {
+				if ( VALUE.compareAndSet( current, update ) ) {
+					return update;
+				}
+			}
+		}
+	}
+}
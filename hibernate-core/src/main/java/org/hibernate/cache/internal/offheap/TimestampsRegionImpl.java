@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Update timestamps region of the {@link OffHeapRegionFactory}.  Unlike the other regions it is kept on the heap:
+ * it holds a single small entry per table, read by every query cache lookup, and evicting an entry could let stale
+ * query results be served.
+ */
+class TimestampsRegionImpl implements TimestampsRegion {
+	private final String name;
+	private final ConcurrentHashMap<Object, Object> cache = new ConcurrentHashMap<Object, Object>();
+
+	TimestampsRegionImpl(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object get(SessionImplementor session, Object key) throws CacheException {
+		return key == null ? null : cache.get( key );
+	}
+
+	@Override
+	public void put(SessionImplementor session, Object key, Object value) throws CacheException {
+		if ( key != null && value != null ) {
+			cache.put( key, value );
+		}
+	}
+
+	@Override
+	public void evict(Object key) throws CacheException {
+		if ( key != null ) {
+			cache.remove( key );
+		}
+	}
+
+	@Override
+	public void evictAll() throws CacheException {
+		cache.clear();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return key != null && cache.containsKey( key );
+	}
+
+	@Override
+	public void destroy() throws CacheException {
+		cache.clear();
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return -1;
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return cache.size();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public Map toMap() {
+		return Collections.unmodifiableMap( cache );
+	}
+
+	@Override
+	public long nextTimestamp() {
+		return Timestamper.next();
+	}
+
+	@Override
+	public int getTimeout() {
+		return BaseRegion.TIMEOUT;
+	}
+}
@@ -0,0 +1,12 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * Second-level cache regions stored in off-heap memory, see
+ * {@link org.hibernate.cache.internal.offheap.OffHeapRegionFactory}.
+ */
+package org.hibernate.cache.internal.offheap;
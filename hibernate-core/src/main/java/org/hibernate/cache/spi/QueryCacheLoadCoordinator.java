@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Coordinates the concurrent query cache misses of a node for the same results, so that a single execution of the
+ * query loads them while the other misses wait for its results to be cached, rather than executing the query as
+ * well.  Without it, the invalidation of the results of a popular query has every concurrent session execute it.
+ * <p/>
+ * The waiting misses look the query cache up again once the load ended, and execute the query themselves if the
+ * results were not cached (the execution failed, or its results were stale) or if the load took longer than the
+ * timeout.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT
+ */
+public class QueryCacheLoadCoordinator {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( QueryCacheLoadCoordinator.class );
+
+	private final long timeout;
+	private final ConcurrentMap<LoadKey, CountDownLatch> loads = new ConcurrentHashMap<LoadKey, CountDownLatch>();
+
+	/**
+	 * Constructs a QueryCacheLoadCoordinator.
+	 *
+	 * @param timeout The maximum time, in milliseconds, a miss waits for a concurrent load
+	 */
+	public QueryCacheLoadCoordinator(long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Begins the load of query results which missed the cache.  Either the caller loads the results, and has to
+	 * {@link #endLoad end} the load once its results are cached, or it waits for the concurrent load of the same
+	 * results to end.
+	 *
+	 * @param queryCache The query cache the results missed
+	 * @param key The key of the results
+	 *
+	 * @return {@code true} if the caller is to load the results; {@code false} once the concurrent load ended or
+	 * the wait timed out, the caller looking the results up again
+	 */
+	public boolean beginLoad(QueryCache queryCache, QueryKey key) {
+		final LoadKey loadKey = new LoadKey( queryCache.getRegion().getName(), key );
+		final CountDownLatch load = loads.putIfAbsent( loadKey, new CountDownLatch( 1 ) );
+		if ( load == null ) {
+			return true;
+		}
+		try {
+			if ( !load.await( timeout, TimeUnit.MILLISECONDS ) ) {
+				LOG.debugf( "Timed out waiting for the concurrent load of query results: %s", key );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
+	/**
+	 * Ends the load of query results begun by {@link #beginLoad}, whether the results were cached or not.
+	 *
+	 * @param queryCache The query cache the results missed
+	 * @param key The key of the results
+	 */
+	public void endLoad(QueryCache queryCache, QueryKey key) {
+		final CountDownLatch load = loads.remove( new LoadKey( queryCache.getRegion().getName(), key ) );
+		if ( load != null ) {
+			load.countDown();
+		}
+	}
+
+	private static final class LoadKey {
+		private final String regionName;
+		private final QueryKey key;
+
+		private LoadKey(String regionName, QueryKey key) {
+			this.regionName = regionName;
+			this.key = key;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			if ( !( other instanceof LoadKey ) ) {
+				return false;
+			}
+			final LoadKey that = (LoadKey) other;
+			return regionName.equals( that.regionName ) && key.equals( that.key );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * regionName.hashCode() + key.hashCode();
+		}
+	}
+}
@@ -36,6 +36,7 @@ public class QueryKey implements Serializable {
 	private final Integer firstRow;
 	private final Integer maxRows;
 	private final String tenantIdentifier;
+	private final Serializable cachePartition;
 	private final Set filterKeys;
 
 	// the explicit user-provided result transformer, not the one used with "select new". Here to avoid mangling
@@ -118,6 +119,7 @@ public class QueryKey implements Serializable {
 				maxRows,
 				filterKeys,
 				session.getTenantIdentifier(),
+				queryParameters.getCachePartition(),
 				customTransformer
 		);
 	}
@@ -134,6 +136,7 @@ public class QueryKey implements Serializable {
 	 * @param filterKeys Enabled filter keys, if any.
 	 * @param customTransformer Custom result transformer, if one.
 	 * @param tenantIdentifier The tenant identifier in effect for this query, or {@code null}
+	 * @param cachePartition The partition declared for the invalidation of the results, or {@code null}
 	 */
 	QueryKey(
 			String sqlQueryString,
@@ -144,6 +147,7 @@ public class QueryKey implements Serializable {
 			Integer maxRows,
 			Set filterKeys,
 			String tenantIdentifier,
+			Serializable cachePartition,
 			CacheableResultTransformer customTransformer) {
 		this.sqlQueryString = sqlQueryString;
 		this.positionalParameterTypes = positionalParameterTypes;
@@ -152,6 +156,7 @@ public class QueryKey implements Serializable {
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
 		this.tenantIdentifier = tenantIdentifier;
+		this.cachePartition = cachePartition;
 		this.filterKeys = filterKeys;
 		this.customTransformer = customTransformer;
 		this.hashCode = generateHashCode();
@@ -166,6 +171,17 @@ public class QueryKey implements Serializable {
 		return customTransformer;
 	}
 
+	/**
+	 * Provides access to the partition declared for the invalidation of the results.
+	 *
+	 * @return The partition, or {@code null}
+	 *
+	 * @see org.hibernate.Query#setCachePartition
+	 */
+	public Serializable getCachePartition() {
+		return cachePartition;
+	}
+
 	/**
 	 * Provide (unmodifiable) access to the named parameters that are part of this query.
 	 *
@@ -200,6 +216,7 @@ public class QueryKey implements Serializable {
 		result = 37 * result + ( filterKeys ==null ? 0 : filterKeys.hashCode() );
 		result = 37 * result + ( customTransformer==null ? 0 : customTransformer.hashCode() );
 		result = 37 * result + ( tenantIdentifier==null ? 0 : tenantIdentifier.hashCode() );
+		result = 37 * result + ( cachePartition==null ? 0 : cachePartition.hashCode() );
 		result = 37 * result + sqlQueryString.hashCode();
 		return result;
 	}
@@ -244,7 +261,8 @@ public class QueryKey implements Serializable {
 
 		return EqualsHelper.equals( filterKeys, that.filterKeys )
 				&& EqualsHelper.equals( namedParameters, that.namedParameters )
-				&& EqualsHelper.equals( tenantIdentifier, that.tenantIdentifier );
+				&& EqualsHelper.equals( tenantIdentifier, that.tenantIdentifier )
+				&& EqualsHelper.equals( cachePartition, that.cachePartition );
 	}
 
 	@Override
@@ -273,6 +291,9 @@ public class QueryKey implements Serializable {
 		if ( maxRows != null ) {
 			buffer.append( "; max rows: " ).append( maxRows );
 		}
+		if ( cachePartition != null ) {
+			buffer.append( "; cache partition: " ).append( cachePartition );
+		}
 		if ( customTransformer != null ) {
 			buffer.append( "; transformer: " ).append( customTransformer );
 		}
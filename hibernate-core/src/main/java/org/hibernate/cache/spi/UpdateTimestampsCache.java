@@ -7,9 +7,12 @@
 package org.hibernate.cache.spi;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
+import org.hibernate.QueryException;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -24,6 +27,11 @@ import org.jboss.logging.Logger;
  * to a higher value than the timeouts of any of the query caches. In fact, we
  * recommend that the the underlying cache not be configured for expiry at all.
  * Note, in particular, that an LRU cache expiry policy is never appropriate.
+ * <p/>
+ * The updates to the spaces of the entities {@link org.hibernate.annotations.QueryCachePartition partitioned} for
+ * the invalidation of the query results are tracked per partition as well, along with the updates whose partition
+ * is not known.  The results of a query declaring its {@link org.hibernate.Query#setCachePartition partition} are
+ * up-to-date for such a space unless either of those were updated.
  *
  * @author Gavin King
  * @author Mikheil Kapanadze
@@ -39,6 +47,7 @@ public class UpdateTimestampsCache {
 
 	private final SessionFactoryImplementor factory;
 	private final TimestampsRegion region;
+	private volatile Map<Serializable, Class> partitionTypes = Collections.emptyMap();
 
 	/**
 	 * Constructs an UpdateTimestampsCache.
@@ -68,6 +77,65 @@ public class UpdateTimestampsCache {
 		this( settings, props, null );
 	}
 
+	/**
+	 * Registers the spaces partitioned for the invalidation of the query results.
+	 *
+	 * @param partitionTypes The Java type of the {@link org.hibernate.annotations.QueryCachePartition} property,
+	 * keyed by the spaces of the entities having one
+	 */
+	public void setPartitionTypes(Map<Serializable, Class> partitionTypes) {
+		this.partitionTypes = partitionTypes;
+	}
+
+	/**
+	 * Are any spaces partitioned for the invalidation of the query results?
+	 *
+	 * @return {@code true} if the updates are to be invalidated through {@link #collectInvalidationKeys}
+	 */
+	public boolean hasPartitionedSpaces() {
+		return !partitionTypes.isEmpty();
+	}
+
+	/**
+	 * Collects the keys to (pre-)invalidate for an update to the given spaces: the spaces themselves, and their
+	 * partition for the partitioned spaces.
+	 *
+	 * @param spaces The updated spaces
+	 * @param partition The partition of the update, or {@code null} if it is not known
+	 * @param keys The keys to pass to {@link #preInvalidate} and {@link #invalidate}
+	 */
+	public void collectInvalidationKeys(Serializable[] spaces, Serializable partition, Set<Serializable> keys) {
+		for ( Serializable space : spaces ) {
+			keys.add( space );
+			if ( partitionTypes.containsKey( space ) ) {
+				keys.add( new PartitionedSpace( space, partition ) );
+			}
+		}
+	}
+
+	/**
+	 * Validates the partition declared by a query against the {@link org.hibernate.annotations.QueryCachePartition}
+	 * properties of its spaces: the updates are stamped with the values of those properties, so a partition of
+	 * another type (an Integer for a Long property, say) would never be invalidated.
+	 *
+	 * @param spaces The spaces of the query
+	 * @param partition The partition declared by the query
+	 *
+	 * @throws QueryException The partition is not a value of the partition property of a partitioned space
+	 */
+	public void validatePartition(Set<Serializable> spaces, Serializable partition) throws QueryException {
+		for ( Serializable space : spaces ) {
+			final Class partitionType = partitionTypes.get( space );
+			if ( partitionType != null && !partitionType.isInstance( partition ) ) {
+				throw new QueryException(
+						"Query cache partition [" + partition + "] of type " + partition.getClass().getName()
+								+ " does not match the type " + partitionType.getName()
+								+ " of the @QueryCachePartition property of table " + space
+				);
+			}
+		}
+	}
+
 	/**
 	 * Perform pre-invalidation.
 	 *
@@ -156,35 +224,72 @@ public class UpdateTimestampsCache {
 		final boolean stats = factory != null && factory.getStatistics().isStatisticsEnabled();
 
 		for ( Serializable space : spaces ) {
-			final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
-			if ( lastUpdate == null ) {
-				if ( stats ) {
-					factory.getStatisticsImplementor().updateTimestampsCacheMiss();
-				}
-				//the last update timestamp was lost from the cache
-				//(or there were no updates since startup!)
-				//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
-				//result = false; // safer
-			}
-			else {
-				if ( DEBUG_ENABLED ) {
-					LOG.debugf(
-							"[%s] last update timestamp: %s",
-							space,
-							lastUpdate + ", result set timestamp: " + timestamp
-					);
-				}
-				if ( stats ) {
-					factory.getStatisticsImplementor().updateTimestampsCacheHit();
-				}
-				if ( lastUpdate >= timestamp ) {
+			if ( !isUpToDate( space, timestamp, session, stats ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Perform an up-to-date check for the given set of query spaces, for the results of a query declaring its
+	 * partition.
+	 *
+	 * @param spaces The spaces to check
+	 * @param partition The partition declared by the query, or {@code null}
+	 * @param timestamp The timestamp against which to check.
+	 * @param session The session
+	 *
+	 * @return Whether all those spaces are up-to-date for the partition
+	 *
+	 * @throws CacheException Indicated problem delegating to underlying region.
+	 */
+	public boolean isUpToDate(Set<Serializable> spaces, Serializable partition, Long timestamp, SessionImplementor session)
+			throws CacheException {
+		if ( partition == null ) {
+			return isUpToDate( spaces, timestamp, session );
+		}
+		final boolean stats = factory != null && factory.getStatistics().isStatisticsEnabled();
+
+		for ( Serializable space : spaces ) {
+			if ( partitionTypes.containsKey( space ) ) {
+				if ( !isUpToDate( new PartitionedSpace( space, null ), timestamp, session, stats )
+						|| !isUpToDate( new PartitionedSpace( space, partition ), timestamp, session, stats ) ) {
 					return false;
 				}
 			}
+			else if ( !isUpToDate( space, timestamp, session, stats ) ) {
+				return false;
+			}
 		}
 		return true;
 	}
 
+	private boolean isUpToDate(Serializable space, Long timestamp, SessionImplementor session, boolean stats) {
+		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
+		if ( lastUpdate == null ) {
+			if ( stats ) {
+				factory.getStatisticsImplementor().updateTimestampsCacheMiss();
+			}
+			//the last update timestamp was lost from the cache
+			//(or there were no updates since startup!)
+			//updateTimestamps.put( space, new Long( updateTimestamps.nextTimestamp() ) );
+			//result = false; // safer
+			return true;
+		}
+		if ( DEBUG_ENABLED ) {
+			LOG.debugf(
+					"[%s] last update timestamp: %s",
+					space,
+					lastUpdate + ", result set timestamp: " + timestamp
+			);
+		}
+		if ( stats ) {
+			factory.getStatisticsImplementor().updateTimestampsCacheHit();
+		}
+		return lastUpdate < timestamp;
+	}
+
 	private Long getLastUpdateTimestampForSpace(Serializable space, SessionImplementor session) {
 		Long ts = null;
 		try {
@@ -234,4 +339,41 @@ public class UpdateTimestampsCache {
 		return "UpdateTimestampsCache";
 	}
 
+	/**
+	 * The key of the last update timestamp of a partition of a space, the {@code null} partition standing for the
+	 * updates whose partition is not known.
+	 */
+	private static final class PartitionedSpace implements Serializable {
+		private final Serializable space;
+		private final Serializable partition;
+
+		private PartitionedSpace(Serializable space, Serializable partition) {
+			this.space = space;
+			this.partition = partition;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			if ( !( other instanceof PartitionedSpace ) ) {
+				return false;
+			}
+			final PartitionedSpace that = (PartitionedSpace) other;
+			return space.equals( that.space )
+					&& ( partition == null ? that.partition == null : partition.equals( that.partition ) );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * space.hashCode() + ( partition == null ? 0 : partition.hashCode() );
+		}
+
+		@Override
+		public String toString() {
+			return space + ( partition == null ? "[*]" : "[" + partition + "]" );
+		}
+	}
+
 }
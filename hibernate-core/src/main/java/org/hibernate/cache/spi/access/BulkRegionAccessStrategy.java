@@ -0,0 +1,57 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.access;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Optional contract for access strategies able to read or write several items at once, for example
+ * using a single round trip to a clustered cache.
+ * <p/>
+ * Hibernate accesses these operations through {@link org.hibernate.engine.internal.CacheHelper}, which
+ * falls back to the per-key {@link #get} and {@link #putFromLoad} methods for strategies not implementing
+ * this contract.  Implementations must honor the same semantics as those per-key methods.
+ *
+ * @see EntityRegionAccessStrategy
+ * @see CollectionRegionAccessStrategy
+ */
+public interface BulkRegionAccessStrategy extends RegionAccessStrategy {
+	/**
+	 * Attempt to retrieve several objects from the cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @return the cached objects, keyed by their cache key; keys not found are not contained
+	 * @throws org.hibernate.cache.CacheException Propogated from underlying {@link org.hibernate.cache.spi.Region}
+	 */
+	Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp) throws CacheException;
+
+	/**
+	 * Attempt to cache several objects, after loading them from the database.
+	 *
+	 * @param session Current session.
+	 * @param keys The item keys
+	 * @param values The items, in the same order as the keys
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @param versions the item version numbers, in the same order as the keys
+	 * @param minimalPutOverride Explicit minimalPut flag
+	 * @return the number of objects successfully cached
+	 * @throws org.hibernate.cache.CacheException Propogated from underlying {@link org.hibernate.cache.spi.Region}
+	 */
+	int putAllFromLoad(
+			SessionImplementor session,
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException;
+}
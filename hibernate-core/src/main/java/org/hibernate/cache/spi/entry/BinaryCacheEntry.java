@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Binary CacheEntry format for entities.  Used to store the entry into the second-level cache as a compact byte
+ * array, which the clustered or off-heap cache regions store as is rather than through Java serialization.
+ * <p/>
+ * The layout of an entry follows the properties of its persister, so it carries neither class descriptors nor
+ * property names: the subclass is coded by its index among the sorted entity names of the hierarchy, followed by
+ * the version and the disassembled state.  The nodes sharing a cache are thus expected to share the mappings.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private final EntityPersister persister;
+	private volatile String[] entityNames;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final String[] names = getEntityNames();
+		final int subclass = Arrays.binarySearch( names, entry.getSubclass() );
+		if ( subclass < 0 ) {
+			throw new CacheException( "Entity [" + entry.getSubclass() + "] not in the hierarchy of " + persister.getEntityName() );
+		}
+		final BinaryCacheEntryFormat.Output output = new BinaryCacheEntryFormat.Output();
+		output.writeVarInt( subclass );
+		output.writeValue( entry.getVersion() );
+		for ( Serializable value : entry.getDisassembledState() ) {
+			output.writeValue( value );
+		}
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			// an entry cached before the binary entries were enabled
+			return structured;
+		}
+		final BinaryCacheEntryFormat.Input input = new BinaryCacheEntryFormat.Input( (byte[]) structured );
+		final String[] names = getEntityNames();
+		final int subclass = input.readVarInt();
+		if ( subclass < 0 || subclass >= names.length ) {
+			throw new CacheException( "Unknown entity in binary cache entry of " + persister.getEntityName() );
+		}
+		final Object version = input.readValue();
+		final EntityPersister subclassPersister = factory.getEntityPersister( names[subclass] );
+		final Serializable[] state = new Serializable[subclassPersister.getPropertyNames().length];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = (Serializable) input.readValue();
+		}
+		return new StandardCacheEntryImpl( state, names[subclass], version );
+	}
+
+	private String[] getEntityNames() {
+		String[] names = entityNames;
+		if ( names == null ) {
+			final EntityPersister rootPersister = persister.getFactory().getEntityPersister( persister.getRootEntityName() );
+			final Set subclassEntityNames = rootPersister.getEntityMetamodel().getSubclassEntityNames();
+			names = (String[]) subclassEntityNames.toArray( new String[subclassEntityNames.size()] );
+			Arrays.sort( names );
+			entityNames = names;
+		}
+		return names;
+	}
+}
@@ -0,0 +1,366 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * The compact binary format of the {@link BinaryCacheEntry binary cache entries}.  The values of the disassembled
+ * state are written with a one byte tag followed by a compact encoding of the common value classes (variable length
+ * integers, UTF-8 strings, ...), falling back to Java serialization for the other classes.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+ */
+final class BinaryCacheEntryFormat {
+	private static final Charset UTF_8 = Charset.forName( "UTF-8" );
+
+	private static final int NULL = 0;
+	private static final int TRUE = 1;
+	private static final int FALSE = 2;
+	private static final int INTEGER = 3;
+	private static final int LONG = 4;
+	private static final int SHORT = 5;
+	private static final int BYTE = 6;
+	private static final int CHARACTER = 7;
+	private static final int FLOAT = 8;
+	private static final int DOUBLE = 9;
+	private static final int STRING = 10;
+	private static final int BIG_DECIMAL = 11;
+	private static final int BIG_INTEGER = 12;
+	private static final int DATE = 13;
+	private static final int TIMESTAMP = 14;
+	private static final int SQL_DATE = 15;
+	private static final int TIME = 16;
+	private static final int UUID_VALUE = 17;
+	private static final int BYTES = 18;
+	private static final int SERIALIZABLE_ARRAY = 19;
+	private static final int OBJECT_ARRAY = 20;
+	private static final int UNFETCHED_PROPERTY = 21;
+	private static final int UNKNOWN_BACKREF = 22;
+	private static final int SERIALIZED = 23;
+
+	private BinaryCacheEntryFormat() {
+	}
+
+	/**
+	 * Writes a binary cache entry into a growing buffer.
+	 */
+	static final class Output {
+		private byte[] buffer = new byte[64];
+		private int position;
+
+		void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[position++] = (byte) value;
+		}
+
+		void writeVarInt(int value) {
+			ensureCapacity( 5 );
+			while ( ( value & ~0x7F ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		void writeBytes(byte[] bytes) {
+			writeVarInt( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		void writeString(String value) {
+			writeBytes( value.getBytes( UTF_8 ) );
+		}
+
+		void writeValue(Object value) {
+			if ( value == null ) {
+				writeByte( NULL );
+				return;
+			}
+			final Class valueClass = value.getClass();
+			if ( valueClass == String.class ) {
+				writeByte( STRING );
+				writeString( (String) value );
+			}
+			else if ( valueClass == Integer.class ) {
+				writeByte( INTEGER );
+				writeVarInt( zigZag( (Integer) value ) );
+			}
+			else if ( valueClass == Long.class ) {
+				writeByte( LONG );
+				writeVarLong( zigZag( (Long) value ) );
+			}
+			else if ( valueClass == Boolean.class ) {
+				writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( valueClass == Short.class ) {
+				writeByte( SHORT );
+				writeVarInt( zigZag( (Short) value ) );
+			}
+			else if ( valueClass == Byte.class ) {
+				writeByte( BYTE );
+				writeByte( (Byte) value );
+			}
+			else if ( valueClass == Character.class ) {
+				writeByte( CHARACTER );
+				writeVarInt( (Character) value );
+			}
+			else if ( valueClass == Float.class ) {
+				writeByte( FLOAT );
+				writeVarInt( Float.floatToIntBits( (Float) value ) );
+			}
+			else if ( valueClass == Double.class ) {
+				writeByte( DOUBLE );
+				writeVarLong( Double.doubleToLongBits( (Double) value ) );
+			}
+			else if ( valueClass == BigDecimal.class ) {
+				writeByte( BIG_DECIMAL );
+				writeVarInt( zigZag( ( (BigDecimal) value ).scale() ) );
+				writeBytes( ( (BigDecimal) value ).unscaledValue().toByteArray() );
+			}
+			else if ( valueClass == BigInteger.class ) {
+				writeByte( BIG_INTEGER );
+				writeBytes( ( (BigInteger) value ).toByteArray() );
+			}
+			else if ( valueClass == Date.class ) {
+				writeByte( DATE );
+				writeVarLong( zigZag( ( (Date) value ).getTime() ) );
+			}
+			else if ( valueClass == Timestamp.class ) {
+				writeByte( TIMESTAMP );
+				writeVarLong( zigZag( ( (Timestamp) value ).getTime() ) );
+				writeVarInt( ( (Timestamp) value ).getNanos() );
+			}
+			else if ( valueClass == java.sql.Date.class ) {
+				writeByte( SQL_DATE );
+				writeVarLong( zigZag( ( (java.sql.Date) value ).getTime() ) );
+			}
+			else if ( valueClass == Time.class ) {
+				writeByte( TIME );
+				writeVarLong( zigZag( ( (Time) value ).getTime() ) );
+			}
+			else if ( valueClass == UUID.class ) {
+				writeByte( UUID_VALUE );
+				writeVarLong( ( (UUID) value ).getMostSignificantBits() );
+				writeVarLong( ( (UUID) value ).getLeastSignificantBits() );
+			}
+			else if ( valueClass == byte[].class ) {
+				writeByte( BYTES );
+				writeBytes( (byte[]) value );
+			}
+			else if ( valueClass == Serializable[].class ) {
+				writeByte( SERIALIZABLE_ARRAY );
+				writeValues( (Object[]) value );
+			}
+			else if ( valueClass == Object[].class ) {
+				writeByte( OBJECT_ARRAY );
+				writeValues( (Object[]) value );
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				writeByte( UNFETCHED_PROPERTY );
+			}
+			else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				writeByte( UNKNOWN_BACKREF );
+			}
+			else {
+				writeByte( SERIALIZED );
+				writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+			}
+		}
+
+		void writeValues(Object[] values) {
+			writeVarInt( values.length );
+			for ( Object value : values ) {
+				writeValue( value );
+			}
+		}
+
+		byte[] toByteArray() {
+			final byte[] bytes = new byte[position];
+			System.arraycopy( buffer, 0, bytes, 0, position );
+			return bytes;
+		}
+
+		private void ensureCapacity(int length) {
+			if ( position + length > buffer.length ) {
+				final byte[] newBuffer = new byte[Math.max( buffer.length * 2, position + length )];
+				System.arraycopy( buffer, 0, newBuffer, 0, position );
+				buffer = newBuffer;
+			}
+		}
+	}
+
+	/**
+	 * Reads a binary cache entry.
+	 */
+	static final class Input {
+		private final byte[] bytes;
+		private int position;
+
+		Input(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		int readByte() {
+			if ( position >= bytes.length ) {
+				throw new CacheException( "Unexpected end of binary cache entry" );
+			}
+			return bytes[position++];
+		}
+
+		int readVarInt() {
+			int value = 0;
+			for ( int shift = 0; shift < 32; shift += 7 ) {
+				final int b = readByte();
+				value |= ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 ) {
+					return value;
+				}
+			}
+			throw new CacheException( "Malformed binary cache entry" );
+		}
+
+		long readVarLong() {
+			long value = 0;
+			for ( int shift = 0; shift < 64; shift += 7 ) {
+				final int b = readByte();
+				value |= (long) ( b & 0x7F ) << shift;
+				if ( ( b & 0x80 ) == 0 ) {
+					return value;
+				}
+			}
+			throw new CacheException( "Malformed binary cache entry" );
+		}
+
+		byte[] readBytes() {
+			final int length = readVarInt();
+			if ( length < 0 || position + length > bytes.length ) {
+				throw new CacheException( "Unexpected end of binary cache entry" );
+			}
+			final byte[] result = new byte[length];
+			System.arraycopy( bytes, position, result, 0, length );
+			position += length;
+			return result;
+		}
+
+		String readString() {
+			return new String( readBytes(), UTF_8 );
+		}
+
+		Object readValue() {
+			final int tag = readByte();
+			switch ( tag ) {
+				case NULL:
+					return null;
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case INTEGER:
+					return unZigZag( readVarInt() );
+				case LONG:
+					return unZigZag( readVarLong() );
+				case SHORT:
+					return (short) unZigZag( readVarInt() );
+				case BYTE:
+					return (byte) readByte();
+				case CHARACTER:
+					return (char) readVarInt();
+				case FLOAT:
+					return Float.intBitsToFloat( readVarInt() );
+				case DOUBLE:
+					return Double.longBitsToDouble( readVarLong() );
+				case STRING:
+					return readString();
+				case BIG_DECIMAL: {
+					final int scale = unZigZag( readVarInt() );
+					return new BigDecimal( new BigInteger( readBytes() ), scale );
+				}
+				case BIG_INTEGER:
+					return new BigInteger( readBytes() );
+				case DATE:
+					return new Date( unZigZag( readVarLong() ) );
+				case TIMESTAMP: {
+					final Timestamp timestamp = new Timestamp( unZigZag( readVarLong() ) );
+					timestamp.setNanos( readVarInt() );
+					return timestamp;
+				}
+				case SQL_DATE:
+					return new java.sql.Date( unZigZag( readVarLong() ) );
+				case TIME:
+					return new Time( unZigZag( readVarLong() ) );
+				case UUID_VALUE: {
+					final long mostSignificantBits = readVarLong();
+					return new UUID( mostSignificantBits, readVarLong() );
+				}
+				case BYTES:
+					return readBytes();
+				case SERIALIZABLE_ARRAY: {
+					final Serializable[] values = new Serializable[readVarInt()];
+					for ( int i = 0; i < values.length; i++ ) {
+						values[i] = (Serializable) readValue();
+					}
+					return values;
+				}
+				case OBJECT_ARRAY: {
+					final Object[] values = new Object[readVarInt()];
+					for ( int i = 0; i < values.length; i++ ) {
+						values[i] = readValue();
+					}
+					return values;
+				}
+				case UNFETCHED_PROPERTY:
+					return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+				case UNKNOWN_BACKREF:
+					return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+				case SERIALIZED:
+					return SerializationHelper.deserialize( readBytes() );
+				default:
+					throw new CacheException( "Unknown value tag in binary cache entry: " + tag );
+			}
+		}
+	}
+
+	private static int zigZag(int value) {
+		return ( value << 1 ) ^ ( value >> 31 );
+	}
+
+	private static long zigZag(long value) {
+		return ( value << 1 ) ^ ( value >> 63 );
+	}
+
+	private static int unZigZag(int value) {
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+
+	private static long unZigZag(long value) {
+		return ( value >>> 1 ) ^ -( value & 1 );
+	}
+}
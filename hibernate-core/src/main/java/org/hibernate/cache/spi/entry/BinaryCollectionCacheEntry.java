@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Binary CacheEntry format for persistent collections, see {@link BinaryCacheEntry}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+ */
+public class BinaryCollectionCacheEntry implements CacheEntryStructure {
+	/**
+	 * Access to the singleton reference.
+	 */
+	public static final BinaryCollectionCacheEntry INSTANCE = new BinaryCollectionCacheEntry();
+
+	@Override
+	public Object structure(Object item) {
+		final CollectionCacheEntry entry = (CollectionCacheEntry) item;
+		final BinaryCacheEntryFormat.Output output = new BinaryCacheEntryFormat.Output();
+		output.writeValues( entry.getState() );
+		return output.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			// an entry cached before the binary entries were enabled
+			return structured;
+		}
+		final BinaryCacheEntryFormat.Input input = new BinaryCacheEntryFormat.Input( (byte[]) structured );
+		final Serializable[] state = new Serializable[input.readVarInt()];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = (Serializable) input.readValue();
+		}
+		return new CollectionCacheEntry( state );
+	}
+
+	private BinaryCollectionCacheEntry() {
+	}
+}
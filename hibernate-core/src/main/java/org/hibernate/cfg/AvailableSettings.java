@@ -459,6 +459,13 @@ public interface AvailableSettings {
 	 */
 	String MAX_FETCH_DEPTH = "hibernate.max_fetch_depth";
 
+	/**
+	 * Should the load plan based loaders initialize the entities which have no associations as soon as their row
+	 * is read, rather than keeping their hydrated state until the whole result set has been read?  Default is
+	 * {@code false}.
+	 */
+	String STREAMING_HYDRATION = "hibernate.streaming_hydration";
+
 	/**
 	 * The default batch size for batch fetching
 	 */
@@ -502,6 +509,22 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should batched inserts be executed as multi-row {@code INSERT} statements, if supported by the
+	 * {@link org.hibernate.dialect.Dialect#supportsMultiRowInsert() Dialect}, rather than through JDBC batching?
+	 * Each statement inserts up to {@link #STATEMENT_BATCH_SIZE} rows; combine with {@link #ORDER_INSERTS} to
+	 * group the inserts of each entity.  Default is {@code false}.
+	 */
+	String BATCH_MULTI_ROW_INSERTS = "hibernate.jdbc.batch_multi_row_inserts";
+
+	/**
+	 * Should a flush execute its JDBC batches back to back, rather than executing the pending batch after each
+	 * group of actions (inserts, updates, collection changes, deletes), and verify the row counts returned by the
+	 * batches at the end of the flush rather than after each batch?  A stale row then fails the flush once all of
+	 * its statements have been sent.  Default is {@code false}.
+	 */
+	String BATCH_PIPELINED_FLUSH = "hibernate.jdbc.batch_pipelined_flush";
+
 	/**
 	 * Enable automatic session close at end of transaction
 	 */
@@ -547,6 +570,36 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads used to check (compile) the named queries during startup, as well as the
+	 * queries of the {@link #QUERY_PLAN_CACHE_SNAPSHOT_FILE query plan cache snapshot}.  Default is the
+	 * number of available processors.
+	 */
+	String QUERY_STARTUP_CHECK_PARALLELISM = "hibernate.query.startup_check.parallelism";
+
+	/**
+	 * The number of threads used to build the entity and collection persisters (including their SQL and
+	 * loaders) during startup.  Persisters of the same entity hierarchy are always built by the same thread.
+	 * Default is {@code 1}, building all persisters on the calling thread.
+	 * <p/>
+	 * Opt-in: only enable it when any custom {@link org.hibernate.persister.entity.EntityPersister} or
+	 * {@link org.hibernate.persister.collection.CollectionPersister} implementations in use can safely be
+	 * instantiated concurrently.
+	 */
+	String PERSISTER_INSTANTIATION_PARALLELISM = "hibernate.persister.instantiation_parallelism";
+
+	/**
+	 * Comma-separated list of the lock modes (in their external form, e.g. {@code none, read, pessimistic_write})
+	 * for which the entity persisters build their static entity loaders during startup.  The loaders for other
+	 * lock modes are built on first use.  Default is {@code none}: {@code none} names
+	 * {@link org.hibernate.LockMode#NONE}, so the loader of the plain loads is still built, and its SQL generated,
+	 * during startup.  An empty value defers all the loaders to their first use, the mapping problems they would
+	 * report surfacing then rather than at boot.
+	 *
+	 * @see org.hibernate.LockMode#fromExternalForm
+	 */
+	String PERSISTER_PREWARMED_LOCK_MODES = "hibernate.persister.prewarmed_lock_modes";
+
 	/**
 	 * Auto export/update schema using hbm2ddl tool. Valid values are <tt>update</tt>,
 	 * <tt>create</tt>, <tt>create-drop</tt> and <tt>validate</tt>.
@@ -562,7 +615,9 @@ public interface AvailableSettings {
 
 	/**
 	 * Enable wrapping of JDBC result sets in order to speed up column name lookups for
-	 * broken JDBC drivers
+	 * broken JDBC drivers: the wrapped result sets resolve the column aliases the values are read by to
+	 * their index once per query, and read the columns by index.  Disabled by default, the aliases then
+	 * being resolved by the driver.
 	 */
 	String WRAP_RESULT_SETS = "hibernate.jdbc.wrap_result_sets";
 
@@ -672,6 +727,27 @@ public interface AvailableSettings {
 	 */
 	String CACHE_REGION_FACTORY = "hibernate.cache.region.factory_class";
 
+	/**
+	 * The maximum size of the off-heap memory of each region of the
+	 * {@link org.hibernate.cache.internal.offheap.OffHeapRegionFactory}, in bytes or with a {@code k}, {@code m} or
+	 * {@code g} suffix (e.g. {@code 512m}).  Can be set for a single region by appending the region name, e.g.
+	 * {@code hibernate.cache.off_heap.max_size.com.acme.Country}.  Default is {@code 64m}.  The memory is allocated as
+	 * needed, and is limited by the {@code -XX:MaxDirectMemorySize} option of the JVM.
+	 */
+	String CACHE_OFF_HEAP_MAX_SIZE = "hibernate.cache.off_heap.max_size";
+
+	/**
+	 * The number of independently locked and evicted segments of each region of the
+	 * {@link org.hibernate.cache.internal.offheap.OffHeapRegionFactory}.  Default is {@code 16}.
+	 */
+	String CACHE_OFF_HEAP_SEGMENTS = "hibernate.cache.off_heap.segments";
+
+	/**
+	 * The size, in bytes, of the blocks the {@link org.hibernate.cache.internal.offheap.OffHeapRegionFactory} writes
+	 * the cached values into; a value occupies a whole number of blocks.  Default is {@code 128}.
+	 */
+	String CACHE_OFF_HEAP_BLOCK_SIZE = "hibernate.cache.off_heap.block_size";
+
 	/**
 	 * The <tt>CacheProvider</tt> implementation class
 	 */
@@ -691,6 +767,14 @@ public interface AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * The maximum time, in milliseconds, a query cache miss waits for a concurrent execution of the same query on
+	 * this node to cache its results, rather than executing the query as well.  Avoids executing a popular query
+	 * many times at once when its cached results are invalidated.  Default is {@code 0}: concurrent misses are not
+	 * coordinated.
+	 */
+	String QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT = "hibernate.cache.query_cache_single_flight_timeout";
+
 	/**
 	 * The <tt>CacheProvider</tt> region name prefix
 	 */
@@ -706,6 +790,14 @@ public interface AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable the storage of the entity and collection second-level cache entries in a compact binary format, rather
+	 * than as serializable objects.  Ignored when structured entries are enabled.  Default is {@code false}.
+	 *
+	 * @see org.hibernate.boot.SessionFactoryBuilder#applyBinaryCacheEntries(boolean)
+	 */
+	String USE_BINARY_CACHE_ENTRIES = "hibernate.cache.use_binary_entries";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -787,6 +879,21 @@ public interface AvailableSettings {
 	 */
 	String PREFER_POOLED_VALUES_LO = "hibernate.id.optimizer.pooled.prefer_lo";
 
+	/**
+	 * When using block based {@link org.hibernate.id.enhanced.Optimizer optimizers} (pooled, pooled-lo, hilo),
+	 * reserve the next block of values in the database once the current block runs low, rather than when it is
+	 * exhausted.  The default is {@code false}.
+	 */
+	String ID_OPTIMIZER_PREFETCH = "hibernate.id.optimizer.prefetch";
+
+	/**
+	 * When {@link #ID_OPTIMIZER_PREFETCH prefetching} identifier values, the percentage of the block (increment) size
+	 * remaining at which the next block is reserved.  Where possible (sequences and tables accessed outside of the
+	 * current transaction), the next block is reserved on a background thread owned by the SessionFactory.  The
+	 * default is 20.
+	 */
+	String ID_OPTIMIZER_PREFETCH_LOW_WATER_MARK = "hibernate.id.optimizer.prefetch.low_water_mark";
+
 	/**
 	 * The maximum number of strong references maintained by {@link org.hibernate.engine.query.spi.QueryPlanCache}. Default is 128.
 	 * @deprecated in favor of {@link #QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE}
@@ -813,6 +920,16 @@ public interface AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * The file in which the HQL queries held by the {@link org.hibernate.engine.query.spi.QueryPlanCache} are
+	 * recorded when the SessionFactory is closed.  When building a SessionFactory for the same mappings, the
+	 * recorded queries are compiled during startup, so that the first executions of these queries do not pay
+	 * for their translation.  Not set by default.
+	 *
+	 * @see #QUERY_STARTUP_CHECK_PARALLELISM
+	 */
+	String QUERY_PLAN_CACHE_SNAPSHOT_FILE = "hibernate.query.plan_cache_snapshot_file";
+
 	/**
 	 * The maximum number of {@link org.hibernate.engine.query.spi.ParameterMetadata} maintained 
 	 * by {@link org.hibernate.engine.query.spi.QueryPlanCache}. Default is 128.
@@ -906,6 +1023,15 @@ public interface AvailableSettings {
 	 * {@code LEGACY} is the default value.
 	 */
 	String BATCH_FETCH_STYLE = "hibernate.batch_fetch_style";
+
+	/**
+	 * Names the {@link org.hibernate.engine.spi.PersistenceContextStorage} used by the persistence context of each
+	 * Session.  Can specify either the {@link org.hibernate.engine.spi.PersistenceContextStorage} name
+	 * (insensitively), or a {@link org.hibernate.engine.spi.PersistenceContextStorage} instance.
+	 * <p/>
+	 * {@code HASH_MAP} is the default value.
+	 */
+	String PERSISTENCE_CONTEXT_STORAGE = "hibernate.persistence_context.storage";
 	
 	/**
 	 * A transaction can be rolled back by another thread ("tracking by thread")
@@ -89,6 +89,7 @@ public class BinderHelper {
 		clone.setLazy( property.isLazy() );
 		clone.setName( property.getName() );
 		clone.setNaturalIdentifier( property.isNaturalIdentifier() );
+		clone.setQueryCachePartition( property.isQueryCachePartition() );
 		clone.setOptimisticLocked( property.isOptimisticLocked() );
 		clone.setOptional( property.isOptional() );
 		clone.setPersistentClass( property.getPersistentClass() );
@@ -2396,6 +2396,41 @@ public abstract class Dialect implements ConversionContext {
 		return false;
 	}
 
+	/**
+	 * Render a restriction of the given column against the elements of a single
+	 * bound JDBC {@link java.sql.Array} parameter, if this dialect supports it.
+	 * <p/>
+	 * For example, "... where ID = any(?) ..."
+	 * <p/>
+	 * Multi-loads use this to issue the same SQL regardless of the number of ids,
+	 * falling back to an IN list when this returns {@code null}.
+	 *
+	 * @param columnReference The (qualified) column reference
+	 *
+	 * @return The restriction fragment, or {@code null} if array parameter restrictions
+	 * are not supported (the default)
+	 */
+	public String getArrayParameterRestriction(String columnReference) {
+		return null;
+	}
+
+	/**
+	 * The database type name to use as element type when creating a JDBC array
+	 * (see {@link java.sql.Connection#createArrayOf}) of values of the given
+	 * {@link java.sql.Types} typecode.
+	 *
+	 * @param code The {@link java.sql.Types} typecode of the array elements
+	 *
+	 * @return The element type name
+	 *
+	 * @throws HibernateException If no mapping was specified for that type.
+	 */
+	public String getArrayElementTypeName(int code) throws HibernateException {
+		final String typeName = getTypeName( code );
+		final int paren = typeName.indexOf( '(' );
+		return paren < 0 ? typeName : typeName.substring( 0, paren ).trim();
+	}
+
 	/**
 	 * Should LOBs (both BLOB and CLOB) be bound using stream operations (i.e.
 	 * {@link java.sql.PreparedStatement#setBinaryStream}).
@@ -2678,6 +2713,74 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Does this dialect support inserting several rows using a single {@code INSERT ... VALUES} statement
+	 * listing several value tuples?
+	 *
+	 * @return {@code true} if multi-row inserts are supported
+	 *
+	 * @see #getMultiRowInsertString
+	 */
+	public boolean supportsMultiRowInsert() {
+		return false;
+	}
+
+	/**
+	 * Build the statement inserting the given number of rows at once from the statement inserting a single
+	 * row.  The JDBC parameters of the resulting statement must be those of the given statement, repeated for
+	 * each row.
+	 * <p/>
+	 * By default, the value tuple of an {@code INSERT ... VALUES (...)} statement is repeated.
+	 *
+	 * @param insert The single-row insert statement
+	 * @param rowCount The number of rows
+	 *
+	 * @return The multi-row insert statement, or {@code null} if the given statement cannot be rewritten
+	 */
+	public String getMultiRowInsertString(String insert, int rowCount) {
+		if ( !supportsMultiRowInsert() ) {
+			return null;
+		}
+		final int valuesIndex = insert.toLowerCase( Locale.ROOT ).lastIndexOf( " values (" );
+		if ( valuesIndex < 0 ) {
+			return null;
+		}
+		final String tuple = insert.substring( valuesIndex + " values ".length() );
+		// the statement has to end with the value tuple
+		int depth = 0;
+		for ( int i = 0; i < tuple.length(); i++ ) {
+			final char c = tuple.charAt( i );
+			if ( c == '(' ) {
+				depth++;
+			}
+			else if ( c == ')' && --depth == 0 && i != tuple.length() - 1 ) {
+				return null;
+			}
+		}
+		if ( depth != 0 ) {
+			return null;
+		}
+
+		final StringBuilder buffer = new StringBuilder( insert.length() + ( tuple.length() + 2 ) * ( rowCount - 1 ) )
+				.append( insert );
+		for ( int i = 1; i < rowCount; i++ ) {
+			buffer.append( ", " ).append( tuple );
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * The maximum number of rows of a {@link #getMultiRowInsertString multi-row insert}, accounting for the
+	 * limit the database (or driver) places on the number of JDBC parameters of a statement.
+	 *
+	 * @param parameterCountPerRow The number of JDBC parameters of each row
+	 *
+	 * @return The maximum number of rows
+	 */
+	public int getMultiRowInsertRowLimit(int parameterCountPerRow) {
+		return Integer.MAX_VALUE;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -427,6 +427,11 @@ public class H2Dialect extends Dialect {
 	public boolean supportsTuplesInSubqueries() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
 	
 	@Override
 	public boolean dropConstraints() {
@@ -424,6 +424,17 @@ public class MySQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit(int parameterCountPerRow) {
+		// prepared statements are limited to 65535 placeholders
+		return parameterCountPerRow == 0 ? Integer.MAX_VALUE : 65535 / parameterCountPerRow;
+	}
+
 	@Override
 	public String renderOrderByElement(String expression, String collation, String order, NullPrecedence nulls) {
 		final StringBuilder orderByElement = new StringBuilder();
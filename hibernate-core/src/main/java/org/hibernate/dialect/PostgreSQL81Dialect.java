@@ -523,6 +523,11 @@ public class PostgreSQL81Dialect extends Dialect {
 	public boolean supportsRowValueConstructorSyntax() {
 		return true;
 	}
+
+	@Override
+	public String getArrayParameterRestriction(String columnReference) {
+		return columnReference + " = any(?)";
+	}
 	
 	@Override
 	public String getForUpdateNowaitString() {
@@ -25,6 +25,17 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit(int parameterCountPerRow) {
+		// the JDBC driver limits the number of parameters to 32767
+		return parameterCountPerRow == 0 ? Integer.MAX_VALUE : Short.MAX_VALUE / parameterCountPerRow;
+	}
+
 	@Override
 	public void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
 		super.contributeTypes( typeContributions, serviceRegistry );
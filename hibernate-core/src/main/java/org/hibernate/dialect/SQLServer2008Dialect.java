@@ -31,6 +31,17 @@ public class SQLServer2008Dialect extends SQLServer2005Dialect {
 		);
 	}
 	
+	@Override
+	public boolean supportsMultiRowInsert() {
+		return true;
+	}
+
+	@Override
+	public int getMultiRowInsertRowLimit(int parameterCountPerRow) {
+		// a table value constructor is limited to 1000 rows, and a statement to 2100 parameters
+		return parameterCountPerRow == 0 ? 1000 : Math.min( 1000, 2100 / parameterCountPerRow );
+	}
+
 	@Override
 	public String renderOrderByElement(String expression, String collation, String order, NullPrecedence nulls) {
 		final StringBuilder orderByElement = new StringBuilder();
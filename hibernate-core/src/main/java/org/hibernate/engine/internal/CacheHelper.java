@@ -7,7 +7,11 @@
 package org.hibernate.engine.internal;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
+import org.hibernate.cache.spi.access.BulkRegionAccessStrategy;
 import org.hibernate.cache.spi.access.RegionAccessStrategy;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -37,4 +41,87 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Retrieve several items from the shared cache, using a single bulk read if the access strategy
+	 * is a {@link BulkRegionAccessStrategy}.
+	 *
+	 * @return The cached values keyed by cache key; keys not found are not contained
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SessionImplementor session,
+			Collection<?> cacheKeys,
+			RegionAccessStrategy cacheAccessStrategy) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		try {
+			if ( cacheAccessStrategy instanceof BulkRegionAccessStrategy ) {
+				cachedValues = ( (BulkRegionAccessStrategy) cacheAccessStrategy ).getAll(
+						session,
+						cacheKeys,
+						session.getTimestamp()
+				);
+			}
+			else {
+				cachedValues = new HashMap<Object, Object>();
+				for ( Object cacheKey : cacheKeys ) {
+					final Object cachedValue = cacheAccessStrategy.get( session, cacheKey, session.getTimestamp() );
+					if ( cachedValue != null ) {
+						cachedValues.put( cacheKey, cachedValue );
+					}
+				}
+			}
+		}
+		finally {
+			eventListenerManager.cacheGetEnd( cachedValues != null && !cachedValues.isEmpty() );
+		}
+		return cachedValues;
+	}
+
+	/**
+	 * Put several items just loaded from the database into the shared cache, using a single bulk write
+	 * if the access strategy is a {@link BulkRegionAccessStrategy}.
+	 *
+	 * @return The number of items actually cached
+	 */
+	public static int putAllFromLoad(
+			SessionImplementor session,
+			RegionAccessStrategy cacheAccessStrategy,
+			Object[] cacheKeys,
+			Object[] values,
+			Object[] versions,
+			boolean minimalPutOverride) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		eventListenerManager.cachePutStart();
+		try {
+			if ( cacheAccessStrategy instanceof BulkRegionAccessStrategy ) {
+				return ( (BulkRegionAccessStrategy) cacheAccessStrategy ).putAllFromLoad(
+						session,
+						cacheKeys,
+						values,
+						session.getTimestamp(),
+						versions,
+						minimalPutOverride
+				);
+			}
+			int count = 0;
+			for ( int i = 0; i < cacheKeys.length; i++ ) {
+				final boolean put = cacheAccessStrategy.putFromLoad(
+						session,
+						cacheKeys[i],
+						values[i],
+						session.getTimestamp(),
+						versions[i],
+						minimalPutOverride
+				);
+				if ( put ) {
+					count++;
+				}
+			}
+			return count;
+		}
+		finally {
+			eventListenerManager.cachePutEnd();
+		}
+	}
 }
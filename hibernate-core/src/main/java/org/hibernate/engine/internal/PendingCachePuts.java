@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.RegionAccessStrategy;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+
+/**
+ * Collects the second-level cache puts of items loaded together, so that they can be applied using a
+ * single bulk write per region (see {@link CacheHelper#putAllFromLoad}) once loading is done.
+ */
+public final class PendingCachePuts {
+	private final List<Batch> batches = new ArrayList<Batch>();
+
+	public void add(
+			EntityRegionAccessStrategy cacheAccessStrategy,
+			Object cacheKey,
+			Object value,
+			Object version,
+			boolean minimalPutOverride) {
+		batch( cacheAccessStrategy, cacheAccessStrategy.getRegion().getName(), minimalPutOverride )
+				.add( cacheKey, value, version );
+	}
+
+	public void add(
+			CollectionRegionAccessStrategy cacheAccessStrategy,
+			Object cacheKey,
+			Object value,
+			Object version,
+			boolean minimalPutOverride) {
+		batch( cacheAccessStrategy, cacheAccessStrategy.getRegion().getName(), minimalPutOverride )
+				.add( cacheKey, value, version );
+	}
+
+	private Batch batch(RegionAccessStrategy cacheAccessStrategy, String regionName, boolean minimalPutOverride) {
+		// there are usually only a handful of regions involved in a load
+		for ( Batch batch : batches ) {
+			if ( batch.cacheAccessStrategy == cacheAccessStrategy && batch.minimalPutOverride == minimalPutOverride ) {
+				return batch;
+			}
+		}
+		final Batch batch = new Batch( cacheAccessStrategy, regionName, minimalPutOverride );
+		batches.add( batch );
+		return batch;
+	}
+
+	public boolean isEmpty() {
+		return batches.isEmpty();
+	}
+
+	/**
+	 * The number of collected puts.
+	 *
+	 * @return The number of collected puts
+	 */
+	public int size() {
+		int size = 0;
+		for ( Batch batch : batches ) {
+			size += batch.keys.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Apply (and then forget) all collected puts.
+	 *
+	 * @param session The session which loaded the items
+	 */
+	public void flush(SessionImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		for ( Batch batch : batches ) {
+			final int count = CacheHelper.putAllFromLoad(
+					session,
+					batch.cacheAccessStrategy,
+					batch.keys.toArray(),
+					batch.values.toArray(),
+					batch.versions.toArray(),
+					batch.minimalPutOverride
+			);
+			if ( factory.getStatistics().isStatisticsEnabled() ) {
+				for ( int i = 0; i < count; i++ ) {
+					factory.getStatisticsImplementor().secondLevelCachePut( batch.regionName );
+				}
+			}
+		}
+		batches.clear();
+	}
+
+	private static class Batch {
+		private final RegionAccessStrategy cacheAccessStrategy;
+		private final String regionName;
+		private final boolean minimalPutOverride;
+		private final List<Object> keys = new ArrayList<Object>();
+		private final List<Object> values = new ArrayList<Object>();
+		private final List<Object> versions = new ArrayList<Object>();
+
+		private Batch(RegionAccessStrategy cacheAccessStrategy, String regionName, boolean minimalPutOverride) {
+			this.cacheAccessStrategy = cacheAccessStrategy;
+			this.regionName = regionName;
+			this.minimalPutOverride = minimalPutOverride;
+		}
+
+		private void add(Object key, Object value, Object version) {
+			keys.add( key );
+			values.add( value );
+			versions.add( version );
+		}
+	}
+}
@@ -117,12 +117,34 @@ public final class TwoPhaseLoad {
 			final boolean readOnly,
 			final SessionImplementor session,
 			final PreLoadEvent preLoadEvent) {
+		initializeEntity( entity, readOnly, session, preLoadEvent, null );
+	}
+
+	/**
+	 * Perform the second step of 2-phase load, collecting the second-level cache put
+	 * of the entity instead of performing it immediately.
+	 *
+	 * @param entity The entity being loaded
+	 * @param readOnly Is the entity being loaded as read-only
+	 * @param session The Session
+	 * @param preLoadEvent The (re-used) pre-load event
+	 * @param pendingCachePuts The collector for second-level cache puts; the put is performed
+	 * immediately if {@code null}
+	 *
+	 * @see #initializeEntity(Object, boolean, SessionImplementor, PreLoadEvent)
+	 */
+	public static void initializeEntity(
+			final Object entity,
+			final boolean readOnly,
+			final SessionImplementor session,
+			final PreLoadEvent preLoadEvent,
+			final PendingCachePuts pendingCachePuts) {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		final EntityEntry entityEntry = persistenceContext.getEntry( entity );
 		if ( entityEntry == null ) {
 			throw new AssertionFailure( "possible non-threadsafe access to the session" );
 		}
-		doInitializeEntity( entity, entityEntry, readOnly, session, preLoadEvent );
+		doInitializeEntity( entity, entityEntry, readOnly, session, preLoadEvent, pendingCachePuts );
 	}
 
 	private static void doInitializeEntity(
@@ -130,7 +152,8 @@ public final class TwoPhaseLoad {
 			final EntityEntry entityEntry,
 			final boolean readOnly,
 			final SessionImplementor session,
-			final PreLoadEvent preLoadEvent) throws HibernateException {
+			final PreLoadEvent preLoadEvent,
+			final PendingCachePuts pendingCachePuts) throws HibernateException {
 		final PersistenceContext persistenceContext = session.getPersistenceContext();
 		final EntityPersister persister = entityEntry.getPersister();
 		final Serializable id = entityEntry.getId();
@@ -198,6 +221,15 @@ public final class TwoPhaseLoad {
 						version
 				);
 			}
+			else if ( pendingCachePuts != null ) {
+				pendingCachePuts.add(
+						cache,
+						cacheKey,
+						persister.getCacheEntryStructure().structure( entry ),
+						version,
+						useMinimalPuts( session, entityEntry )
+				);
+			}
 			else {
 				final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 				try {
@@ -263,6 +295,12 @@ public final class TwoPhaseLoad {
 
 		persister.afterInitialize( entity, session );
 
+		if ( persister.isBatchLoadable()
+				&& persister.getEntityMetamodel().getBytecodeEnhancementMetadata().hasUnFetchedAttributes( entity ) ) {
+			// its lazy attributes can be loaded along with those of the other instances
+			persistenceContext.getBatchFetchQueue().addBatchLoadableLazyAttributes( entityEntry.getEntityKey(), persister );
+		}
+
 		if ( debugEnabled ) {
 			LOG.debugf(
 					"Done materializing entity %s",
@@ -25,7 +25,11 @@ import static org.hibernate.internal.CoreLogging.messageLogger;
  *
  * @author Steve Ebersole
  * @author Gail Badner
+ *
+ * @deprecated Use {@link org.hibernate.engine.jdbc.internal.ColumnIndexResultSet} instead, which does not go
+ * through reflection for every call
  */
+@Deprecated
 public class ResultSetWrapperProxy implements InvocationHandler {
 	private static final CoreMessageLogger LOG = messageLogger( ResultSetWrapperProxy.class );
 
@@ -139,7 +139,7 @@ public abstract class AbstractBatchImpl implements Batch {
 	@Override
 	public final void execute() {
 		notifyObserversExplicitExecution();
-		if ( getStatements().isEmpty() ) {
+		if ( !hasPendingExecution() ) {
 			return;
 		}
 
@@ -151,6 +151,15 @@ public abstract class AbstractBatchImpl implements Batch {
 		}
 	}
 
+	/**
+	 * Is there anything left to execute?
+	 *
+	 * @return {@code true} if statements have been added to this batch since it was last executed
+	 */
+	protected boolean hasPendingExecution() {
+		return !getStatements().isEmpty();
+	}
+
 	protected void releaseStatements() {
 		for ( PreparedStatement statement : getStatements().values() ) {
 			clearBatch( statement );
@@ -189,7 +198,7 @@ public abstract class AbstractBatchImpl implements Batch {
 
 	@Override
 	public void release() {
-		if ( getStatements() != null && !getStatements().isEmpty() ) {
+		if ( getStatements() != null && hasPendingExecution() ) {
 			LOG.batchContainedStatementsOnRelease();
 		}
 		releaseStatements();
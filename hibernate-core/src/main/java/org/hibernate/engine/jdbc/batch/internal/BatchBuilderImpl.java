@@ -9,10 +9,12 @@ package org.hibernate.engine.jdbc.batch.internal;
 import java.util.Map;
 
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.Configurable;
@@ -31,6 +33,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable {
 	);
 
 	private int size;
+	private boolean multiRowInserts;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -50,6 +53,11 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable {
 	@Override
 	public void configure(Map configurationValues) {
 		size = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, size );
+		multiRowInserts = ConfigurationHelper.getBoolean(
+				Environment.BATCH_MULTI_ROW_INSERTS,
+				configurationValues,
+				multiRowInserts
+		);
 	}
 
 	@SuppressWarnings("UnusedDeclaration")
@@ -57,12 +65,28 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable {
 		this.size = size;
 	}
 
+	@SuppressWarnings("UnusedDeclaration")
+	public void setMultiRowInserts(boolean multiRowInserts) {
+		this.multiRowInserts = multiRowInserts;
+	}
+
 	@Override
 	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
 		LOG.tracef( "Building batch [size=%s]", size );
-		return size > 1
-				? new BatchingBatch( key, jdbcCoordinator, size )
-				: new NonBatchingBatch( key, jdbcCoordinator );
+		if ( size <= 1 ) {
+			return new NonBatchingBatch( key, jdbcCoordinator );
+		}
+		if ( multiRowInserts ) {
+			final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getServiceRegistry()
+					.getService( JdbcServices.class )
+					.getDialect();
+			if ( dialect.supportsMultiRowInsert() ) {
+				return new MultiRowInsertBatch( key, jdbcCoordinator, size, dialect );
+			}
+		}
+		return new BatchingBatch( key, jdbcCoordinator, size );
 	}
 
 	@Override
@@ -134,6 +134,9 @@ public class BatchingBatch extends AbstractBatchImpl {
 		if ( numberOfRowCounts != batchPosition ) {
 			LOG.unexpectedRowCounts();
 		}
+		if ( getJdbcCoordinator().deferRowCountVerification( getKey(), rowCounts ) ) {
+			return;
+		}
 		for ( int i = 0; i < numberOfRowCounts; i++ ) {
 			getKey().getExpectation().verifyOutcome( rowCounts[i], ps, i );
 		}
@@ -0,0 +1,327 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.Expectations;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which executes the batched rows of an
+ * {@code INSERT} statement as a single multi-row {@code INSERT} (as built by the {@link Dialect}), rather than
+ * through JDBC batching which many drivers execute as one round trip per row.
+ * <p/>
+ * The statement handed out for such inserts records the parameter values bound for each row; these are bound
+ * into the multi-row statement, shifted by the number of parameters per row, once the batch size (or the
+ * Dialect's row limit) is reached or the batch is executed.  The inserts of all the tables of the batch (the
+ * tables of a joined inheritance hierarchy, secondary tables) are then executed together, in the order of their
+ * first row, so that the rows of the parent tables are inserted first.  Other statements are batched as per
+ * {@link BatchingBatch}, the inserts recorded so far being executed before them.
+ */
+public class MultiRowInsertBatch extends BatchingBatch {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( MultiRowInsertBatch.class );
+
+	private final int batchSize;
+	private final Dialect dialect;
+
+	private final Map<String,PendingInsert> pendingInserts = new LinkedHashMap<String, PendingInsert>();
+	// single-row inserts which cannot be rewritten
+	private final Map<String,Boolean> rewritable = new HashMap<String, Boolean>();
+	private PendingInsert currentInsert;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size, and maximum number of rows of the multi-row inserts
+	 * @param dialect The dialect building the multi-row inserts
+	 */
+	public MultiRowInsertBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int batchSize, Dialect dialect) {
+		super( key, jdbcCoordinator, batchSize );
+		this.batchSize = batchSize;
+		this.dialect = dialect;
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		if ( callable || !isRewritable( sql ) ) {
+			// keep the statements executed in order
+			executePendingInserts();
+			currentInsert = null;
+			return super.getBatchStatement( sql, callable );
+		}
+
+		if ( !getStatements().isEmpty() ) {
+			// keep the statements executed in order
+			super.doExecuteBatch();
+		}
+		PendingInsert pendingInsert = pendingInserts.get( sql );
+		if ( pendingInsert == null ) {
+			pendingInsert = new PendingInsert( sql );
+			pendingInserts.put( sql, pendingInsert );
+		}
+		currentInsert = pendingInsert;
+		return pendingInsert.recorder;
+	}
+
+	private boolean isRewritable(String sql) {
+		Boolean result = rewritable.get( sql );
+		if ( result == null ) {
+			result = dialect.getMultiRowInsertString( sql, 2 ) != null;
+			rewritable.put( sql, result );
+		}
+		return result;
+	}
+
+	@Override
+	public void addToBatch() {
+		if ( currentInsert == null ) {
+			super.addToBatch();
+			return;
+		}
+
+		currentInsert.endRow();
+		if ( currentInsert.rows.size() >= currentInsert.rowLimit ) {
+			notifyObserversImplicitExecution();
+			executePendingInserts();
+		}
+	}
+
+	@Override
+	protected boolean hasPendingExecution() {
+		if ( super.hasPendingExecution() ) {
+			return true;
+		}
+		for ( PendingInsert pendingInsert : pendingInserts.values() ) {
+			if ( !pendingInsert.rows.isEmpty() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		executePendingInserts();
+		super.doExecuteBatch();
+	}
+
+	@Override
+	protected void releaseStatements() {
+		for ( PendingInsert pendingInsert : pendingInserts.values() ) {
+			pendingInsert.release();
+		}
+		pendingInserts.clear();
+		currentInsert = null;
+		super.releaseStatements();
+	}
+
+	/**
+	 * Executes the rows recorded for all the inserts, in the order of the first row of each insert: the rows of a
+	 * table referenced by the rows of another one are recorded first.
+	 */
+	private void executePendingInserts() {
+		for ( PendingInsert pendingInsert : pendingInserts.values() ) {
+			if ( !pendingInsert.rows.isEmpty() ) {
+				execute( pendingInsert );
+			}
+		}
+	}
+
+	private void execute(PendingInsert pendingInsert) {
+		final List<List<Binding>> rows = pendingInsert.rows;
+		final String sql = dialect.getMultiRowInsertString( pendingInsert.sql, rows.size() );
+		LOG.debugf( "Executing multi-row insert of %s rows", rows.size() );
+		final PreparedStatement statement = prepareStatement( sql );
+		try {
+			int offset = 0;
+			for ( List<Binding> row : rows ) {
+				for ( Binding binding : row ) {
+					binding.bind( statement, offset );
+				}
+				offset += pendingInsert.parameterCountPerRow;
+			}
+			final int rowCount = getJdbcCoordinator().getResultSetReturn().executeUpdate( statement );
+			checkRowCount( rowCount, rows.size(), sql );
+		}
+		catch (SQLException e) {
+			abortBatch();
+			throw sqlExceptionHelper().convert( e, "could not execute multi-row insert", sql );
+		}
+		catch (RuntimeException e) {
+			abortBatch();
+			throw e;
+		}
+		finally {
+			rows.clear();
+			getJdbcCoordinator().getResourceRegistry().release( statement );
+			getJdbcCoordinator().afterStatementExecution();
+		}
+	}
+
+	private PreparedStatement prepareStatement(String sql) {
+		// unlike prepareStatement(sql, callable), does not execute the current batch (this one) first
+		return getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
+	}
+
+	private void checkRowCount(int rowCount, int expectedRowCount, String sql) {
+		// the row count can not be attributed to a single row, so it is checked against the number of rows
+		if ( getKey().getExpectation() == Expectations.NONE || rowCount == expectedRowCount ) {
+			return;
+		}
+		throw new StaleStateException(
+				"Multi-row insert returned unexpected row count; actual row count: " + rowCount
+						+ "; expected: " + expectedRowCount + "; statement executed: " + sql
+		);
+	}
+
+	/**
+	 * A parameter value bound by the persister, as the invocation of a {@code PreparedStatement} setter taking
+	 * the parameter index as first argument.
+	 */
+	private static final class Binding {
+		private final Method setter;
+		private final Object[] arguments;
+
+		private Binding(Method setter, Object[] arguments) {
+			this.setter = setter;
+			this.arguments = arguments;
+		}
+
+		private int getIndex() {
+			return (Integer) arguments[0];
+		}
+
+		private void bind(PreparedStatement statement, int offset) throws SQLException {
+			final Object[] shiftedArguments = arguments.clone();
+			shiftedArguments[0] = (Integer) arguments[0] + offset;
+			try {
+				setter.invoke( statement, shiftedArguments );
+			}
+			catch (InvocationTargetException e) {
+				if ( e.getTargetException() instanceof SQLException ) {
+					throw (SQLException) e.getTargetException();
+				}
+				throw new HibernateException( "Unable to bind parameter", e.getTargetException() );
+			}
+			catch (IllegalAccessException e) {
+				throw new HibernateException( "Unable to bind parameter", e );
+			}
+		}
+	}
+
+	/**
+	 * The rows recorded for a single-row insert statement.
+	 */
+	private final class PendingInsert implements InvocationHandler {
+		private final String sql;
+		private final PreparedStatement recorder;
+		// known once the first row has been bound, every parameter being bound for each row
+		private int parameterCountPerRow;
+		private int rowLimit;
+		// the single-row statement the methods not related to the parameters are delegated to, if any
+		private PreparedStatement delegate;
+
+		private final List<List<Binding>> rows = new ArrayList<List<Binding>>();
+		private List<Binding> currentRow = new ArrayList<Binding>();
+
+		private PendingInsert(String sql) {
+			this.sql = sql;
+			this.recorder = (PreparedStatement) Proxy.newProxyInstance(
+					PreparedStatement.class.getClassLoader(),
+					new Class[] { PreparedStatement.class },
+					this
+			);
+		}
+
+		private void endRow() {
+			if ( rowLimit == 0 ) {
+				for ( Binding binding : currentRow ) {
+					parameterCountPerRow = Math.max( parameterCountPerRow, binding.getIndex() );
+				}
+				rowLimit = Math.max( 1, Math.min( batchSize, dialect.getMultiRowInsertRowLimit( parameterCountPerRow ) ) );
+			}
+			rows.add( currentRow );
+			currentRow = new ArrayList<Binding>( currentRow.size() );
+		}
+
+		private PreparedStatement delegate() {
+			if ( delegate == null ) {
+				delegate = prepareStatement( sql );
+			}
+			return delegate;
+		}
+
+		private void release() {
+			if ( delegate != null ) {
+				getJdbcCoordinator().getResourceRegistry().release( delegate );
+				getJdbcCoordinator().afterStatementExecution();
+				delegate = null;
+			}
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			final String name = method.getName();
+			if ( name.startsWith( "set" ) && args != null && args.length > 1
+					&& method.getParameterTypes()[0] == int.class ) {
+				currentRow.add( new Binding( method, args ) );
+				return null;
+			}
+			if ( "clearParameters".equals( name ) ) {
+				currentRow.clear();
+				return null;
+			}
+			if ( "getConnection".equals( name ) ) {
+				return getJdbcCoordinator().getLogicalConnection().getPhysicalConnection();
+			}
+			if ( "equals".equals( name ) ) {
+				return proxy == args[0];
+			}
+			if ( "hashCode".equals( name ) ) {
+				return System.identityHashCode( proxy );
+			}
+			if ( "toString".equals( name ) ) {
+				return "MultiRowInsertBatch recorder [" + sql + "]";
+			}
+			if ( "close".equals( name ) ) {
+				// the statements are released along with the batch
+				return null;
+			}
+			if ( name.startsWith( "execute" ) || name.endsWith( "Batch" ) ) {
+				throw new UnsupportedOperationException(
+						"Statements of multi-row inserts are executed by the batch, not through [" + name + "] : " + sql
+				);
+			}
+			// anything else (metadata, warnings, timeouts...) is answered by the single-row statement
+			try {
+				return method.invoke( delegate(), args );
+			}
+			catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+	}
+}
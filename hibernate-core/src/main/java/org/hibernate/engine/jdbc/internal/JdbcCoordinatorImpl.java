@@ -13,9 +13,11 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -66,6 +68,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	private final ConnectionReleaseMode connectionReleaseMode;
 
 	private transient Batch currentBatch;
+	private transient List<DeferredRowCounts> deferredRowCounts;
 
 	private transient long transactionTimeOutInstant = -1;
 
@@ -177,6 +180,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 		if ( flushDepth == 0 ) {
 			releasesEnabled = true;
+			// the verifications left over by a failed flush
+			deferredRowCounts = null;
 		}
 		
 		afterStatementExecution();
@@ -224,6 +229,30 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 	}
 
+	@Override
+	public boolean deferRowCountVerification(BatchKey key, int[] rowCounts) {
+		if ( flushDepth == 0 || !sessionFactory().getSessionFactoryOptions().isJdbcBatchPipelinedFlush() ) {
+			return false;
+		}
+		if ( deferredRowCounts == null ) {
+			deferredRowCounts = new ArrayList<DeferredRowCounts>();
+		}
+		deferredRowCounts.add( new DeferredRowCounts( key, rowCounts ) );
+		return true;
+	}
+
+	@Override
+	public void verifyDeferredRowCounts() {
+		if ( deferredRowCounts == null ) {
+			return;
+		}
+		final List<DeferredRowCounts> verifications = deferredRowCounts;
+		deferredRowCounts = null;
+		for ( DeferredRowCounts verification : verifications ) {
+			verification.verify();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
@@ -546,4 +575,29 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 		return new JdbcCoordinatorImpl( logicalConnection, isUserSuppliedConnection, connectionReleaseMode, owner );
 	}
+
+	/**
+	 * The row counts returned by the execution of a batch, to be verified at the end of the flush.
+	 */
+	private static final class DeferredRowCounts {
+		private final BatchKey key;
+		private final int[] rowCounts;
+
+		private DeferredRowCounts(BatchKey key, int[] rowCounts) {
+			this.key = key;
+			this.rowCounts = rowCounts;
+		}
+
+		private void verify() {
+			try {
+				for ( int i = 0; i < rowCounts.length; i++ ) {
+					// the statement is only needed by the expectations which can not be batched
+					key.getExpectation().verifyOutcome( rowCounts[i], null, i );
+				}
+			}
+			catch (SQLException e) {
+				throw new HibernateException( "Unable to verify the row counts of batch " + key, e );
+			}
+		}
+	}
 }
@@ -59,6 +59,26 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	public void abortBatch();
 
+	/**
+	 * Defer the verification of the row counts returned by the execution of a batch until
+	 * {@link #verifyDeferredRowCounts()}, which is the case during flushes when
+	 * {@link org.hibernate.cfg.AvailableSettings#BATCH_PIPELINED_FLUSH pipelined flushes} are enabled.
+	 *
+	 * @param key The key of the executed batch, defining the expected outcome
+	 * @param rowCounts The row counts returned by the execution of the batch
+	 *
+	 * @return {@code true} if the verification was deferred; {@code false} if the batch has to verify the row
+	 * counts itself
+	 */
+	public boolean deferRowCountVerification(BatchKey key, int[] rowCounts);
+
+	/**
+	 * Verify the row counts of the batches executed since the verifications were deferred.
+	 *
+	 * @see #deferRowCountVerification
+	 */
+	public void verifyDeferredRowCounts();
+
 	/**
 	 * Obtain the statement preparer associated with this JDBC coordinator.
 	 *
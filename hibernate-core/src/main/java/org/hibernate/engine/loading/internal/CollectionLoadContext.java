@@ -20,6 +20,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.internal.PendingCachePuts;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -217,8 +218,13 @@ public class CollectionLoadContext {
 			LOG.debugf( "%s collections were found in result set for role: %s", count, persister.getRole() );
 		}
 
+		// collect the second-level cache puts to apply them in bulk
+		final PendingCachePuts pendingCachePuts = count > 1 && persister.hasCache() ? new PendingCachePuts() : null;
 		for ( LoadingCollectionEntry matchedCollectionEntry : matchedCollectionEntries ) {
-			endLoadingCollection( matchedCollectionEntry, persister );
+			endLoadingCollection( matchedCollectionEntry, persister, pendingCachePuts );
+		}
+		if ( pendingCachePuts != null ) {
+			pendingCachePuts.flush( getLoadContext().getPersistenceContext().getSession() );
 		}
 
 		if ( debugEnabled ) {
@@ -226,7 +232,10 @@ public class CollectionLoadContext {
 		}
 	}
 
-	private void endLoadingCollection(LoadingCollectionEntry lce, CollectionPersister persister) {
+	private void endLoadingCollection(
+			LoadingCollectionEntry lce,
+			CollectionPersister persister,
+			PendingCachePuts pendingCachePuts) {
 		LOG.tracev( "Ending loading collection [{0}]", lce );
 		final SessionImplementor session = getLoadContext().getPersistenceContext().getSession();
 
@@ -258,7 +267,7 @@ public class CollectionLoadContext {
 				// and this is not a forced initialization during flush
 				&& session.getCacheMode().isPutEnabled() && !ce.isDoremove();
 		if ( addToCache ) {
-			addCollectionToCache( lce, persister );
+			addCollectionToCache( lce, persister, pendingCachePuts );
 		}
 
 		if ( LOG.isDebugEnabled() ) {
@@ -277,8 +286,12 @@ public class CollectionLoadContext {
 	 *
 	 * @param lce The entry representing the collection to add
 	 * @param persister The persister
+	 * @param pendingCachePuts The collector for cache puts; the put is performed immediately if {@code null}
 	 */
-	private void addCollectionToCache(LoadingCollectionEntry lce, CollectionPersister persister) {
+	private void addCollectionToCache(
+			LoadingCollectionEntry lce,
+			CollectionPersister persister,
+			PendingCachePuts pendingCachePuts) {
 		final SessionImplementor session = getLoadContext().getPersistenceContext().getSession();
 		final SessionFactoryImplementor factory = session.getFactory();
 
@@ -350,7 +363,16 @@ public class CollectionLoadContext {
 		}
 
 		// CollectionRegionAccessStrategy has no update, so avoid putting uncommitted data via putFromLoad
-		if (isPutFromLoad) {
+		if ( isPutFromLoad && pendingCachePuts != null ) {
+			pendingCachePuts.add(
+					cache,
+					cacheKey,
+					persister.getCacheEntryStructure().structure( entry ),
+					version,
+					factory.getSettings().isMinimalPutsEnabled() && session.getCacheMode()!= CacheMode.REFRESH
+			);
+		}
+		else if (isPutFromLoad) {
 			try {
 				session.getEventListenerManager().cachePutStart();
 				final boolean put = cache.putFromLoad(
@@ -7,12 +7,15 @@
 package org.hibernate.engine.query.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.Filter;
 import org.hibernate.MappingException;
@@ -23,12 +26,17 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterImpl;
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedConcurrentLfuCache;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Acts as a cache for compiled query plans, as well as query-parameter metadata.
+ * <p/>
+ * Both caches are bounded, and only admit a new entry at the expense of an existing one if the new one was
+ * requested more often (see {@link BoundedConcurrentLfuCache}); so that a stream of distinct query strings
+ * (typically queries with inlined literals) does not evict the plans of frequently executed queries.
  *
  * @see Environment#QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE
  * @see Environment#QUERY_PLAN_CACHE_MAX_SIZE
@@ -52,7 +60,7 @@ public class QueryPlanCache implements Serializable {
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap queryPlanCache;
+	private final BoundedConcurrentLfuCache<Object,Object> queryPlanCache;
 
 	/**
 	 * simple cache of param metadata based on query string.  Ideally, the original "user-supplied query"
@@ -62,7 +70,7 @@ public class QueryPlanCache implements Serializable {
 	 * Used solely for caching param metadata for native-sql queries, see {@link #getSQLParameterMetadata} for a
 	 * discussion as to why...
 	 */
-	private final BoundedConcurrentHashMap<String,ParameterMetadata> parameterMetadataCache;
+	private final BoundedConcurrentLfuCache<String,ParameterMetadata> parameterMetadataCache;
 
 
 	private NativeQueryInterpreter nativeQueryInterpreterService;
@@ -99,12 +107,18 @@ public class QueryPlanCache implements Serializable {
 			);
 		}
 
-		queryPlanCache = new BoundedConcurrentHashMap( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		parameterMetadataCache = new BoundedConcurrentHashMap<String, ParameterMetadata>(
-				maxParameterMetadataCount,
-				20,
-				BoundedConcurrentHashMap.Eviction.LIRS
+		queryPlanCache = new BoundedConcurrentLfuCache<Object, Object>(
+				maxQueryPlanCount,
+				new BoundedConcurrentLfuCache.EvictionListener<Object, Object>() {
+					@Override
+					public void onEviction(Object key, Object value) {
+						if ( factory.getStatistics().isStatisticsEnabled() ) {
+							factory.getStatisticsImplementor().queryPlanCacheEviction();
+						}
+					}
+				}
 		);
+		parameterMetadataCache = new BoundedConcurrentLfuCache<String, ParameterMetadata>( maxParameterMetadataCount );
 
 		nativeQueryInterpreterService = factory.getServiceRegistry().getService( NativeQueryInterpreter.class );
 	}
@@ -147,11 +161,14 @@ public class QueryPlanCache implements Serializable {
 		HQLQueryPlan value = (HQLQueryPlan) queryPlanCache.get( key );
 		if ( value == null ) {
 			LOG.tracev( "Unable to locate HQL query plan in cache; generating ({0})", queryString );
+			final long start = compilationStarting();
 			value = new HQLQueryPlan( queryString, shallow, enabledFilters, factory );
+			compilationCompleted( queryString, start );
 			queryPlanCache.putIfAbsent( key, value );
 		}
 		else {
 			LOG.tracev( "Located HQL query plan in cache ({0})", queryString );
+			cacheHit();
 		}
 		return value;
 	}
@@ -183,11 +200,14 @@ public class QueryPlanCache implements Serializable {
 					collectionRole,
 					filterString
 			);
+			final long start = compilationStarting();
 			value = new FilterQueryPlan( filterString, collectionRole, shallow, enabledFilters,factory );
+			compilationCompleted( filterString, start );
 			queryPlanCache.putIfAbsent( key, value );
 		}
 		else {
 			LOG.tracev( "Located collection-filter query plan in cache ({0} : {1})", collectionRole, filterString );
+			cacheHit();
 		}
 		return value;
 	}
@@ -207,15 +227,58 @@ public class QueryPlanCache implements Serializable {
 		NativeSQLQueryPlan value = (NativeSQLQueryPlan) queryPlanCache.get( spec );
 		if ( value == null ) {
 			LOG.tracev( "Unable to locate native-sql query plan in cache; generating ({0})", spec.getQueryString() );
+			final long start = compilationStarting();
 			value = nativeQueryInterpreterService.createQueryPlan( spec, factory );
+			compilationCompleted( spec.getQueryString(), start );
 			queryPlanCache.putIfAbsent( spec, value );
 		}
 		else {
 			LOG.tracev( "Located native-sql query plan in cache ({0})", spec.getQueryString() );
+			cacheHit();
 		}
 		return value;
 	}
 
+	/**
+	 * Obtain the query strings of the (non-shallow) HQL query plans currently cached for sessions without
+	 * enabled filters.
+	 *
+	 * @return The HQL query strings
+	 *
+	 * @see QueryPlanCacheSnapshot
+	 */
+	public List<String> getCachedHQLQueryStrings() {
+		final List<String> queries = new ArrayList<String>();
+		for ( Object key : queryPlanCache.keys() ) {
+			if ( key instanceof HQLQueryPlanKey ) {
+				final HQLQueryPlanKey hqlKey = (HQLQueryPlanKey) key;
+				if ( !hqlKey.shallow && hqlKey.filterKeys.isEmpty() ) {
+					queries.add( hqlKey.query );
+				}
+			}
+		}
+		return queries;
+	}
+
+	private void cacheHit() {
+		if ( factory.getStatistics().isStatisticsEnabled() ) {
+			factory.getStatisticsImplementor().queryPlanCacheHit();
+		}
+	}
+
+	private long compilationStarting() {
+		return factory.getStatistics().isStatisticsEnabled() ? System.nanoTime() : 0;
+	}
+
+	private void compilationCompleted(String query, long start) {
+		if ( start != 0 && factory.getStatistics().isStatisticsEnabled() ) {
+			final long milliseconds = TimeUnit.MILLISECONDS.convert( System.nanoTime() - start, TimeUnit.NANOSECONDS );
+			final StatisticsImplementor statistics = factory.getStatisticsImplementor();
+			statistics.queryPlanCacheMiss();
+			statistics.queryCompiled( query, milliseconds );
+		}
+	}
+
 	/**
 	 * clean up QueryPlanCache when SessionFactory is closed
 	 */
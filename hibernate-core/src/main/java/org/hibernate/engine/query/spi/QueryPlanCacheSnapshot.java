@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.query.spi;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * Snapshot of the HQL queries held by a {@link QueryPlanCache}, recorded in a file so that a SessionFactory
+ * built later for the same mappings can compile them upfront.
+ * <p/>
+ * Query plans themselves cannot be stored, as they reference the persisters and types of the SessionFactory
+ * which built them; hence only the query strings are recorded, along with a hash of the mappings (and Dialect)
+ * so that the queries are not compiled against different mappings.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_SNAPSHOT_FILE
+ */
+public final class QueryPlanCacheSnapshot implements Serializable {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( QueryPlanCacheSnapshot.class );
+
+	private final String mappingHash;
+	private final ArrayList<String> hqlQueries;
+
+	private QueryPlanCacheSnapshot(String mappingHash, List<String> hqlQueries) {
+		this.mappingHash = mappingHash;
+		this.hqlQueries = new ArrayList<String>( hqlQueries );
+	}
+
+	/**
+	 * Record the HQL queries currently held by the query plan cache of the given SessionFactory.  Failures
+	 * are logged, not propagated.
+	 *
+	 * @param file The file to write
+	 * @param factory The SessionFactory
+	 */
+	public static void write(File file, SessionFactoryImplementor factory) {
+		final QueryPlanCacheSnapshot snapshot = new QueryPlanCacheSnapshot(
+				mappingHash( factory ),
+				factory.getQueryPlanCache().getCachedHQLQueryStrings()
+		);
+		try {
+			final OutputStream outputStream = new BufferedOutputStream( new FileOutputStream( file ) );
+			try {
+				SerializationHelper.serialize( snapshot, outputStream );
+			}
+			finally {
+				try {
+					outputStream.close();
+				}
+				catch (IOException ignore) {
+				}
+			}
+			LOG.debugf( "Recorded %s HQL queries in query plan cache snapshot [%s]", snapshot.hqlQueries.size(), file );
+		}
+		catch (Exception e) {
+			LOG.unableToWriteQueryPlanCacheSnapshot( file.getPath(), e );
+		}
+	}
+
+	/**
+	 * Read the HQL queries recorded for the mappings of the given SessionFactory.  Failures are logged, not
+	 * propagated.
+	 *
+	 * @param file The file to read
+	 * @param factory The SessionFactory
+	 *
+	 * @return The recorded queries; empty if the file does not exist, cannot be read, or was written for
+	 * different mappings.
+	 */
+	public static List<String> read(File file, SessionFactoryImplementor factory) {
+		if ( !file.exists() ) {
+			return Collections.emptyList();
+		}
+		final QueryPlanCacheSnapshot snapshot;
+		try {
+			final InputStream inputStream = new BufferedInputStream( new FileInputStream( file ) );
+			try {
+				snapshot = (QueryPlanCacheSnapshot) SerializationHelper.deserialize(
+						inputStream,
+						QueryPlanCacheSnapshot.class.getClassLoader()
+				);
+			}
+			finally {
+				try {
+					inputStream.close();
+				}
+				catch (IOException ignore) {
+				}
+			}
+		}
+		catch (FileNotFoundException e) {
+			return Collections.emptyList();
+		}
+		catch (Exception e) {
+			LOG.unableToReadQueryPlanCacheSnapshot( file.getPath(), e );
+			return Collections.emptyList();
+		}
+
+		if ( !snapshot.mappingHash.equals( mappingHash( factory ) ) ) {
+			LOG.debugf( "Ignoring query plan cache snapshot [%s] recorded for different mappings", file );
+			return Collections.emptyList();
+		}
+		return snapshot.hqlQueries;
+	}
+
+	private static String mappingHash(SessionFactoryImplementor factory) {
+		long hash = factory.getDialect().getClass().getName().hashCode();
+		final Map<String,EntityPersister> persisters = new TreeMap<String, EntityPersister>( factory.getEntityPersisters() );
+		for ( Map.Entry<String,EntityPersister> entry : persisters.entrySet() ) {
+			final EntityPersister persister = entry.getValue();
+			hash = 31 * hash + entry.getKey().hashCode();
+			hash = 31 * hash + Arrays.hashCode( persister.getPropertySpaces() );
+			hash = 31 * hash + Arrays.hashCode( persister.getPropertyNames() );
+			for ( Type type : persister.getPropertyTypes() ) {
+				hash = 31 * hash + type.getName().hashCode();
+			}
+		}
+		return Long.toHexString( hash );
+	}
+}
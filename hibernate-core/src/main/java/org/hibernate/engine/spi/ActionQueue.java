@@ -10,13 +10,16 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.hibernate.AssertionFailure;
@@ -27,6 +30,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
 import org.hibernate.action.internal.EntityInsertAction;
@@ -38,11 +42,14 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.CompositeType;
 import org.hibernate.type.Type;
 
 /**
@@ -357,7 +364,12 @@ public class ActionQueue {
 			beforeTransactionProcesses.register(executable.getBeforeTransactionCompletionProcess());
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+			if ( session.getFactory().getUpdateTimestampsCache().hasPartitionedSpaces() ) {
+				invalidateSpaces( getPartitionedSpacesToInvalidate( Collections.singletonList( executable ) ) );
+			}
+			else {
+				invalidateSpaces( executable.getPropertySpaces() );
+			}
 		}
 		if( executable.getAfterTransactionCompletionProcess() != null ) {
 			if( afterTransactionProcesses == null ) {
@@ -415,6 +427,7 @@ public class ActionQueue {
 	public void executeInserts() throws HibernateException {
 		if ( insertions != null && !insertions.isEmpty() ) {
 			executeActions( insertions );
+			session.getJdbcCoordinator().executeBatch();
 		}
 	}
 
@@ -428,12 +441,22 @@ public class ActionQueue {
 			throw new IllegalStateException( "About to execute actions, but there are unresolved entity insert actions." );
 		}
 
+		// when pipelined, the batch pending after a group of actions is only executed once a statement of
+		// another batch is executed, and the row counts are verified once all of the batches have been executed
+		final boolean pipelined = session.getFactory().getSessionFactoryOptions().isJdbcBatchPipelinedFlush();
 		for ( int i = 0; i < EXECUTABLE_LISTS.length; ++i ) {
 			ExecutableList<?> l = EXECUTABLE_LISTS[i].get(this);
 			if ( l != null && !l.isEmpty() ) {
 				executeActions( l );
+				if ( !pipelined ) {
+					session.getJdbcCoordinator().executeBatch();
+				}
 			}
 		}
+		if ( pipelined ) {
+			session.getJdbcCoordinator().executeBatch();
+			session.getJdbcCoordinator().verifyDeferredRowCounts();
+		}
 	}
 
 	/**
@@ -580,13 +603,17 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				Set<Serializable> propertySpaces = list.getQuerySpaces();
-				invalidateSpaces( propertySpaces.toArray( new Serializable[propertySpaces.size()] ) );
+				if ( session.getFactory().getUpdateTimestampsCache().hasPartitionedSpaces() ) {
+					invalidateSpaces( getPartitionedSpacesToInvalidate( list ) );
+				}
+				else {
+					Set<Serializable> propertySpaces = list.getQuerySpaces();
+					invalidateSpaces( propertySpaces.toArray( new Serializable[propertySpaces.size()] ) );
+				}
 			}
 		}
 
 		list.clear();
-		session.getJdbcCoordinator().executeBatch();
 	}
 
 	/**
@@ -612,13 +639,36 @@ public class ActionQueue {
 				if( afterTransactionProcesses == null ) {
 					afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
 				}
-				afterTransactionProcesses.addSpaceToInvalidate( (String) s );
+				afterTransactionProcesses.addSpaceToInvalidate( s );
 			}
 			// Performance win: If we are processing an ExecutableList, this will only be called once
 			session.getFactory().getUpdateTimestampsCache().preInvalidate( spaces, session );
 		}
 	}
 
+	/**
+	 * The spaces to invalidate for the given executables, along with the partitions of the entities for the spaces
+	 * partitioned for the invalidation of the query results.
+	 *
+	 * @param executables The executed actions
+	 *
+	 * @return The keys to invalidate in the update-timestamps cache
+	 */
+	private Serializable[] getPartitionedSpacesToInvalidate(Iterable<? extends Executable> executables) {
+		final UpdateTimestampsCache updateTimestampsCache = session.getFactory().getUpdateTimestampsCache();
+		final Set<Serializable> spaces = new HashSet<Serializable>();
+		for ( Executable executable : executables ) {
+			final Serializable[] propertySpaces = executable.getPropertySpaces();
+			if ( propertySpaces != null ) {
+				final Serializable partition = executable instanceof EntityAction
+						? ( (EntityAction) executable ).getQueryCachePartition()
+						: null;
+				updateTimestampsCache.collectInvalidationKeys( propertySpaces, partition, spaces );
+			}
+		}
+		return spaces.toArray( new Serializable[spaces.size()] );
+	}
+
 	/**
 	 * Returns a string representation of the object.
 	 * 
@@ -912,13 +962,13 @@ public class ActionQueue {
 	 * Encapsulates behavior needed for after transaction processing
 	 */
 	private static class AfterTransactionCompletionProcessQueue extends AbstractTransactionCompletionProcessQueue<AfterTransactionCompletionProcess> {
-		private Set<String> querySpacesToInvalidate = new HashSet<String>();
+		private Set<Serializable> querySpacesToInvalidate = new HashSet<Serializable>();
 
 		private AfterTransactionCompletionProcessQueue(SessionImplementor session) {
 			super( session );
 		}
 
-		public void addSpaceToInvalidate(String space) {
+		public void addSpaceToInvalidate(Serializable space) {
 			querySpacesToInvalidate.add( space );
 		}
 
@@ -938,7 +988,7 @@ public class ActionQueue {
 
 			if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 				session.getFactory().getUpdateTimestampsCache().invalidate(
-						querySpacesToInvalidate.toArray( new String[querySpacesToInvalidate.size()] ),
+						querySpacesToInvalidate.toArray( new Serializable[querySpacesToInvalidate.size()] ),
 						session
 				);
 			}
@@ -967,10 +1017,9 @@ public class ActionQueue {
 	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
 	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
 	 * <p>
-	 * Sorts the insert actions using more hashes.
+	 * Sorts the insert actions using the {@link InsertOrdering} computed when building the SessionFactory.
 	 * </p>
-	 * NOTE: this class is not thread-safe.
-	 * 
+	 *
 	 * @author Jay Erb
 	 */
 	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
@@ -979,112 +1028,115 @@ public class ActionQueue {
 		 */
 		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
 
-		// the mapping of entity names to their latest batch numbers.
-		private Map<String, Integer> latestBatches;
-		private Map<Object, Integer> entityBatchNumber;
-
-		// the map of batch numbers to EntityInsertAction lists
-		private Map<Integer, List<AbstractEntityInsertAction>> actionBatches;
-
 		public InsertActionSorter() {
 		}
 
 		/**
-		 * Sort the insert actions.
+		 * Sort the insert actions by the rank of their entities in the {@link InsertOrdering} of the
+		 * SessionFactory, which groups the inserts of each entity outside of association cycles.  The inserts of
+		 * the entities of a cycle are sorted per instance.
 		 */
 		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
-			this.latestBatches = new HashMap<String, Integer>();
-			this.entityBatchNumber = new HashMap<Object, Integer>( insertions.size() + 1, 1.0f );
-			this.actionBatches = new HashMap<Integer, List<AbstractEntityInsertAction>>();
-
-			// the list of entity names that indicate the batch number
+			final InsertOrdering insertOrdering = insertions.get( 0 ).getSession().getFactory().getInsertOrdering();
+			final Map<Integer, List<AbstractEntityInsertAction>> actionsByRank =
+					new TreeMap<Integer, List<AbstractEntityInsertAction>>();
 			for ( AbstractEntityInsertAction action : insertions ) {
-				// remove the current element from insertions. It will be added back later.
-				String entityName = action.getEntityName();
-
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-
-				Integer batchNumber;
-				if ( latestBatches.containsKey( entityName ) ) {
-					// There is already an existing batch for this type of entity.
-					// Check to see if the latest batch is acceptable.
-					batchNumber = findBatchNumber( action, entityName );
+				final int rank = insertOrdering.getRank( action.getEntityName() );
+				if ( rank < 0 ) {
+					sortByInstance( insertions );
+					return;
 				}
-				else {
-					// add an entry for this type of entity.
-					// we can be assured that all referenced entities have already
-					// been processed,
-					// so specify that this entity is with the latest batch.
-					// doing the batch number before adding the name to the list is
-					// a faster way to get an accurate number.
-
-					batchNumber = actionBatches.size();
-					latestBatches.put( entityName, batchNumber );
+				List<AbstractEntityInsertAction> actions = actionsByRank.get( rank );
+				if ( actions == null ) {
+					actions = new ArrayList<AbstractEntityInsertAction>();
+					actionsByRank.put( rank, actions );
 				}
-				entityBatchNumber.put( currentEntity, batchNumber );
-				addToBatch( batchNumber, action );
+				actions.add( action );
 			}
-			insertions.clear();
 
-			// now rebuild the insertions list. There is a batch for each entry in the name list.
-			for ( int i = 0; i < actionBatches.size(); i++ ) {
-				List<AbstractEntityInsertAction> batch = actionBatches.get( i );
-				insertions.addAll( batch );
+			insertions.clear();
+			for ( List<AbstractEntityInsertAction> actions : actionsByRank.values() ) {
+				if ( insertOrdering.isCyclic( actions.get( 0 ).getEntityName() ) ) {
+					sortByInstance( actions );
+				}
+				insertions.addAll( actions );
 			}
 		}
 
 		/**
-		 * Finds an acceptable batch for this entity to be a member as part of the {@link InsertActionSorter}
-		 * 
-		 * @param action The action being sorted
-		 * @param entityName The name of the entity affected by the action
-		 * @return An appropriate batch number; todo document this process better
+		 * Sort the insert actions in batches: an action joins the latest batch of its entity unless one of the
+		 * entities it references is inserted by a later batch, in which case a new batch is started.
 		 */
-		private Integer findBatchNumber(AbstractEntityInsertAction action, String entityName) {
-			// loop through all the associated entities and make sure they have been
-			// processed before the latest
-			// batch associated with this entity type.
+		private void sortByInstance(List<AbstractEntityInsertAction> insertions) {
+			// the mapping of entity names to their latest batch numbers.
+			final Map<String, Integer> latestBatches = new HashMap<String, Integer>();
+			// entities are matched by identity, their equals/hashCode may not be usable before their insert
+			final Map<Object, Integer> entityBatchNumber = new IdentityHashMap<Object, Integer>( insertions.size() );
+			final List<List<AbstractEntityInsertAction>> actionBatches = new ArrayList<List<AbstractEntityInsertAction>>();
 
-			// the current batch number is the latest batch for this entity type.
-			Integer latestBatchNumberForType = latestBatches.get( entityName );
+			for ( AbstractEntityInsertAction action : insertions ) {
+				final String entityName = action.getEntityName();
+				Integer batchNumber = latestBatches.get( entityName );
+				if ( batchNumber == null || referencesLaterBatch( action, batchNumber, entityBatchNumber ) ) {
+					batchNumber = actionBatches.size();
+					latestBatches.put( entityName, batchNumber );
+					actionBatches.add( new ArrayList<AbstractEntityInsertAction>() );
+				}
+				entityBatchNumber.put( action.getInstance(), batchNumber );
+				actionBatches.get( batchNumber ).add( action );
+			}
 
-			// loop through all the associations of the current entity and make sure that they are processed
-			// before the current batch number
-			Object[] propertyValues = action.getState();
-			Type[] propertyTypes = action.getPersister().getClassMetadata().getPropertyTypes();
+			insertions.clear();
+			for ( List<AbstractEntityInsertAction> batch : actionBatches ) {
+				insertions.addAll( batch );
+			}
+		}
 
+		private boolean referencesLaterBatch(
+				AbstractEntityInsertAction action,
+				int batchNumber,
+				Map<Object, Integer> entityBatchNumber) {
+			final EntityPersister persister = action.getPersister();
+			final SessionImplementor session = action.getSession();
+			if ( persister.getIdentifierType().isComponentType()
+					&& referencesLaterBatch( action.getId(), persister.getIdentifierType(), batchNumber, entityBatchNumber, session ) ) {
+				return true;
+			}
+			final Object[] propertyValues = action.getState();
+			final Type[] propertyTypes = persister.getPropertyTypes();
 			for ( int i = 0; i < propertyValues.length; i++ ) {
-				Object value = propertyValues[i];
-				Type type = propertyTypes[i];
-				if ( type.isEntityType() && value != null ) {
-					// find the batch number associated with the current association, if any.
-					Integer associationBatchNumber = entityBatchNumber.get( value );
-					if ( associationBatchNumber != null && associationBatchNumber.compareTo( latestBatchNumberForType ) > 0 ) {
-						// create a new batch for this type. The batch number is the number of current batches.
-						latestBatchNumberForType = actionBatches.size();
-						latestBatches.put( entityName, latestBatchNumberForType );
-						// since this entity will now be processed in the latest possible batch,
-						// we can be assured that it will come after all other associations,
-						// there's not need to continue checking.
-						break;
-					}
+				if ( referencesLaterBatch( propertyValues[i], propertyTypes[i], batchNumber, entityBatchNumber, session ) ) {
+					return true;
 				}
 			}
-			return latestBatchNumberForType;
+			return false;
 		}
 
-		private void addToBatch(Integer batchNumber, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchNumber );
-
-			if ( actions == null ) {
-				actions = new LinkedList<AbstractEntityInsertAction>();
-				actionBatches.put( batchNumber, actions );
+		private boolean referencesLaterBatch(
+				Object value,
+				Type type,
+				int batchNumber,
+				Map<Object, Integer> entityBatchNumber,
+				SessionImplementor session) {
+			if ( value == null ) {
+				return false;
 			}
-			actions.add( action );
+			if ( type.isEntityType() || type.isAnyType() ) {
+				final Integer associationBatchNumber = entityBatchNumber.get( value );
+				return associationBatchNumber != null && associationBatchNumber > batchNumber;
+			}
+			if ( type.isComponentType() ) {
+				final CompositeType componentType = (CompositeType) type;
+				final Object[] values = componentType.getPropertyValues( value, session );
+				final Type[] subtypes = componentType.getSubtypes();
+				for ( int i = 0; i < values.length; i++ ) {
+					if ( referencesLaterBatch( values[i], subtypes[i], batchNumber, entityBatchNumber, session ) ) {
+						return true;
+					}
+				}
+			}
+			return false;
 		}
-
 	}
 
 
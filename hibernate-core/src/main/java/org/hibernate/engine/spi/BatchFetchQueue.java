@@ -7,13 +7,20 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.hibernate.EntityMode;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -53,6 +60,14 @@ public class BatchFetchQueue {
 	 */
 	private final Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys = new HashMap <String,LinkedHashSet<EntityKey>>(8);
 	
+	/**
+	 * Used to hold information about the entities with lazy attributes that are not initialized yet, eligible for
+	 * batch-fetching their lazy attributes.  Ultimately used by {@link #getLazyAttributeBatch} to build lazy attribute
+	 * load batches; keyed by the name of the entity persister of the instances.
+	 */
+	private final Map<String,LinkedHashSet<EntityKey>> lazyAttributeBatchLoadableEntityKeys =
+			new HashMap<String,LinkedHashSet<EntityKey>>(8);
+
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching.  Ultimately
 	 * used by {@link #getCollectionBatch} to build collection load batches.
@@ -76,6 +91,7 @@ public class BatchFetchQueue {
 	 */
 	public void clear() {
 		batchLoadableEntityKeys.clear();
+		lazyAttributeBatchLoadableEntityKeys.clear();
 		batchLoadableCollections.clear();
 		subselectsByEntityKey.clear();
 	}
@@ -190,7 +206,12 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( persister.getEntityName() );
 		if ( set != null ) {
+			final EntityCacheLookahead cacheLookahead = isCacheReadable( persister.hasCache() )
+					? new EntityCacheLookahead( set, batchSize, persister )
+					: null;
+			int position = -1;
 			for ( EntityKey key : set ) {
+				position++;
 				if ( checkForEnd && i == end ) {
 					//the first id found after the given id
 					return ids;
@@ -199,7 +220,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, persister ) ) {
+					if ( cacheLookahead == null || !cacheLookahead.isCached( key, position ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -214,21 +235,95 @@ public class BatchFetchQueue {
 		return ids; //we ran out of ids to try
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
-		final SessionImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			final EntityRegionAccessStrategy cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
+	private boolean isCacheReadable(boolean hasCache) {
+		return hasCache && context.getSession().getCacheMode().isGetEnabled();
+	}
+	
+
+	// lazy attribute batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * If an entity is batch loadable, add it to the queue of the entities whose lazy attributes are not initialized
+	 * yet.  The entities evicted, or whose lazy attributes have all been initialized, are dropped from the queue as
+	 * it is read.
+	 *
+	 * @param key The key of the entity
+	 * @param persister The persister of the entity
+	 */
+	public void addBatchLoadableLazyAttributes(EntityKey key, EntityPersister persister) {
+		if ( persister.isBatchLoadable() ) {
+			LinkedHashSet<EntityKey> set = lazyAttributeBatchLoadableEntityKeys.get( persister.getEntityName() );
+			if ( set == null ) {
+				set = new LinkedHashSet<EntityKey>( 8 );
+				lazyAttributeBatchLoadableEntityKeys.put( persister.getEntityName(), set );
+			}
+			set.add( key );
+		}
+	}
+
+	/**
+	 * Get a batch of entities of the given persister whose lazy attributes of a fetch group are not initialized yet,
+	 * to load them along with those of the entity demanding them.
+	 *
+	 * @param persister The persister of the entities
+	 * @param entity The entity demanding the load of its lazy attributes
+	 * @param attributeNames The names of the lazy attributes of the fetch group
+	 * @param batchSize The maximum number of entities to return
+	 *
+	 * @return The entities, starting with the given one
+	 */
+	public List<Object> getLazyAttributeBatch(
+			final EntityPersister persister,
+			final Object entity,
+			final Collection<String> attributeNames,
+			final int batchSize) {
+		final List<Object> entities = new ArrayList<Object>( batchSize );
+		entities.add( entity );
+
+		final LinkedHashSet<EntityKey> set = lazyAttributeBatchLoadableEntityKeys.get( persister.getEntityName() );
+		if ( set != null ) {
+			final Iterator<EntityKey> keys = set.iterator();
+			while ( keys.hasNext() && entities.size() < batchSize ) {
+				final Object candidate = context.getEntity( keys.next() );
+				final LazyAttributeLoadingInterceptor interceptor = getLazyAttributeLoadingInterceptor( candidate );
+				if ( interceptor == null || !interceptor.hasAnyUninitializedAttributes() ) {
+					keys.remove();
+					continue;
+				}
+				if ( candidate != entity
+						&& isManaged( context.getEntry( candidate ) )
+						&& hasUninitializedAttribute( interceptor, attributeNames ) ) {
+					entities.add( candidate );
+				}
+			}
+		}
+		return entities;
+	}
+
+	private static LazyAttributeLoadingInterceptor getLazyAttributeLoadingInterceptor(Object entity) {
+		if ( entity instanceof PersistentAttributeInterceptable ) {
+			final PersistentAttributeInterceptor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+			if ( interceptor instanceof LazyAttributeLoadingInterceptor ) {
+				return (LazyAttributeLoadingInterceptor) interceptor;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isManaged(EntityEntry entry) {
+		return entry != null && entry.getStatus() != Status.DELETED && entry.getStatus() != Status.GONE;
+	}
+
+	private static boolean hasUninitializedAttribute(
+			LazyAttributeLoadingInterceptor interceptor,
+			Collection<String> attributeNames) {
+		for ( String attributeName : attributeNames ) {
+			if ( !interceptor.isAttributeLoaded( attributeName ) ) {
+				return true;
+			}
 		}
 		return false;
 	}
-	
 
 	// collection batch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -281,7 +376,12 @@ public class BatchFetchQueue {
 
 		final LinkedHashMap<CollectionEntry, PersistentCollection> map =  batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final CollectionCacheLookahead cacheLookahead = isCacheReadable( collectionPersister.hasCache() )
+					? new CollectionCacheLookahead( map.keySet(), batchSize, collectionPersister )
+					: null;
+			int position = -1;
 			for ( Entry<CollectionEntry, PersistentCollection> me : map.entrySet() ) {
+				position++;
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection collection = me.getValue();
 				
@@ -314,7 +414,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
+				else if ( cacheLookahead == null || !cacheLookahead.isCached( ce, position ) ) {
 					keys[i++] = ce.getLoadedKey();
 					//count++;
 				}
@@ -330,19 +430,108 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
-		SessionImplementor session = context.getSession();
-		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionRegionAccessStrategy cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
-			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
+	// second-level cache lookahead ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Tells whether queued keys are already present in the second-level cache.  Keys must be asked
+	 * about in queue order; rather than reading the cache once per key, the cache is read in bulk
+	 * for a window of upcoming keys at a time.
+	 */
+	private abstract class CacheLookahead<K> {
+		private final Iterator<K> upcoming;
+		private final int windowSize;
+		private int position;
+		private final Set<K> cached = new HashSet<K>();
+
+		private CacheLookahead(Collection<K> queue, int windowSize) {
+			this.upcoming = queue.iterator();
+			this.windowSize = windowSize;
+		}
+
+		/**
+		 * @param key The key
+		 * @param keyPosition The position of the key within the queue
+		 */
+		boolean isCached(K key, int keyPosition) {
+			if ( keyPosition >= position ) {
+				while ( position < keyPosition ) {
+					upcoming.next();
+					position++;
+				}
+				final List<K> window = new ArrayList<K>( windowSize );
+				while ( window.size() < windowSize && upcoming.hasNext() ) {
+					window.add( upcoming.next() );
+					position++;
+				}
+				cached.clear();
+				collectCached( window, cached );
+			}
+			return cached.contains( key );
+		}
+
+		protected abstract void collectCached(List<K> window, Set<K> cached);
+	}
+
+	private class EntityCacheLookahead extends CacheLookahead<EntityKey> {
+		private final EntityPersister persister;
+
+		private EntityCacheLookahead(Collection<EntityKey> queue, int windowSize, EntityPersister persister) {
+			super( queue, windowSize );
+			this.persister = persister;
+		}
+
+		@Override
+		protected void collectCached(List<EntityKey> window, Set<EntityKey> cached) {
+			final SessionImplementor session = context.getSession();
+			final EntityRegionAccessStrategy cache = persister.getCacheAccessStrategy();
+			final Map<Object, EntityKey> keysByCacheKey = new HashMap<Object, EntityKey>();
+			for ( EntityKey entityKey : window ) {
+				final Object cacheKey = cache.generateCacheKey(
+						entityKey.getIdentifier(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+				keysByCacheKey.put( cacheKey, entityKey );
+			}
+			for ( Object cacheKey : CacheHelper.fromSharedCache( session, keysByCacheKey.keySet(), cache ).keySet() ) {
+				cached.add( keysByCacheKey.get( cacheKey ) );
+			}
+		}
+	}
+
+	private class CollectionCacheLookahead extends CacheLookahead<CollectionEntry> {
+		private final CollectionPersister persister;
+
+		private CollectionCacheLookahead(
+				Collection<CollectionEntry> queue,
+				int windowSize,
+				CollectionPersister persister) {
+			super( queue, windowSize );
+			this.persister = persister;
+		}
+
+		@Override
+		protected void collectCached(List<CollectionEntry> window, Set<CollectionEntry> cached) {
+			final SessionImplementor session = context.getSession();
+			final CollectionRegionAccessStrategy cache = persister.getCacheAccessStrategy();
+			final Map<Object, CollectionEntry> entriesByCacheKey = new HashMap<Object, CollectionEntry>();
+			for ( CollectionEntry ce : window ) {
+				if ( ce.getLoadedKey() == null ) {
+					continue;
+				}
+				final Object cacheKey = cache.generateCacheKey(
+						ce.getLoadedKey(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+				entriesByCacheKey.put( cacheKey, ce );
+			}
+			for ( Object cacheKey : CacheHelper.fromSharedCache( session, entriesByCacheKey.keySet(), cache ).keySet() ) {
+				cached.add( entriesByCacheKey.get( cacheKey ) );
+			}
 		}
-		return false;
 	}
 
 }
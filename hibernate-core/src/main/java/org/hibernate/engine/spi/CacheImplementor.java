@@ -12,6 +12,7 @@ import java.util.Map;
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
 import org.hibernate.cache.spi.QueryCache;
+import org.hibernate.cache.spi.QueryCacheLoadCoordinator;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
@@ -58,6 +59,13 @@ public interface CacheImplementor extends Service, Cache, Serializable {
 	 */
 	public UpdateTimestampsCache getUpdateTimestampsCache();
 
+	/**
+	 * Get the coordinator of the concurrent query cache misses, if enabled.
+	 *
+	 * @return The coordinator, or {@code null} if concurrent misses are not coordinated
+	 */
+	public QueryCacheLoadCoordinator getQueryCacheLoadCoordinator();
+
 	/**
 	 * Clean up the default {@code QueryCache}.
 	 *
@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.mapping.ForeignKey;
+import org.hibernate.mapping.Join;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Table;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ForeignKeyDirection;
+import org.hibernate.type.Type;
+
+/**
+ * The order in which the inserts of the entities of a SessionFactory can be executed, as determined by the graph
+ * of the foreign keys between the entities: the associations of the entities and the foreign keys between their
+ * tables.  The entities are ranked such that the entities referenced by an entity have a lower rank; the entities
+ * of an association cycle share their rank.
+ * <p/>
+ * Used to {@link org.hibernate.cfg.AvailableSettings#ORDER_INSERTS order inserts}: ordering the inserts by the
+ * rank of their entity groups the inserts of each entity outside of cycles, only the inserts of the entities of
+ * a cycle have to be ordered per instance.
+ */
+public final class InsertOrdering {
+	private final Map<String,Integer> ranks;
+	private final Set<String> cyclicEntityNames;
+
+	/**
+	 * Builds the InsertOrdering of the given entities.
+	 *
+	 * @param entityPersisters The entity persisters, keyed by entity name
+	 * @param entityBindings The mappings of the entities
+	 */
+	public InsertOrdering(Map<String,EntityPersister> entityPersisters, Collection<PersistentClass> entityBindings) {
+		final Map<String,Set<String>> dependencies = new HashMap<String, Set<String>>();
+		for ( EntityPersister persister : entityPersisters.values() ) {
+			final Set<String> entityDependencies = new LinkedHashSet<String>();
+			collectDependencies( persister.getIdentifierType(), entityPersisters, entityDependencies );
+			for ( Type type : persister.getPropertyTypes() ) {
+				collectDependencies( type, entityPersisters, entityDependencies );
+			}
+			dependencies.put( persister.getEntityName(), entityDependencies );
+		}
+		// foreign keys written without an association, such as the key of a unidirectional one-to-many
+		collectTableDependencies( entityBindings, dependencies );
+
+		final Ranking ranking = new Ranking( dependencies );
+		for ( String entityName : dependencies.keySet() ) {
+			if ( !ranking.index.containsKey( entityName ) ) {
+				ranking.rank( entityName );
+			}
+		}
+		this.ranks = ranking.ranks;
+		this.cyclicEntityNames = ranking.cyclicEntityNames;
+	}
+
+	private static void collectTableDependencies(
+			Collection<PersistentClass> entityBindings,
+			Map<String,Set<String>> dependencies) {
+		final Map<String,Set<Table>> tablesByEntityName = new HashMap<String, Set<Table>>();
+		final Map<Table,Set<String>> entityNamesByTable = new HashMap<Table, Set<String>>();
+		for ( PersistentClass entityBinding : entityBindings ) {
+			final Set<Table> tables = new HashSet<Table>();
+			final Iterator tableClosure = entityBinding.getTableClosureIterator();
+			while ( tableClosure.hasNext() ) {
+				tables.add( (Table) tableClosure.next() );
+			}
+			final Iterator joinClosure = entityBinding.getJoinClosureIterator();
+			while ( joinClosure.hasNext() ) {
+				tables.add( ( (Join) joinClosure.next() ).getTable() );
+			}
+			tablesByEntityName.put( entityBinding.getEntityName(), tables );
+			for ( Table table : tables ) {
+				Set<String> entityNames = entityNamesByTable.get( table );
+				if ( entityNames == null ) {
+					entityNames = new HashSet<String>();
+					entityNamesByTable.put( table, entityNames );
+				}
+				entityNames.add( entityBinding.getEntityName() );
+			}
+		}
+
+		for ( Map.Entry<String,Set<Table>> entry : tablesByEntityName.entrySet() ) {
+			final Set<String> entityDependencies = dependencies.get( entry.getKey() );
+			if ( entityDependencies == null ) {
+				continue;
+			}
+			for ( Table table : entry.getValue() ) {
+				final Iterator foreignKeys = table.getForeignKeyIterator();
+				while ( foreignKeys.hasNext() ) {
+					final Table referencedTable = ( (ForeignKey) foreignKeys.next() ).getReferencedTable();
+					// the foreign keys between the tables of an entity are handled by its persister
+					if ( referencedTable != null && !entry.getValue().contains( referencedTable )
+							&& entityNamesByTable.containsKey( referencedTable ) ) {
+						entityDependencies.addAll( entityNamesByTable.get( referencedTable ) );
+					}
+				}
+			}
+		}
+	}
+
+	private static void collectDependencies(
+			Type type,
+			Map<String,EntityPersister> entityPersisters,
+			Set<String> dependencies) {
+		if ( type.isAnyType() ) {
+			// the referenced entity is only known per instance
+			dependencies.addAll( entityPersisters.keySet() );
+		}
+		else if ( type.isEntityType() ) {
+			final EntityType entityType = (EntityType) type;
+			// a one-to-one mapped by a foreign key of the associated entity does not constrain the inserts
+			if ( entityType.getForeignKeyDirection() == ForeignKeyDirection.FROM_PARENT ) {
+				final EntityPersister associatedPersister = entityPersisters.get( entityType.getAssociatedEntityName() );
+				if ( associatedPersister != null ) {
+					for ( Object subclassEntityName : associatedPersister.getEntityMetamodel().getSubclassEntityNames() ) {
+						dependencies.add( (String) subclassEntityName );
+					}
+				}
+			}
+		}
+		else if ( type.isComponentType() ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				collectDependencies( subtype, entityPersisters, dependencies );
+			}
+		}
+	}
+
+	/**
+	 * The rank of the given entity; the inserts of an entity have to be executed after the inserts of the entities
+	 * with a lower rank.
+	 *
+	 * @param entityName The entity name
+	 *
+	 * @return The rank, or -1 if the entity is unknown
+	 */
+	public int getRank(String entityName) {
+		final Integer rank = ranks.get( entityName );
+		return rank == null ? -1 : rank;
+	}
+
+	/**
+	 * Is the given entity part of an association cycle (possibly with itself), in which case the inserts of the
+	 * entities sharing its rank have to be ordered per instance?
+	 *
+	 * @param entityName The entity name
+	 *
+	 * @return {@code true} if the entity is part of an association cycle
+	 */
+	public boolean isCyclic(String entityName) {
+		return cyclicEntityNames.contains( entityName );
+	}
+
+	/**
+	 * Ranks the strongly connected components of the dependency graph (Tarjan's algorithm), which are completed
+	 * after the components they depend on.
+	 */
+	private static final class Ranking {
+		private final Map<String,Set<String>> dependencies;
+
+		private final Map<String,Integer> index = new HashMap<String, Integer>();
+		private final Map<String,Integer> lowLink = new HashMap<String, Integer>();
+		private final List<String> stack = new ArrayList<String>();
+		private final Set<String> onStack = new HashSet<String>();
+
+		private final Map<String,Integer> ranks = new HashMap<String, Integer>();
+		private final Set<String> cyclicEntityNames = new HashSet<String>();
+		private int componentCount;
+
+		private Ranking(Map<String,Set<String>> dependencies) {
+			this.dependencies = dependencies;
+		}
+
+		private void rank(String entityName) {
+			index.put( entityName, index.size() );
+			lowLink.put( entityName, index.get( entityName ) );
+			stack.add( entityName );
+			onStack.add( entityName );
+
+			final Set<String> entityDependencies = dependencies.get( entityName );
+			for ( String dependency : entityDependencies ) {
+				if ( !index.containsKey( dependency ) ) {
+					rank( dependency );
+					lowLink.put( entityName, Math.min( lowLink.get( entityName ), lowLink.get( dependency ) ) );
+				}
+				else if ( onStack.contains( dependency ) ) {
+					lowLink.put( entityName, Math.min( lowLink.get( entityName ), index.get( dependency ) ) );
+				}
+			}
+
+			if ( lowLink.get( entityName ).equals( index.get( entityName ) ) ) {
+				final int rank = componentCount++;
+				final List<String> members = new ArrayList<String>();
+				String member;
+				do {
+					member = stack.remove( stack.size() - 1 );
+					onStack.remove( member );
+					ranks.put( member, rank );
+					members.add( member );
+				} while ( !member.equals( entityName ) );
+				if ( members.size() > 1 || entityDependencies.contains( entityName ) ) {
+					cyclicEntityNames.addAll( members );
+				}
+			}
+		}
+	}
+}
@@ -480,6 +480,19 @@ public interface PersistenceContext {
 	 */
 	public Map getEntitiesByKey();
 
+	/**
+	 * Sizing hint: indicates that this persistence context is expected to hold (at least) the given number of
+	 * entities, allowing the underlying structures to be sized once up front rather than repeatedly grown
+	 * while loading.  Called before loading starts by the loads knowing how many entities they are about to
+	 * load, such as {@link org.hibernate.MultiIdentifierLoadAccess multi-loads}.  The structures are resized in
+	 * place; the {@link PersistenceContextStorage#HASH_MAP} storage ignores the hint.
+	 *
+	 * @param expectedEntityCount The number of entities expected to be managed
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_STORAGE
+	 */
+	public void ensureEntityCapacity(int expectedEntityCount);
+
 	/**
 	 * Provides access to the entity/EntityEntry combos associated with the persistence context in a manner that
 	 * is safe from reentrant access.  Specifically, it is safe from additions/removals while iterating.
@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.Locale;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Defines the kind of storage used by the {@link PersistenceContext} for its key-based lookup structures (entities,
+ * snapshots and collections by key).  Which storage to use is declared using the
+ * "{@value org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_STORAGE}"
+ * ({@link org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_STORAGE}) setting
+ */
+public enum PersistenceContextStorage {
+	/**
+	 * Uses {@link java.util.HashMap}s, allocating one entry object per managed entity.  Well suited to the
+	 * typical short-lived, small persistence contexts.
+	 */
+	HASH_MAP,
+	/**
+	 * Uses {@link org.hibernate.internal.util.collections.OpenAddressingHashMap}s, which store keys and values in
+	 * flat arrays without any per-entry object.  Well suited to persistence contexts holding a large number of
+	 * entities (batch processing), where the entry objects and rehashing of {@link #HASH_MAP} dominate young
+	 * generation garbage collection.  Sized up front by {@link PersistenceContext#ensureEntityCapacity}.
+	 */
+	OPEN_ADDRESSING;
+
+	private static final Logger log = Logger.getLogger( PersistenceContextStorage.class );
+
+	public static PersistenceContextStorage byName(String name) {
+		return valueOf( name.toUpperCase( Locale.ROOT ) );
+	}
+
+	public static PersistenceContextStorage interpret(Object setting) {
+		log.tracef( "Interpreting PersistenceContextStorage from setting : %s", setting );
+
+		if ( setting == null ) {
+			return HASH_MAP; // as default
+		}
+
+		if ( PersistenceContextStorage.class.isInstance( setting ) ) {
+			return (PersistenceContextStorage) setting;
+		}
+
+		try {
+			final PersistenceContextStorage byName = byName( setting.toString().trim() );
+			if ( byName != null ) {
+				return byName;
+			}
+		}
+		catch (Exception ignore) {
+		}
+
+		log.debugf( "Unable to interpret given setting [%s] as PersistenceContextStorage", setting );
+
+		return HASH_MAP; // again as default.
+	}
+}
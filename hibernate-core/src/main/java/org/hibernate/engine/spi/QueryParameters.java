@@ -43,9 +43,11 @@ public final class QueryParameters {
 	private RowSelection rowSelection;
 	private boolean cacheable;
 	private String cacheRegion;
+	private Serializable cachePartition;
 	private String comment;
 	private List<String> queryHints;
 	private ScrollMode scrollMode;
+	private boolean streaming;
 	private Serializable[] collectionKeys;
 	private Object optionalObject;
 	private String optionalEntityName;
@@ -298,6 +300,14 @@ public final class QueryParameters {
 		this.cacheRegion = cacheRegion;
 	}
 
+	public Serializable getCachePartition() {
+		return cachePartition;
+	}
+
+	public void setCachePartition(Serializable cachePartition) {
+		this.cachePartition = cachePartition;
+	}
+
 	public void validateParameters() throws QueryException {
 		final int types = positionalParameterTypes == null ? 0 : positionalParameterTypes.length;
 		final int values = positionalParameterValues == null ? 0 : positionalParameterValues.length;
@@ -333,6 +343,22 @@ public final class QueryParameters {
 		this.scrollMode = scrollMode;
 	}
 
+	/**
+	 * Are the results streamed?  The entities loaded from each row of the scrolled results of a read-only query
+	 * are then evicted from the session when advancing to the next row.
+	 *
+	 * @return {@code true} if the results are streamed
+	 *
+	 * @see org.hibernate.Query#stream()
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
 	public Serializable[] getCollectionKeys() {
 		return collectionKeys;
 	}
@@ -567,6 +593,7 @@ public final class QueryParameters {
 				this.optionalId,
 				this.resultTransformer
 		);
+		copy.cachePartition = this.cachePartition;
 		copy.processedSQL = this.processedSQL;
 		copy.processedPositionalParameterTypes = this.processedPositionalParameterTypes;
 		copy.processedPositionalParameterValues = this.processedPositionalParameterValues;
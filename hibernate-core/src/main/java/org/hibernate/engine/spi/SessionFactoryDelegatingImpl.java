@@ -16,6 +16,7 @@ import java.util.Set;
 import org.hibernate.*;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.QueryCache;
+import org.hibernate.cache.spi.QueryCacheLoadCoordinator;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.cache.spi.access.RegionAccessStrategy;
@@ -242,6 +243,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getUpdateTimestampsCache();
 	}
 
+	@Override
+	public QueryCacheLoadCoordinator getQueryCacheLoadCoordinator() {
+		return delegate.getQueryCacheLoadCoordinator();
+	}
+
 	@Override
 	public StatisticsImplementor getStatisticsImplementor() {
 		return delegate.getStatisticsImplementor();
@@ -367,6 +373,11 @@ public class SessionFactoryDelegatingImpl implements SessionFactoryImplementor,
 		return delegate.getNamedQueryRepository();
 	}
 
+	@Override
+	public InsertOrdering getInsertOrdering() {
+		return delegate.getInsertOrdering();
+	}
+
 	@Override
 	public Iterable<EntityNameResolver> iterateEntityNameResolvers() {
 		return delegate.iterateEntityNameResolvers();
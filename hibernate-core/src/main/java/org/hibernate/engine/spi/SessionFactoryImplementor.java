@@ -20,6 +20,7 @@ import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.cache.spi.QueryCache;
+import org.hibernate.cache.spi.QueryCacheLoadCoordinator;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
 import org.hibernate.cache.spi.access.RegionAccessStrategy;
@@ -174,6 +175,11 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory {
 	 * Get the cache of table update timestamps
 	 */
 	UpdateTimestampsCache getUpdateTimestampsCache();
+
+	/**
+	 * Get the coordinator of the concurrent query cache misses, {@code null} if they are not coordinated
+	 */
+	QueryCacheLoadCoordinator getQueryCacheLoadCoordinator();
 	/**
 	 * Statistics SPI
 	 */
@@ -303,6 +309,13 @@ public interface SessionFactoryImplementor extends Mapping, SessionFactory {
 	 */
 	NamedQueryRepository getNamedQueryRepository();
 
+	/**
+	 * Provides access to the order in which the inserts of the entities can be executed, used to order inserts.
+	 *
+	 * @return The insert ordering
+	 */
+	InsertOrdering getInsertOrdering();
+
 	Iterable<EntityNameResolver> iterateEntityNameResolvers();
 
 	/**
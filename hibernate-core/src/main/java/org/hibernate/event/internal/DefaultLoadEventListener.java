@@ -605,6 +605,27 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 			return null;
 		}
 
+		return processCachedEntry( ce, event, persister, entityKey );
+	}
+
+	/**
+	 * Converts an entry already read from the second-level cache into an entity associated with the
+	 * persistence context of the event's session.  Shared with the loads reading several entries from the
+	 * cache at once, such as multi-loads, so that they do not read each entry again.
+	 *
+	 * @param ce The (structured) entry read from the cache
+	 * @param event The load event
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key of the entity
+	 *
+	 * @return The entity
+	 */
+	public static Object processCachedEntry(
+			Object ce,
+			LoadEvent event,
+			EntityPersister persister,
+			EntityKey entityKey) {
+		final SessionFactoryImplementor factory = event.getSession().getFactory();
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, factory );
 		final Object entity;
 		if(entry.isReferenceEntry()) {
@@ -633,7 +654,7 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 		return entity;
 	}
 
-	private Object convertCacheReferenceEntryToEntity(
+	private static Object convertCacheReferenceEntryToEntity(
 			ReferenceCacheEntryImpl referenceCacheEntry,
 			Serializable entityId,
 			EntityPersister persister,
@@ -658,7 +679,7 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 		}
 	}
 
-	private void postLoad(EventSource session, Iterable<PostLoadEventListener> listeners,
+	private static void postLoad(EventSource session, Iterable<PostLoadEventListener> listeners,
 							Object entity, Serializable entityId, EntityPersister persister, LoadEvent event) {
 		PostLoadEvent postLoadEvent = event.getPostLoadEvent()
 				.setEntity(entity)
@@ -670,7 +691,7 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 		}
 	}
 
-	private void makeEntityCircularReferenceSafe(ReferenceCacheEntryImpl referenceCacheEntry,
+	private static void makeEntityCircularReferenceSafe(ReferenceCacheEntryImpl referenceCacheEntry,
 												Serializable entityId,
 												EventSource session,
 												Object entity,
@@ -701,7 +722,7 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 		statefulPersistenceContext.initializeNonLazyCollections();
 	}
 
-	private Object convertCacheEntryToEntity(
+	private static Object convertCacheEntryToEntity(
 			CacheEntry entry,
 			Serializable entityId,
 			EntityPersister persister,
@@ -893,7 +914,7 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 		return result;
 	}
 
-	private Iterable<PostLoadEventListener> postLoadEventListeners(EventSource session) {
+	private static Iterable<PostLoadEventListener> postLoadEventListeners(EventSource session) {
 		return session
 				.getFactory()
 				.getServiceRegistry()
@@ -902,7 +923,7 @@ public class DefaultLoadEventListener extends AbstractLockUpgradeEventListener i
 				.listeners();
 	}
 
-	private EventListenerGroup<PostLoadEventListener> getEvenListenerGroup(EventSource session) {
+	private static EventListenerGroup<PostLoadEventListener> getEvenListenerGroup(EventSource session) {
 		return session
 				.getFactory()
 				.getServiceRegistry()
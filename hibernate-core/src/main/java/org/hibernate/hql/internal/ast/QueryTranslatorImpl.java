@@ -50,6 +50,7 @@ import org.hibernate.internal.util.ReflectHelper;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.IdentitySet;
 import org.hibernate.loader.hql.QueryLoader;
+import org.hibernate.param.CompiledParameterBinder;
 import org.hibernate.param.ParameterSpecification;
 import org.hibernate.persister.entity.Queryable;
 import org.hibernate.type.Type;
@@ -91,6 +92,7 @@ public class QueryTranslatorImpl implements FilterTranslator {
 
 	private ParameterTranslations paramTranslations;
 	private List<ParameterSpecification> collectedParameterSpecifications;
+	private volatile CompiledParameterBinder compiledParameterBinder;
 	
 	private EntityGraphQueryHint entityGraphQueryHint;
 
@@ -579,6 +581,21 @@ public class QueryTranslatorImpl implements FilterTranslator {
 		return collectedParameterSpecifications;
 	}
 
+	/**
+	 * Access the binder for the {@link #getCollectedParameterSpecifications() collected parameters},
+	 * compiled on first access.
+	 *
+	 * @return The compiled parameter binder
+	 */
+	public CompiledParameterBinder getCompiledParameterBinder() {
+		CompiledParameterBinder binder = compiledParameterBinder;
+		if ( binder == null ) {
+			binder = CompiledParameterBinder.compile( collectedParameterSpecifications );
+			compiledParameterBinder = binder;
+		}
+		return binder;
+	}
+
 	@Override
 	public Class getDynamicInstantiationResultType() {
 		AggregatedSelectExpression aggregation = queryLoader.getAggregatedSelectExpression();
@@ -0,0 +1,281 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Common support for optimizers handing out values from blocks (ranges) of values reserved in
+ * the underlying value source.
+ * <p/>
+ * Values are drawn from the current block of each tenant using a compare-and-set, without any
+ * locking.  A lock (per tenant) is only held while the next block is obtained from the
+ * {@link AccessCallback}.  When {@link #enablePrefetch prefetching} is enabled, the next block is
+ * reserved as soon as the current one runs low, so that threads exhausting the current block find
+ * the next one already available.  If the callback supports it (see {@link BackgroundAccessCallback}),
+ * the next block is reserved in the background; otherwise by the thread reaching the low water mark.
+ *
+ * @see PooledOptimizer
+ * @see PooledLoOptimizer
+ * @see HiLoOptimizer
+ * @see LegacyHiLoAlgorithmOptimizer
+ */
+public abstract class AbstractBlockOptimizer extends AbstractOptimizer implements PrefetchAwareOptimizer {
+	private static final Logger log = Logger.getLogger( AbstractBlockOptimizer.class );
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final ConcurrentMap<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<String, GenerationState>();
+
+	private volatile int prefetchLowWaterMark;
+
+	AbstractBlockOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+	}
+
+	/**
+	 * Reserve the next block of values in the underlying source.
+	 * <p/>
+	 * Calls are serialized per tenant, but may happen while other threads still draw values from
+	 * the previous block, and (when prefetching in the background) from a different thread than the
+	 * one generating values.
+	 *
+	 * @param previousBlock The previous block, {@code null} on first access.
+	 * @param callback Callback to access the underlying value source.
+	 *
+	 * @return The next block
+	 */
+	protected abstract Block nextBlock(Block previousBlock, AccessCallback callback);
+
+	/**
+	 * Create a block handing out the values from {@code lowValue} (inclusive) to {@code upperLimit}
+	 * (exclusive).
+	 *
+	 * @param sourceValue The value obtained from the underlying source for this block
+	 * @param lowValue The first value of the block
+	 * @param upperLimit The upper limit (exclusive) of the block
+	 *
+	 * @return The block
+	 */
+	protected final Block createBlock(
+			IntegralDataTypeHolder sourceValue,
+			IntegralDataTypeHolder lowValue,
+			IntegralDataTypeHolder upperLimit) {
+		final int lowWaterMark = prefetchLowWaterMark;
+		return new Block(
+				sourceValue,
+				lowValue,
+				upperLimit,
+				lowWaterMark > 0 ? upperLimit.copy().subtract( lowWaterMark ) : null
+		);
+	}
+
+	@Override
+	public final Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+
+		while ( true ) {
+			final Block block = generationState.currentBlock;
+			if ( block != null ) {
+				final IntegralDataTypeHolder value = block.next();
+				if ( value != null ) {
+					if ( block.isPrefetchDue( value ) ) {
+						prefetch( generationState, block, callback );
+					}
+					return value.makeValue();
+				}
+			}
+			advance( generationState, block, callback );
+		}
+	}
+
+	private void advance(GenerationState generationState, Block exhaustedBlock, AccessCallback callback) {
+		synchronized ( generationState ) {
+			// rather than hitting the database again, wait for an ongoing prefetch to complete
+			while ( generationState.prefetching && generationState.nextBlock == null ) {
+				try {
+					generationState.wait();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+			if ( generationState.currentBlock != exhaustedBlock ) {
+				// another thread already moved on to the next block
+				return;
+			}
+			if ( generationState.nextBlock != null ) {
+				generationState.currentBlock = generationState.nextBlock;
+				generationState.nextBlock = null;
+			}
+			else {
+				generationState.currentBlock = nextBlock( exhaustedBlock, callback );
+			}
+		}
+	}
+
+	private void prefetch(final GenerationState generationState, final Block block, AccessCallback callback) {
+		synchronized ( generationState ) {
+			if ( generationState.currentBlock != block
+					|| generationState.nextBlock != null
+					|| generationState.prefetching ) {
+				return;
+			}
+			if ( !( callback instanceof BackgroundAccessCallback ) ) {
+				generationState.nextBlock = nextBlock( block, callback );
+				return;
+			}
+			generationState.prefetching = true;
+		}
+
+		final boolean scheduled = ( (BackgroundAccessCallback) callback ).executeInBackground(
+				new BackgroundAccessCallback.BackgroundTask() {
+					@Override
+					public void execute(AccessCallback backgroundCallback) {
+						Block prefetchedBlock = null;
+						try {
+							prefetchedBlock = nextBlock( block, backgroundCallback );
+						}
+						catch (RuntimeException e) {
+							log.warn( "Unable to reserve the next block of identifier values in the background", e );
+						}
+						finally {
+							completePrefetch( generationState, prefetchedBlock );
+						}
+					}
+				}
+		);
+
+		if ( !scheduled ) {
+			completePrefetch( generationState, null );
+			synchronized ( generationState ) {
+				if ( generationState.currentBlock == block && generationState.nextBlock == null ) {
+					generationState.nextBlock = nextBlock( block, callback );
+				}
+			}
+		}
+	}
+
+	private void completePrefetch(GenerationState generationState, Block prefetchedBlock) {
+		synchronized ( generationState ) {
+			generationState.prefetching = false;
+			// should another thread meanwhile have fetched a block itself, the prefetched one is
+			// simply dropped (leaving a gap, as when the SessionFactory closes with values left)
+			if ( prefetchedBlock != null && generationState.nextBlock == null ) {
+				generationState.nextBlock = prefetchedBlock;
+			}
+			generationState.notifyAll();
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+
+		GenerationState state = tenantSpecificState.get( tenantIdentifier );
+		if ( state == null ) {
+			state = new GenerationState();
+			final GenerationState previous = tenantSpecificState.putIfAbsent( tenantIdentifier, state );
+			if ( previous != null ) {
+				state = previous;
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Access the current block of the no-tenant generation state.
+	 *
+	 * @return The current block
+	 */
+	protected final Block noTenantCurrentBlock() {
+		final Block block = noTenantState.currentBlock;
+		if ( block == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return block;
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantCurrentBlock().getSourceValue();
+	}
+
+	@Override
+	public void enablePrefetch(int lowWaterMark) {
+		this.prefetchLowWaterMark = lowWaterMark;
+	}
+
+	private static class GenerationState {
+		private volatile Block currentBlock;
+		// guarded by this
+		private Block nextBlock;
+		private boolean prefetching;
+	}
+
+	/**
+	 * A block of values reserved in the underlying source.
+	 */
+	protected static final class Block {
+		private final IntegralDataTypeHolder sourceValue;
+		private final IntegralDataTypeHolder lowValue;
+		private final IntegralDataTypeHolder upperLimit;
+		private final IntegralDataTypeHolder prefetchThreshold;
+
+		private final AtomicLong offset = new AtomicLong();
+		private final AtomicBoolean prefetchRequested = new AtomicBoolean();
+
+		private Block(
+				IntegralDataTypeHolder sourceValue,
+				IntegralDataTypeHolder lowValue,
+				IntegralDataTypeHolder upperLimit,
+				IntegralDataTypeHolder prefetchThreshold) {
+			this.sourceValue = sourceValue;
+			this.lowValue = lowValue;
+			this.upperLimit = upperLimit;
+			this.prefetchThreshold = prefetchThreshold;
+		}
+
+		private IntegralDataTypeHolder next() {
+			final IntegralDataTypeHolder value = lowValue.copy().add( offset.getAndIncrement() );
+			return value.lt( upperLimit ) ? value : null;
+		}
+
+		private boolean isPrefetchDue(IntegralDataTypeHolder value) {
+			return prefetchThreshold != null
+					&& !value.lt( prefetchThreshold )
+					&& prefetchRequested.compareAndSet( false, true );
+		}
+
+		public IntegralDataTypeHolder getSourceValue() {
+			return sourceValue;
+		}
+
+		public IntegralDataTypeHolder getUpperLimit() {
+			return upperLimit;
+		}
+
+		/**
+		 * The last value handed out from this block.
+		 *
+		 * @return The last value handed out
+		 */
+		public IntegralDataTypeHolder getLastValue() {
+			final IntegralDataTypeHolder next = lowValue.copy().add( offset.get() );
+			return next.lt( upperLimit ) ? next.decrement() : upperLimit.copy().decrement();
+		}
+	}
+}
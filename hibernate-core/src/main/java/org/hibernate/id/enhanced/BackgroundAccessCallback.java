@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+/**
+ * Optional contract for {@link AccessCallback} implementations able to access the underlying value
+ * source independently of the session (and transaction) they were built for.  Used by prefetching
+ * optimizers to reserve the next block of values in the background.
+ *
+ * @see IdentifierPrefetchService
+ */
+public interface BackgroundAccessCallback extends AccessCallback {
+	/**
+	 * Schedule the given task for execution in the background.
+	 *
+	 * @param task The task to execute
+	 *
+	 * @return {@code true} if the task was scheduled; {@code false} if background access to the
+	 * underlying source is not available, in which case the task will not be executed.
+	 */
+	public boolean executeInBackground(BackgroundTask task);
+
+	/**
+	 * A task executed in the background.
+	 */
+	public static interface BackgroundTask {
+		/**
+		 * Execute the task.
+		 *
+		 * @param callback Callback to access the underlying value source, independently of any session.
+		 */
+		public void execute(AccessCallback callback);
+	}
+}
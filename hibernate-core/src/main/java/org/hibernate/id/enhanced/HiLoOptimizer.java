@@ -6,10 +6,6 @@
  */
 package org.hibernate.id.enhanced;
 
-import java.io.Serializable;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.hibernate.HibernateException;
 import org.hibernate.id.IntegralDataTypeHolder;
 
@@ -50,16 +46,9 @@ import org.jboss.logging.Logger;
  *
  * @author Steve Ebersole
  */
-public class HiLoOptimizer extends AbstractOptimizer {
+public class HiLoOptimizer extends AbstractBlockOptimizer {
 	private static final Logger log = Logger.getLogger( HiLoOptimizer.class );
 
-	private static class GenerationState {
-		private IntegralDataTypeHolder lastSourceValue;
-		private IntegralDataTypeHolder upperLimit;
-		private IntegralDataTypeHolder value;
-	}
-
-
 	/**
 	 * Constructs a HiLoOptimizer
 	 *
@@ -77,66 +66,18 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.lastSourceValue == null ) {
-			// first call, so initialize ourselves.  we need to read the database
-			// value and set up the 'bucket' boundaries
-			generationState.lastSourceValue = callback.getNextValue();
-			while ( generationState.lastSourceValue.lt( 1 ) ) {
-				generationState.lastSourceValue = callback.getNextValue();
-			}
-			// upperLimit defines the upper end of the bucket values
-			generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
-			// initialize value to the low end of the bucket
-			generationState.value = generationState.upperLimit.copy().subtract( incrementSize );
-		}
-		else if ( ! generationState.upperLimit.gt( generationState.value ) ) {
-			generationState.lastSourceValue = callback.getNextValue();
-			generationState.upperLimit = generationState.lastSourceValue.copy().multiplyBy( incrementSize ).increment();
-		}
-		return generationState.value.makeValueThenIncrement();
-	}
-
-	private GenerationState noTenantState;
-	private Map<String,GenerationState> tenantSpecificState;
-
-	private GenerationState locateGenerationState(String tenantIdentifier) {
-		if ( tenantIdentifier == null ) {
-			if ( noTenantState == null ) {
-				noTenantState = new GenerationState();
-			}
-			return noTenantState;
-		}
-		else {
-			GenerationState state;
-			if ( tenantSpecificState == null ) {
-				tenantSpecificState = new ConcurrentHashMap<String, GenerationState>();
-				state = new GenerationState();
-				tenantSpecificState.put( tenantIdentifier, state );
+	protected Block nextBlock(Block previousBlock, AccessCallback callback) {
+		IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+		if ( previousBlock == null ) {
+			// first call, so we need to make sure the database value
+			// defines a valid 'bucket'
+			while ( lastSourceValue.lt( 1 ) ) {
+				lastSourceValue = callback.getNextValue();
 			}
-			else {
-				state = tenantSpecificState.get( tenantIdentifier );
-				if ( state == null ) {
-					state = new GenerationState();
-					tenantSpecificState.put( tenantIdentifier, state );
-				}
-			}
-			return state;
-		}
-	}
-
-	private GenerationState noTenantGenerationState() {
-		if ( noTenantState == null ) {
-			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
 		}
-		return noTenantState;
-	}
-
-	@Override
-	public synchronized IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().lastSourceValue;
+		// upperLimit defines the upper end of the bucket values
+		final IntegralDataTypeHolder upperLimit = lastSourceValue.copy().multiplyBy( incrementSize ).increment();
+		return createBlock( lastSourceValue, upperLimit.copy().subtract( incrementSize ), upperLimit );
 	}
 
 	@Override
@@ -151,8 +92,8 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	 *
 	 * @return Value for property 'lastValue'.
 	 */
-	public synchronized IntegralDataTypeHolder getLastValue() {
-		return noTenantGenerationState().value.copy().decrement();
+	public IntegralDataTypeHolder getLastValue() {
+		return noTenantCurrentBlock().getLastValue();
 	}
 
 	/**
@@ -162,7 +103,7 @@ public class HiLoOptimizer extends AbstractOptimizer {
 	 *
 	 * @return Value for property 'upperLimit'.
 	 */
-	public synchronized IntegralDataTypeHolder getHiValue() {
-		return noTenantGenerationState().upperLimit;
+	public IntegralDataTypeHolder getHiValue() {
+		return noTenantCurrentBlock().getUpperLimit();
 	}
 }
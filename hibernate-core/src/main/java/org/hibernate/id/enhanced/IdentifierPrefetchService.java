@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.engine.transaction.spi.IsolationDelegate;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.jdbc.WorkExecutorVisitable;
+import org.hibernate.service.Service;
+
+/**
+ * SessionFactory scoped service used by identifier generators to reserve blocks of values in the
+ * background, on an executor owned by the SessionFactory and using connections not associated with
+ * any session.
+ *
+ * @see BackgroundAccessCallback
+ */
+public interface IdentifierPrefetchService extends Service {
+	/**
+	 * Schedule the given task for execution in the background.  The callback passed to the task
+	 * performs the given work on a connection of its own, in isolation from any ongoing transaction
+	 * (see {@link IsolationDelegate}).
+	 *
+	 * @param tenantIdentifier The tenant identifier, if any
+	 * @param work The work obtaining the next value of the underlying source
+	 * @param transacted Whether the work should be performed in its own transaction
+	 * @param task The task to execute
+	 *
+	 * @return {@code true} if the task was scheduled; {@code false} if background access is not
+	 * available, for example for a multi-tenant SessionFactory when no tenant is known.
+	 */
+	public boolean executeInBackground(
+			String tenantIdentifier,
+			WorkExecutorVisitable<IntegralDataTypeHolder> work,
+			boolean transacted,
+			BackgroundAccessCallback.BackgroundTask task);
+}
@@ -27,8 +27,9 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * Implementations must be thread-safe.  The standard block based optimizers
+	 * (see {@link AbstractBlockOptimizer}) only lock while obtaining the next
+	 * block of values from the underlying source.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
@@ -7,9 +7,12 @@
 package org.hibernate.id.enhanced;
 
 import java.lang.reflect.Constructor;
+import java.util.Properties;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.jboss.logging.Logger;
 
 /**
@@ -99,6 +102,33 @@ public class OptimizerFactory {
 		return optimizer;
 	}
 
+	/**
+	 * The default percentage of the block size at which prefetching optimizers reserve the next block.
+	 */
+	private static final int DEFAULT_PREFETCH_LOW_WATER_MARK = 20;
+
+	/**
+	 * Enables prefetching on the given optimizer if requested by the configuration (see
+	 * {@link AvailableSettings#ID_OPTIMIZER_PREFETCH} and
+	 * {@link AvailableSettings#ID_OPTIMIZER_PREFETCH_LOW_WATER_MARK}) and supported by the optimizer.
+	 *
+	 * @param optimizer The optimizer
+	 * @param params The generator configuration parameters
+	 */
+	static void applyPrefetchSettings(Optimizer optimizer, Properties params) {
+		if ( !PrefetchAwareOptimizer.class.isInstance( optimizer )
+				|| !ConfigurationHelper.getBoolean( AvailableSettings.ID_OPTIMIZER_PREFETCH, params, false ) ) {
+			return;
+		}
+		final int lowWaterMarkPercentage = ConfigurationHelper.getInt(
+				AvailableSettings.ID_OPTIMIZER_PREFETCH_LOW_WATER_MARK,
+				params,
+				DEFAULT_PREFETCH_LOW_WATER_MARK
+		);
+		final int lowWaterMark = Math.max( 1, optimizer.getIncrementSize() * lowWaterMarkPercentage / 100 );
+		( (PrefetchAwareOptimizer) optimizer ).enablePrefetch( lowWaterMark );
+	}
+
 	/**
 	 * Deprecated!
 	 *
@@ -6,10 +6,6 @@
  */
 package org.hibernate.id.enhanced;
 
-import java.io.Serializable;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.hibernate.HibernateException;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
@@ -23,21 +19,12 @@ import org.jboss.logging.Logger;
  *
  * @see PooledOptimizer
  */
-public class PooledLoOptimizer extends AbstractOptimizer {
+public class PooledLoOptimizer extends AbstractBlockOptimizer {
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger(
 			CoreMessageLogger.class,
 			PooledLoOptimizer.class.getName()
 	);
 
-	private static class GenerationState {
-		// last value read from db source
-		private IntegralDataTypeHolder lastSourceValue;
-		// the current generator value
-		private IntegralDataTypeHolder value;
-		// the value at which we'll hit the db again
-		private IntegralDataTypeHolder upperLimitValue;
-	}
-
 	/**
 	 * Constructs a PooledLoOptimizer.
 	 *
@@ -53,60 +40,14 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.lastSourceValue == null
-				|| ! generationState.value.lt( generationState.upperLimitValue ) ) {
-			generationState.lastSourceValue = callback.getNextValue();
-			generationState.upperLimitValue = generationState.lastSourceValue.copy().add( incrementSize );
-			generationState.value = generationState.lastSourceValue.copy();
-			// handle cases where initial-value is less that one (hsqldb for instance).
-			while ( generationState.value.lt( 1 ) ) {
-				generationState.value.increment();
-			}
-		}
-		return generationState.value.makeValueThenIncrement();
-	}
-
-	private GenerationState noTenantState;
-	private Map<String,GenerationState> tenantSpecificState;
-
-	private GenerationState locateGenerationState(String tenantIdentifier) {
-		if ( tenantIdentifier == null ) {
-			if ( noTenantState == null ) {
-				noTenantState = new GenerationState();
-			}
-			return noTenantState;
+	protected Block nextBlock(Block previousBlock, AccessCallback callback) {
+		final IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+		final IntegralDataTypeHolder value = lastSourceValue.copy();
+		// handle cases where initial-value is less that one (hsqldb for instance).
+		while ( value.lt( 1 ) ) {
+			value.increment();
 		}
-		else {
-			GenerationState state;
-			if ( tenantSpecificState == null ) {
-				tenantSpecificState = new ConcurrentHashMap<String, GenerationState>();
-				state = new GenerationState();
-				tenantSpecificState.put( tenantIdentifier, state );
-			}
-			else {
-				state = tenantSpecificState.get( tenantIdentifier );
-				if ( state == null ) {
-					state = new GenerationState();
-					tenantSpecificState.put( tenantIdentifier, state );
-				}
-			}
-			return state;
-		}
-	}
-
-	private GenerationState noTenantGenerationState() {
-		if ( noTenantState == null ) {
-			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
-		}
-		return noTenantState;
-	}
-
-	@Override
-	public IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().lastSourceValue;
+		return createBlock( lastSourceValue, value, lastSourceValue.copy().add( incrementSize ) );
 	}
 
 	@Override
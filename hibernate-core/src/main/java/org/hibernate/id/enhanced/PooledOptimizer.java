@@ -6,10 +6,6 @@
  */
 package org.hibernate.id.enhanced;
 
-import java.io.Serializable;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.hibernate.HibernateException;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
@@ -31,17 +27,12 @@ import org.jboss.logging.Logger;
  *
  * @see PooledLoOptimizer
  */
-public class PooledOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+public class PooledOptimizer extends AbstractBlockOptimizer implements InitialValueAwareOptimizer {
 	private static final CoreMessageLogger log = Logger.getMessageLogger(
 			CoreMessageLogger.class,
 			PooledOptimizer.class.getName()
 	);
 
-	private static class GenerationState {
-		private IntegralDataTypeHolder hiValue;
-		private IntegralDataTypeHolder value;
-	}
-
 	private long initialValue = -1;
 
 	/**
@@ -66,75 +57,31 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
-
-		if ( generationState.hiValue == null ) {
-			generationState.value = callback.getNextValue();
+	protected Block nextBlock(Block previousBlock, AccessCallback callback) {
+		if ( previousBlock == null ) {
+			final IntegralDataTypeHolder value = callback.getNextValue();
 			// unfortunately not really safe to normalize this
 			// to 1 as an initial value like we do the others
 			// because we would not be able to control this if
 			// we are using a sequence...
-			if ( generationState.value.lt( 1 ) ) {
-				log.pooledOptimizerReportedInitialValue( generationState.value );
+			if ( value.lt( 1 ) ) {
+				log.pooledOptimizerReportedInitialValue( value );
 			}
 			// the call to obtain next-value just gave us the initialValue
 			if ( ( initialValue == -1
-					&& generationState.value.lt( incrementSize ) )
-					|| generationState.value.eq( initialValue ) ) {
-				generationState.hiValue = callback.getNextValue();
+					&& value.lt( incrementSize ) )
+					|| value.eq( initialValue ) ) {
+				final IntegralDataTypeHolder hiValue = callback.getNextValue();
+				return createBlock( hiValue, value, hiValue.copy().increment() );
 			}
 			else {
-				generationState.hiValue = generationState.value;
-				generationState.value = generationState.hiValue.copy().subtract( incrementSize - 1 );
-			}
-		}
-		else if ( generationState.value.gt( generationState.hiValue ) ) {
-			generationState.hiValue = callback.getNextValue();
-			generationState.value = generationState.hiValue.copy().subtract( incrementSize - 1 );
-		}
-
-		return generationState.value.makeValueThenIncrement();
-	}
-
-	private GenerationState noTenantState;
-	private Map<String,GenerationState> tenantSpecificState;
-
-	private GenerationState locateGenerationState(String tenantIdentifier) {
-		if ( tenantIdentifier == null ) {
-			if ( noTenantState == null ) {
-				noTenantState = new GenerationState();
+				return createBlock( value, value.copy().subtract( incrementSize - 1 ), value.copy().increment() );
 			}
-			return noTenantState;
 		}
 		else {
-			GenerationState state;
-			if ( tenantSpecificState == null ) {
-				tenantSpecificState = new ConcurrentHashMap<String, GenerationState>();
-				state = new GenerationState();
-				tenantSpecificState.put( tenantIdentifier, state );
-			}
-			else {
-				state = tenantSpecificState.get( tenantIdentifier );
-				if ( state == null ) {
-					state = new GenerationState();
-					tenantSpecificState.put( tenantIdentifier, state );
-				}
-			}
-			return state;
-		}
-	}
-
-	private GenerationState noTenantGenerationState() {
-		if ( noTenantState == null ) {
-			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+			final IntegralDataTypeHolder hiValue = callback.getNextValue();
+			return createBlock( hiValue, hiValue.copy().subtract( incrementSize - 1 ), hiValue.copy().increment() );
 		}
-		return noTenantState;
-	}
-
-	@Override
-	public IntegralDataTypeHolder getLastSourceValue() {
-		return noTenantGenerationState().hiValue;
 	}
 
 	@Override
@@ -150,7 +97,7 @@ public class PooledOptimizer extends AbstractOptimizer implements InitialValueAw
 	 * @return Value for property 'lastValue'.
 	 */
 	public IntegralDataTypeHolder getLastValue() {
-		return noTenantGenerationState().value.copy().decrement();
+		return noTenantCurrentBlock().getLastValue();
 	}
 
 	@Override
@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+/**
+ * Marker interface for optimizers able to reserve the next block of values in the underlying
+ * source before the current one is exhausted.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ID_OPTIMIZER_PREFETCH
+ */
+public interface PrefetchAwareOptimizer {
+	/**
+	 * Enables prefetching of the next block of values.
+	 *
+	 * @param lowWaterMark The number of values left in the current block at which the next block is
+	 * reserved.
+	 */
+	public void enablePrefetch(int lowWaterMark);
+}
@@ -6,9 +6,11 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -18,10 +20,14 @@ import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.AbstractReturningWork;
 
 import org.jboss.logging.Logger;
 
@@ -45,7 +51,7 @@ public class SequenceStructure implements DatabaseStructure {
 	private String sequenceName;
 	private String sql;
 	private boolean applyIncrementSizeToSourceValues;
-	private int accessCounter;
+	private final AtomicInteger accessCounter = new AtomicInteger();
 
 	public SequenceStructure(
 			JdbcEnvironment jdbcEnvironment,
@@ -72,7 +78,7 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public int getTimesAccessed() {
-		return accessCounter;
+		return accessCounter.get();
 	}
 
 	@Override
@@ -86,10 +92,10 @@ public class SequenceStructure implements DatabaseStructure {
 			throw new AssertionFailure( "SequenceStyleGenerator's SequenceStructure was not properly initialized" );
 		}
 
-		return new AccessCallback() {
+		return new BackgroundAccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
+				accessCounter.incrementAndGet();
 				try {
 					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
 					try {
@@ -131,6 +137,48 @@ public class SequenceStructure implements DatabaseStructure {
 			public String getTenantIdentifier() {
 				return session.getTenantIdentifier();
 			}
+
+			@Override
+			public boolean executeInBackground(BackgroundTask task) {
+				final SqlStatementLogger statementLogger = session.getFactory().getServiceRegistry()
+						.getService( JdbcServices.class )
+						.getSqlStatementLogger();
+				return session.getFactory().getServiceRegistry().getService( IdentifierPrefetchService.class ).executeInBackground(
+						session.getTenantIdentifier(),
+						buildNextValueWork( statementLogger ),
+						true,
+						task
+				);
+			}
+		};
+	}
+
+	private AbstractReturningWork<IntegralDataTypeHolder> buildNextValueWork(final SqlStatementLogger statementLogger) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				accessCounter.incrementAndGet();
+				statementLogger.logStatement( sql, FormatStyle.BASIC.getFormatter() );
+				final PreparedStatement st = connection.prepareStatement( sql );
+				try {
+					final ResultSet rs = st.executeQuery();
+					try {
+						rs.next();
+						final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+						value.initialize( rs, 1 );
+						if ( LOG.isDebugEnabled() ) {
+							LOG.debugf( "Sequence value obtained in the background: %s", value.makeValue() );
+						}
+						return value;
+					}
+					finally {
+						rs.close();
+					}
+				}
+				finally {
+					st.close();
+				}
+			}
 		};
 	}
 
@@ -251,6 +251,7 @@ public class SequenceStyleGenerator
 				incrementSize,
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
+		OptimizerFactory.applyPrefetchSettings( optimizer, params );
 		this.databaseStructure.prepare( optimizer );
 	}
 
@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import org.hibernate.MultiTenancyStrategy;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.hibernate.engine.jdbc.env.internal.JdbcEnvironmentInitiator.ConnectionProviderJdbcConnectionAccess;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.jdbc.WorkExecutorVisitable;
+import org.hibernate.resource.transaction.backend.jdbc.internal.JdbcIsolationDelegate;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Standard {@link IdentifierPrefetchService} implementation, executing the tasks on a single daemon
+ * thread started on first use and stopped along with the SessionFactory.
+ */
+public class StandardIdentifierPrefetchService implements IdentifierPrefetchService, Stoppable {
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ServiceRegistryImplementor serviceRegistry;
+
+	private ExecutorService executor;
+	private boolean stopped;
+
+	public StandardIdentifierPrefetchService(
+			MultiTenancyStrategy multiTenancyStrategy,
+			ServiceRegistryImplementor serviceRegistry) {
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.serviceRegistry = serviceRegistry;
+	}
+
+	@Override
+	public boolean executeInBackground(
+			final String tenantIdentifier,
+			final WorkExecutorVisitable<IntegralDataTypeHolder> work,
+			final boolean transacted,
+			final BackgroundAccessCallback.BackgroundTask task) {
+		final JdbcConnectionAccess connectionAccess = buildConnectionAccess( tenantIdentifier );
+		if ( connectionAccess == null ) {
+			return false;
+		}
+		final JdbcIsolationDelegate isolationDelegate = new JdbcIsolationDelegate(
+				connectionAccess,
+				serviceRegistry.getService( JdbcServices.class ).getSqlExceptionHelper()
+		);
+		final AccessCallback callback = new AccessCallback() {
+			@Override
+			public IntegralDataTypeHolder getNextValue() {
+				return isolationDelegate.delegateWork( work, transacted );
+			}
+
+			@Override
+			public String getTenantIdentifier() {
+				return tenantIdentifier;
+			}
+		};
+
+		final ExecutorService executor = executor();
+		if ( executor == null ) {
+			return false;
+		}
+		try {
+			executor.execute(
+					new Runnable() {
+						@Override
+						public void run() {
+							task.execute( callback );
+						}
+					}
+			);
+			return true;
+		}
+		catch (RejectedExecutionException e) {
+			return false;
+		}
+	}
+
+	private JdbcConnectionAccess buildConnectionAccess(final String tenantIdentifier) {
+		if ( multiTenancyStrategy == MultiTenancyStrategy.NONE ) {
+			return new ConnectionProviderJdbcConnectionAccess( serviceRegistry.getService( ConnectionProvider.class ) );
+		}
+		if ( tenantIdentifier == null ) {
+			return null;
+		}
+		final MultiTenantConnectionProvider connectionProvider = serviceRegistry.getService( MultiTenantConnectionProvider.class );
+		return new JdbcConnectionAccess() {
+			@Override
+			public Connection obtainConnection() throws SQLException {
+				return connectionProvider.getConnection( tenantIdentifier );
+			}
+
+			@Override
+			public void releaseConnection(Connection connection) throws SQLException {
+				connectionProvider.releaseConnection( tenantIdentifier, connection );
+			}
+
+			@Override
+			public boolean supportsAggressiveRelease() {
+				return connectionProvider.supportsAggressiveRelease();
+			}
+		};
+	}
+
+	private synchronized ExecutorService executor() {
+		if ( executor == null && !stopped ) {
+			executor = Executors.newSingleThreadExecutor(
+					new ThreadFactory() {
+						@Override
+						public Thread newThread(Runnable runnable) {
+							final Thread thread = new Thread( runnable, "Hibernate identifier prefetch" );
+							thread.setDaemon( true );
+							return thread;
+						}
+					}
+			);
+		}
+		return executor;
+	}
+
+	@Override
+	public synchronized void stop() {
+		stopped = true;
+		if ( executor != null ) {
+			executor.shutdown();
+			executor = null;
+		}
+	}
+}
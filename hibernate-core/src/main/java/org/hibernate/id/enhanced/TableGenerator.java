@@ -15,6 +15,7 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -27,6 +28,7 @@ import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.QualifiedNameParser;
 import org.hibernate.cfg.Environment;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -236,7 +238,7 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	private String updateQuery;
 
 	private Optimizer optimizer;
-	private long accessCount;
+	private final AtomicLong accessCount = new AtomicLong();
 
 	@Override
 	public Object generatorKey() {
@@ -341,7 +343,7 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	 * @return Value for property 'tableAccessCount'.
 	 */
 	public final long getTableAccessCount() {
-		return accessCount;
+		return accessCount.get();
 	}
 
 	@Override
@@ -375,6 +377,7 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 				incrementSize,
 				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
 		);
+		OptimizerFactory.applyPrefetchSettings( optimizer, params );
 	}
 
 	/**
@@ -529,77 +532,11 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 		final SessionEventListenerManager statsCollector = session.getEventListenerManager();
 
 		return optimizer.generate(
-				new AccessCallback() {
+				new BackgroundAccessCallback() {
 					@Override
 					public IntegralDataTypeHolder getNextValue() {
 						return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
-								new AbstractReturningWork<IntegralDataTypeHolder>() {
-									@Override
-									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										final IntegralDataTypeHolder value = makeValue();
-										int rows;
-										do {
-											final PreparedStatement selectPS = prepareStatement( connection, selectQuery, statementLogger, statsCollector );
-
-											try {
-												selectPS.setString( 1, segmentValue );
-												final ResultSet selectRS = executeQuery( selectPS, statsCollector );
-												if ( !selectRS.next() ) {
-													value.initialize( initialValue );
-
-													final PreparedStatement insertPS = prepareStatement( connection, insertQuery, statementLogger, statsCollector );
-													try {
-														insertPS.setString( 1, segmentValue );
-														value.bind( insertPS, 2 );
-														executeUpdate( insertPS, statsCollector );
-													}
-													finally {
-														insertPS.close();
-													}
-												}
-												else {
-													value.initialize( selectRS, 1 );
-												}
-												selectRS.close();
-											}
-											catch (SQLException e) {
-												LOG.unableToReadOrInitHiValue( e );
-												throw e;
-											}
-											finally {
-												selectPS.close();
-											}
-
-
-											final PreparedStatement updatePS = prepareStatement( connection, updateQuery, statementLogger, statsCollector );
-											try {
-												final IntegralDataTypeHolder updateValue = value.copy();
-												if ( optimizer.applyIncrementSizeToSourceValues() ) {
-													updateValue.add( incrementSize );
-												}
-												else {
-													updateValue.increment();
-												}
-												updateValue.bind( updatePS, 1 );
-												value.bind( updatePS, 2 );
-												updatePS.setString( 3, segmentValue );
-												rows = executeUpdate( updatePS, statsCollector );
-											}
-											catch (SQLException e) {
-												LOG.unableToUpdateQueryHiValue( renderedTableName, e );
-												throw e;
-											}
-											finally {
-												updatePS.close();
-											}
-										}
-										while ( rows == 0 );
-
-										accessCount++;
-
-										return value;
-									}
-								},
+								buildNextValueWork( statementLogger, statsCollector ),
 								true
 						);
 					}
@@ -608,10 +545,93 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 					public String getTenantIdentifier() {
 						return session.getTenantIdentifier();
 					}
+
+					@Override
+					public boolean executeInBackground(BackgroundTask task) {
+						return session.getFactory().getServiceRegistry().getService( IdentifierPrefetchService.class ).executeInBackground(
+								session.getTenantIdentifier(),
+								// the session event listeners are not to be notified from another thread
+								buildNextValueWork( statementLogger, new SessionEventListenerManagerImpl() ),
+								true,
+								task
+						);
+					}
 				}
 		);
 	}
 
+	private AbstractReturningWork<IntegralDataTypeHolder> buildNextValueWork(
+			final SqlStatementLogger statementLogger,
+			final SessionEventListenerManager statsCollector) {
+		return new AbstractReturningWork<IntegralDataTypeHolder>() {
+			@Override
+			public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
+				final IntegralDataTypeHolder value = makeValue();
+				int rows;
+				do {
+					final PreparedStatement selectPS = prepareStatement( connection, selectQuery, statementLogger, statsCollector );
+
+					try {
+						selectPS.setString( 1, segmentValue );
+						final ResultSet selectRS = executeQuery( selectPS, statsCollector );
+						if ( !selectRS.next() ) {
+							value.initialize( initialValue );
+
+							final PreparedStatement insertPS = prepareStatement( connection, insertQuery, statementLogger, statsCollector );
+							try {
+								insertPS.setString( 1, segmentValue );
+								value.bind( insertPS, 2 );
+								executeUpdate( insertPS, statsCollector );
+							}
+							finally {
+								insertPS.close();
+							}
+						}
+						else {
+							value.initialize( selectRS, 1 );
+						}
+						selectRS.close();
+					}
+					catch (SQLException e) {
+						LOG.unableToReadOrInitHiValue( e );
+						throw e;
+					}
+					finally {
+						selectPS.close();
+					}
+
+
+					final PreparedStatement updatePS = prepareStatement( connection, updateQuery, statementLogger, statsCollector );
+					try {
+						final IntegralDataTypeHolder updateValue = value.copy();
+						if ( optimizer.applyIncrementSizeToSourceValues() ) {
+							updateValue.add( incrementSize );
+						}
+						else {
+							updateValue.increment();
+						}
+						updateValue.bind( updatePS, 1 );
+						value.bind( updatePS, 2 );
+						updatePS.setString( 3, segmentValue );
+						rows = executeUpdate( updatePS, statsCollector );
+					}
+					catch (SQLException e) {
+						LOG.unableToUpdateQueryHiValue( renderedTableName, e );
+						throw e;
+					}
+					finally {
+						updatePS.close();
+					}
+				}
+				while ( rows == 0 );
+
+				accessCount.incrementAndGet();
+
+				return value;
+			}
+		};
+	}
+
 	private PreparedStatement prepareStatement(
 			Connection connection,
 			String sql,
@@ -87,6 +87,7 @@ public abstract class AbstractQueryImpl implements Query {
 	private RowSelection selection;
 	private boolean cacheable;
 	private String cacheRegion;
+	private Serializable cachePartition;
 	private String comment;
 	private final List<String> queryHints = new ArrayList<String>();
 	private FlushMode flushMode;
@@ -150,6 +151,17 @@ public abstract class AbstractQueryImpl implements Query {
 		return this;
 	}
 
+	@Override
+	public Serializable getCachePartition() {
+		return cachePartition;
+	}
+
+	@Override
+	public Query setCachePartition(Serializable partition) {
+		this.cachePartition = partition;
+		return this;
+	}
+
 	@Override
 	public FlushMode getFlushMode() {
 		return flushMode;
@@ -1005,6 +1017,7 @@ public abstract class AbstractQueryImpl implements Query {
 				optionalId,
 				resultTransformer
 		);
+		queryParameters.setCachePartition( cachePartition );
 		queryParameters.setQueryPlan( queryPlan );
 		return queryParameters;
 	}
@@ -13,7 +13,9 @@ import java.sql.Clob;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.util.Calendar;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -21,6 +23,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.ScrollableResults;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.hql.internal.HolderInstantiator;
 import org.hibernate.loader.Loader;
 import org.hibernate.type.StandardBasicTypes;
@@ -41,6 +44,8 @@ public abstract class AbstractScrollableResults implements ScrollableResults {
 	private final QueryParameters queryParameters;
 	private final Type[] types;
 	private HolderInstantiator holderInstantiator;
+	// the entities loaded from the current row, evicted when advancing through streamed read-only results
+	private final List<Object> loadedEntities;
 
 	protected AbstractScrollableResults(
 			ResultSet rs,
@@ -59,6 +64,9 @@ public abstract class AbstractScrollableResults implements ScrollableResults {
 		this.holderInstantiator = holderInstantiator != null && holderInstantiator.isRequired()
 				? holderInstantiator
 				: null;
+		this.loadedEntities = queryParameters.isStreaming() && queryParameters.isReadOnly( sess ) && sess.isEventSource()
+				? new ArrayList<Object>()
+				: null;
 	}
 
 	protected abstract Object[] getCurrentRow();
@@ -91,8 +99,35 @@ public abstract class AbstractScrollableResults implements ScrollableResults {
 		return holderInstantiator;
 	}
 
+	/**
+	 * The list collecting the entities loaded from the current row, when streaming read-only results.
+	 *
+	 * @return The list, or {@code null} if the loaded entities are kept in the session
+	 */
+	protected List<Object> getLoadedEntities() {
+		return loadedEntities;
+	}
+
+	/**
+	 * Evicts the entities loaded from the current row, so that the session does not retain the streamed
+	 * read-only results.
+	 */
+	protected void evictLoadedEntities() {
+		if ( loadedEntities == null || loadedEntities.isEmpty() || session.isClosed() ) {
+			return;
+		}
+		for ( Object entity : loadedEntities ) {
+			// possibly evicted already, by cascade
+			if ( session.getPersistenceContext().isEntryFor( entity ) ) {
+				( (EventSource) session ).evict( entity );
+			}
+		}
+		loadedEntities.clear();
+	}
+
 	@Override
 	public final void close() {
+		evictLoadedEntities();
 		// not absolutely necessary, but does help with aggressive release
 		//session.getJDBCContext().getConnectionManager().closeQueryStatement( ps, resultSet );
 		session.getJdbcCoordinator().getResourceRegistry().release( ps );
@@ -9,6 +9,7 @@ package org.hibernate.internal;
 import org.hibernate.HibernateException;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.QueryCache;
+import org.hibernate.cache.spi.QueryCacheLoadCoordinator;
 import org.hibernate.cache.spi.Region;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.UpdateTimestampsCache;
@@ -38,6 +39,7 @@ public class CacheImpl implements CacheImplementor {
 	private final transient QueryCache queryCache;
 	private final transient RegionFactory regionFactory;
 	private final transient UpdateTimestampsCache updateTimestampsCache;
+	private final transient QueryCacheLoadCoordinator queryCacheLoadCoordinator;
 	private final transient ConcurrentMap<String, QueryCache> queryCaches;
 	private final transient ConcurrentMap<String, Region> allCacheRegions = new ConcurrentHashMap<String, Region>();
 
@@ -56,6 +58,9 @@ public class CacheImpl implements CacheImplementor {
 			queryCache = settings.getQueryCacheFactory()
 					.getQueryCache( null, updateTimestampsCache, settings, sessionFactory.getProperties() );
 			queryCaches = new ConcurrentHashMap<String, QueryCache>();
+			queryCacheLoadCoordinator = settings.getQueryCacheSingleFlightTimeout() > 0
+					? new QueryCacheLoadCoordinator( settings.getQueryCacheSingleFlightTimeout() )
+					: null;
 			allCacheRegions.put( updateTimestampsCache.getRegion().getName(), updateTimestampsCache.getRegion() );
 			allCacheRegions.put( queryCache.getRegion().getName(), queryCache.getRegion() );
 		}
@@ -63,6 +68,7 @@ public class CacheImpl implements CacheImplementor {
 			updateTimestampsCache = null;
 			queryCache = null;
 			queryCaches = null;
+			queryCacheLoadCoordinator = null;
 		}
 	}
 
@@ -314,6 +320,11 @@ public class CacheImpl implements CacheImplementor {
 		return updateTimestampsCache;
 	}
 
+	@Override
+	public QueryCacheLoadCoordinator getQueryCacheLoadCoordinator() {
+		return queryCacheLoadCoordinator;
+	}
+
 	@Override
 	public void evictQueries() throws HibernateException {
 		if ( settings.isQueryCacheEnabled() ) {
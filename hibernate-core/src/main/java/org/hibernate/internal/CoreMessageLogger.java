@@ -1725,4 +1725,28 @@ public interface CoreMessageLogger extends BasicLogger {
 			id = 474
 	)
 	String ambiguousPropertyMethods(String entityName, String oneMethodSig, String secondMethodSig);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache hits: %s", id = 475)
+	void queryPlanCacheHits(long queryPlanCacheHitCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache misses: %s", id = 476)
+	void queryPlanCacheMisses(long queryPlanCacheMissCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache evictions: %s", id = 477)
+	void queryPlanCacheEvictions(long queryPlanCacheEvictionCount);
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query compilation time: %sms", id = 478)
+	void queryCompilationTime(long queryCompilationTotalTime);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to write query plan cache snapshot [%s]", id = 479)
+	void unableToWriteQueryPlanCacheSnapshot(String file, @Cause Exception e);
+
+	@LogMessage(level = WARN)
+	@Message(value = "Unable to read query plan cache snapshot [%s]", id = 480)
+	void unableToReadQueryPlanCacheSnapshot(String file, @Cause Exception e);
 }
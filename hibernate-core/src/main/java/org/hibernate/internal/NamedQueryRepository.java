@@ -6,9 +6,13 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
@@ -17,6 +21,7 @@ import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.query.spi.sql.NativeSQLQuerySpecification;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
+import org.hibernate.internal.util.TaskHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.procedure.ProcedureCallMemento;
 
@@ -143,58 +148,98 @@ public class NamedQueryRepository {
 	}
 
 	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache) {
-		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+		return checkNamedQueries( queryPlanCache, null );
+	}
+
+	/**
+	 * Check (compile) the named queries, using the given executor to compile them in parallel.
+	 *
+	 * @param queryPlanCache The query plan cache in which the compiled queries are cached
+	 * @param executor The executor to use, or {@code null} to compile the queries on the calling thread
+	 *
+	 * @return The errors, keyed by query name
+	 */
+	public Map<String,HibernateException> checkNamedQueries(
+			final QueryPlanCache queryPlanCache,
+			ExecutorService executor) {
+		final List<String> names = new ArrayList<String>();
+		final List<Callable<HibernateException>> checks = new ArrayList<Callable<HibernateException>>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
-		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
-				//TODO: BUG! this currently fails for named queries for non-POJO entities
-				queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
-			}
-			catch ( HibernateException e ) {
-				errors.put( namedQueryDefinition.getName(), e );
-			}
-
-
+		for ( final NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
+			names.add( namedQueryDefinition.getName() );
+			checks.add(
+					new Callable<HibernateException>() {
+						@Override
+						public HibernateException call() {
+							// this will throw an error if there's something wrong.
+							try {
+								log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
+								//TODO: BUG! this currently fails for named queries for non-POJO entities
+								queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
+								return null;
+							}
+							catch ( HibernateException e ) {
+								return e;
+							}
+						}
+					}
+			);
 		}
 
 		// Check native-sql queries
 		log.debugf( "Checking %s named SQL queries", namedSqlQueryDefinitionMap.size() );
-		for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
-				// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
-				// currently not doable though because of the resultset-ref stuff...
-				NativeSQLQuerySpecification spec;
-				if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
-					ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
-					if ( definition == null ) {
-						throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
+		for ( final NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
+			names.add( namedSQLQueryDefinition.getName() );
+			checks.add(
+					new Callable<HibernateException>() {
+						@Override
+						public HibernateException call() {
+							// this will throw an error if there's something wrong.
+							try {
+								log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
+								queryPlanCache.getNativeSQLQueryPlan( buildSpecification( namedSQLQueryDefinition ) );
+								return null;
+							}
+							catch ( HibernateException e ) {
+								return e;
+							}
+						}
 					}
-					spec = new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							definition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
-				}
-				else {
-					spec =  new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							namedSQLQueryDefinition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
-				}
-				queryPlanCache.getNativeSQLQueryPlan( spec );
-			}
-			catch ( HibernateException e ) {
-				errors.put( namedSQLQueryDefinition.getName(), e );
-			}
+			);
 		}
 
+		final List<HibernateException> results = TaskHelper.execute( checks, executor, "compiling queries" );
+		final Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+		for ( int i = 0; i < results.size(); i++ ) {
+			if ( results.get( i ) != null ) {
+				errors.put( names.get( i ), results.get( i ) );
+			}
+		}
 		return errors;
 	}
+
+	private NativeSQLQuerySpecification buildSpecification(NamedSQLQueryDefinition namedSQLQueryDefinition) {
+		// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
+		// currently not doable though because of the resultset-ref stuff...
+		if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
+			ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
+			if ( definition == null ) {
+				throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
+			}
+			return new NativeSQLQuerySpecification(
+					namedSQLQueryDefinition.getQueryString(),
+					definition.getQueryReturns(),
+					namedSQLQueryDefinition.getQuerySpaces()
+			);
+		}
+		else {
+			return new NativeSQLQuerySpecification(
+					namedSQLQueryDefinition.getQueryString(),
+					namedSQLQueryDefinition.getQueryReturns(),
+					namedSQLQueryDefinition.getQuerySpaces()
+			);
+		}
+	}
 }
@@ -0,0 +1,486 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal;
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.HibernateException;
+import org.hibernate.PartitionedScroll;
+import org.hibernate.Query;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.HibernateIterator;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Standard implementation of PartitionedScroll: the bounds of the partition property are read first, through the
+ * originating session, then each partition is read by a worker thread through its own stateless session.
+ */
+public class PartitionedScrollImpl implements PartitionedScroll {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( PartitionedScrollImpl.class );
+
+	private static final String LOWER_BOUND_PARAMETER = "hibernatePartitionLowerBound";
+	private static final String UPPER_BOUND_PARAMETER = "hibernatePartitionUpperBound";
+
+	// the instances read ahead by each partition of merged results, if no fetch size is set
+	private static final int DEFAULT_READ_AHEAD = 100;
+
+	// the time left to the partitions being read to end once cancelled
+	private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+	private static final Object PARTITION_END = new Object();
+
+	private final StatelessSessionImpl session;
+	private final EntityPersister persister;
+
+	private int partitions = Runtime.getRuntime().availableProcessors();
+	private String partitionProperty;
+	private String restriction;
+	private final Map<String,Object> parameters = new LinkedHashMap<String, Object>();
+	private int fetchSize;
+
+	// the sessions of the partitions being read, whose queries are cancelled upon failure or close
+	private final Set<StatelessSession> partitionSessions = Collections.newSetFromMap(
+			new ConcurrentHashMap<StatelessSession, Boolean>()
+	);
+
+	/**
+	 * Constructs a PartitionedScrollImpl.
+	 *
+	 * @param session The originating session
+	 * @param entityName The name of the entity read
+	 */
+	public PartitionedScrollImpl(StatelessSessionImpl session, String entityName) {
+		this.session = session;
+		this.persister = session.getFactory().getEntityPersister( entityName );
+		this.partitionProperty = persister.getIdentifierPropertyName();
+	}
+
+	@Override
+	public PartitionedScroll setPartitions(int partitions) {
+		if ( partitions < 1 ) {
+			throw new IllegalArgumentException( "The number of partitions must be positive" );
+		}
+		this.partitions = partitions;
+		return this;
+	}
+
+	@Override
+	public PartitionedScroll setPartitionProperty(String propertyName) {
+		this.partitionProperty = propertyName;
+		return this;
+	}
+
+	@Override
+	public PartitionedScroll setRestriction(String condition) {
+		this.restriction = condition;
+		return this;
+	}
+
+	@Override
+	public PartitionedScroll setParameter(String name, Object value) {
+		parameters.put( name, value );
+		return this;
+	}
+
+	@Override
+	public PartitionedScroll setFetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+		return this;
+	}
+
+	@Override
+	public void scroll(final PartitionHandler handler) {
+		final Object[] boundaries = readBoundaries();
+		final int partitionCount = boundaries.length + 1;
+		final ExecutorService executor = buildExecutor( partitionCount );
+		try {
+			final CompletionService<Void> completionService = new ExecutorCompletionService<Void>( executor );
+			for ( int i = 0; i < partitionCount; i++ ) {
+				final int partition = i;
+				completionService.submit(
+						new Runnable() {
+							@Override
+							public void run() {
+								readPartition( partition, boundaries, handler );
+							}
+						},
+						null
+				);
+			}
+			for ( int i = 0; i < partitionCount; i++ ) {
+				try {
+					completionService.take().get();
+				}
+				catch (ExecutionException e) {
+					throw propagate( e.getCause() );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new HibernateException( "Interrupted while reading the partitions", e );
+				}
+			}
+		}
+		finally {
+			// cancels the remaining partitions upon failure
+			terminate( executor );
+		}
+	}
+
+	@Override
+	public HibernateIterator iterate() {
+		final Object[] boundaries = readBoundaries();
+		final int partitionCount = boundaries.length + 1;
+		final BlockingQueue<Object> queue = new ArrayBlockingQueue<Object>(
+				partitionCount * ( fetchSize > 0 ? fetchSize : DEFAULT_READ_AHEAD )
+		);
+		final ExecutorService executor = buildExecutor( partitionCount );
+		for ( int i = 0; i < partitionCount; i++ ) {
+			final int partition = i;
+			executor.execute(
+					new Runnable() {
+						@Override
+						public void run() {
+							try {
+								final boolean[] cancelled = new boolean[1];
+								readPartition(
+										partition,
+										boundaries,
+										new PartitionHandler() {
+											@Override
+											public void handle(int partition, ScrollableResults results) {
+												while ( results.next() ) {
+													if ( !put( queue, results.get( 0 ) ) ) {
+														cancelled[0] = true;
+														return;
+													}
+												}
+											}
+										}
+								);
+								if ( !cancelled[0] ) {
+									put( queue, PARTITION_END );
+								}
+							}
+							catch (RuntimeException e) {
+								put( queue, new PartitionFailure( e ) );
+							}
+							catch (Error e) {
+								put( queue, new PartitionFailure( e ) );
+							}
+						}
+					}
+			);
+		}
+		return new MergedIterator( queue, executor, partitionCount );
+	}
+
+	private static boolean put(BlockingQueue<Object> queue, Object element) {
+		try {
+			queue.put( element );
+			return true;
+		}
+		catch (InterruptedException e) {
+			// the merged results were closed
+			return false;
+		}
+	}
+
+	/**
+	 * Reads the bounds of the partition property, and splits its range into partitions.
+	 *
+	 * @return The boundaries between the partitions, none if the partition property has no value to split
+	 */
+	private Object[] readBoundaries() {
+		if ( partitionProperty == null ) {
+			throw new HibernateException(
+					"Entity [" + persister.getEntityName() + "] has no identifier property, a partition property must be set"
+			);
+		}
+
+		final StringBuilder queryString = new StringBuilder( "select min(" ).append( ALIAS ).append( '.' )
+				.append( partitionProperty ).append( "), max(" ).append( ALIAS ).append( '.' ).append( partitionProperty )
+				.append( ") from " ).append( persister.getEntityName() ).append( ' ' ).append( ALIAS );
+		if ( restriction != null ) {
+			queryString.append( " where " ).append( restriction );
+		}
+		final Query query = session.createQuery( queryString.toString() );
+		bindParameters( query );
+		final Object[] bounds = (Object[]) query.uniqueResult();
+		if ( bounds == null || bounds[0] == null ) {
+			// no instance, or only instances without a partition value: a single partition reads them all
+			return new Object[0];
+		}
+
+		final BigInteger min = toBigInteger( bounds[0] );
+		final BigInteger span = toBigInteger( bounds[1] ).subtract( min ).add( BigInteger.ONE );
+		final int partitionCount = span.compareTo( BigInteger.valueOf( partitions ) ) < 0 ? span.intValue() : partitions;
+		final Object[] boundaries = new Object[partitionCount - 1];
+		for ( int i = 1; i < partitionCount; i++ ) {
+			final BigInteger boundary = min.add( span.multiply( BigInteger.valueOf( i ) ).divide( BigInteger.valueOf( partitionCount ) ) );
+			boundaries[i - 1] = fromBigInteger( boundary, bounds[0].getClass() );
+		}
+		LOG.debugf( "Reading entity [%s] in %s partitions of [%s]", persister.getEntityName(), partitionCount, partitionProperty );
+		return boundaries;
+	}
+
+	private BigInteger toBigInteger(Object value) {
+		if ( value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte ) {
+			return BigInteger.valueOf( ( (Number) value ).longValue() );
+		}
+		else if ( value instanceof BigInteger ) {
+			return (BigInteger) value;
+		}
+		throw new HibernateException(
+				"Partition property [" + partitionProperty + "] of entity [" + persister.getEntityName()
+						+ "] is not integral"
+		);
+	}
+
+	private static Object fromBigInteger(BigInteger value, Class type) {
+		if ( type == Long.class ) {
+			return value.longValue();
+		}
+		else if ( type == Integer.class ) {
+			return value.intValue();
+		}
+		else if ( type == Short.class ) {
+			return value.shortValue();
+		}
+		else if ( type == Byte.class ) {
+			return value.byteValue();
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a partition through its own stateless session, the first and last partitions being unbounded below
+	 * and above respectively.  The first partition also reads the instances whose partition property is null.
+	 */
+	private void readPartition(int partition, Object[] boundaries, PartitionHandler handler) {
+		final StringBuilder queryString = new StringBuilder( "from " ).append( persister.getEntityName() )
+				.append( ' ' ).append( ALIAS ).append( " where 1=1" );
+		if ( restriction != null ) {
+			queryString.append( " and (" ).append( restriction ).append( ')' );
+		}
+		if ( partition > 0 ) {
+			queryString.append( " and " ).append( ALIAS ).append( '.' ).append( partitionProperty )
+					.append( " >= :" ).append( LOWER_BOUND_PARAMETER );
+		}
+		if ( partition < boundaries.length ) {
+			queryString.append( " and (" ).append( ALIAS ).append( '.' ).append( partitionProperty )
+					.append( " < :" ).append( UPPER_BOUND_PARAMETER );
+			if ( partition == 0 ) {
+				queryString.append( " or " ).append( ALIAS ).append( '.' ).append( partitionProperty ).append( " is null" );
+			}
+			queryString.append( ')' );
+		}
+
+		final StatelessSession partitionSession = session.getFactory().withStatelessOptions()
+				.tenantIdentifier( session.getTenantIdentifier() )
+				.openStatelessSession();
+		partitionSessions.add( partitionSession );
+		try {
+			final Transaction transaction = partitionSession.beginTransaction();
+			try {
+				final Query query = partitionSession.createQuery( queryString.toString() );
+				bindParameters( query );
+				if ( partition > 0 ) {
+					query.setParameter( LOWER_BOUND_PARAMETER, boundaries[partition - 1] );
+				}
+				if ( partition < boundaries.length ) {
+					query.setParameter( UPPER_BOUND_PARAMETER, boundaries[partition] );
+				}
+				if ( fetchSize > 0 ) {
+					query.setFetchSize( fetchSize );
+				}
+				final ScrollableResults results = query.scroll( ScrollMode.FORWARD_ONLY );
+				try {
+					handler.handle( partition, results );
+				}
+				finally {
+					results.close();
+				}
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.getStatus().canRollback() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+		finally {
+			partitionSessions.remove( partitionSession );
+			partitionSession.close();
+		}
+	}
+
+	private void bindParameters(Query query) {
+		for ( Map.Entry<String,Object> parameter : parameters.entrySet() ) {
+			if ( parameter.getValue() instanceof Collection ) {
+				query.setParameterList( parameter.getKey(), (Collection) parameter.getValue() );
+			}
+			else {
+				query.setParameter( parameter.getKey(), parameter.getValue() );
+			}
+		}
+	}
+
+	private ExecutorService buildExecutor(int partitionCount) {
+		final String threadNamePrefix = "Hibernate partitioned scroll of " + persister.getEntityName();
+		return Executors.newFixedThreadPool(
+				partitionCount,
+				new ThreadFactory() {
+					private final AtomicInteger threadNumber = new AtomicInteger();
+
+					@Override
+					public Thread newThread(Runnable runnable) {
+						final Thread thread = new Thread(
+								runnable,
+								threadNamePrefix + " " + threadNumber.incrementAndGet()
+						);
+						thread.setDaemon( true );
+						return thread;
+					}
+				}
+		);
+	}
+
+	/**
+	 * Stops the partitions: those not started yet are discarded, the worker threads waiting for room in the queue
+	 * are interrupted, and the queries in progress are cancelled, as JDBC calls are not interruptible.  The wait
+	 * for the partitions to end is bounded, so that a driver ignoring the cancellation does not hang the caller.
+	 */
+	private void terminate(ExecutorService executor) {
+		executor.shutdownNow();
+		for ( StatelessSession partitionSession : partitionSessions ) {
+			try {
+				( (SessionImplementor) partitionSession ).getJdbcCoordinator().cancelLastQuery();
+			}
+			catch (RuntimeException e) {
+				LOG.debugf( "Could not cancel the query of a partition: %s", e.getMessage() );
+			}
+		}
+		try {
+			if ( !executor.awaitTermination( TERMINATION_TIMEOUT_SECONDS, TimeUnit.SECONDS ) ) {
+				LOG.warnf(
+						"The partitions of entity [%s] being read did not end within %s seconds of their cancellation",
+						persister.getEntityName(),
+						TERMINATION_TIMEOUT_SECONDS
+				);
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static RuntimeException propagate(Throwable failure) {
+		if ( failure instanceof RuntimeException ) {
+			return (RuntimeException) failure;
+		}
+		else if ( failure instanceof Error ) {
+			throw (Error) failure;
+		}
+		return new HibernateException( "Could not read partition", failure );
+	}
+
+	private static class PartitionFailure {
+		private final Throwable failure;
+
+		private PartitionFailure(Throwable failure) {
+			this.failure = failure;
+		}
+	}
+
+	/**
+	 * The instances of the partitions, taken from the queue the worker threads fill.
+	 */
+	private class MergedIterator implements HibernateIterator {
+		private final BlockingQueue<Object> queue;
+		private final ExecutorService executor;
+		private int remainingPartitions;
+		private Object next;
+
+		private MergedIterator(BlockingQueue<Object> queue, ExecutorService executor, int partitionCount) {
+			this.queue = queue;
+			this.executor = executor;
+			this.remainingPartitions = partitionCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			while ( next == null && remainingPartitions > 0 ) {
+				final Object element;
+				try {
+					element = queue.take();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					close();
+					throw new HibernateException( "Interrupted while reading the partitions", e );
+				}
+				if ( element == PARTITION_END ) {
+					if ( --remainingPartitions == 0 ) {
+						executor.shutdown();
+					}
+				}
+				else if ( element instanceof PartitionFailure ) {
+					close();
+					throw propagate( ( (PartitionFailure) element ).failure );
+				}
+				else {
+					next = element;
+				}
+			}
+			return next != null;
+		}
+
+		@Override
+		public Object next() {
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final Object result = next;
+			next = null;
+			return result;
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException( "Partitioned results cannot be removed" );
+		}
+
+		@Override
+		public void close() {
+			terminate( executor );
+			remainingPartitions = 0;
+			next = null;
+		}
+	}
+}
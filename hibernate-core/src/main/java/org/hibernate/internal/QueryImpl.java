@@ -66,11 +66,20 @@ public class QueryImpl extends AbstractQueryImpl {
 	}
 
 	public ScrollableResults scroll(ScrollMode scrollMode) throws HibernateException {
+		return scroll( scrollMode, false );
+	}
+
+	public ScrollableResults stream() throws HibernateException {
+		return scroll( ScrollMode.FORWARD_ONLY, true );
+	}
+
+	private ScrollableResults scroll(ScrollMode scrollMode, boolean streaming) throws HibernateException {
 		verifyParameters();
 		Map namedParams = getNamedParams();
 		before();
 		QueryParameters qp = getQueryParameters( namedParams );
 		qp.setScrollMode( scrollMode );
+		qp.setStreaming( streaming );
 		try {
 			return getSession().scroll( expandParameterLists( namedParams ), qp );
 		}
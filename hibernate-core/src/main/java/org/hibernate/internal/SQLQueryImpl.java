@@ -138,6 +138,15 @@ public class SQLQueryImpl extends AbstractQueryImpl implements SQLQuery {
 	}
 
 	public ScrollableResults scroll(ScrollMode scrollMode) throws HibernateException {
+		return scroll( scrollMode, false );
+	}
+
+	@Override
+	public ScrollableResults stream() throws HibernateException {
+		return scroll( ScrollMode.FORWARD_ONLY, true );
+	}
+
+	private ScrollableResults scroll(ScrollMode scrollMode, boolean streaming) throws HibernateException {
 		verifyParameters();
 		before();
 
@@ -146,6 +155,7 @@ public class SQLQueryImpl extends AbstractQueryImpl implements SQLQuery {
 
 		QueryParameters qp = getQueryParameters( namedParams );
 		qp.setScrollMode( scrollMode );
+		qp.setStreaming( streaming );
 
 		try {
 			return getSession().scroll( spec, qp );
@@ -184,6 +184,8 @@ public class ScrollableResultsImpl extends AbstractScrollableResults implements
 	}
 
 	private void prepareCurrentRow(boolean underlyingScrollSuccessful) {
+		evictLoadedEntities();
+
 		if ( !underlyingScrollSuccessful ) {
 			currentRow = null;
 			return;
@@ -193,7 +195,8 @@ public class ScrollableResultsImpl extends AbstractScrollableResults implements
 				getResultSet(),
 				getSession(),
 				getQueryParameters(),
-				false
+				false,
+				getLoadedEntities()
 		);
 		if ( result != null && result.getClass().isArray() ) {
 			currentRow = (Object[]) result;
@@ -8,6 +8,7 @@ package org.hibernate.internal;
 
 import javax.naming.Reference;
 import javax.naming.StringRefAddr;
+import java.io.File;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
@@ -16,18 +17,27 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.cache.spi.QueryCacheLoadCoordinator;
 import org.hibernate.cache.spi.access.RegionAccessStrategy;
 import org.jboss.logging.Logger;
 
@@ -37,6 +47,7 @@ import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.CustomEntityDirtinessStrategy;
 import org.hibernate.EmptyInterceptor;
 import org.hibernate.EntityNameResolver;
+import org.hibernate.Filter;
 import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.MappingException;
@@ -91,10 +102,12 @@ import org.hibernate.engine.profile.Association;
 import org.hibernate.engine.profile.Fetch;
 import org.hibernate.engine.profile.FetchProfile;
 import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.engine.query.spi.QueryPlanCacheSnapshot;
 import org.hibernate.engine.query.spi.ReturnMetadata;
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.CacheImplementor;
 import org.hibernate.engine.spi.FilterDefinition;
+import org.hibernate.engine.spi.InsertOrdering;
 import org.hibernate.engine.spi.NamedQueryDefinition;
 import org.hibernate.engine.spi.NamedSQLQueryDefinition;
 import org.hibernate.engine.spi.SessionBuilderImplementor;
@@ -110,6 +123,7 @@ import org.hibernate.id.UUIDGenerator;
 import org.hibernate.id.factory.IdentifierGeneratorFactory;
 import org.hibernate.integrator.spi.Integrator;
 import org.hibernate.integrator.spi.IntegratorService;
+import org.hibernate.internal.util.TaskHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationException;
 import org.hibernate.internal.util.config.ConfigurationHelper;
@@ -139,6 +153,7 @@ import org.hibernate.tool.hbm2ddl.ImportSqlCommandExtractor;
 import org.hibernate.tool.hbm2ddl.SchemaExport;
 import org.hibernate.tool.hbm2ddl.SchemaUpdate;
 import org.hibernate.tool.hbm2ddl.SchemaValidator;
+import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.tuple.entity.EntityTuplizer;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.Type;
@@ -185,6 +200,7 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 	private final transient Map<String,Set<String>> collectionRolesByEntityParticipant;
 	private final transient Map<String,IdentifierGenerator> identifierGenerators;
 	private final transient NamedQueryRepository namedQueryRepository;
+	private final transient InsertOrdering insertOrdering;
 	private final transient Map<String, FilterDefinition> filters;
 	private final transient Map<String, FetchProfile> fetchProfiles;
 	private final transient Map<String,String> imports;
@@ -323,142 +339,210 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		//
 		// todo : similar for CollectionPersister/CollectionMetadata
 
-		this.entityPersisters = new HashMap<String,EntityPersister>();
-		Map<String,ClassMetadata> inFlightClassMetadataMap = new HashMap<String,ClassMetadata>();
-		this.entityProxyInterfaceMap = CollectionHelper.concurrentMap( metadata.getEntityBindings().size() );
-		for ( final PersistentClass model : metadata.getEntityBindings() ) {
-			final String cacheRegionName = cacheRegionPrefix + model.getRootClass().getCacheRegionName();
-			// cache region is defined by the root-class in the hierarchy...
-			final EntityRegionAccessStrategy accessStrategy = determineEntityRegionAccessStrategy(
-					regionFactory,
-					cacheAccessStrategiesMap,
-					model,
-					cacheRegionName
-			);
+		// Cache regions are built on this thread, the persisters of distinct entity hierarchies are then built
+		// concurrently; the persisters are registered in the order of the bindings regardless.
+		final ExecutorService persisterExecutor = buildExecutor(
+				sessionFactoryOptions.getPersisterInstantiationParallelism(),
+				"Hibernate persister instantiation"
+		);
+		try {
+			long phaseStart = System.nanoTime();
+			final List<String> entityHierarchies = new ArrayList<String>();
+			final List<Callable<EntityPersister>> entityPersisterCreations = new ArrayList<Callable<EntityPersister>>();
+			for ( final PersistentClass model : metadata.getEntityBindings() ) {
+				final String cacheRegionName = cacheRegionPrefix + model.getRootClass().getCacheRegionName();
+				// cache region is defined by the root-class in the hierarchy...
+				final EntityRegionAccessStrategy accessStrategy = determineEntityRegionAccessStrategy(
+						regionFactory,
+						cacheAccessStrategiesMap,
+						model,
+						cacheRegionName
+				);
 
-			final NaturalIdRegionAccessStrategy naturalIdAccessStrategy = determineNaturalIdRegionAccessStrategy(
-					regionFactory,
-					cacheRegionPrefix,
-					cacheAccessStrategiesMap,
-					model
-			);
+				final NaturalIdRegionAccessStrategy naturalIdAccessStrategy = determineNaturalIdRegionAccessStrategy(
+						regionFactory,
+						cacheRegionPrefix,
+						cacheAccessStrategiesMap,
+						model
+				);
 
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					persisterCreationContext
+				entityHierarchies.add( model.getRootClass().getEntityName() );
+				entityPersisterCreations.add(
+						new Callable<EntityPersister>() {
+							@Override
+							public EntityPersister call() {
+								return persisterFactory.createEntityPersister(
+										model,
+										accessStrategy,
+										naturalIdAccessStrategy,
+										persisterCreationContext
+								);
+							}
+						}
+				);
+			}
+			final List<EntityPersister> createdEntityPersisters = executeByHierarchy(
+					entityHierarchies,
+					entityPersisterCreations,
+					persisterExecutor
 			);
-			entityPersisters.put( model.getEntityName(), cp );
-			inFlightClassMetadataMap.put( model.getEntityName(), cp.getClassMetadata() );
-
-			if ( cp.getConcreteProxyClass() != null
-					&& cp.getConcreteProxyClass().isInterface()
-					&& !Map.class.isAssignableFrom( cp.getConcreteProxyClass() )
-					&& cp.getMappedClass() != cp.getConcreteProxyClass() ) {
-				// IMPL NOTE : we exclude Map based proxy interfaces here because that should
-				//		indicate MAP entity mode.0
-
-				if ( cp.getMappedClass().equals( cp.getConcreteProxyClass() ) ) {
-					// this part handles an odd case in the Hibernate test suite where we map an interface
-					// as the class and the proxy.  I cannot think of a real life use case for that
-					// specific test, but..
-					LOG.debugf( "Entity [%s] mapped same interface [%s] as class and proxy", cp.getEntityName(), cp.getMappedClass() );
-				}
-				else {
-					final String old = entityProxyInterfaceMap.put( cp.getConcreteProxyClass(), cp.getEntityName() );
-					if ( old != null ) {
-						throw new HibernateException(
-								String.format(
-										Locale.ENGLISH,
-										"Multiple entities [%s, %s] named the same interface [%s] as their proxy which is not supported",
-										old,
-										cp.getEntityName(),
-										cp.getConcreteProxyClass().getName()
-								)
-						);
+
+			this.entityPersisters = new HashMap<String,EntityPersister>();
+			Map<String,ClassMetadata> inFlightClassMetadataMap = new HashMap<String,ClassMetadata>();
+			this.entityProxyInterfaceMap = CollectionHelper.concurrentMap( metadata.getEntityBindings().size() );
+			for ( final EntityPersister cp : createdEntityPersisters ) {
+				entityPersisters.put( cp.getEntityName(), cp );
+				inFlightClassMetadataMap.put( cp.getEntityName(), cp.getClassMetadata() );
+
+				if ( cp.getConcreteProxyClass() != null
+						&& cp.getConcreteProxyClass().isInterface()
+						&& !Map.class.isAssignableFrom( cp.getConcreteProxyClass() )
+						&& cp.getMappedClass() != cp.getConcreteProxyClass() ) {
+					// IMPL NOTE : we exclude Map based proxy interfaces here because that should
+					//		indicate MAP entity mode.0
+
+					if ( cp.getMappedClass().equals( cp.getConcreteProxyClass() ) ) {
+						// this part handles an odd case in the Hibernate test suite where we map an interface
+						// as the class and the proxy.  I cannot think of a real life use case for that
+						// specific test, but..
+						LOG.debugf( "Entity [%s] mapped same interface [%s] as class and proxy", cp.getEntityName(), cp.getMappedClass() );
+					}
+					else {
+						final String old = entityProxyInterfaceMap.put( cp.getConcreteProxyClass(), cp.getEntityName() );
+						if ( old != null ) {
+							throw new HibernateException(
+									String.format(
+											Locale.ENGLISH,
+											"Multiple entities [%s, %s] named the same interface [%s] as their proxy which is not supported",
+											old,
+											cp.getEntityName(),
+											cp.getConcreteProxyClass().getName()
+									)
+							);
+						}
 					}
 				}
 			}
-		}
-		this.classMetadata = Collections.unmodifiableMap( inFlightClassMetadataMap );
 
-		this.collectionPersisters = new HashMap<String,CollectionPersister>();
-		Map<String,Set<String>> inFlightEntityToCollectionRoleMap = new HashMap<String,Set<String>>();
-		Map<String,CollectionMetadata> tmpCollectionMetadata = new HashMap<String,CollectionMetadata>();
-		for ( final Collection model : metadata.getCollectionBindings() ) {
-			final String cacheRegionName = cacheRegionPrefix + model.getCacheRegionName();
-			final AccessType accessType = AccessType.fromExternalName( model.getCacheConcurrencyStrategy() );
-			final CollectionRegionAccessStrategy accessStrategy;
-			if ( accessType != null && settings.isSecondLevelCacheEnabled() ) {
-				LOG.tracev( "Building shared cache region for collection data [{0}]", model.getRole() );
-				CollectionRegion collectionRegion = regionFactory.buildCollectionRegion(
-						cacheRegionName,
-						properties,
-						CacheDataDescriptionImpl.decode( model )
-				);
-				accessStrategy = collectionRegion.buildAccessStrategy( accessType );
-				cacheAccessStrategiesMap.put( cacheRegionName, accessStrategy );
-				cacheAccess.addCacheRegion( cacheRegionName, collectionRegion );
-			}
-			else {
-				accessStrategy = null;
+			this.classMetadata = Collections.unmodifiableMap( inFlightClassMetadataMap );
+			LOG.debugf( "Built %s entity persisters in %s ms", entityPersisters.size(), elapsedMillis( phaseStart ) );
+			if ( options.isQueryCacheEnabled() ) {
+				registerQueryCachePartitionedSpaces();
 			}
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					persisterCreationContext
-			);
-			collectionPersisters.put( model.getRole(), persister );
-			tmpCollectionMetadata.put( model.getRole(), persister.getCollectionMetadata() );
-			Type indexType = persister.getIndexType();
-			if ( indexType != null && indexType.isAssociationType() && !indexType.isAnyType() ) {
-				String entityName = ( ( AssociationType ) indexType ).getAssociatedEntityName( this );
-				Set<String> roles = inFlightEntityToCollectionRoleMap.get( entityName );
-				if ( roles == null ) {
-					roles = new HashSet<String>();
-					inFlightEntityToCollectionRoleMap.put( entityName, roles );
+			phaseStart = System.nanoTime();
+			final List<String> collectionOwnerHierarchies = new ArrayList<String>();
+			final List<Callable<CollectionPersister>> collectionPersisterCreations = new ArrayList<Callable<CollectionPersister>>();
+			for ( final Collection model : metadata.getCollectionBindings() ) {
+				final String cacheRegionName = cacheRegionPrefix + model.getCacheRegionName();
+				final AccessType accessType = AccessType.fromExternalName( model.getCacheConcurrencyStrategy() );
+				final CollectionRegionAccessStrategy accessStrategy;
+				if ( accessType != null && settings.isSecondLevelCacheEnabled() ) {
+					LOG.tracev( "Building shared cache region for collection data [{0}]", model.getRole() );
+					CollectionRegion collectionRegion = regionFactory.buildCollectionRegion(
+							cacheRegionName,
+							properties,
+							CacheDataDescriptionImpl.decode( model )
+					);
+					accessStrategy = collectionRegion.buildAccessStrategy( accessType );
+					cacheAccessStrategiesMap.put( cacheRegionName, accessStrategy );
+					cacheAccess.addCacheRegion( cacheRegionName, collectionRegion );
 				}
-				roles.add( persister.getRole() );
+				else {
+					accessStrategy = null;
+				}
+
+				collectionOwnerHierarchies.add( model.getOwner().getRootClass().getEntityName() );
+				collectionPersisterCreations.add(
+						new Callable<CollectionPersister>() {
+							@Override
+							public CollectionPersister call() {
+								return persisterFactory.createCollectionPersister(
+										model,
+										accessStrategy,
+										persisterCreationContext
+								);
+							}
+						}
+				);
 			}
-			Type elementType = persister.getElementType();
-			if ( elementType.isAssociationType() && !elementType.isAnyType() ) {
-				String entityName = ( ( AssociationType ) elementType ).getAssociatedEntityName( this );
-				Set<String> roles = inFlightEntityToCollectionRoleMap.get( entityName );
-				if ( roles == null ) {
-					roles = new HashSet<String>();
-					inFlightEntityToCollectionRoleMap.put( entityName, roles );
+			final List<CollectionPersister> createdCollectionPersisters = executeByHierarchy(
+					collectionOwnerHierarchies,
+					collectionPersisterCreations,
+					persisterExecutor
+			);
+
+			this.collectionPersisters = new HashMap<String,CollectionPersister>();
+			Map<String,Set<String>> inFlightEntityToCollectionRoleMap = new HashMap<String,Set<String>>();
+			Map<String,CollectionMetadata> tmpCollectionMetadata = new HashMap<String,CollectionMetadata>();
+			for ( final CollectionPersister persister : createdCollectionPersisters ) {
+				collectionPersisters.put( persister.getRole(), persister );
+				tmpCollectionMetadata.put( persister.getRole(), persister.getCollectionMetadata() );
+				Type indexType = persister.getIndexType();
+				if ( indexType != null && indexType.isAssociationType() && !indexType.isAnyType() ) {
+					String entityName = ( ( AssociationType ) indexType ).getAssociatedEntityName( this );
+					Set<String> roles = inFlightEntityToCollectionRoleMap.get( entityName );
+					if ( roles == null ) {
+						roles = new HashSet<String>();
+						inFlightEntityToCollectionRoleMap.put( entityName, roles );
+					}
+					roles.add( persister.getRole() );
+				}
+				Type elementType = persister.getElementType();
+				if ( elementType.isAssociationType() && !elementType.isAnyType() ) {
+					String entityName = ( ( AssociationType ) elementType ).getAssociatedEntityName( this );
+					Set<String> roles = inFlightEntityToCollectionRoleMap.get( entityName );
+					if ( roles == null ) {
+						roles = new HashSet<String>();
+						inFlightEntityToCollectionRoleMap.put( entityName, roles );
+					}
+					roles.add( persister.getRole() );
 				}
-				roles.add( persister.getRole() );
 			}
-		}
 
-		this.collectionMetadata = Collections.unmodifiableMap( tmpCollectionMetadata );
+			this.collectionMetadata = Collections.unmodifiableMap( tmpCollectionMetadata );
 
-		for ( Map.Entry<String,Set<String>> entityToCollectionRoleMapEntry : inFlightEntityToCollectionRoleMap.entrySet() ) {
-			entityToCollectionRoleMapEntry.setValue(
-					Collections.unmodifiableSet( entityToCollectionRoleMapEntry.getValue() )
-			);
-		}
-		this.collectionRolesByEntityParticipant = Collections.unmodifiableMap( inFlightEntityToCollectionRoleMap );
+			for ( Map.Entry<String,Set<String>> entityToCollectionRoleMapEntry : inFlightEntityToCollectionRoleMap.entrySet() ) {
+				entityToCollectionRoleMapEntry.setValue(
+						Collections.unmodifiableSet( entityToCollectionRoleMapEntry.getValue() )
+				);
+			}
+			this.collectionRolesByEntityParticipant = Collections.unmodifiableMap( inFlightEntityToCollectionRoleMap );
+			LOG.debugf( "Built %s collection persisters in %s ms", collectionPersisters.size(), elapsedMillis( phaseStart ) );
 
-		//Named Queries:
-		this.namedQueryRepository = metadata.buildNamedQueryRepository( this );
+			//Named Queries:
+			this.namedQueryRepository = metadata.buildNamedQueryRepository( this );
 
-		// after *all* persisters and named queries are registered
-		for ( EntityPersister persister : entityPersisters.values() ) {
-			persister.generateEntityDefinition();
-		}
+			// after *all* persisters and named queries are registered
+			for ( EntityPersister persister : createdEntityPersisters ) {
+				persister.generateEntityDefinition();
+			}
 
-		for ( EntityPersister persister : entityPersisters.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister );
+			// generates the SQL and builds the loaders of the persisters
+			phaseStart = System.nanoTime();
+			final List<Callable<Object>> entityPostInstantiations = new ArrayList<Callable<Object>>();
+			for ( final EntityPersister persister : createdEntityPersisters ) {
+				entityPostInstantiations.add( postInstantiation( persister ) );
+			}
+			executeByHierarchy( entityHierarchies, entityPostInstantiations, persisterExecutor );
+			final List<Callable<Object>> collectionPostInstantiations = new ArrayList<Callable<Object>>();
+			for ( final CollectionPersister persister : createdCollectionPersisters ) {
+				collectionPostInstantiations.add( postInstantiation( persister ) );
+			}
+			executeByHierarchy( collectionOwnerHierarchies, collectionPostInstantiations, persisterExecutor );
+			for ( EntityPersister persister : createdEntityPersisters ) {
+				registerEntityNameResolvers( persister );
+			}
+			LOG.debugf( "Post-instantiated persisters in %s ms", elapsedMillis( phaseStart ) );
 		}
-		for ( CollectionPersister persister : collectionPersisters.values() ) {
-			persister.postInstantiate();
+		finally {
+			if ( persisterExecutor != null ) {
+				persisterExecutor.shutdown();
+			}
 		}
 
+		this.insertOrdering = new InsertOrdering( entityPersisters, metadata.getEntityBindings() );
+
 		LOG.debug( "Instantiated session factory" );
 
 		settings.getMultiTableBulkIdStrategy().prepare(
@@ -490,18 +574,30 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 
 		currentSessionContext = buildCurrentSessionContext();
 
-		//checking for named queries
-		if ( settings.isNamedQueryStartupCheckingEnabled() ) {
-			final Map<String,HibernateException> errors = checkNamedQueries();
-			if ( ! errors.isEmpty() ) {
-				StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
-				String sep = "";
-				for ( Map.Entry<String,HibernateException> entry : errors.entrySet() ) {
-					LOG.namedQueryError( entry.getKey(), entry.getValue() );
-					failingQueries.append( sep ).append( entry.getKey() );
-					sep = ", ";
+		final ExecutorService queryCompilationExecutor = buildQueryCompilationExecutor();
+		try {
+			//checking for named queries
+			if ( settings.isNamedQueryStartupCheckingEnabled() ) {
+				final long checkStart = System.nanoTime();
+				final Map<String,HibernateException> errors = checkNamedQueries( queryCompilationExecutor );
+				LOG.debugf( "Checked named queries in %s ms", elapsedMillis( checkStart ) );
+				if ( ! errors.isEmpty() ) {
+					StringBuilder failingQueries = new StringBuilder( "Errors in named queries: " );
+					String sep = "";
+					for ( Map.Entry<String,HibernateException> entry : errors.entrySet() ) {
+						LOG.namedQueryError( entry.getKey(), entry.getValue() );
+						failingQueries.append( sep ).append( entry.getKey() );
+						sep = ", ";
+					}
+					throw new HibernateException( failingQueries.toString() );
 				}
-				throw new HibernateException( failingQueries.toString() );
+			}
+
+			warmUpQueryPlanCache( queryCompilationExecutor );
+		}
+		finally {
+			if ( queryCompilationExecutor != null ) {
+				queryCompilationExecutor.shutdown();
 			}
 		}
 
@@ -765,8 +861,167 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return queryPlanCache;
 	}
 
-	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
-		return namedQueryRepository.checkNamedQueries( queryPlanCache );
+	private ExecutorService buildQueryCompilationExecutor() {
+		if ( !sessionFactoryOptions.isNamedQueryStartupCheckingEnabled()
+				&& sessionFactoryOptions.getQueryPlanCacheSnapshotFile() == null ) {
+			return null;
+		}
+		return buildExecutor( sessionFactoryOptions.getQueryStartupCheckParallelism(), "Hibernate query compilation" );
+	}
+
+	private static ExecutorService buildExecutor(int parallelism, final String threadNamePrefix) {
+		if ( parallelism <= 1 ) {
+			return null;
+		}
+		return Executors.newFixedThreadPool(
+				parallelism,
+				new ThreadFactory() {
+					private final AtomicInteger threadNumber = new AtomicInteger();
+
+					@Override
+					public Thread newThread(Runnable runnable) {
+						final Thread thread = new Thread(
+								runnable,
+								threadNamePrefix + " " + threadNumber.incrementAndGet()
+						);
+						thread.setDaemon( true );
+						return thread;
+					}
+				}
+		);
+	}
+
+	/**
+	 * Execute the given tasks, those of distinct (entity hierarchy) groups in parallel if an executor
+	 * is given.  The tasks of the same group are executed in order, on the same thread, since the
+	 * persisters of an entity hierarchy share parts of the mapping model.
+	 *
+	 * @param groups The group of each task
+	 * @param tasks The tasks
+	 * @param executor The executor to use, or {@code null} to execute the tasks on the calling thread
+	 * @param <T> The type of the task results
+	 *
+	 * @return The task results, in the order of the tasks
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> executeByHierarchy(
+			List<String> groups,
+			final List<? extends Callable<T>> tasks,
+			ExecutorService executor) {
+		final Map<String,List<Integer>> taskIndexesByGroup = new LinkedHashMap<String, List<Integer>>();
+		for ( int i = 0; i < groups.size(); i++ ) {
+			List<Integer> taskIndexes = taskIndexesByGroup.get( groups.get( i ) );
+			if ( taskIndexes == null ) {
+				taskIndexes = new ArrayList<Integer>();
+				taskIndexesByGroup.put( groups.get( i ), taskIndexes );
+			}
+			taskIndexes.add( i );
+		}
+
+		// visibility of the results is guaranteed by the completion of the group tasks
+		final Object[] results = new Object[tasks.size()];
+		final List<Callable<Object>> groupTasks = new ArrayList<Callable<Object>>( taskIndexesByGroup.size() );
+		for ( final List<Integer> taskIndexes : taskIndexesByGroup.values() ) {
+			groupTasks.add(
+					new Callable<Object>() {
+						@Override
+						public Object call() throws Exception {
+							for ( Integer index : taskIndexes ) {
+								results[index] = tasks.get( index ).call();
+							}
+							return null;
+						}
+					}
+			);
+		}
+		TaskHelper.execute( groupTasks, executor, "instantiating persisters" );
+		return (List<T>) Arrays.asList( results );
+	}
+
+	private void registerQueryCachePartitionedSpaces() {
+		final Map<Serializable, Class> partitionTypes = new HashMap<Serializable, Class>();
+		for ( EntityPersister persister : entityPersisters.values() ) {
+			final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
+			if ( entityMetamodel == null || entityMetamodel.getQueryCachePartitionPropertyIndex() < 0 ) {
+				continue;
+			}
+			final int index = entityMetamodel.getQueryCachePartitionPropertyIndex();
+			final Class partitionType = persister.getPropertyTypes()[index].getReturnedClass();
+			if ( !Serializable.class.isAssignableFrom( partitionType ) ) {
+				throw new MappingException(
+						"@QueryCachePartition property must be Serializable: "
+								+ persister.getEntityName() + '.' + persister.getPropertyNames()[index]
+				);
+			}
+			for ( Serializable space : persister.getPropertySpaces() ) {
+				final Class previous = partitionTypes.put( space, partitionType );
+				if ( previous != null && previous != partitionType ) {
+					throw new MappingException(
+							"@QueryCachePartition properties of different types for the same table: " + space
+					);
+				}
+			}
+		}
+		if ( !partitionTypes.isEmpty() ) {
+			LOG.debugf( "Query cache invalidation partitioned for spaces: %s", partitionTypes.keySet() );
+			cacheAccess.getUpdateTimestampsCache().setPartitionTypes( partitionTypes );
+		}
+	}
+
+	private static Callable<Object> postInstantiation(final EntityPersister persister) {
+		return new Callable<Object>() {
+			@Override
+			public Object call() {
+				persister.postInstantiate();
+				return null;
+			}
+		};
+	}
+
+	private static Callable<Object> postInstantiation(final CollectionPersister persister) {
+		return new Callable<Object>() {
+			@Override
+			public Object call() {
+				persister.postInstantiate();
+				return null;
+			}
+		};
+	}
+
+	private static long elapsedMillis(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startNanos );
+	}
+
+	private Map<String,HibernateException> checkNamedQueries(ExecutorService executor) throws HibernateException {
+		return namedQueryRepository.checkNamedQueries( queryPlanCache, executor );
+	}
+
+	private void warmUpQueryPlanCache(ExecutorService executor) {
+		final String snapshotFile = sessionFactoryOptions.getQueryPlanCacheSnapshotFile();
+		if ( snapshotFile == null ) {
+			return;
+		}
+
+		final List<String> queries = QueryPlanCacheSnapshot.read( new File( snapshotFile ), this );
+		LOG.debugf( "Compiling %s HQL queries from query plan cache snapshot", queries.size() );
+		final List<Callable<Object>> compilations = new ArrayList<Callable<Object>>( queries.size() );
+		for ( final String query : queries ) {
+			compilations.add(
+					new Callable<Object>() {
+						@Override
+						public Object call() {
+							try {
+								queryPlanCache.getHQLQueryPlan( query, false, Collections.<String,Filter>emptyMap() );
+							}
+							catch (HibernateException e) {
+								LOG.debugf( e, "Unable to compile query from query plan cache snapshot : %s", query );
+							}
+							return null;
+						}
+					}
+			);
+		}
+		TaskHelper.execute( compilations, executor, "compiling queries" );
 	}
 
 	@Override
@@ -886,6 +1141,11 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return namedQueryRepository;
 	}
 
+	@Override
+	public InsertOrdering getInsertOrdering() {
+		return insertOrdering;
+	}
+
 	public void registerNamedQueryDefinition(String name, NamedQueryDefinition definition) {
 		namedQueryRepository.registerNamedQueryDefinition( name, definition );
 	}
@@ -1073,6 +1333,9 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 
 		cacheAccess.close();
 
+		if ( sessionFactoryOptions.getQueryPlanCacheSnapshotFile() != null ) {
+			QueryPlanCacheSnapshot.write( new File( sessionFactoryOptions.getQueryPlanCacheSnapshotFile() ), this );
+		}
 		queryPlanCache.cleanup();
 
 		if ( settings.isAutoDropSchema() ) {
@@ -1130,6 +1393,10 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 		return cacheAccess.getUpdateTimestampsCache();
 	}
 
+	public QueryCacheLoadCoordinator getQueryCacheLoadCoordinator() {
+		return cacheAccess.getQueryCacheLoadCoordinator();
+	}
+
 	public QueryCache getQueryCache() {
 		return cacheAccess.getQueryCache();
 	}
@@ -22,6 +22,7 @@ import org.hibernate.HibernateException;
 import org.hibernate.Interceptor;
 import org.hibernate.LockMode;
 import org.hibernate.MappingException;
+import org.hibernate.PartitionedScroll;
 import org.hibernate.ScrollMode;
 import org.hibernate.ScrollableResults;
 import org.hibernate.SessionException;
@@ -694,6 +695,17 @@ public class StatelessSessionImpl extends AbstractSessionImpl implements Statele
 		return loader.scroll( queryParameters, this );
 	}
 
+	@Override
+	public PartitionedScroll createPartitionedScroll(String entityName) {
+		errorIfClosed();
+		return new PartitionedScrollImpl( this, entityName );
+	}
+
+	@Override
+	public PartitionedScroll createPartitionedScroll(Class entityClass) {
+		return createPartitionedScroll( entityClass.getName() );
+	}
+
 	@Override
 	public ScrollableResults scroll(String query, QueryParameters queryParameters) throws HibernateException {
 		errorIfClosed();
@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.hibernate.HibernateException;
+
+/**
+ * Helper for executing the independent tasks of the session factory startup, in parallel or not.
+ */
+public final class TaskHelper {
+	private TaskHelper() {
+	}
+
+	/**
+	 * Execute the given tasks, in parallel if an executor is given.
+	 *
+	 * @param tasks The tasks
+	 * @param executor The executor to use, or {@code null} to execute the tasks on the calling thread
+	 * @param description What the tasks are doing, for exception messages (e.g. "compiling queries")
+	 * @param <T> The type of the task results
+	 *
+	 * @return The task results, in the order of the tasks
+	 */
+	public static <T> List<T> execute(List<? extends Callable<T>> tasks, ExecutorService executor, String description) {
+		final List<T> results = new ArrayList<T>( tasks.size() );
+		try {
+			if ( executor == null ) {
+				for ( Callable<T> task : tasks ) {
+					results.add( task.call() );
+				}
+			}
+			else {
+				for ( Future<T> future : executor.invokeAll( tasks ) ) {
+					results.add( future.get() );
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while " + description, e );
+		}
+		catch (ExecutionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			if ( e.getCause() instanceof Error ) {
+				throw (Error) e.getCause();
+			}
+			throw new HibernateException( "Error while " + description, e.getCause() );
+		}
+		catch (RuntimeException e) {
+			throw e;
+		}
+		catch (Exception e) {
+			throw new HibernateException( "Error while " + description, e );
+		}
+		return results;
+	}
+}
@@ -0,0 +1,402 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded concurrent cache using a W-TinyLFU policy: new entries are first kept in a small LRU
+ * <i>window</i>; an entry leaving the window is admitted into the <i>main</i> LRU only if it was
+ * requested more often than the entry it would evict from there.  Request frequencies are
+ * approximated using a count-min sketch which is periodically halved, so that the frequencies reflect
+ * recent history.
+ * <p/>
+ * As a result, a burst of keys requested only once (think of queries with inlined literals) cannot
+ * evict the frequently used entries; it merely cycles through the window.
+ * <p/>
+ * Reads are lock-free.  The policy is maintained per segment, and recording a read for the policy is
+ * skipped rather than waiting when the segment is locked by another thread, which only makes the
+ * policy slightly less accurate.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class BoundedConcurrentLfuCache<K,V> implements Serializable {
+	private static final int MAX_SEGMENTS = 16;
+	private static final int MIN_SEGMENT_CAPACITY = 32;
+
+	/**
+	 * Callback for entries being evicted from the cache, including values which were not admitted.
+	 *
+	 * @param <K> The type of the keys
+	 * @param <V> The type of the values
+	 */
+	public interface EvictionListener<K,V> {
+		/**
+		 * Called after an entry was evicted.
+		 *
+		 * @param key The key of the evicted entry
+		 * @param value The value of the evicted entry
+		 */
+		public void onEviction(K key, V value);
+	}
+
+	private final ConcurrentMap<K,Node<K,V>> data;
+	private final Segment<K,V>[] segments;
+	private final EvictionListener<K,V> evictionListener;
+
+	/**
+	 * Constructs a cache holding up to the given number of entries.
+	 *
+	 * @param maximumSize The maximum number of entries
+	 */
+	public BoundedConcurrentLfuCache(int maximumSize) {
+		this( maximumSize, null );
+	}
+
+	/**
+	 * Constructs a cache holding up to the given number of entries.
+	 *
+	 * @param maximumSize The maximum number of entries
+	 * @param evictionListener Listener notified of evictions, may be {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public BoundedConcurrentLfuCache(int maximumSize, EvictionListener<K,V> evictionListener) {
+		if ( maximumSize < 1 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive : " + maximumSize );
+		}
+		this.evictionListener = evictionListener;
+		this.data = new ConcurrentHashMap<K, Node<K, V>>(
+				CollectionHelper.determineProperSizing( maximumSize ),
+				CollectionHelper.LOAD_FACTOR
+		);
+
+		int segmentCount = 1;
+		while ( segmentCount < MAX_SEGMENTS && maximumSize / ( segmentCount << 1 ) >= MIN_SEGMENT_CAPACITY ) {
+			segmentCount <<= 1;
+		}
+		this.segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			// spread the remainder over the first segments
+			final int capacity = maximumSize / segmentCount + ( i < maximumSize % segmentCount ? 1 : 0 );
+			segments[i] = new Segment<K, V>( capacity );
+		}
+	}
+
+	/**
+	 * Get the value cached under the given key, recording the request for the admission policy.
+	 *
+	 * @param key The key
+	 *
+	 * @return The cached value, or {@code null}
+	 */
+	public V get(K key) {
+		final int hash = spread( key.hashCode() );
+		final Node<K,V> node = data.get( key );
+		final Segment<K,V> segment = segmentFor( hash );
+		if ( segment.tryLock() ) {
+			try {
+				segment.recordAccess( hash, node );
+			}
+			finally {
+				segment.unlock();
+			}
+		}
+		return node == null ? null : node.value;
+	}
+
+	/**
+	 * Cache the given value unless a value is already cached under the given key.  Depending on the
+	 * admission policy, the value (or another one) may be evicted right away.
+	 *
+	 * @param key The key
+	 * @param value The value
+	 *
+	 * @return The value already cached under the key, or {@code null}
+	 */
+	public V putIfAbsent(K key, V value) {
+		final int hash = spread( key.hashCode() );
+		final Segment<K,V> segment = segmentFor( hash );
+		final List<Node<K,V>> evicted;
+		segment.lock();
+		try {
+			final Node<K,V> node = new Node<K, V>( key, value, hash );
+			final Node<K,V> existing = data.putIfAbsent( key, node );
+			if ( existing != null ) {
+				return existing.value;
+			}
+			evicted = segment.add( node, data );
+		}
+		finally {
+			segment.unlock();
+		}
+
+		if ( evictionListener != null && evicted != null ) {
+			for ( Node<K,V> node : evicted ) {
+				evictionListener.onEviction( node.key, node.value );
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Obtain a snapshot of the keys of the cached entries.
+	 *
+	 * @return The keys
+	 */
+	public List<K> keys() {
+		return new ArrayList<K>( data.keySet() );
+	}
+
+	/**
+	 * The number of cached entries.
+	 *
+	 * @return The number of entries
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * Remove all entries (without notifying the eviction listener), and forget the recorded frequencies.
+	 */
+	public void clear() {
+		for ( Segment<K,V> segment : segments ) {
+			segment.lock();
+		}
+		try {
+			data.clear();
+			for ( Segment<K,V> segment : segments ) {
+				segment.clear();
+			}
+		}
+		finally {
+			for ( Segment<K,V> segment : segments ) {
+				segment.unlock();
+			}
+		}
+	}
+
+	private Segment<K,V> segmentFor(int hash) {
+		// the low bits are used by the sketch
+		return segments[( hash >>> 16 ) & ( segments.length - 1 )];
+	}
+
+	private static int spread(int hashCode) {
+		// murmur3 finalizer, as keys often have similar hash codes (query strings differing in a literal)
+		int hash = hashCode ^ ( hashCode >>> 16 );
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		return hash ^ ( hash >>> 16 );
+	}
+
+	private static final class Node<K,V> implements Serializable {
+		private final K key;
+		private final V value;
+		private final int hash;
+
+		private Node<K,V> previous;
+		private Node<K,V> next;
+		private boolean inMain;
+
+		private Node(K key, V value, int hash) {
+			this.key = key;
+			this.value = value;
+			this.hash = hash;
+		}
+	}
+
+	/**
+	 * Doubly linked list of nodes, most recently used first.
+	 */
+	private static final class AccessOrderDeque<K,V> implements Serializable {
+		private final Node<K,V> head = new Node<K, V>( null, null, 0 );
+		private int size;
+
+		private AccessOrderDeque() {
+			head.previous = head;
+			head.next = head;
+		}
+
+		private void addFirst(Node<K,V> node) {
+			node.previous = head;
+			node.next = head.next;
+			head.next.previous = node;
+			head.next = node;
+			size++;
+		}
+
+		private void moveToFirst(Node<K,V> node) {
+			unlink( node );
+			addFirst( node );
+		}
+
+		private Node<K,V> last() {
+			return head.previous == head ? null : head.previous;
+		}
+
+		private void unlink(Node<K,V> node) {
+			node.previous.next = node.next;
+			node.next.previous = node.previous;
+			node.previous = null;
+			node.next = null;
+			size--;
+		}
+
+		private void clear() {
+			head.previous = head;
+			head.next = head;
+			size = 0;
+		}
+	}
+
+	private static final class Segment<K,V> extends ReentrantLock {
+		private final int windowCapacity;
+		private final int mainCapacity;
+		private final AccessOrderDeque<K,V> window = new AccessOrderDeque<K, V>();
+		private final AccessOrderDeque<K,V> main = new AccessOrderDeque<K, V>();
+		private final FrequencySketch sketch;
+
+		private Segment(int capacity) {
+			// the window holds ~1% of the entries
+			this.windowCapacity = capacity > 1 ? Math.max( 1, capacity / 100 ) : capacity;
+			this.mainCapacity = capacity - windowCapacity;
+			this.sketch = new FrequencySketch( capacity );
+		}
+
+		private void recordAccess(int hash, Node<K,V> node) {
+			sketch.increment( hash );
+			// the node might have been evicted since it was read
+			if ( node != null && node.previous != null ) {
+				if ( node.inMain ) {
+					main.moveToFirst( node );
+				}
+				else {
+					window.moveToFirst( node );
+				}
+			}
+		}
+
+		private List<Node<K,V>> add(Node<K,V> node, ConcurrentMap<K,Node<K,V>> data) {
+			window.addFirst( node );
+			if ( window.size <= windowCapacity ) {
+				return null;
+			}
+
+			final List<Node<K,V>> evicted = new ArrayList<Node<K, V>>( 1 );
+			while ( window.size > windowCapacity ) {
+				final Node<K,V> candidate = window.last();
+				window.unlink( candidate );
+				if ( main.size < mainCapacity ) {
+					candidate.inMain = true;
+					main.addFirst( candidate );
+					continue;
+				}
+
+				final Node<K,V> victim = main.last();
+				if ( victim != null && sketch.frequency( candidate.hash ) > sketch.frequency( victim.hash ) ) {
+					main.unlink( victim );
+					data.remove( victim.key, victim );
+					evicted.add( victim );
+					candidate.inMain = true;
+					main.addFirst( candidate );
+				}
+				else {
+					data.remove( candidate.key, candidate );
+					evicted.add( candidate );
+				}
+			}
+			return evicted;
+		}
+
+		private void clear() {
+			window.clear();
+			main.clear();
+			sketch.clear();
+		}
+	}
+
+	/**
+	 * Count-min sketch of 4-bit counters, 16 per {@code long}, approximating the frequency of hashes.
+	 * Once the number of increments reaches 10 times the capacity, all counters are halved.
+	 */
+	private static final class FrequencySketch implements Serializable {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int additions;
+
+		private FrequencySketch(int capacity) {
+			int length = 8;
+			while ( length < capacity ) {
+				length <<= 1;
+			}
+			this.table = new long[length];
+			this.tableMask = length - 1;
+			this.sampleSize = 10 * Math.max( capacity, 1 );
+		}
+
+		private int frequency(int hash) {
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int offset = ( start + i ) << 2;
+				final int count = (int) ( ( table[indexOf( hash, i )] >>> offset ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		private void increment(int hash) {
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int offset = ( start + i ) << 2;
+				final long mask = 0xfL << offset;
+				if ( ( table[index] & mask ) != mask ) {
+					table[index] += 1L << offset;
+					added = true;
+				}
+			}
+			if ( added && ++additions >= sampleSize ) {
+				reset();
+			}
+		}
+
+		private int indexOf(int hash, int i) {
+			long index = ( hash + SEEDS[i] ) * SEEDS[i];
+			index += index >>> 32;
+			return ( (int) index ) & tableMask;
+		}
+
+		private void reset() {
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			additions = additions >>> 1;
+		}
+
+		private void clear() {
+			for ( int i = 0; i < table.length; i++ ) {
+				table[i] = 0L;
+			}
+			additions = 0;
+		}
+	}
+}
@@ -0,0 +1,515 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A {@link Map} implementation using open addressing (linear probing) over parallel key, value and hash arrays.
+ * <p/>
+ * Unlike {@link java.util.HashMap} no entry object is allocated per mapping, which considerably reduces the garbage
+ * produced (and the memory retained) by maps holding a large number of mappings, such as the persistence context maps
+ * keyed by {@link org.hibernate.engine.spi.EntityKey}.  The cached hash code of each key is kept alongside it so that
+ * probing only calls {@code equals} on keys having the very same hash code.  Removal uses backward shifting, so
+ * the table never contains tombstones.
+ * <p/>
+ * {@link Map.Entry} instances are only created when iterating {@link #entrySet()}.  Like {@link java.util.HashMap},
+ * this map is not thread-safe and its iterators are fail-fast.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class OpenAddressingHashMap<K,V> extends AbstractMap<K,V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	/**
+	 * Stands in for the {@code null} key in the key table, in which {@code null} marks a free slot.
+	 */
+	private static final Object NULL_KEY = new Object();
+
+	private Object[] keys;
+	private Object[] values;
+	private int[] hashes;
+	private int mask;
+	private int threshold;
+	private int size;
+	private int modCount;
+
+	private transient Set<K> keySet;
+	private transient Collection<V> valuesView;
+	private transient Set<Map.Entry<K,V>> entrySet;
+
+	/**
+	 * Constructs a map with the default (minimal) capacity.
+	 */
+	public OpenAddressingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * Constructs a map able to hold the given number of mappings without having to grow its tables.
+	 *
+	 * @param expectedSize The number of mappings expected to be held
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	/**
+	 * Grows the internal tables, if needed, so that the given number of mappings can be held without any
+	 * further rehashing.
+	 *
+	 * @param expectedSize The number of mappings expected to be held
+	 */
+	public void ensureCapacity(int expectedSize) {
+		final int capacity = capacityFor( expectedSize );
+		if ( capacity > keys.length ) {
+			rehash( capacity );
+		}
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 2/3, linear probing degrades quickly past that
+		final long minimum = Math.max( MINIMUM_CAPACITY, (long) expectedSize + ( expectedSize >> 1 ) + 1 );
+		if ( minimum >= MAXIMUM_CAPACITY ) {
+			return MAXIMUM_CAPACITY;
+		}
+		int capacity = MINIMUM_CAPACITY;
+		while ( capacity < minimum ) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+		threshold = capacity == MAXIMUM_CAPACITY ? MAXIMUM_CAPACITY - 1 : (int) ( capacity * 2L / 3 );
+	}
+
+	private static Object maskNull(Object key) {
+		return key == null ? NULL_KEY : key;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K> K unmaskNull(Object key) {
+		return key == NULL_KEY ? null : (K) key;
+	}
+
+	private static int hash(Object maskedKey) {
+		final int h = maskedKey.hashCode();
+		// spread the bits, linear probing is sensitive to clustering of the low order bits
+		return ( h ^ ( h >>> 16 ) ) * 0x9E3779B9;
+	}
+
+	private int slot(int hash) {
+		return ( hash ^ ( hash >>> 16 ) ) & mask;
+	}
+
+	private int indexOf(Object maskedKey, int hash) {
+		int index = slot( hash );
+		Object candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( hashes[index] == hash && ( candidate == maskedKey || candidate.equals( maskedKey ) ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		final Object maskedKey = maskNull( key );
+		return indexOf( maskedKey, hash( maskedKey ) ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				final Object candidate = values[i];
+				if ( candidate == value || ( value != null && value.equals( candidate ) ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		final Object maskedKey = maskNull( key );
+		final int index = indexOf( maskedKey, hash( maskedKey ) );
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		final Object maskedKey = maskNull( key );
+		final int hash = hash( maskedKey );
+		int index = slot( hash );
+		Object candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( hashes[index] == hash && ( candidate == maskedKey || candidate.equals( maskedKey ) ) ) {
+				final V old = (V) values[index];
+				values[index] = value;
+				return old;
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		modCount++;
+		keys[index] = maskedKey;
+		values[index] = value;
+		hashes[index] = hash;
+		if ( ++size > threshold ) {
+			rehash( keys.length << 1 );
+		}
+		return null;
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> map) {
+		ensureCapacity( size + map.size() );
+		super.putAll( map );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		final Object maskedKey = maskNull( key );
+		final int index = indexOf( maskedKey, hash( maskedKey ) );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V old = (V) values[index];
+		removeAt( index );
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			modCount++;
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			size = 0;
+		}
+	}
+
+	/**
+	 * Removes the mapping held in the given slot, shifting back the subsequent mappings of the same cluster
+	 * which can be moved closer to their home slot.
+	 *
+	 * @param index The slot to clear
+	 */
+	private void removeAt(int index) {
+		modCount++;
+		size--;
+
+		int free = index;
+		int current = index;
+		while ( true ) {
+			current = ( current + 1 ) & mask;
+			final Object key = keys[current];
+			if ( key == null ) {
+				break;
+			}
+			final int home = slot( hashes[current] );
+			// the mapping may move back only if its home slot is not (cyclically) in (free, current]
+			final boolean movable = free <= current
+					? ( home <= free || home > current )
+					: ( home <= free && home > current );
+			if ( movable ) {
+				keys[free] = key;
+				values[free] = values[current];
+				hashes[free] = hashes[current];
+				free = current;
+			}
+		}
+		keys[free] = null;
+		values[free] = null;
+	}
+
+	private void rehash(int newCapacity) {
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		final int[] oldHashes = hashes;
+
+		allocate( newCapacity );
+
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			final Object key = oldKeys[i];
+			if ( key != null ) {
+				int index = slot( oldHashes[i] );
+				while ( keys[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new AbstractSet<K>() {
+				@Override
+				public Iterator<K> iterator() {
+					return new TableIterator<K>() {
+						@Override
+						protected K element(int index) {
+							return unmaskNull( keys[index] );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsKey( o );
+				}
+
+				@Override
+				public boolean remove(Object o) {
+					final int before = size;
+					OpenAddressingHashMap.this.remove( o );
+					return size != before;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingHashMap.this.clear();
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valuesView == null ) {
+			valuesView = new AbstractCollection<V>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Iterator<V> iterator() {
+					return new TableIterator<V>() {
+						@Override
+						protected V element(int index) {
+							return (V) values[index];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsValue( o );
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingHashMap.this.clear();
+				}
+			};
+		}
+		return valuesView;
+	}
+
+	@Override
+	public Set<Map.Entry<K,V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<Map.Entry<K,V>>() {
+				@Override
+				public Iterator<Map.Entry<K,V>> iterator() {
+					return new TableIterator<Map.Entry<K,V>>() {
+						@Override
+						protected Map.Entry<K,V> element(int index) {
+							return new TableEntry( index );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public void clear() {
+					OpenAddressingHashMap.this.clear();
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	/**
+	 * Entry view over a slot, only valid until the map is structurally modified.
+	 */
+	private final class TableEntry implements Map.Entry<K,V> {
+		private final K key;
+		private V value;
+
+		@SuppressWarnings("unchecked")
+		private TableEntry(int index) {
+			this.key = unmaskNull( keys[index] );
+			this.value = (V) values[index];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			final V old = this.value;
+			this.value = value;
+			// not a structural modification; write through to wherever the mapping currently lives
+			final Object maskedKey = maskNull( key );
+			final int index = indexOf( maskedKey, hash( maskedKey ) );
+			if ( index < 0 ) {
+				throw new ConcurrentModificationException();
+			}
+			values[index] = value;
+			return old;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry other = (Map.Entry) o;
+			return ( key == null ? other.getKey() == null : key.equals( other.getKey() ) )
+					&& ( value == null ? other.getValue() == null : value.equals( other.getValue() ) );
+		}
+
+		@Override
+		public int hashCode() {
+			return ( key == null ? 0 : key.hashCode() ) ^ ( value == null ? 0 : value.hashCode() );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+
+	/**
+	 * Iterates the occupied slots.
+	 * <p/>
+	 * The traversal starts right after a free slot and wraps around the table.  Since backward shifting never moves
+	 * a mapping across a free slot, removing the current mapping through {@link #remove()} can only move not yet
+	 * visited mappings into the slot just cleared, which is why that slot is visited again.
+	 */
+	private abstract class TableIterator<E> implements Iterator<E> {
+		private final int start;
+		private int visited;
+		private int next = -1;
+		private int current = -1;
+		private int currentOffset;
+		private int expectedModCount = modCount;
+
+		private TableIterator() {
+			int free = 0;
+			while ( keys[free] != null ) {
+				free++;
+			}
+			this.start = free;
+		}
+
+		protected abstract E element(int index);
+
+		@Override
+		public boolean hasNext() {
+			if ( next >= 0 ) {
+				return true;
+			}
+			while ( visited < keys.length ) {
+				final int index = ( start + visited ) & mask;
+				visited++;
+				if ( keys[index] != null ) {
+					next = index;
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			current = next;
+			currentOffset = ( current - start ) & mask;
+			next = -1;
+			return element( current );
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( current );
+			expectedModCount = modCount;
+			// a subsequent mapping may have been shifted into the slot just cleared
+			visited = currentOffset;
+			next = -1;
+			current = -1;
+		}
+	}
+}
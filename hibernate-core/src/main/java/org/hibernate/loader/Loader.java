@@ -34,6 +34,7 @@ import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
 import org.hibernate.cache.spi.FilterKey;
 import org.hibernate.cache.spi.QueryCache;
+import org.hibernate.cache.spi.QueryCacheLoadCoordinator;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -44,6 +45,7 @@ import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.PendingCachePuts;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
@@ -365,6 +367,29 @@ public abstract class Loader {
 			final SessionImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies) throws HibernateException {
+		return loadSingleRow( resultSet, session, queryParameters, returnProxies, null );
+	}
+
+	/**
+	 * Loads a single row from the result set, collecting the entities loaded from the row.
+	 *
+	 * @param resultSet The result set from which to do the load.
+	 * @param session The session from which the request originated.
+	 * @param queryParameters The query parameters specified by the user.
+	 * @param returnProxies Should proxies be generated
+	 * @param loadedEntities The list to which the entities loaded from the row, rather than found in the
+	 * persistence context, are added; may be {@code null}
+	 *
+	 * @return The loaded "row".
+	 *
+	 * @throws HibernateException
+	 */
+	public Object loadSingleRow(
+			final ResultSet resultSet,
+			final SessionImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final List<Object> loadedEntities) throws HibernateException {
 
 		final int entitySpan = getEntityPersisters().length;
 		final List hydratedObjects = entitySpan == 0 ?
@@ -398,6 +423,9 @@ public abstract class Loader {
 				queryParameters.isReadOnly( session )
 		);
 		session.getPersistenceContext().initializeNonLazyCollections();
+		if ( loadedEntities != null && hydratedObjects != null ) {
+			loadedEntities.addAll( hydratedObjects );
+		}
 		return result;
 	}
 
@@ -406,7 +434,8 @@ public abstract class Loader {
 			final SessionImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies,
-			final EntityKey keyToRead) throws HibernateException {
+			final EntityKey keyToRead,
+			final List<Object> loadedEntities) throws HibernateException {
 
 		final int entitySpan = getEntityPersisters().length;
 		final List hydratedObjects = entitySpan == 0 ?
@@ -458,6 +487,9 @@ public abstract class Loader {
 				queryParameters.isReadOnly( session )
 		);
 		session.getPersistenceContext().initializeNonLazyCollections();
+		if ( loadedEntities != null && hydratedObjects != null ) {
+			loadedEntities.addAll( hydratedObjects );
+		}
 		return result;
 	}
 
@@ -492,6 +524,30 @@ public abstract class Loader {
 			final SessionImplementor session,
 			final QueryParameters queryParameters,
 			final boolean returnProxies) throws HibernateException {
+		return loadSequentialRowsForward( resultSet, session, queryParameters, returnProxies, null );
+	}
+
+	/**
+	 * Loads a single logical row from the result set moving forward, collecting the entities loaded from the
+	 * logical row.
+	 *
+	 * @param resultSet The result set from which to do the load.
+	 * @param session The session from which the request originated.
+	 * @param queryParameters The query parameters specified by the user.
+	 * @param returnProxies Should proxies be generated
+	 * @param loadedEntities The list to which the entities loaded from the logical row, rather than found in the
+	 * persistence context, are added; may be {@code null}
+	 *
+	 * @return The loaded "row".
+	 *
+	 * @throws HibernateException
+	 */
+	public Object loadSequentialRowsForward(
+			final ResultSet resultSet,
+			final SessionImplementor session,
+			final QueryParameters queryParameters,
+			final boolean returnProxies,
+			final List<Object> loadedEntities) throws HibernateException {
 
 		// note that for sequential scrolling, we make the assumption that
 		// the first persister element is the "root entity"
@@ -520,7 +576,7 @@ public abstract class Loader {
 					session
 			);
 
-			return sequentialLoad( resultSet, session, queryParameters, returnProxies, currentKey );
+			return sequentialLoad( resultSet, session, queryParameters, returnProxies, currentKey, loadedEntities );
 		}
 		catch (SQLException sqle) {
 			throw factory.getSQLExceptionHelper().convert(
@@ -647,7 +703,7 @@ public abstract class Loader {
 			resultSet.next();
 
 			// and doAfterTransactionCompletion the load
-			return sequentialLoad( resultSet, session, queryParameters, returnProxies, keyToRead );
+			return sequentialLoad( resultSet, session, queryParameters, returnProxies, keyToRead, null );
 		}
 		catch (SQLException sqle) {
 			throw factory.getSQLExceptionHelper().convert(
@@ -1128,8 +1184,13 @@ public abstract class Loader {
 		if ( hydratedObjects != null ) {
 			int hydratedObjectsSize = hydratedObjects.size();
 			LOG.tracev( "Total objects hydrated: {0}", hydratedObjectsSize );
+			// collect the second-level cache puts to apply them in bulk
+			final PendingCachePuts pendingCachePuts = hydratedObjectsSize > 1 ? new PendingCachePuts() : null;
 			for ( Object hydratedObject : hydratedObjects ) {
-				TwoPhaseLoad.initializeEntity( hydratedObject, readOnly, session, pre );
+				TwoPhaseLoad.initializeEntity( hydratedObject, readOnly, session, pre, pendingCachePuts );
+			}
+			if ( pendingCachePuts != null ) {
+				pendingCachePuts.flush( session );
 			}
 		}
 
@@ -2449,16 +2510,41 @@ public abstract class Loader {
 		);
 
 		if ( result == null ) {
-			result = doList( session, queryParameters, key.getResultTransformer() );
+			final QueryCacheLoadCoordinator loadCoordinator = factory.getQueryCacheLoadCoordinator();
+			if ( loadCoordinator != null && session.getCacheMode().isGetEnabled() ) {
+				if ( loadCoordinator.beginLoad( queryCache, key ) ) {
+					try {
+						result = doList( session, queryParameters, key.getResultTransformer() );
+						putResultInQueryCache( session, queryParameters, resultTypes, queryCache, key, result );
+					}
+					finally {
+						loadCoordinator.endLoad( queryCache, key );
+					}
+				}
+				else {
+					// the results of the concurrent load, unless it failed or timed out
+					result = getResultFromQueryCache(
+							session,
+							queryParameters,
+							querySpaces,
+							resultTypes,
+							queryCache,
+							key
+					);
+				}
+			}
+			if ( result == null ) {
+				result = doList( session, queryParameters, key.getResultTransformer() );
 
-			putResultInQueryCache(
-					session,
-					queryParameters,
-					resultTypes,
-					queryCache,
-					key,
-					result
-			);
+				putResultInQueryCache(
+						session,
+						queryParameters,
+						resultTypes,
+						queryCache,
+						key,
+						result
+				);
+			}
 		}
 
 		ResultTransformer resolvedTransformer = resolveResultTransformer( queryParameters.getResultTransformer() );
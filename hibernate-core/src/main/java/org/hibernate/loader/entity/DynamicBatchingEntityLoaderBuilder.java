@@ -7,17 +7,27 @@
 package org.hibernate.loader.entity;
 
 import java.io.Serializable;
-import java.lang.reflect.Array;
+import java.sql.Array;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -25,6 +35,9 @@ import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.internal.DefaultLoadEventListener;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
@@ -54,86 +67,232 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			Integer explicitBatchSize,
 			boolean sessionCheckingEnabled,
 			SessionImplementor session) {
-		List<T> result = CollectionHelper.arrayList( ids.length );
-
-		if ( sessionCheckingEnabled ) {
-			// the user requested that we exclude ids corresponding to already managed
-			// entities from the generated load SQL.  So here we will iterate all
-			// incoming id values and see whether it corresponds to an existing
-			// entity associated with the PC - if it does we add it to the result
-			// list immediately and remove its id from the group of ids to load.
-			boolean foundAnyManagedEntities = false;
-			final List<K> nonManagedIds = new ArrayList<K>();
-			for ( K id : ids ) {
-				final EntityKey entityKey = new EntityKey( id, persister );
-				final T managedEntity = (T) session.getPersistenceContext().getEntity( entityKey );
-				if ( managedEntity != null ) {
-					foundAnyManagedEntities = true;
-					result.add( managedEntity );
-				}
-				else {
-					nonManagedIds.add( id );
-				}
+		if ( lockOptions == null ) {
+			lockOptions = new LockOptions( LockMode.NONE );
+		}
+
+		final PersistenceContext persistenceContext = session.getPersistenceContext();
+
+		// partition the incoming ids into those which are already resolved and those
+		// still needing to be resolved.  If the user requested that we exclude ids
+		// corresponding to already managed entities from the generated load SQL, those
+		// are considered resolved up front.  Duplicate ids are only resolved once.
+		final EntityKey[] entityKeys = new EntityKey[ids.length];
+		final Set<EntityKey> unresolvedKeys = new LinkedHashSet<EntityKey>();
+		for ( int i = 0; i < ids.length; i++ ) {
+			entityKeys[i] = new EntityKey( ids[i], persister );
+			if ( sessionCheckingEnabled && persistenceContext.getEntity( entityKeys[i] ) != null ) {
+				continue;
+			}
+			unresolvedKeys.add( entityKeys[i] );
+		}
+
+		// size the persistence context once for the entities about to be loaded...
+		if ( !unresolvedKeys.isEmpty() ) {
+			persistenceContext.ensureEntityCapacity(
+					persistenceContext.getNumberOfManagedEntities() + unresolvedKeys.size()
+			);
+		}
+
+		// next, resolve whatever we can from the second-level cache...
+		if ( !unresolvedKeys.isEmpty() ) {
+			resolveFromSecondLevelCache( persister, unresolvedKeys, lockOptions, session );
+		}
+
+		// ...and load the rest from the database
+		if ( !unresolvedKeys.isEmpty() ) {
+			loadFromDatabase( persister, unresolvedKeys, lockOptions, explicitBatchSize, session );
+		}
+
+		// every entity found is now associated with the persistence context; collect
+		// them in the order of the requested ids
+		final List<T> result = CollectionHelper.arrayList( ids.length );
+		for ( EntityKey entityKey : entityKeys ) {
+			final Object entity = persistenceContext.getEntity( entityKey );
+			if ( entity != null && persister.isInstance( entity ) ) {
+				result.add( (T) entity );
 			}
+		}
+		return result;
+	}
 
-			if ( foundAnyManagedEntities ) {
-				if ( nonManagedIds.isEmpty() ) {
-					// all of the given ids were already associated with the Session
-					return result;
+	private static void resolveFromSecondLevelCache(
+			OuterJoinLoadable persister,
+			Set<EntityKey> unresolvedKeys,
+			LockOptions lockOptions,
+			SessionImplementor session) {
+		final boolean useCache = persister.hasCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& lockOptions.getLockMode().lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return;
+		}
+
+		final SessionFactoryImplementor factory = session.getFactory();
+		final EntityRegionAccessStrategy cacheAccess = persister.getCacheAccessStrategy();
+		final Map<Object, EntityKey> keysByCacheKey = new LinkedHashMap<Object, EntityKey>();
+		for ( EntityKey entityKey : unresolvedKeys ) {
+			if ( session.getPersistenceContext().getEntity( entityKey ) != null ) {
+				// session checking is disabled; leave managed entities to the load SQL
+				continue;
+			}
+			final Object ck = cacheAccess.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					session.getTenantIdentifier()
+			);
+			keysByCacheKey.put( ck, entityKey );
+		}
+
+		final Map<Object, Object> cachedEntries = CacheHelper.fromSharedCache( session, keysByCacheKey.keySet(), cacheAccess );
+		if ( factory.getStatistics().isStatisticsEnabled() ) {
+			final String regionName = cacheAccess.getRegion().getName();
+			for ( int i = 0; i < keysByCacheKey.size(); i++ ) {
+				if ( i < cachedEntries.size() ) {
+					factory.getStatisticsImplementor().secondLevelCacheHit( regionName );
 				}
 				else {
-					// over-write the ids to be loaded with the collection of
-					// just non-managed ones
-					ids = nonManagedIds.toArray(
-							(K[]) Array.newInstance(
-									ids.getClass().getComponentType(),
-									nonManagedIds.size()
-							)
-					);
+					factory.getStatisticsImplementor().secondLevelCacheMiss( regionName );
 				}
 			}
 		}
 
-
-		if ( lockOptions == null ) {
-			lockOptions = new LockOptions( LockMode.NONE );
+		// assemble the entities from the entries just read, rather than reading each of them again
+		for ( Map.Entry<Object, EntityKey> entry : keysByCacheKey.entrySet() ) {
+			final Object ce = cachedEntries.get( entry.getKey() );
+			if ( ce == null ) {
+				continue;
+			}
+			final EntityKey entityKey = entry.getValue();
+			final LoadEvent event = new LoadEvent(
+					entityKey.getIdentifier(),
+					persister.getEntityName(),
+					lockOptions,
+					(EventSource) session
+			);
+			DefaultLoadEventListener.processCachedEntry( ce, event, persister, entityKey );
+			unresolvedKeys.remove( entityKey );
 		}
+	}
+
+	private static void loadFromDatabase(
+			OuterJoinLoadable persister,
+			Set<EntityKey> unresolvedKeys,
+			LockOptions lockOptions,
+			Integer explicitBatchSize,
+			SessionImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final String arrayElementTypeName = determineArrayElementTypeName( persister, session );
 
-		int numberOfIdsLeft = ids.length;
+		int numberOfIdsLeft = unresolvedKeys.size();
 
 		final int maxBatchSize;
 		if ( explicitBatchSize != null && explicitBatchSize > 0 ) {
 			maxBatchSize = explicitBatchSize;
 		}
+		else if ( arrayElementTypeName != null ) {
+			// the ids are bound as a single array parameter, so there is no need to split them
+			maxBatchSize = numberOfIdsLeft;
+		}
 		else {
-			maxBatchSize = session.getFactory().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
+			maxBatchSize = factory.getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
+					persister.getIdentifierType().getColumnSpan( factory ),
 					numberOfIdsLeft
 			);
 		}
 
-		int idPosition = 0;
+		// the SQL template does not depend on the number of ids, so one loader serves every chunk
+		final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
+				persister,
+				maxBatchSize,
+				lockOptions,
+				factory,
+				session.getLoadQueryInfluencers(),
+				arrayElementTypeName
+		);
+
+		// when expanding IN lists, pad each chunk to one of a limited set of sizes to keep
+		// the number of distinct SQL strings (and so prepared statements) small
+		final int[] batchSizes = arrayElementTypeName == null ? ArrayHelper.getBatchSizes( maxBatchSize ) : null;
+
+		final Iterator<EntityKey> itr = unresolvedKeys.iterator();
 		while ( numberOfIdsLeft > 0 ) {
-			int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
-			final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
-					persister,
-					batchSize,
-					lockOptions,
-					session.getFactory(),
-					session.getLoadQueryInfluencers()
-			);
+			final int batchSize = Math.min( numberOfIdsLeft, maxBatchSize );
+			final int paddedBatchSize = batchSizes == null ? batchSize : determinePaddedBatchSize( batchSizes, batchSize );
 
-			Serializable[] idsInBatch = new Serializable[batchSize];
-			System.arraycopy( ids, idPosition, idsInBatch, 0, batchSize );
+			final Serializable[] idsInBatch = new Serializable[paddedBatchSize];
+			for ( int i = 0; i < batchSize; i++ ) {
+				idsInBatch[i] = itr.next().getIdentifier();
+			}
+			for ( int i = batchSize; i < paddedBatchSize; i++ ) {
+				idsInBatch[i] = idsInBatch[0];
+			}
 
 			QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
-			result.addAll( batchingLoader.doEntityBatchFetch( session, qp, idsInBatch ) );
+			batchingLoader.doEntityBatchFetch( session, qp, idsInBatch );
 
 			numberOfIdsLeft = numberOfIdsLeft - batchSize;
-			idPosition += batchSize;
 		}
+	}
 
-		return result;
+	private static int determinePaddedBatchSize(int[] batchSizes, int numberOfIds) {
+		// batchSizes is descending; use the smallest one still big enough
+		int indexToUse = 0;
+		for ( int i = 1; i < batchSizes.length; i++ ) {
+			if ( batchSizes[i] >= numberOfIds ) {
+				indexToUse = i;
+			}
+			else {
+				break;
+			}
+		}
+		return batchSizes[indexToUse];
+	}
+
+	/**
+	 * Determine whether the ids of the given persister can be bound as a single JDBC array
+	 * parameter and, if so, the name of the array element type.
+	 *
+	 * @return The array element type name, or {@code null} if IN-list expansion has to be used
+	 */
+	private static String determineArrayElementTypeName(OuterJoinLoadable persister, SessionImplementor session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final Dialect dialect = factory.getDialect();
+		if ( session.getLoadQueryInfluencers().hasEnabledFilters() ) {
+			// filter parameters are bound positionally alongside the ids
+			return null;
+		}
+
+		final Type identifierType = persister.getIdentifierType();
+		if ( identifierType.getColumnSpan( factory ) != 1 ) {
+			return null;
+		}
+		if ( dialect.getArrayParameterRestriction( persister.getIdentifierColumnNames()[0] ) == null ) {
+			return null;
+		}
+
+		// only bind arrays for ids whose Java values are already their JDBC values
+		final int sqlType = identifierType.sqlTypes( factory )[0];
+		final Class returnedClass = identifierType.getReturnedClass();
+		final boolean bindable;
+		switch ( sqlType ) {
+			case Types.BIGINT:
+				bindable = Long.class.equals( returnedClass );
+				break;
+			case Types.INTEGER:
+				bindable = Integer.class.equals( returnedClass );
+				break;
+			case Types.SMALLINT:
+				bindable = Short.class.equals( returnedClass );
+				break;
+			case Types.VARCHAR:
+				bindable = String.class.equals( returnedClass );
+				break;
+			default:
+				bindable = false;
+		}
+		return bindable ? dialect.getArrayElementTypeName( sqlType ) : null;
 	}
 
 	public static QueryParameters buildMultiLoadQueryParameters(
@@ -237,6 +396,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 		private final String sqlTemplate;
 		private final String alias;
+		private final String arrayElementTypeName;
 
 		public DynamicEntityLoader(
 				OuterJoinLoadable persister,
@@ -244,7 +404,17 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockOptions lockOptions,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
-			this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers );
+			this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers, null );
+		}
+
+		public DynamicEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers,
+				String arrayElementTypeName) {
+			this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers, arrayElementTypeName );
 		}
 
 		public DynamicEntityLoader(
@@ -253,7 +423,22 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockMode lockMode,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockMode, factory, loadQueryInfluencers, null );
+		}
+
+		/**
+		 * @param arrayElementTypeName If non-null, the ids are bound as a single JDBC array
+		 * of this element type rather than expanded into an IN list.
+		 */
+		public DynamicEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers,
+				final String arrayElementTypeName) {
 			super( persister, -1, lockMode, factory, loadQueryInfluencers );
+			this.arrayElementTypeName = arrayElementTypeName;
 
 			EntityJoinWalker walker = new EntityJoinWalker(
 					persister,
@@ -265,6 +450,13 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			) {
 				@Override
 				protected StringBuilder whereString(String alias, String[] columnNames, int batchSize) {
+					if ( arrayElementTypeName != null ) {
+						return new StringBuilder(
+								getFactory().getDialect().getArrayParameterRestriction(
+										StringHelper.qualify( alias, columnNames[0] )
+								)
+						);
+					}
 					return StringHelper.buildBatchFetchRestrictionFragment( alias, columnNames, getFactory().getDialect() );
 				}
 			};
@@ -293,13 +485,15 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				SessionImplementor session,
 				QueryParameters queryParameters,
 				Serializable[] ids) {
-			final String sql = StringHelper.expandBatchIdPlaceholder(
-					sqlTemplate,
-					ids,
-					alias,
-					persister.getKeyColumnNames(),
-					getFactory().getDialect()
-			);
+			final String sql = arrayElementTypeName != null
+					? sqlTemplate
+					: StringHelper.expandBatchIdPlaceholder(
+							sqlTemplate,
+							ids,
+							alias,
+							persister.getKeyColumnNames(),
+							getFactory().getDialect()
+					);
 
 			try {
 				final PersistenceContext persistenceContext = session.getPersistenceContext();
@@ -345,6 +539,23 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			}
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SessionImplementor session) throws SQLException {
+			if ( arrayElementTypeName == null ) {
+				return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			final Array ids = statement.getConnection().createArrayOf(
+					arrayElementTypeName,
+					queryParameters.getPositionalParameterValues()
+			);
+			statement.setArray( startIndex, ids );
+			return 1;
+		}
+
 		private List doTheLoad(String sql, QueryParameters queryParameters, SessionImplementor session) throws SQLException {
 			final RowSelection selection = queryParameters.getRowSelection();
 			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
@@ -8,6 +8,7 @@ package org.hibernate.loader.entity.plan;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -46,9 +47,16 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 		return new LegacyBatchingEntityLoader( persister, batchSize, lockOptions, factory, influencers );
 	}
 
+	/**
+	 * Batching loader using one loader per {@link ArrayHelper#getBatchSizes batch size}; these loaders are built
+	 * on first use, as most entities are never loaded using all of the batch sizes.
+	 */
 	public static class LegacyBatchingEntityLoader extends BatchingEntityLoader  {
 		private final int[] batchSizes;
-		private final EntityLoader[] loaders;
+		private final AtomicReferenceArray<EntityLoader> loaders;
+		private final LoadQueryInfluencers loadQueryInfluencers;
+		private final LockMode lockMode;
+		private final LockOptions lockOptions;
 
 		public LegacyBatchingEntityLoader(
 				OuterJoinLoadable persister,
@@ -56,15 +64,7 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 				LockMode lockMode,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
-			super( persister );
-			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
-			this.loaders = new EntityLoader[ batchSizes.length ];
-			final EntityLoader.Builder entityLoaderBuilder = EntityLoader.forEntity( persister )
-					.withInfluencers( loadQueryInfluencers )
-					.withLockMode( lockMode );
-			for ( int i = 0; i < batchSizes.length; i++ ) {
-				this.loaders[i] = entityLoaderBuilder.withBatchSize( batchSizes[i] ).byPrimaryKey();
-			}
+			this( persister, maxBatchSize, loadQueryInfluencers, lockMode, null );
 		}
 
 		public LegacyBatchingEntityLoader(
@@ -73,15 +73,42 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 				LockOptions lockOptions,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, loadQueryInfluencers, LockMode.NONE, lockOptions );
+		}
+
+		private LegacyBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LoadQueryInfluencers loadQueryInfluencers,
+				LockMode lockMode,
+				LockOptions lockOptions) {
 			super( persister );
 			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
-			this.loaders = new EntityLoader[ batchSizes.length ];
-			final EntityLoader.Builder entityLoaderBuilder = EntityLoader.forEntity( persister )
-					.withInfluencers( loadQueryInfluencers )
-					.withLockOptions( lockOptions );
-			for ( int i = 0; i < batchSizes.length; i++ ) {
-				this.loaders[i] = entityLoaderBuilder.withBatchSize( batchSizes[i] ).byPrimaryKey();
+			this.loaders = new AtomicReferenceArray<EntityLoader>( batchSizes.length );
+			this.loadQueryInfluencers = loadQueryInfluencers;
+			this.lockMode = lockMode;
+			this.lockOptions = lockOptions;
+		}
+
+		private EntityLoader getLoader(int index) {
+			EntityLoader loader = loaders.get( index );
+			if ( loader == null ) {
+				final EntityLoader.Builder entityLoaderBuilder = EntityLoader.forEntity( (OuterJoinLoadable) persister() )
+						.withInfluencers( loadQueryInfluencers )
+						.withBatchSize( batchSizes[index] );
+				if ( lockOptions != null ) {
+					entityLoaderBuilder.withLockOptions( lockOptions );
+				}
+				else {
+					entityLoaderBuilder.withLockMode( lockMode );
+				}
+				loader = entityLoaderBuilder.byPrimaryKey();
+				// another thread might have built the loader concurrently
+				if ( !loaders.compareAndSet( index, null, loader ) ) {
+					loader = loaders.get( index );
+				}
 			}
+			return loader;
 		}
 
 		@Override
@@ -96,7 +123,7 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 					Serializable[] smallBatch = new Serializable[smallBatchSize];
 					System.arraycopy(batch, 0, smallBatch, 0, smallBatchSize);
 					// for now...
-					final List results = loaders[i].loadEntityBatch(
+					final List results = getLoader( i ).loadEntityBatch(
 							session,
 							smallBatch,
 							persister().getIdentifierType(),
@@ -110,7 +137,7 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 					return getObjectFromList( results, id, session );
 				}
 			}
-			return ( loaders[batchSizes.length-1] ).load( id, optionalObject, session, lockOptions );
+			return getLoader( batchSizes.length - 1 ).load( id, optionalObject, session, lockOptions );
 		}
 	}
 
@@ -37,7 +37,6 @@ import org.hibernate.internal.IteratorImpl;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.loader.BasicLoader;
 import org.hibernate.loader.spi.AfterLoadAction;
-import org.hibernate.param.ParameterSpecification;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.collection.QueryableCollection;
 import org.hibernate.persister.entity.Loadable;
@@ -621,11 +620,6 @@ public class QueryLoader extends BasicLoader {
 			final QueryParameters queryParameters,
 			final int startIndex,
 			final SessionImplementor session) throws SQLException {
-		int position = startIndex;
-		List<ParameterSpecification> parameterSpecs = queryTranslator.getCollectedParameterSpecifications();
-		for ( ParameterSpecification spec : parameterSpecs ) {
-			position += spec.bind( statement, queryParameters, session, position );
-		}
-		return position - startIndex;
+		return queryTranslator.getCompiledParameterBinder().bind( statement, queryParameters, session, startIndex );
 	}
 }
@@ -52,7 +52,7 @@ public abstract class AbstractLoadPlanBasedLoader {
 
 	private final SessionFactoryImplementor factory;
 
-	private ColumnNameCache columnNameCache;
+	private volatile ColumnNameCache columnNameCache;
 
 	/**
 	 * Constructs a {@link AbstractLoadPlanBasedLoader}.
@@ -468,9 +468,7 @@ public abstract class AbstractLoadPlanBasedLoader {
 		}
 	}
 
-	private synchronized ResultSet wrapResultSetIfEnabled(final ResultSet rs, final SessionImplementor session) {
-		// synchronized to avoid multi-thread access issues; defined as method synch to avoid
-		// potential deadlock issues due to nature of code.
+	private ResultSet wrapResultSetIfEnabled(final ResultSet rs, final SessionImplementor session) {
 		if ( session.getFactory().getSessionFactoryOptions().isWrapResultSetsEnabled() ) {
 			try {
 				if ( log.isDebugEnabled() ) {
@@ -492,12 +490,17 @@ public abstract class AbstractLoadPlanBasedLoader {
 	}
 
 	private ColumnNameCache retreiveColumnNameToIndexCache(ResultSet rs) throws SQLException {
-		if ( columnNameCache == null ) {
+		final ColumnNameCache cache = columnNameCache;
+		if ( cache == null ) {
+			//there is no need for a synchronized second check, as in worst case
+			//we'll have allocated an unnecessary ColumnNameCache
 			log.trace( "Building columnName->columnIndex cache" );
 			columnNameCache = new ColumnNameCache( rs.getMetaData().getColumnCount() );
+			return columnNameCache;
+		}
+		else {
+			return cache;
 		}
-
-		return columnNameCache;
 	}
 
 	/**
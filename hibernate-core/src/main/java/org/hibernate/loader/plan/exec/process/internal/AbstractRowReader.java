@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.engine.internal.PendingCachePuts;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.PostLoadEvent;
@@ -32,7 +33,6 @@ import org.hibernate.loader.plan.spi.EntityReference;
 import org.hibernate.loader.plan.spi.Fetch;
 import org.hibernate.loader.plan.spi.FetchSource;
 import org.hibernate.loader.spi.AfterLoadAction;
-import org.hibernate.persister.entity.Loadable;
 
 import org.jboss.logging.Logger;
 
@@ -230,18 +230,21 @@ public abstract class AbstractRowReader implements RowReader {
 				: hydratedEntityRegistrations.size();
 		log.tracev( "Total objects hydrated: {0}", numberOfHydratedObjects );
 
-		if ( hydratedEntityRegistrations == null ) {
-			return;
-		}
-
-		for ( HydratedEntityRegistration registration : hydratedEntityRegistrations ) {
-			TwoPhaseLoad.initializeEntity(
-					registration.getInstance(),
-					context.isReadOnly(),
-					context.getSession(),
-					preLoadEvent
-			);
+		if ( hydratedEntityRegistrations != null ) {
+			// collect the second-level cache puts to apply them in bulk, along with the remaining ones of the
+			// entities initialized while streaming
+			final PendingCachePuts pendingCachePuts = numberOfHydratedObjects > 1 ? context.getPendingCachePuts() : null;
+			for ( HydratedEntityRegistration registration : hydratedEntityRegistrations ) {
+				TwoPhaseLoad.initializeEntity(
+						registration.getInstance(),
+						context.isReadOnly(),
+						context.getSession(),
+						preLoadEvent,
+						pendingCachePuts
+				);
+			}
 		}
+		context.flushPendingCachePuts();
 	}
 
 	private void finishLoadingCollections(ResultSetProcessingContextImpl context) {
@@ -264,16 +267,7 @@ public abstract class AbstractRowReader implements RowReader {
 		}
 
 		for ( HydratedEntityRegistration registration : hydratedEntityRegistrations ) {
-			TwoPhaseLoad.postLoad( registration.getInstance(), context.getSession(), postLoadEvent );
-			if ( afterLoadActionList != null ) {
-				for ( AfterLoadAction afterLoadAction : afterLoadActionList ) {
-					afterLoadAction.afterLoad(
-							context.getSession(),
-							registration.getInstance(),
-							(Loadable) registration.getEntityReference().getEntityPersister()
-					);
-				}
-			}
+			context.postLoad( registration, postLoadEvent, afterLoadActionList );
 		}
 
 	}
@@ -30,6 +30,7 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
 import org.hibernate.persister.entity.UniqueKeyLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.VersionType;
@@ -145,9 +146,7 @@ public class EntityReferenceInitializerImpl implements EntityReferenceInitialize
 				null
 		);
 		if ( resolvedId != null ) {
-			processingState.registerEntityKey(
-					context.getSession().generateEntityKey( resolvedId, entityReference.getEntityPersister() )
-			);
+			processingState.registerEntityKey( context.generateEntityKey( entityReference, resolvedId ) );
 		}
 	}
 
@@ -267,7 +266,7 @@ public class EntityReferenceInitializerImpl implements EntityReferenceInitialize
 
 	private void loadFromResultSet(
 			ResultSet resultSet,
-			ResultSetProcessingContext context,
+			ResultSetProcessingContextImpl context,
 			Object entityInstance,
 			String concreteEntityTypeName,
 			EntityKey entityKey,
@@ -375,7 +374,16 @@ public class EntityReferenceInitializerImpl implements EntityReferenceInitialize
 				context.getSession()
 		);
 
-		context.registerHydratedEntity( entityReference, entityKey, entityInstance );
+		final EntityMetamodel concreteEntityMetamodel = concreteEntityPersister.getEntityMetamodel();
+		if ( context.isStreamingHydration()
+				&& !concreteEntityMetamodel.hasAssociations()
+				&& !concreteEntityMetamodel.hasLazyProperties() ) {
+			// nothing left to resolve from the other rows, so the hydrated state can be released right away
+			context.initializeHydratedEntity( entityReference, entityKey, entityInstance );
+		}
+		else {
+			context.registerHydratedEntity( entityReference, entityKey, entityInstance );
+		}
 	}
 
 	private String getConcreteEntityTypeName(
@@ -6,6 +6,7 @@
  */
 package org.hibernate.loader.plan.exec.process.internal;
 
+import java.io.Serializable;
 import java.sql.ResultSet;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -16,16 +17,22 @@ import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.LockMode;
+import org.hibernate.engine.internal.PendingCachePuts;
+import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.loader.plan.exec.process.spi.ResultSetProcessingContext;
 import org.hibernate.loader.plan.exec.query.spi.NamedParameterContext;
 import org.hibernate.loader.plan.spi.EntityFetch;
 import org.hibernate.loader.plan.spi.EntityReference;
 import org.hibernate.loader.plan.spi.Fetch;
 import org.hibernate.loader.plan.spi.LoadPlan;
+import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
 import org.hibernate.type.EntityType;
@@ -34,6 +41,9 @@ import org.hibernate.type.EntityType;
  * @author Steve Ebersole
  */
 public class ResultSetProcessingContextImpl implements ResultSetProcessingContext {
+	// the number of second-level cache puts of the entities initialized while streaming applied together
+	private static final int STREAMING_CACHE_PUT_CHUNK_SIZE = 100;
+
 	private final ResultSet resultSet;
 	private final SessionImplementor session;
 	private final LoadPlan loadPlan;
@@ -45,10 +55,19 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 	private final NamedParameterContext namedParameterContext;
 	private final boolean hadSubselectFetches;
 
-	private List<HydratedEntityRegistration> currentRowHydratedEntityRegistrationList;
+	private final boolean streamingHydration;
 
 	private Map<EntityPersister,Set<EntityKey>> subselectLoadableEntityKeyMap;
+	// the registrations of all rows, the ones of the current row starting at currentRowStart
 	private List<HydratedEntityRegistration> hydratedEntityRegistrationList;
+	private int currentRowStart;
+
+	// the entities of the current row initialized while streaming, post-loaded once the row has been read
+	private List<HydratedEntityRegistration> streamedEntityRegistrationList;
+
+	private PreLoadEvent preLoadEvent;
+	private PostLoadEvent postLoadEvent;
+	private PendingCachePuts pendingCachePuts;
 
 	/**
 	 * Builds a ResultSetProcessingContextImpl
@@ -78,6 +97,7 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 		this.queryParameters = queryParameters;
 		this.namedParameterContext = namedParameterContext;
 		this.hadSubselectFetches = hadSubselectFetches;
+		this.streamingHydration = session.getFactory().getSessionFactoryOptions().isStreamingHydrationEnabled();
 
 		if ( shouldUseOptionalEntityInformation ) {
 			if ( queryParameters.getOptionalId() != null ) {
@@ -127,86 +147,130 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 		return LockMode.READ;
 	}
 
-	private Map<EntityReference,EntityReferenceProcessingState> identifierResolutionContextMap;
+	private Map<EntityReference,ProcessingState> identifierResolutionContextMap;
 
 	@Override
 	public EntityReferenceProcessingState getProcessingState(final EntityReference entityReference) {
 		if ( identifierResolutionContextMap == null ) {
-			identifierResolutionContextMap = new IdentityHashMap<EntityReference, EntityReferenceProcessingState>();
+			identifierResolutionContextMap = new IdentityHashMap<EntityReference, ProcessingState>();
 		}
 
-		EntityReferenceProcessingState context = identifierResolutionContextMap.get( entityReference );
+		ProcessingState context = identifierResolutionContextMap.get( entityReference );
 		if ( context == null ) {
-			context = new EntityReferenceProcessingState() {
-				private boolean wasMissingIdentifier;
-				private Object identifierHydratedForm;
-				private EntityKey entityKey;
-				private Object[] hydratedState;
-				private Object entityInstance;
-
-				@Override
-				public EntityReference getEntityReference() {
-					return entityReference;
-				}
+			context = new ProcessingState( entityReference );
+			identifierResolutionContextMap.put( entityReference, context );
+		}
 
-				@Override
-				public void registerMissingIdentifier() {
-					if ( !EntityFetch.class.isInstance( entityReference ) ) {
-						throw new IllegalStateException( "Missing return row identifier" );
-					}
-					ResultSetProcessingContextImpl.this.registerNonExists( (EntityFetch) entityReference );
-					wasMissingIdentifier = true;
-				}
+		return context;
+	}
 
-				@Override
-				public boolean isMissingIdentifier() {
-					return wasMissingIdentifier;
-				}
+	/**
+	 * Generates the EntityKey of the entity of the given reference in the current row, reusing the key of the
+	 * previous row if it has the same identifier (such as the owner repeated by the rows of a fetched collection).
+	 *
+	 * @param entityReference The entity reference
+	 * @param id The identifier of the entity in the current row
+	 *
+	 * @return The EntityKey
+	 */
+	EntityKey generateEntityKey(EntityReference entityReference, Serializable id) {
+		final ProcessingState processingState = (ProcessingState) getProcessingState( entityReference );
+		final EntityPersister persister = entityReference.getEntityPersister();
+		final EntityKey previousEntityKey = processingState.previousEntityKey;
+		if ( previousEntityKey != null
+				&& persister.getIdentifierType().isEqual( id, previousEntityKey.getIdentifier(), session.getFactory() ) ) {
+			return previousEntityKey;
+		}
+		return session.generateEntityKey( id, persister );
+	}
 
-				@Override
-				public void registerIdentifierHydratedForm(Object identifierHydratedForm) {
-					this.identifierHydratedForm = identifierHydratedForm;
-				}
+	/**
+	 * The processing state of an entity reference, reset at the end of each row rather than discarded.
+	 */
+	private class ProcessingState implements EntityReferenceProcessingState {
+		private final EntityReference entityReference;
 
-				@Override
-				public Object getIdentifierHydratedForm() {
-					return identifierHydratedForm;
-				}
+		private boolean wasMissingIdentifier;
+		private Object identifierHydratedForm;
+		private EntityKey entityKey;
+		private Object[] hydratedState;
+		private Object entityInstance;
 
-				@Override
-				public void registerEntityKey(EntityKey entityKey) {
-					this.entityKey = entityKey;
-				}
+		private EntityKey previousEntityKey;
 
-				@Override
-				public EntityKey getEntityKey() {
-					return entityKey;
-				}
+		private ProcessingState(EntityReference entityReference) {
+			this.entityReference = entityReference;
+		}
 
-				@Override
-				public void registerHydratedState(Object[] hydratedState) {
-					this.hydratedState = hydratedState;
-				}
+		@Override
+		public EntityReference getEntityReference() {
+			return entityReference;
+		}
 
-				@Override
-				public Object[] getHydratedState() {
-					return hydratedState;
-				}
+		@Override
+		public void registerMissingIdentifier() {
+			if ( !EntityFetch.class.isInstance( entityReference ) ) {
+				throw new IllegalStateException( "Missing return row identifier" );
+			}
+			ResultSetProcessingContextImpl.this.registerNonExists( (EntityFetch) entityReference );
+			wasMissingIdentifier = true;
+		}
 
-				@Override
-				public void registerEntityInstance(Object entityInstance) {
-					this.entityInstance = entityInstance;
-				}
+		@Override
+		public boolean isMissingIdentifier() {
+			return wasMissingIdentifier;
+		}
 
-				@Override
-				public Object getEntityInstance() {
-					return entityInstance;
-				}
-			};
-			identifierResolutionContextMap.put( entityReference, context );
+		@Override
+		public void registerIdentifierHydratedForm(Object identifierHydratedForm) {
+			this.identifierHydratedForm = identifierHydratedForm;
 		}
 
-		return context;
+		@Override
+		public Object getIdentifierHydratedForm() {
+			return identifierHydratedForm;
+		}
+
+		@Override
+		public void registerEntityKey(EntityKey entityKey) {
+			this.entityKey = entityKey;
+		}
+
+		@Override
+		public EntityKey getEntityKey() {
+			return entityKey;
+		}
+
+		@Override
+		public void registerHydratedState(Object[] hydratedState) {
+			this.hydratedState = hydratedState;
+		}
+
+		@Override
+		public Object[] getHydratedState() {
+			return hydratedState;
+		}
+
+		@Override
+		public void registerEntityInstance(Object entityInstance) {
+			this.entityInstance = entityInstance;
+		}
+
+		@Override
+		public Object getEntityInstance() {
+			return entityInstance;
+		}
+
+		private void reset() {
+			if ( entityKey != null ) {
+				previousEntityKey = entityKey;
+			}
+			wasMissingIdentifier = false;
+			identifierHydratedForm = null;
+			entityKey = null;
+			hydratedState = null;
+			entityInstance = null;
+		}
 	}
 
 	private void registerNonExists(EntityFetch fetch) {
@@ -238,43 +302,74 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 
 	@Override
 	public void registerHydratedEntity(EntityReference entityReference, EntityKey entityKey, Object entityInstance) {
-		if ( currentRowHydratedEntityRegistrationList == null ) {
-			currentRowHydratedEntityRegistrationList = new ArrayList<HydratedEntityRegistration>();
-		}
-		currentRowHydratedEntityRegistrationList.add(
-				new HydratedEntityRegistration(
-						entityReference,
-						entityKey,
-						entityInstance
-				)
-		);
+		addHydratedEntityRegistration( new HydratedEntityRegistration( entityReference, entityKey, entityInstance ) );
+	}
+
+	/**
+	 * Should the entities without associations be initialized as soon as their row is read?
+	 *
+	 * @return {@code true} if the entities without associations are initialized as soon as their row is read
+	 */
+	boolean isStreamingHydration() {
+		return streamingHydration;
+	}
+
+	/**
+	 * Initializes an entity hydrated from the current row right away, rather than along with the other entities
+	 * once the result set has been read.  The entity gets its post-load processing once the row has been read, and
+	 * is not registered with the other hydrated entities.
+	 *
+	 * @param entityReference The entity reference
+	 * @param entityKey The key of the entity
+	 * @param entityInstance The hydrated entity
+	 */
+	void initializeHydratedEntity(EntityReference entityReference, EntityKey entityKey, Object entityInstance) {
+		if ( preLoadEvent == null ) {
+			// IMPORTANT: reuse the same event instance for performance!
+			preLoadEvent = session.isEventSource() ? new PreLoadEvent( (EventSource) session ) : null;
+		}
+		TwoPhaseLoad.initializeEntity( entityInstance, readOnly, session, preLoadEvent, getPendingCachePuts() );
+		if ( streamedEntityRegistrationList == null ) {
+			streamedEntityRegistrationList = new ArrayList<HydratedEntityRegistration>();
+		}
+		streamedEntityRegistrationList.add( new HydratedEntityRegistration( entityReference, entityKey, entityInstance ) );
+	}
+
+	private void addHydratedEntityRegistration(HydratedEntityRegistration registration) {
+		if ( hydratedEntityRegistrationList == null ) {
+			hydratedEntityRegistrationList = new ArrayList<HydratedEntityRegistration>();
+		}
+		hydratedEntityRegistrationList.add( registration );
 	}
 
 	/**
 	 * Package-protected
+	 *
+	 * @param afterLoadActionList The actions to apply to the entities initialized while streaming
 	 */
-	void finishUpRow() {
-		if ( currentRowHydratedEntityRegistrationList == null ) {
-			if ( identifierResolutionContextMap != null ) {
-				identifierResolutionContextMap.clear();
+	void finishUpRow(List<AfterLoadAction> afterLoadActionList) {
+		if ( identifierResolutionContextMap != null ) {
+			for ( ProcessingState processingState : identifierResolutionContextMap.values() ) {
+				processingState.reset();
 			}
-			return;
 		}
 
+		if ( streamedEntityRegistrationList != null && !streamedEntityRegistrationList.isEmpty() ) {
+			finishUpStreamedEntities( afterLoadActionList );
+		}
 
-		// managing the running list of registrations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		if ( hydratedEntityRegistrationList == null ) {
-			hydratedEntityRegistrationList = new ArrayList<HydratedEntityRegistration>();
+			return;
 		}
-		hydratedEntityRegistrationList.addAll( currentRowHydratedEntityRegistrationList );
-
+		final int rowEnd = hydratedEntityRegistrationList.size();
 
 		// managing the map forms needed for subselect fetch generation ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		if ( hadSubselectFetches ) {
 			if ( subselectLoadableEntityKeyMap == null ) {
 				subselectLoadableEntityKeyMap = new HashMap<EntityPersister, Set<EntityKey>>();
 			}
-			for ( HydratedEntityRegistration registration : currentRowHydratedEntityRegistrationList ) {
+			for ( int i = currentRowStart; i < rowEnd; i++ ) {
+				final HydratedEntityRegistration registration = hydratedEntityRegistrationList.get( i );
 				Set<EntityKey> entityKeys = subselectLoadableEntityKeyMap.get(
 						registration.getEntityReference().getEntityPersister()
 				);
@@ -286,10 +381,68 @@ public class ResultSetProcessingContextImpl implements ResultSetProcessingContex
 			}
 		}
 
-		// release the currentRowHydratedEntityRegistrationList entries
-		currentRowHydratedEntityRegistrationList.clear();
+		currentRowStart = rowEnd;
+	}
+
+	private void finishUpStreamedEntities(List<AfterLoadAction> afterLoadActionList) {
+		if ( pendingCachePuts.size() >= STREAMING_CACHE_PUT_CHUNK_SIZE ) {
+			flushPendingCachePuts();
+		}
+
+		if ( postLoadEvent == null ) {
+			// IMPORTANT: reuse the same event instance for performance!
+			postLoadEvent = session.isEventSource() ? new PostLoadEvent( (EventSource) session ) : null;
+		}
+		for ( HydratedEntityRegistration registration : streamedEntityRegistrationList ) {
+			postLoad( registration, postLoadEvent, afterLoadActionList );
+		}
+		// the registrations of the streamed entities are not kept beyond their row
+		streamedEntityRegistrationList.clear();
+	}
+
+	/**
+	 * Performs the post-load processing of a hydrated entity, once it has been initialized.
+	 *
+	 * @param registration The registration of the entity
+	 * @param postLoadEvent The post-load event instance
+	 * @param afterLoadActionList The actions to apply after loading, if any
+	 */
+	void postLoad(
+			HydratedEntityRegistration registration,
+			PostLoadEvent postLoadEvent,
+			List<AfterLoadAction> afterLoadActionList) {
+		TwoPhaseLoad.postLoad( registration.getInstance(), session, postLoadEvent );
+		if ( afterLoadActionList != null ) {
+			for ( AfterLoadAction afterLoadAction : afterLoadActionList ) {
+				afterLoadAction.afterLoad(
+						session,
+						registration.getInstance(),
+						(Loadable) registration.getEntityReference().getEntityPersister()
+				);
+			}
+		}
+	}
+
+	/**
+	 * The second-level cache puts collected while loading, applied in bulk by {@link #flushPendingCachePuts}.
+	 *
+	 * @return The pending cache puts
+	 */
+	PendingCachePuts getPendingCachePuts() {
+		if ( pendingCachePuts == null ) {
+			pendingCachePuts = new PendingCachePuts();
+		}
+		return pendingCachePuts;
+	}
 
-		identifierResolutionContextMap.clear();
+	/**
+	 * Performs the pending second-level cache puts: those of the entities initialized while streaming, collected
+	 * over a chunk of rows, or those of the entities initialized once the result set has been read.
+	 */
+	void flushPendingCachePuts() {
+		if ( pendingCachePuts != null ) {
+			pendingCachePuts.flush( session );
+		}
 	}
 
 	public List<HydratedEntityRegistration> getHydratedEntityRegistrationList() {
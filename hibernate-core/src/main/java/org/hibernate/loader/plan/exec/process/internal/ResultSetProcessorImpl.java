@@ -115,7 +115,7 @@ public class ResultSetProcessorImpl implements ResultSetProcessor {
 
 			loadResults.add( logicalRow );
 
-			context.finishUpRow();
+			context.finishUpRow( afterLoadActionList );
 		}
 
 		LOG.tracev( "Done processing result set ({0} rows)", count );
@@ -48,6 +48,7 @@ public class Property implements Serializable, MetaAttributable {
 	private java.util.Map metaAttributes;
 	private PersistentClass persistentClass;
 	private boolean naturalIdentifier;
+	private boolean queryCachePartition;
 	private boolean lob;
 
 	public boolean isBackRef() {
@@ -354,6 +355,14 @@ public class Property implements Serializable, MetaAttributable {
 		this.naturalIdentifier = naturalIdentifier;
 	}
 
+	public boolean isQueryCachePartition() {
+		return queryCachePartition;
+	}
+
+	public void setQueryCachePartition(boolean queryCachePartition) {
+		this.queryCachePartition = queryCachePartition;
+	}
+
 	public boolean isLob() {
 		return lob;
 	}
@@ -269,6 +269,20 @@ public class SimpleValue implements KeyValue {
 				AvailableSettings.PREFER_POOLED_VALUES_LO,
 				cs.getSetting( AvailableSettings.PREFER_POOLED_VALUES_LO, StandardConverters.BOOLEAN, false )
 		);
+		// allow the generator mapping to override the global setting
+		if ( !params.containsKey( AvailableSettings.ID_OPTIMIZER_PREFETCH ) ) {
+			params.put(
+					AvailableSettings.ID_OPTIMIZER_PREFETCH,
+					cs.getSetting( AvailableSettings.ID_OPTIMIZER_PREFETCH, StandardConverters.BOOLEAN, false )
+			);
+		}
+		final String prefetchLowWaterMark = cs.getSetting(
+				AvailableSettings.ID_OPTIMIZER_PREFETCH_LOW_WATER_MARK,
+				StandardConverters.STRING
+		);
+		if ( prefetchLowWaterMark != null && !params.containsKey( AvailableSettings.ID_OPTIMIZER_PREFETCH_LOW_WATER_MARK ) ) {
+			params.put( AvailableSettings.ID_OPTIMIZER_PREFETCH_LOW_WATER_MARK, prefetchLowWaterMark );
+		}
 
 		identifierGeneratorFactory.setDialect( dialect );
 		identifierGenerator = identifierGeneratorFactory.createIdentifierGenerator( identifierGeneratorStrategy, getType(), params );
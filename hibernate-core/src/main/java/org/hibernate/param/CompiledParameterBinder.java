@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.param;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.TypedValue;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+
+/**
+ * Binds the parameter values of a translated query using a flat array of bind operations, prepared
+ * once from the query's {@link ParameterSpecification parameter specifications}.
+ * <p/>
+ * Parameters whose expected type is a basic type resolve the corresponding {@link ValueBinder} once
+ * and bind through it directly, as long as the value is bound using the expected type (which is the
+ * case unless a type was explicitly given when setting the parameter).  All other parameters are
+ * bound as per {@link ParameterSpecification#bind}.
+ */
+public final class CompiledParameterBinder {
+	private final BindOperation[] operations;
+	private final boolean usesValueBinders;
+
+	private CompiledParameterBinder(BindOperation[] operations, boolean usesValueBinders) {
+		this.operations = operations;
+		this.usesValueBinders = usesValueBinders;
+	}
+
+	/**
+	 * Prepare the bind operations for the given parameter specifications.
+	 *
+	 * @param parameterSpecifications The parameter specifications, in the order of their JDBC bind positions
+	 *
+	 * @return The compiled binder
+	 */
+	public static CompiledParameterBinder compile(List<ParameterSpecification> parameterSpecifications) {
+		final BindOperation[] operations = new BindOperation[ parameterSpecifications.size() ];
+		boolean usesValueBinders = false;
+		int i = 0;
+		for ( ParameterSpecification specification : parameterSpecifications ) {
+			final Type expectedType = specification.getExpectedType();
+			final AbstractStandardBasicType basicType = expectedType instanceof AbstractStandardBasicType
+					? (AbstractStandardBasicType) expectedType
+					: null;
+			if ( basicType != null && specification instanceof PositionalParameterSpecification ) {
+				operations[i] = new PositionalBindOperation(
+						( (PositionalParameterSpecification) specification ).getHqlPosition(),
+						basicType
+				);
+				usesValueBinders = true;
+			}
+			else if ( basicType != null && specification instanceof NamedParameterSpecification ) {
+				operations[i] = new NamedBindOperation(
+						( (NamedParameterSpecification) specification ).getName(),
+						basicType
+				);
+				usesValueBinders = true;
+			}
+			else {
+				operations[i] = new SpecificationBindOperation( specification );
+			}
+			i++;
+		}
+		return new CompiledParameterBinder( operations, usesValueBinders );
+	}
+
+	/**
+	 * Bind the parameter values into the given statement.
+	 *
+	 * @param statement The statement into which the values should be bound.
+	 * @param queryParameters The defined values for the current query execution.
+	 * @param session The session against which the current execution is occurring.
+	 * @param startPosition The position from which to start binding values.
+	 *
+	 * @return The number of JDBC bind positions bound.
+	 *
+	 * @throws SQLException Indicates problems performing the JDBC bind operations.
+	 */
+	public int bind(
+			PreparedStatement statement,
+			QueryParameters queryParameters,
+			SessionImplementor session,
+			int startPosition) throws SQLException {
+		final WrapperOptions options = usesValueBinders ? AbstractStandardBasicType.buildWrapperOptions( session ) : null;
+		int position = startPosition;
+		for ( BindOperation operation : operations ) {
+			position += operation.bind( statement, queryParameters, session, options, position );
+		}
+		return position - startPosition;
+	}
+
+	private abstract static class BindOperation {
+		abstract int bind(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				SessionImplementor session,
+				WrapperOptions options,
+				int position) throws SQLException;
+	}
+
+	private abstract static class BasicTypeBindOperation extends BindOperation {
+		private final AbstractStandardBasicType expectedType;
+		// resolved on first use, as remapping the SQL type descriptor needs the options;
+		// resolving it concurrently more than once is harmless
+		private volatile ValueBinder valueBinder;
+
+		BasicTypeBindOperation(AbstractStandardBasicType expectedType) {
+			this.expectedType = expectedType;
+		}
+
+		@SuppressWarnings("unchecked")
+		final int bind(
+				PreparedStatement statement,
+				Type type,
+				Object value,
+				SessionImplementor session,
+				WrapperOptions options,
+				int position) throws SQLException {
+			if ( type != expectedType ) {
+				type.nullSafeSet( statement, value, position, session );
+				return type.getColumnSpan( session.getFactory() );
+			}
+			ValueBinder binder = valueBinder;
+			if ( binder == null ) {
+				binder = expectedType.getValueBinder( options );
+				valueBinder = binder;
+			}
+			binder.bind( statement, value, position, options );
+			return 1;
+		}
+	}
+
+	private static final class PositionalBindOperation extends BasicTypeBindOperation {
+		private final int hqlPosition;
+
+		PositionalBindOperation(int hqlPosition, AbstractStandardBasicType expectedType) {
+			super( expectedType );
+			this.hqlPosition = hqlPosition;
+		}
+
+		@Override
+		int bind(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				SessionImplementor session,
+				WrapperOptions options,
+				int position) throws SQLException {
+			return bind(
+					statement,
+					queryParameters.getPositionalParameterTypes()[hqlPosition],
+					queryParameters.getPositionalParameterValues()[hqlPosition],
+					session,
+					options,
+					position
+			);
+		}
+	}
+
+	private static final class NamedBindOperation extends BasicTypeBindOperation {
+		private final String name;
+
+		NamedBindOperation(String name, AbstractStandardBasicType expectedType) {
+			super( expectedType );
+			this.name = name;
+		}
+
+		@Override
+		int bind(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				SessionImplementor session,
+				WrapperOptions options,
+				int position) throws SQLException {
+			final TypedValue typedValue = queryParameters.getNamedParameters().get( name );
+			return bind( statement, typedValue.getType(), typedValue.getValue(), session, options, position );
+		}
+	}
+
+	private static final class SpecificationBindOperation extends BindOperation {
+		private final ParameterSpecification specification;
+
+		SpecificationBindOperation(ParameterSpecification specification) {
+			this.specification = specification;
+		}
+
+		@Override
+		int bind(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				SessionImplementor session,
+				WrapperOptions options,
+				int position) throws SQLException {
+			return specification.bind( statement, queryParameters, session, position );
+		}
+	}
+}
@@ -21,6 +21,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.EntityMode;
@@ -40,6 +42,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -223,12 +226,16 @@ public abstract class AbstractEntityPersister
 
 	private final Map uniqueKeyLoaders = new HashMap();
 	private final Map lockers = new HashMap();
-	private final Map loaders = new HashMap();
+	// static loaders, keyed by lock mode or internal fetch profile, built on first use
+	private final ConcurrentMap<Object,UniqueEntityLoader> loaders = new ConcurrentHashMap<Object, UniqueEntityLoader>();
 
 	// SQL strings
 	private String sqlVersionSelectString;
 	private String sqlSnapshotSelectString;
 	private Map<String,String> sqlLazySelectStringsByFetchGroup;
+	// the selects of the lazy attributes of several instances at once, per fetch group and batch size
+	private Map<String,String[]> sqlLazyBatchSelectStringsByFetchGroup;
+	private int[] lazyBatchSizes;
 
 	private String sqlIdentityInsertString;
 	private String sqlUpdateByRowIdString;
@@ -828,8 +835,12 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
-		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
-				? new StructuredCacheEntryHelper( this )
+		if ( factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled() ) {
+			return new StructuredCacheEntryHelper( this );
+		}
+
+		return factory.getSessionFactoryOptions().isBinaryCacheEntriesEnabled()
+				? new BinaryCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
 	}
 
@@ -844,6 +855,14 @@ public abstract class AbstractEntityPersister
 	}
 
 	protected Map<String,String> generateLazySelectStringsByFetchGroup() {
+		return generateLazySelectStringsByFetchGroup( 1 );
+	}
+
+	/**
+	 * Generates the selects of the lazy attributes of each fetch group, for the given number of instances.  The
+	 * selects for several instances also select the identifier, telling the instance of each row.
+	 */
+	private Map<String,String> generateLazySelectStringsByFetchGroup(int batchSize) {
 		final BytecodeEnhancementMetadata enhancementMetadata = entityMetamodel.getBytecodeEnhancementMetadata();
 		if ( !enhancementMetadata.isEnhancedForLazyLoading()
 				|| !enhancementMetadata.getLazyAttributesMetadata().hasLazyAttributes() ) {
@@ -893,7 +912,8 @@ public abstract class AbstractEntityPersister
 					renderSelect(
 							ArrayHelper.toIntArray( tableNumbers ),
 							ArrayHelper.toIntArray( columnNumbers ),
-							ArrayHelper.toIntArray( formulaNumbers )
+							ArrayHelper.toIntArray( formulaNumbers ),
+							batchSize
 					)
 			);
 		}
@@ -1020,10 +1040,32 @@ public abstract class AbstractEntityPersister
 				.getLazyAttributesMetadata()
 				.getFetchGroupAttributeDescriptors( fetchGroup );
 
-		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
-
 		final String lazySelect = getSQLLazySelectString( fetchGroup );
 
+		if ( lazySelect != null && sqlLazyBatchSelectStringsByFetchGroup != null ) {
+			final List<String> fetchGroupAttributeNames = new ArrayList<String>( fetchGroupAttributeDescriptors.size() );
+			for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+				fetchGroupAttributeNames.add( fetchGroupAttributeDescriptor.getName() );
+			}
+			final List<Object> entities = session.getPersistenceContext().getBatchFetchQueue().getLazyAttributeBatch(
+					this,
+					entity,
+					fetchGroupAttributeNames,
+					batchSize
+			);
+			if ( entities.size() > 1 ) {
+				return initializeLazyPropertiesFromDatastore(
+						fieldName,
+						entity,
+						session,
+						id,
+						fetchGroup,
+						fetchGroupAttributeDescriptors,
+						entities
+				);
+			}
+		}
+
 		try {
 			Object result = null;
 			PreparedStatement ps = null;
@@ -1041,51 +1083,118 @@ public abstract class AbstractEntityPersister
 						rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
 						rs.next();
 					}
-					final Object[] snapshot = entry.getLoadedState();
-					for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
-						final boolean previousInitialized = initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() );
-						final Object loadedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+					result = initializeLazyProperties( fieldName, entity, session, entry, fetchGroupAttributeDescriptors, rs );
+				}
+				finally {
+					if ( rs != null ) {
+						session.getJdbcCoordinator().getResourceRegistry().release( rs, ps );
+					}
+				}
+			}
+			finally {
+				if ( ps != null ) {
+					session.getJdbcCoordinator().getResourceRegistry().release( ps );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+
+			LOG.trace( "Done initializing lazy properties" );
+
+			return result;
+
+		}
+		catch (SQLException sqle) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					sqle,
+					"could not initialize lazy properties: " + MessageHelper.infoString( this, id, getFactory() ),
+					lazySelect
+			);
+		}
+	}
+
+	/**
+	 * Initializes the lazy attributes of a fetch group of the given entities at once, the first one demanding them.
+	 */
+	private Object initializeLazyPropertiesFromDatastore(
+			final String fieldName,
+			final Object entity,
+			final SessionImplementor session,
+			final Serializable id,
+			final String fetchGroup,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final List<Object> entities) {
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Initializing lazy properties of {0} instances from datastore", entities.size() );
+		}
+
+		// the smallest batch size fitting the entities, the identifiers being padded
+		int batchSizeIndex = 0;
+		while ( batchSizeIndex + 1 < lazyBatchSizes.length && lazyBatchSizes[batchSizeIndex + 1] >= entities.size() ) {
+			batchSizeIndex++;
+		}
+		final String lazySelect = sqlLazyBatchSelectStringsByFetchGroup.get( fetchGroup )[batchSizeIndex];
+
+		final Map<EntityKey, Object> entitiesByKey = new HashMap<EntityKey, Object>();
+		final Serializable[] ids = new Serializable[lazyBatchSizes[batchSizeIndex]];
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( i < entities.size() ) {
+				ids[i] = i == 0 ? id : session.getPersistenceContext().getEntry( entities.get( i ) ).getId();
+				entitiesByKey.put( session.generateEntityKey( ids[i], this ), entities.get( i ) );
+			}
+			else {
+				ids[i] = id;
+			}
+		}
+
+		try {
+			Object result = null;
+			final PreparedStatement ps = session.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( lazySelect );
+			try {
+				int index = 1;
+				for ( Serializable batchId : ids ) {
+					getIdentifierType().nullSafeSet( ps, batchId, index, session );
+					index += getIdentifierColumnSpan();
+				}
+				final ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( ps );
+				try {
+					while ( rs.next() ) {
+						final Serializable rowId = (Serializable) getIdentifierType().nullSafeGet(
 								rs,
-								lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+								getIdentifierAliases(),
 								session,
-								entity
+								null
 						);
-						final boolean set = initializeLazyProperty(
+						final Object rowEntity = entitiesByKey.get( session.generateEntityKey( rowId, this ) );
+						if ( rowEntity == null ) {
+							continue;
+						}
+						final Object loadedValue = initializeLazyProperties(
 								fieldName,
-								entity,
+								rowEntity,
 								session,
-								snapshot,
-								fetchGroupAttributeDescriptor.getLazyIndex(),
-								loadedValue
+								session.getPersistenceContext().getEntry( rowEntity ),
+								fetchGroupAttributeDescriptors,
+								rs
 						);
-						if ( previousInitialized ) {
-							// its already been initialized (e.g. by a write) so we don't want to overwrite
-							continue;
-						}
-						if ( set ) {
+						if ( rowEntity == entity ) {
 							result = loadedValue;
-							interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
 						}
-
 					}
 				}
 				finally {
-					if ( rs != null ) {
-						session.getJdbcCoordinator().getResourceRegistry().release( rs, ps );
-					}
+					session.getJdbcCoordinator().getResourceRegistry().release( rs, ps );
 				}
 			}
 			finally {
-				if ( ps != null ) {
-					session.getJdbcCoordinator().getResourceRegistry().release( ps );
-					session.getJdbcCoordinator().afterStatementExecution();
-				}
+				session.getJdbcCoordinator().getResourceRegistry().release( ps );
+				session.getJdbcCoordinator().afterStatementExecution();
 			}
 
 			LOG.trace( "Done initializing lazy properties" );
 
 			return result;
-
 		}
 		catch (SQLException sqle) {
 			throw getFactory().getSQLExceptionHelper().convert(
@@ -1096,6 +1205,46 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private Object initializeLazyProperties(
+			final String fieldName,
+			final Object entity,
+			final SessionImplementor session,
+			final EntityEntry entry,
+			final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors,
+			final ResultSet rs) throws SQLException {
+		final InterceptorImplementor interceptor = ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor();
+		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
+
+		Object result = null;
+		final Object[] snapshot = entry.getLoadedState();
+		for ( LazyAttributeDescriptor fetchGroupAttributeDescriptor : fetchGroupAttributeDescriptors ) {
+			if ( initializedLazyAttributeNames.contains( fetchGroupAttributeDescriptor.getName() ) ) {
+				// its already been initialized (e.g. by a write) so we don't want to overwrite
+				continue;
+			}
+			final Object loadedValue = fetchGroupAttributeDescriptor.getType().nullSafeGet(
+					rs,
+					lazyPropertyColumnAliases[fetchGroupAttributeDescriptor.getLazyIndex()],
+					session,
+					entity
+			);
+			final boolean set = initializeLazyProperty(
+					fieldName,
+					entity,
+					session,
+					snapshot,
+					fetchGroupAttributeDescriptor.getLazyIndex(),
+					loadedValue
+			);
+			if ( set ) {
+				result = loadedValue;
+			}
+			// the attributes of the other instances of a batch are initialized as well
+			interceptor.attributeInitialized( fetchGroupAttributeDescriptor.getName() );
+		}
+		return result;
+	}
+
 	private Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -3760,10 +3909,26 @@ public abstract class AbstractEntityPersister
 		) + "=?";
 	}
 
+	private String createWhereByKeys(int tableNumber, String alias, int batchSize) {
+		final String[] keyColumns = StringHelper.qualify( alias, getSubclassTableKeyColumns( tableNumber ) );
+		if ( keyColumns.length == 1 ) {
+			return keyColumns[0] + " in (" + StringHelper.repeat( "?", batchSize, ", " ) + ')';
+		}
+		return '(' + StringHelper.repeat( '(' + StringHelper.join( "=? and ", keyColumns ) + "=?)", batchSize, " or " ) + ')';
+	}
+
 	protected String renderSelect(
 			final int[] tableNumbers,
 			final int[] columnNumbers,
 			final int[] formulaNumbers) {
+		return renderSelect( tableNumbers, columnNumbers, formulaNumbers, 1 );
+	}
+
+	private String renderSelect(
+			final int[] tableNumbers,
+			final int[] columnNumbers,
+			final int[] formulaNumbers,
+			final int batchSize) {
 
 		Arrays.sort( tableNumbers ); //get 'em in the right order (not that it really matters)
 
@@ -3773,7 +3938,9 @@ public abstract class AbstractEntityPersister
 				getRootAlias(),
 				drivingTable
 		); //we *could* regerate this inside each called method!
-		final String where = createWhereByKey( drivingTable, drivingAlias );
+		final String where = batchSize == 1
+				? createWhereByKey( drivingTable, drivingAlias )
+				: createWhereByKeys( drivingTable, drivingAlias, batchSize );
 		final String from = createFrom( drivingTable, drivingAlias );
 
 		//now render the joins
@@ -3781,6 +3948,9 @@ public abstract class AbstractEntityPersister
 
 		//now render the select clause
 		SelectFragment selectFragment = createSelect( columnNumbers, formulaNumbers );
+		if ( batchSize > 1 ) {
+			selectFragment.addColumns( drivingAlias, getSubclassTableKeyColumns( drivingTable ), getIdentifierAliases() );
+		}
 
 		//now tie it all together
 		Select select = new Select( getFactory().getDialect() );
@@ -3852,6 +4022,20 @@ public abstract class AbstractEntityPersister
 		//select SQL
 		sqlSnapshotSelectString = generateSnapshotSelectString();
 		sqlLazySelectStringsByFetchGroup = generateLazySelectStringsByFetchGroup();
+		if ( isBatchLoadable() && !sqlLazySelectStringsByFetchGroup.isEmpty() ) {
+			lazyBatchSizes = ArrayHelper.getBatchSizes( batchSize );
+			sqlLazyBatchSelectStringsByFetchGroup = new HashMap<String, String[]>();
+			for ( int i = 0; i < lazyBatchSizes.length; i++ ) {
+				for ( Map.Entry<String, String> entry : generateLazySelectStringsByFetchGroup( lazyBatchSizes[i] ).entrySet() ) {
+					String[] batchSelects = sqlLazyBatchSelectStringsByFetchGroup.get( entry.getKey() );
+					if ( batchSelects == null ) {
+						batchSelects = new String[lazyBatchSizes.length];
+						sqlLazyBatchSelectStringsByFetchGroup.put( entry.getKey(), batchSelects );
+					}
+					batchSelects[i] = entry.getValue();
+				}
+			}
+		}
 		sqlVersionSelectString = generateSelectVersionString();
 		if ( hasInsertGeneratedProperties() ) {
 			sqlInsertGeneratedValuesSelectString = generateInsertGeneratedValuesSelectString();
@@ -3893,70 +4077,59 @@ public abstract class AbstractEntityPersister
 
 	//Relational based Persisters should be content with this implementation
 	protected void createLoaders() {
-		final Map loaders = getLoaders();
-		loaders.put( LockMode.NONE, createEntityLoader( LockMode.NONE ) );
-
-		UniqueEntityLoader readLoader = createEntityLoader( LockMode.READ );
-		loaders.put( LockMode.READ, readLoader );
-
-		//TODO: inexact, what we really need to know is: are any outer joins used?
-		boolean disableForUpdate = getSubclassTableSpan() > 1 &&
-				hasSubclasses() &&
-				!getFactory().getDialect().supportsOuterJoinForUpdate();
-
-		loaders.put(
-				LockMode.UPGRADE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE )
-		);
-		loaders.put(
-				LockMode.UPGRADE_NOWAIT,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE_NOWAIT )
-		);
-		loaders.put(
-				LockMode.UPGRADE_SKIPLOCKED,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.UPGRADE_SKIPLOCKED )
-		);
-		loaders.put(
-				LockMode.FORCE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.FORCE )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_READ,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_READ )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_WRITE,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_WRITE )
-		);
-		loaders.put(
-				LockMode.PESSIMISTIC_FORCE_INCREMENT,
-				disableForUpdate ?
-						readLoader :
-						createEntityLoader( LockMode.PESSIMISTIC_FORCE_INCREMENT )
-		);
-		loaders.put( LockMode.OPTIMISTIC, createEntityLoader( LockMode.OPTIMISTIC ) );
-		loaders.put( LockMode.OPTIMISTIC_FORCE_INCREMENT, createEntityLoader( LockMode.OPTIMISTIC_FORCE_INCREMENT ) );
+		// the static loaders of the other lock modes are built on first use
+		for ( LockMode lockMode : getFactory().getSessionFactoryOptions().getPrewarmedLockModes() ) {
+			getStaticLoader( lockMode );
+		}
+	}
 
-		loaders.put(
-				"merge",
-				new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() )
-		);
-		loaders.put(
-				"refresh",
-				new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() )
-		);
+	/**
+	 * Get the static loader for the given lock mode or internal fetch profile, building it on first use.
+	 *
+	 * @param key The {@link LockMode}, or the name of the internal fetch profile
+	 *
+	 * @return The loader
+	 */
+	protected UniqueEntityLoader getStaticLoader(Object key) {
+		UniqueEntityLoader loader = loaders.get( key );
+		if ( loader == null ) {
+			loader = buildStaticLoader( key );
+			// another thread might have built the loader concurrently
+			final UniqueEntityLoader existing = loaders.putIfAbsent( key, loader );
+			if ( existing != null ) {
+				loader = existing;
+			}
+		}
+		return loader;
+	}
+
+	private UniqueEntityLoader buildStaticLoader(Object key) {
+		if ( "merge".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() );
+		}
+		if ( "refresh".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() );
+		}
+
+		final LockMode lockMode = (LockMode) key;
+		switch ( lockMode ) {
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+			case FORCE:
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case PESSIMISTIC_FORCE_INCREMENT: {
+				//TODO: inexact, what we really need to know is: are any outer joins used?
+				final boolean disableForUpdate = getSubclassTableSpan() > 1
+						&& hasSubclasses()
+						&& !getFactory().getDialect().supportsOuterJoinForUpdate();
+				return disableForUpdate ? getStaticLoader( LockMode.READ ) : createEntityLoader( lockMode );
+			}
+			default: {
+				return createEntityLoader( lockMode );
+			}
+		}
 	}
 
 	protected void createQueryLoader() {
@@ -4028,7 +4201,7 @@ public abstract class AbstractEntityPersister
 			// Next, we consider whether an 'internal' fetch profile has been set.
 			// This indicates a special fetch profile Hibernate needs applied
 			// (for its merge loading process e.g.).
-			return (UniqueEntityLoader) getLoaders().get( session.getLoadQueryInfluencers().getInternalFetchProfile() );
+			return getStaticLoader( session.getLoadQueryInfluencers().getInternalFetchProfile() );
 		}
 		else if ( isAffectedByEnabledFetchProfiles( session ) ) {
 			// If the session has associated influencers we need to adjust the
@@ -4042,7 +4215,7 @@ public abstract class AbstractEntityPersister
 			return createEntityLoader( lockOptions, session.getLoadQueryInfluencers() );
 		}
 		else {
-			return (UniqueEntityLoader) getLoaders().get( lockOptions.getLockMode() );
+			return getStaticLoader( lockOptions.getLockMode() );
 		}
 	}
 
@@ -5227,6 +5400,32 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class BinaryCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final BinaryCacheEntry structure;
+
+		private BinaryCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new BinaryCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SessionImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
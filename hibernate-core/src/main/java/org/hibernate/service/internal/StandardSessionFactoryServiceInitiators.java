@@ -13,6 +13,7 @@ import java.util.List;
 import org.hibernate.engine.query.spi.NativeQueryInterpreterInitiator;
 import org.hibernate.engine.spi.CacheInitiator;
 import org.hibernate.event.service.internal.EventListenerServiceInitiator;
+import org.hibernate.id.enhanced.IdentifierPrefetchServiceInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.stat.internal.StatisticsInitiator;
 
@@ -34,6 +35,8 @@ public class StandardSessionFactoryServiceInitiators {
 
 		serviceInitiators.add( NativeQueryInterpreterInitiator.INSTANCE );
 
+		serviceInitiators.add( IdentifierPrefetchServiceInitiator.INSTANCE );
+
 		return Collections.unmodifiableList( serviceInitiators );
 	}
 
@@ -114,6 +114,26 @@ public interface Statistics {
      * Get the global number of cacheable queries put in cache
      */
 	public long getQueryCachePutCount();
+	/**
+	 * Get the global number of query plans retrieved from the query plan cache
+	 */
+	public long getQueryPlanCacheHitCount();
+	/**
+	 * Get the global number of query plans *not* found in the query plan cache, and compiled
+	 */
+	public long getQueryPlanCacheMissCount();
+	/**
+	 * Get the global number of query plans evicted from (or not admitted into) the query plan cache
+	 */
+	public long getQueryPlanCacheEvictionCount();
+	/**
+	 * Get the total time spent compiling query plans (in milliseconds)
+	 */
+	public long getQueryCompilationTotalTime();
+	/**
+	 * Get the time spent compiling the query plan compiled most slowly (in milliseconds)
+	 */
+	public long getQueryCompilationMaxTime();
 	/**
 	 * Get the global number of naturalId queries executed against the database
 	 */
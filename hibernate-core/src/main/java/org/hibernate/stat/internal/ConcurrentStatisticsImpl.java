@@ -78,6 +78,12 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 	private AtomicLong queryCacheMissCount = new AtomicLong();
 	private AtomicLong queryCachePutCount = new AtomicLong();
 
+	private AtomicLong queryPlanCacheHitCount = new AtomicLong();
+	private AtomicLong queryPlanCacheMissCount = new AtomicLong();
+	private AtomicLong queryPlanCacheEvictionCount = new AtomicLong();
+	private AtomicLong queryCompilationTotalTime = new AtomicLong();
+	private AtomicLong queryCompilationMaxTime = new AtomicLong();
+
 	private AtomicLong updateTimestampsCacheHitCount = new AtomicLong();
 	private AtomicLong updateTimestampsCacheMissCount = new AtomicLong();
 	private AtomicLong updateTimestampsCachePutCount = new AtomicLong();
@@ -160,6 +166,12 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		queryCacheMissCount.set( 0 );
 		queryCachePutCount.set( 0 );
 
+		queryPlanCacheHitCount.set( 0 );
+		queryPlanCacheMissCount.set( 0 );
+		queryPlanCacheEvictionCount.set( 0 );
+		queryCompilationTotalTime.set( 0 );
+		queryCompilationMaxTime.set( 0 );
+
 		updateTimestampsCacheMissCount.set( 0 );
 		updateTimestampsCacheHitCount.set( 0 );
 		updateTimestampsCachePutCount.set( 0 );
@@ -425,6 +437,33 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 			qs.executed( rows, time );
 		}
 	}
+
+	@Override
+	public void queryPlanCacheHit() {
+		queryPlanCacheHitCount.getAndIncrement();
+	}
+
+	@Override
+	public void queryPlanCacheMiss() {
+		queryPlanCacheMissCount.getAndIncrement();
+	}
+
+	@Override
+	public void queryPlanCacheEviction() {
+		queryPlanCacheEvictionCount.getAndIncrement();
+	}
+
+	@Override
+	public void queryCompiled(String query, long time) {
+		queryCompilationTotalTime.getAndAdd( time );
+		//noinspection StatementWithEmptyBody
+		for ( long old = queryCompilationMaxTime.get();
+				time > old && !queryCompilationMaxTime.compareAndSet( old, time );
+				old = queryCompilationMaxTime.get() ) {
+			// nothing to do here given the odd loop structure...
+		}
+	}
+
 	@Override
 	public void queryCacheHit(String hql, String regionName) {
 		queryCacheHitCount.getAndIncrement();
@@ -559,6 +598,26 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		return updateTimestampsCacheHitCount.get();
 	}
 	@Override
+	public long getQueryPlanCacheHitCount() {
+		return queryPlanCacheHitCount.get();
+	}
+	@Override
+	public long getQueryPlanCacheMissCount() {
+		return queryPlanCacheMissCount.get();
+	}
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.get();
+	}
+	@Override
+	public long getQueryCompilationTotalTime() {
+		return queryCompilationTotalTime.get();
+	}
+	@Override
+	public long getQueryCompilationMaxTime() {
+		return queryCompilationMaxTime.get();
+	}
+	@Override
 	public long getUpdateTimestampsCacheMissCount() {
 		return updateTimestampsCacheMissCount.get();
 	}
@@ -744,6 +803,10 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 		LOG.queryCacheHits( queryCacheHitCount.get() );
 		LOG.queryCacheMisses( queryCacheMissCount.get() );
 		LOG.maxQueryTime( queryExecutionMaxTime.get() );
+		LOG.queryPlanCacheHits( queryPlanCacheHitCount.get() );
+		LOG.queryPlanCacheMisses( queryPlanCacheMissCount.get() );
+		LOG.queryPlanCacheEvictions( queryPlanCacheEvictionCount.get() );
+		LOG.queryCompilationTime( queryCompilationTotalTime.get() );
 	}
 
 	/**
@@ -898,6 +961,11 @@ public class ConcurrentStatisticsImpl implements StatisticsImplementor, Service
 				.append(",update timestamps cache hits=").append(updateTimestampsCacheHitCount)
 				.append(",update timestamps cache misses=").append(updateTimestampsCacheMissCount)
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
+				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
+				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
+				.append( ",query compilation time=" ).append( queryCompilationTotalTime )
+				.append( ",max query compilation time=" ).append( queryCompilationMaxTime )
 				.append( ']' )
 				.toString();
 	}
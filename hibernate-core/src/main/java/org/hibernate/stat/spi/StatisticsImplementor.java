@@ -217,6 +217,29 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	public void queryExecuted(String hql, int rows, long time);
 
+	/**
+	 * Callback indicating a query plan was retrieved from the query plan cache
+	 */
+	public void queryPlanCacheHit();
+
+	/**
+	 * Callback indicating a query plan was not found in the query plan cache
+	 */
+	public void queryPlanCacheMiss();
+
+	/**
+	 * Callback indicating a query plan was evicted from (or not admitted into) the query plan cache
+	 */
+	public void queryPlanCacheEviction();
+
+	/**
+	 * Callback indicating the compilation of a query plan
+	 *
+	 * @param query The query
+	 * @param time compilation time
+	 */
+	public void queryCompiled(String query, long time);
+
 
 	/**
 	 * Callback indicating a hit to the timestamp cache
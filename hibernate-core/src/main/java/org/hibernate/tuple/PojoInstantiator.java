@@ -75,7 +75,7 @@ public class PojoInstantiator implements Instantiator, Serializable {
 			throw new InstantiationException( "Cannot instantiate abstract class or interface: ", mappedClass );
 		}
 		else if ( optimizer != null ) {
-			return optimizer.newInstance();
+			return applyInterception( optimizer.newInstance() );
 		}
 		else if ( constructor == null ) {
 			throw new InstantiationException( "No default constructor for entity: ", mappedClass );
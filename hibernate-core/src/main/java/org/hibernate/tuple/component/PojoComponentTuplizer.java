@@ -10,7 +10,9 @@ import java.lang.reflect.Method;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.bytecode.spi.AccessorReflectionOptimizerProvider;
 import org.hibernate.bytecode.spi.BasicProxyFactory;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -34,6 +36,7 @@ import org.hibernate.tuple.PojoInstantiator;
  */
 public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 	private final Class componentClass;
+	// built along with the instantiator, during the construction of the superclass
 	private ReflectionOptimizer optimizer;
 	private final Getter parentGetter;
 	private final Setter parentSetter;
@@ -43,15 +46,6 @@ public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 
 		this.componentClass = component.getComponentClass();
 
-		String[] getterNames = new String[propertySpan];
-		String[] setterNames = new String[propertySpan];
-		Class[] propTypes = new Class[propertySpan];
-		for ( int i = 0; i < propertySpan; i++ ) {
-			getterNames[i] = getters[i].getMethodName();
-			setterNames[i] = setters[i].getMethodName();
-			propTypes[i] = getters[i].getReturnType();
-		}
-
 		final String parentPropertyName = component.getParentProperty();
 		if ( parentPropertyName == null ) {
 			parentSetter = null;
@@ -67,17 +61,6 @@ public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 			parentSetter = propertyAccess.getSetter();
 			parentGetter = propertyAccess.getGetter();
 		}
-
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
-			optimizer = null;
-		}
-		else {
-			// TODO: here is why we need to make bytecode provider global :(
-			// TODO : again, fix this after HHH-1907 is complete
-			optimizer = Environment.getBytecodeProvider().getReflectionOptimizer(
-					componentClass, getterNames, setterNames, propTypes
-			);
-		}
 	}
 
 	public Class getMappedClass() {
@@ -131,6 +114,29 @@ public class PojoComponentTuplizer extends AbstractComponentTuplizer {
 		if ( component.isEmbedded() && ReflectHelper.isAbstractClass( component.getComponentClass() ) ) {
 			return new ProxiedInstantiator( component );
 		}
+		if ( Environment.useReflectionOptimizer() ) {
+			// TODO: here is why we need to make bytecode provider global :(
+			// TODO : again, fix this after HHH-1907 is complete
+			final BytecodeProvider bytecodeProvider = Environment.getBytecodeProvider();
+			if ( bytecodeProvider instanceof AccessorReflectionOptimizerProvider ) {
+				optimizer = ( (AccessorReflectionOptimizerProvider) bytecodeProvider ).getReflectionOptimizer(
+						component.getComponentClass(), getters, setters
+				);
+			}
+			else if ( !hasCustomAccessors ) {
+				String[] getterNames = new String[propertySpan];
+				String[] setterNames = new String[propertySpan];
+				Class[] propTypes = new Class[propertySpan];
+				for ( int i = 0; i < propertySpan; i++ ) {
+					getterNames[i] = getters[i].getMethodName();
+					setterNames[i] = setters[i].getMethodName();
+					propTypes[i] = getters[i].getReturnType();
+				}
+				optimizer = bytecodeProvider.getReflectionOptimizer(
+						component.getComponentClass(), getterNames, setterNames, propTypes
+				);
+			}
+		}
 		if ( optimizer == null ) {
 			return new PojoInstantiator( component, null );
 		}
@@ -95,6 +95,7 @@ public class EntityMetamodel implements Serializable {
 
 	private final Map<String, Integer> propertyIndexes = new HashMap<String, Integer>();
 	private final boolean hasCollections;
+	private final boolean hasAssociations;
 	private final boolean hasMutableProperties;
 	private final boolean hasLazyProperties;
 	private final boolean hasNonIdentifierPropertyNamedId;
@@ -103,6 +104,8 @@ public class EntityMetamodel implements Serializable {
 	private final boolean hasImmutableNaturalId;
 	private final boolean hasCacheableNaturalId;
 
+	private final int queryCachePartitionPropertyIndex;
+
 	private boolean lazy; //not final because proxy factory creation can fail
 	private final boolean hasCascades;
 	private final boolean mutable;
@@ -180,8 +183,10 @@ public class EntityMetamodel implements Serializable {
 		Iterator iter = persistentClass.getPropertyClosureIterator();
 		int i = 0;
 		int tempVersionProperty = NO_VERSION_INDX;
+		int tempQueryCachePartitionProperty = -1;
 		boolean foundCascade = false;
 		boolean foundCollection = false;
+		boolean foundAssociation = indicatesAssociation( identifierAttribute.getType() );
 		boolean foundMutable = false;
 		boolean foundNonIdentifierPropertyNamedId = false;
 		boolean foundInsertGeneratedValue = false;
@@ -218,6 +223,13 @@ public class EntityMetamodel implements Serializable {
 				}
 			}
 
+			if ( prop.isQueryCachePartition() ) {
+				if ( tempQueryCachePartitionProperty != -1 ) {
+					throw new MappingException( "More than one query cache partition property: " + name );
+				}
+				tempQueryCachePartitionProperty = i;
+			}
+
 			if ( "id".equals( prop.getName() ) ) {
 				foundNonIdentifierPropertyNamedId = true;
 			}
@@ -287,6 +299,10 @@ public class EntityMetamodel implements Serializable {
 				foundCollection = true;
 			}
 
+			if ( indicatesAssociation( properties[i].getType() ) ) {
+				foundAssociation = true;
+			}
+
 			if ( propertyTypes[i].isMutable() && propertyCheckability[i] ) {
 				foundMutable = true;
 			}
@@ -314,6 +330,7 @@ public class EntityMetamodel implements Serializable {
 		hasCascades = foundCascade;
 		hasNonIdentifierPropertyNamedId = foundNonIdentifierPropertyNamedId;
 		versionPropertyIndex = tempVersionProperty;
+		queryCachePartitionPropertyIndex = tempQueryCachePartitionProperty;
 		hasLazyProperties = hasLazy;
 		if (hasLazyProperties) {
 			LOG.lazyPropertyFetchingAvailable(name);
@@ -361,6 +378,7 @@ public class EntityMetamodel implements Serializable {
 		}
 
 		hasCollections = foundCollection;
+		hasAssociations = foundAssociation;
 		hasMutableProperties = foundMutable;
 
 		iter = persistentClass.getSubclassIterator();
@@ -853,6 +871,16 @@ public class EntityMetamodel implements Serializable {
 		return hasNaturalIdentifier() && hasCacheableNaturalId;
 	}
 
+	/**
+	 * The index of the property partitioning the invalidation of the cached query results, see
+	 * {@link org.hibernate.annotations.QueryCachePartition}.
+	 *
+	 * @return The property index, or -1 if the entity is not partitioned
+	 */
+	public int getQueryCachePartitionPropertyIndex() {
+		return queryCachePartitionPropertyIndex;
+	}
+
 	public boolean hasImmutableNaturalId() {
 		return hasImmutableNaturalId;
 	}
@@ -876,6 +904,21 @@ public class EntityMetamodel implements Serializable {
 		return false;
 	}
 
+	private boolean indicatesAssociation(Type type) {
+		if ( type.isAssociationType() ) {
+			return true;
+		}
+		else if ( type.isComponentType() ) {
+			Type[] subtypes = ( (CompositeType) type ).getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				if ( indicatesAssociation( subtypes[i] ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
 	public SessionFactoryImplementor getSessionFactory() {
 		return sessionFactory;
 	}
@@ -933,6 +976,16 @@ public class EntityMetamodel implements Serializable {
 		return hasCollections;
 	}
 
+	/**
+	 * Does the entity have any association, whether an entity, collection or any association, possibly within a
+	 * component or the identifier?
+	 *
+	 * @return {@code true} if the entity has associations
+	 */
+	public boolean hasAssociations() {
+		return hasAssociations;
+	}
+
 	public boolean hasMutableProperties() {
 		return hasMutableProperties;
 	}
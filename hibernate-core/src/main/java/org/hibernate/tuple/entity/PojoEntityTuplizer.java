@@ -17,6 +17,8 @@ import org.hibernate.EntityNameResolver;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.bytecode.spi.AccessorReflectionOptimizerProvider;
+import org.hibernate.bytecode.spi.BytecodeProvider;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cfg.Environment;
 import org.hibernate.classic.Lifecycle;
@@ -51,7 +53,8 @@ public class PojoEntityTuplizer extends AbstractEntityTuplizer {
 	private final Class mappedClass;
 	private final Class proxyInterface;
 	private final boolean lifecycleImplementor;
-	private final ReflectionOptimizer optimizer;
+	// built along with the instantiator, during the construction of the superclass
+	private ReflectionOptimizer optimizer;
 
 	private final boolean isBytecodeEnhanced;
 
@@ -62,31 +65,6 @@ public class PojoEntityTuplizer extends AbstractEntityTuplizer {
 		this.proxyInterface = mappedEntity.getProxyInterface();
 		this.lifecycleImplementor = Lifecycle.class.isAssignableFrom( mappedClass );
 		this.isBytecodeEnhanced = entityMetamodel.getBytecodeEnhancementMetadata().isEnhancedForLazyLoading();
-
-		String[] getterNames = new String[propertySpan];
-		String[] setterNames = new String[propertySpan];
-		Class[] propTypes = new Class[propertySpan];
-		for ( int i = 0; i < propertySpan; i++ ) {
-			getterNames[i] = getters[i].getMethodName();
-			setterNames[i] = setters[i].getMethodName();
-			propTypes[i] = getters[i].getReturnType();
-		}
-
-		if ( hasCustomAccessors || !Environment.useReflectionOptimizer() ) {
-			optimizer = null;
-		}
-		else {
-			// todo : YUCK!!!
-			optimizer = Environment.getBytecodeProvider().getReflectionOptimizer(
-					mappedClass,
-					getterNames,
-					setterNames,
-					propTypes
-			);
-//			optimizer = getFactory().getSettings().getBytecodeProvider().getReflectionOptimizer(
-//					mappedClass, getterNames, setterNames, propTypes
-//			);
-		}
 	}
 
 	@Override
@@ -190,6 +168,33 @@ public class PojoEntityTuplizer extends AbstractEntityTuplizer {
 
 	@Override
 	protected Instantiator buildInstantiator(EntityMetamodel entityMetamodel, PersistentClass persistentClass) {
+		if ( Environment.useReflectionOptimizer() ) {
+			// todo : YUCK!!!
+			final BytecodeProvider bytecodeProvider = Environment.getBytecodeProvider();
+			if ( bytecodeProvider instanceof AccessorReflectionOptimizerProvider ) {
+				optimizer = ( (AccessorReflectionOptimizerProvider) bytecodeProvider ).getReflectionOptimizer(
+						persistentClass.getMappedClass(),
+						getters,
+						setters
+				);
+			}
+			else if ( !hasCustomAccessors ) {
+				String[] getterNames = new String[propertySpan];
+				String[] setterNames = new String[propertySpan];
+				Class[] propTypes = new Class[propertySpan];
+				for ( int i = 0; i < propertySpan; i++ ) {
+					getterNames[i] = getters[i].getMethodName();
+					setterNames[i] = setters[i].getMethodName();
+					propTypes[i] = getters[i].getReturnType();
+				}
+				optimizer = bytecodeProvider.getReflectionOptimizer(
+						persistentClass.getMappedClass(),
+						getterNames,
+						setterNames,
+						propTypes
+				);
+			}
+		}
 		if ( optimizer == null ) {
 			return new PojoEntityInstantiator( entityMetamodel, persistentClass, null );
 		}
@@ -23,6 +23,7 @@ import org.hibernate.engine.spi.Mapping;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
@@ -264,6 +265,18 @@ public abstract class AbstractStandardBasicType<T>
 		return options.remapSqlTypeDescriptor( sqlTypeDescriptor );
 	}
 
+	/**
+	 * Resolve the binder used to bind values of this type, allowing callers binding the same
+	 * type repeatedly to skip the resolution on each bind.
+	 *
+	 * @param options The options used to remap the SQL type descriptor (see {@link WrapperOptions#remapSqlTypeDescriptor})
+	 *
+	 * @return The binder
+	 */
+	public final ValueBinder<T> getValueBinder(WrapperOptions options) {
+		return remapSqlTypeDescriptor( options ).getBinder( javaTypeDescriptor );
+	}
+
 	public void set(PreparedStatement st, T value, int index, SessionImplementor session) throws HibernateException, SQLException {
 		nullSafeSet( st, value, index, session );
 	}
@@ -354,8 +367,19 @@ public abstract class AbstractStandardBasicType<T>
 		return remapSqlTypeDescriptor( options ).getExtractor( javaTypeDescriptor ).extract( statement, paramNames, options );
 	}
 	
+	private WrapperOptions getOptions(SessionImplementor session) {
+		return buildWrapperOptions( session );
+	}
+
+	/**
+	 * Build the options used to bind and extract values of basic types within the given session.
+	 *
+	 * @param session The session
+	 *
+	 * @return The options
+	 */
 	// TODO : have SessionImplementor extend WrapperOptions
-	private WrapperOptions getOptions(final SessionImplementor session) {
+	public static WrapperOptions buildWrapperOptions(final SessionImplementor session) {
 		return new WrapperOptions() {
 			public boolean useStreamForLobBinding() {
 				return Environment.useStreamsForBinary()
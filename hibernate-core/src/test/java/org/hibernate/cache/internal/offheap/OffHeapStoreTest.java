@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal.offheap;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the storage and eviction of the {@link OffHeapStore}.
+ */
+public class OffHeapStoreTest extends BaseUnitTestCase {
+	@Test
+	public void testPutAndGet() {
+		final OffHeapStore store = new OffHeapStore( 64 * 1024, 4, 32 );
+		final byte[] bytes = new byte[1000];
+		Arrays.fill( bytes, (byte) 7 );
+		assertTrue( store.put( "bytes", bytes ) );
+		assertTrue( store.put( "decimal", new BigDecimal( "12.50" ) ) );
+		assertTrue( store.put( "item", new ReadWriteAccessDelegate.Item( bytes, 3, 42L ) ) );
+
+		assertArrayEquals( bytes, (byte[]) store.get( "bytes" ) );
+		assertEquals( new BigDecimal( "12.50" ), store.get( "decimal" ) );
+		final ReadWriteAccessDelegate.Item item = (ReadWriteAccessDelegate.Item) store.get( "item" );
+		assertArrayEquals( bytes, (byte[]) item.getValue() );
+		assertEquals( 3, item.getVersion() );
+		assertEquals( 42L, item.getTimestamp() );
+		assertNull( store.get( "missing" ) );
+		assertEquals( 3, store.getElementCount() );
+		assertEquals( 3, store.toMap().size() );
+
+		store.remove( "bytes" );
+		assertNull( store.get( "bytes" ) );
+		assertFalse( store.containsKey( "bytes" ) );
+		store.clear();
+		assertEquals( 0, store.getElementCount() );
+		assertEquals( 0, store.getSizeInBytes() );
+	}
+
+	@Test
+	public void testReplaceReleasesBlocks() {
+		final OffHeapStore store = new OffHeapStore( 64 * 1024, 1, 32 );
+		store.put( "key", new byte[1000] );
+		final long size = store.getSizeInBytes();
+		store.put( "key", new byte[10] );
+		assertEquals( 32, store.getSizeInBytes() );
+		assertTrue( size > store.getSizeInBytes() );
+		assertEquals( 10, ( (byte[]) store.get( "key" ) ).length );
+	}
+
+	@Test
+	public void testValuesNotStored() {
+		final OffHeapStore store = new OffHeapStore( 1024, 1, 32 );
+		store.put( "key", "value" );
+		// larger than the store
+		assertFalse( store.put( "key", new byte[2048] ) );
+		assertNull( store.get( "key" ) );
+		// not serializable
+		assertFalse( store.put( "key", new Object() ) );
+		assertNull( store.get( "key" ) );
+	}
+
+	@Test
+	public void testEviction() {
+		// 16 blocks of 64 bytes
+		final OffHeapStore store = new OffHeapStore( 1024, 1, 64 );
+		for ( int i = 0; i < 100; i++ ) {
+			assertTrue( store.put( i, new byte[10] ) );
+		}
+		assertEquals( 16, store.getElementCount() );
+		assertEquals( 84, store.getEvictionCount() );
+		// the most recently put entries remain
+		for ( int i = 84; i < 100; i++ ) {
+			assertTrue( store.containsKey( i ) );
+		}
+	}
+
+	@Test
+	public void testEntriesReadAgainSurviveScans() {
+		final OffHeapStore store = new OffHeapStore( 1024, 1, 64 );
+		for ( int i = 0; i < 4; i++ ) {
+			store.put( "hot" + i, new byte[10] );
+			store.get( "hot" + i );
+		}
+		for ( int i = 0; i < 100; i++ ) {
+			store.put( "cold" + i, new byte[10] );
+		}
+		for ( int i = 0; i < 4; i++ ) {
+			assertTrue( store.containsKey( "hot" + i ) );
+		}
+		assertEquals( 16, store.getElementCount() );
+	}
+}
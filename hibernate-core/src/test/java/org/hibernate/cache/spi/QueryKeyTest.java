@@ -218,6 +218,7 @@ public class QueryKeyTest extends BaseUnitTestCase {
 				null,								// maxRows selection
 				Collections.EMPTY_SET, 				// filter keys
 				null,								// tenantIdentifier
+				null,								// cachePartition
 				resultTransformer					// the result transformer
 		);
 	}
@@ -18,9 +18,11 @@ import org.junit.Test;
 
 import java.sql.BatchUpdateException;
 import java.sql.SQLException;
+import java.sql.Types;
 
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -78,4 +80,14 @@ public class PostgreSQL81DialectTestCase extends BaseUnitTestCase {
 		String constraintName = dialect.getViolatedConstraintNameExtracter().extractConstraintName(batchUpdateException);
 		assertThat(constraintName, is("uk_4bm1x2ultdmq63y3h5r3eg0ej"));
 	}
+
+	@Test
+	public void testArrayParameterRestriction() {
+		PostgreSQL81Dialect dialect = new PostgreSQL81Dialect();
+		assertThat( dialect.getArrayParameterRestriction( "p.id" ), is( "p.id = any(?)" ) );
+		// dialects without array parameter restrictions fall back to IN lists
+		assertNull( new H2Dialect().getArrayParameterRestriction( "p.id" ) );
+		assertThat( dialect.getArrayElementTypeName( Types.BIGINT ), is( "int8" ) );
+		assertThat( dialect.getArrayElementTypeName( Types.VARCHAR ), is( "varchar" ) );
+	}
 }
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.spi.access.BulkRegionAccessStrategy;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the bulk second-level cache access of {@link CacheHelper}, natively and through the per-key fallback.
+ */
+public class CacheHelperTest extends BaseUnitTestCase {
+	private SessionImplementor session;
+
+	@Before
+	public void setUp() {
+		session = mock( SessionImplementor.class );
+		when( session.getEventListenerManager() ).thenReturn( mock( SessionEventListenerManager.class ) );
+		when( session.getTimestamp() ).thenReturn( 42L );
+	}
+
+	@Test
+	public void testGetAllFallsBackToPerKeyGet() {
+		final EntityRegionAccessStrategy cache = mock( EntityRegionAccessStrategy.class );
+		when( cache.get( session, "a", 42L ) ).thenReturn( "A" );
+
+		final Map<Object, Object> cached = CacheHelper.fromSharedCache( session, Arrays.asList( "a", "b" ), cache );
+
+		assertEquals( Collections.<Object, Object>singletonMap( "a", "A" ), cached );
+		verify( cache ).get( session, "b", 42L );
+	}
+
+	@Test
+	public void testGetAllUsesBulkAccess() {
+		final List<String> keys = Arrays.asList( "a", "b" );
+		final BulkRegionAccessStrategy cache = mock( BulkRegionAccessStrategy.class );
+		when( cache.getAll( session, keys, 42L ) ).thenReturn( Collections.<Object, Object>singletonMap( "b", "B" ) );
+
+		final Map<Object, Object> cached = CacheHelper.fromSharedCache( session, keys, cache );
+
+		assertEquals( Collections.<Object, Object>singletonMap( "b", "B" ), cached );
+		verify( cache, never() ).get( eq( session ), anyObject(), anyLong() );
+	}
+
+	@Test
+	public void testPutAllFallsBackToPerKeyPut() {
+		final EntityRegionAccessStrategy cache = mock( EntityRegionAccessStrategy.class );
+		when( cache.putFromLoad( session, "a", "A", 42L, 1, true ) ).thenReturn( true );
+		when( cache.putFromLoad( session, "b", "B", 42L, 2, true ) ).thenReturn( false );
+
+		final int count = CacheHelper.putAllFromLoad(
+				session,
+				cache,
+				new Object[] { "a", "b" },
+				new Object[] { "A", "B" },
+				new Object[] { 1, 2 },
+				true
+		);
+
+		assertEquals( 1, count );
+	}
+
+	@Test
+	public void testPutAllUsesBulkAccess() {
+		final Object[] keys = { "a", "b" };
+		final Object[] values = { "A", "B" };
+		final Object[] versions = { null, null };
+		final BulkRegionAccessStrategy cache = mock( BulkRegionAccessStrategy.class );
+		when( cache.putAllFromLoad( session, keys, values, 42L, versions, false ) ).thenReturn( 2 );
+
+		assertEquals( 2, CacheHelper.putAllFromLoad( session, cache, keys, values, versions, false ) );
+		verify( cache, never() ).putFromLoad(
+				eq( session ),
+				anyObject(),
+				anyObject(),
+				anyLong(),
+				anyObject(),
+				anyBoolean()
+		);
+	}
+}
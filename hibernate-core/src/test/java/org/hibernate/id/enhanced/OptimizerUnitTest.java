@@ -6,6 +6,15 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Test;
 
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -13,6 +22,7 @@ import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -259,6 +269,73 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 		assertEquals( 4, sequence.getCurrentValue() );
 	}
 
+	@Test
+	public void testPrefetchingPooledOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledOptimizer( -1, 10 );
+		( (PrefetchAwareOptimizer) optimizer ).enablePrefetch( 2 );
+
+		for ( int i = 1; i <= 9; i++ ) {
+			final Long next = (Long) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 11, sequence.getCurrentValue() );
+
+		// reaching the low water mark reserves the next block...
+		Long next = (Long) optimizer.generate( sequence );
+		assertEquals( 10, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+
+		// ...which is then used without accessing the source again
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( 11, next.intValue() );
+		next = (Long) optimizer.generate( sequence );
+		assertEquals( 12, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testConcurrentPooledOptimizerUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 1000;
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledOptimizer( -1, 10 );
+
+		final Set<Long> values = Collections.newSetFromMap( new ConcurrentHashMap<Long, Boolean>() );
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<Future<?>>();
+			for ( int t = 0; t < threads; t++ ) {
+				futures.add(
+						executor.submit(
+								new Runnable() {
+									@Override
+									public void run() {
+										for ( int i = 0; i < valuesPerThread; i++ ) {
+											values.add( (Long) optimizer.generate( sequence ) );
+										}
+									}
+								}
+						)
+				);
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		// every value handed out exactly once, with no gaps
+		assertEquals( threads * valuesPerThread, values.size() );
+		for ( long i = 1; i <= threads * valuesPerThread; i++ ) {
+			assertTrue( values.contains( i ) );
+		}
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -0,0 +1,215 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.math.BigDecimal;
+import java.util.List;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+import javax.persistence.SecondaryTable;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests executing batched inserts as multi-row inserts.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "batch/DataPoint.hbm.xml" };
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Vehicle.class, Car.class, Document.class, Note.class };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( Environment.BATCH_MULTI_ROW_INSERTS, "true" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testMultiRowInsert() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 25; i++ ) {
+			DataPoint dp = new DataPoint();
+			dp.setX( new BigDecimal( i ) );
+			dp.setY( new BigDecimal( i * 2 ) );
+			dp.setDescription( i % 2 == 0 ? "even" : null );
+			s.save( dp );
+		}
+		sessionFactory().getStatistics().clear();
+		t.commit();
+		s.close();
+
+		// 2 full multi-row inserts of 10 rows, and one of the remaining 5 rows
+		assertEquals( 3, sessionFactory().getStatistics().getPrepareStatementCount() );
+
+		s = openSession();
+		t = s.beginTransaction();
+		List list = s.createQuery( "from DataPoint dp order by dp.x" ).list();
+		assertEquals( 25, list.size() );
+		for ( int i = 0; i < 25; i++ ) {
+			DataPoint dp = (DataPoint) list.get( i );
+			assertEquals( i, dp.getX().intValue() );
+			assertEquals( i * 2, dp.getY().intValue() );
+			assertEquals( i % 2 == 0 ? "even" : null, dp.getDescription() );
+		}
+		s.createQuery( "delete DataPoint" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+
+	@Test
+	public void testJoinedInheritance() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 25; i++ ) {
+			Car car = new Car();
+			car.id = (long) i;
+			car.name = "car " + i;
+			car.seats = i % 5;
+			car.doors = i % 3;
+			car.color = i % 2 == 0 ? "red" : "blue";
+			car.mileage = i * 1000;
+			s.persist( car );
+		}
+		// the rows of the subclass table are inserted by their own statements, once the rows of the superclass
+		// table they reference have been
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		List list = s.createQuery( "from Car c order by c.id" ).list();
+		assertEquals( 25, list.size() );
+		for ( int i = 0; i < 25; i++ ) {
+			Car car = (Car) list.get( i );
+			assertEquals( "car " + i, car.name );
+			assertEquals( i % 5, car.seats );
+			assertEquals( i * 1000, car.mileage );
+		}
+		s.createQuery( "delete Car" ).executeUpdate();
+		s.createQuery( "delete Vehicle" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+
+	@Test
+	public void testSecondaryTable() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 25; i++ ) {
+			Document document = new Document();
+			document.id = (long) i;
+			document.title = "title " + i;
+			document.content = "content " + i;
+			s.persist( document );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		List list = s.createQuery( "from Document d order by d.id" ).list();
+		assertEquals( 25, list.size() );
+		for ( int i = 0; i < 25; i++ ) {
+			Document document = (Document) list.get( i );
+			assertEquals( "title " + i, document.title );
+			assertEquals( "content " + i, document.content );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		for ( Object document : list ) {
+			s.delete( document );
+		}
+		t.commit();
+		s.close();
+	}
+
+	@Test
+	public void testDynamicInsert() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 25; i++ ) {
+			Note note = new Note();
+			note.id = (long) i;
+			note.text = i % 2 == 0 ? "text " + i : null;
+			s.persist( note );
+		}
+		// two distinct inserts are batched together, the rows of both being executed once either is full
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		List list = s.createQuery( "from Note n order by n.id" ).list();
+		assertEquals( 25, list.size() );
+		for ( int i = 0; i < 25; i++ ) {
+			assertEquals( i % 2 == 0 ? "text " + i : null, ( (Note) list.get( i ) ).text );
+		}
+		s.createQuery( "delete Note" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+
+	@Entity(name = "Vehicle")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Vehicle {
+		@Id
+		Long id;
+		String name;
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		int seats;
+		int doors;
+		String color;
+		long mileage;
+	}
+
+	@Entity(name = "Note")
+	@DynamicInsert
+	public static class Note {
+		@Id
+		Long id;
+		String text;
+	}
+
+	@Entity(name = "Document")
+	@SecondaryTable(name = "document_content")
+	public static class Document {
+		@Id
+		Long id;
+		String title;
+		@Column(table = "document_content")
+		String content;
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.math.BigDecimal;
+
+import org.hibernate.Session;
+import org.hibernate.StaleStateException;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests flushes executing their batches back to back and verifying the row counts at the end of the flush.
+ */
+public class PipelinedFlushTest extends BaseCoreFunctionalTestCase {
+	private boolean pipelined = true;
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "batch/DataPoint.hbm.xml" };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "10" );
+		cfg.setProperty( Environment.BATCH_PIPELINED_FLUSH, Boolean.toString( pipelined ) );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testPipelinedFlush() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 25; i++ ) {
+			s.save( dataPoint( i ) );
+		}
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		for ( Object dp : s.createQuery( "from DataPoint dp where dp.x < 10" ).list() ) {
+			( (DataPoint) dp ).setDescription( "updated" );
+		}
+		for ( Object dp : s.createQuery( "from DataPoint dp where dp.x >= 20" ).list() ) {
+			s.delete( dp );
+		}
+		s.save( dataPoint( 25 ) );
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		assertEquals( 10L, s.createQuery( "select count(*) from DataPoint dp where dp.description = 'updated'" ).uniqueResult() );
+		assertEquals( 21L, s.createQuery( "select count(*) from DataPoint" ).uniqueResult() );
+		s.createQuery( "delete DataPoint" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+
+	@Test
+	public void testStaleRowFailsFlushAfterExecutingAllBatches() {
+		assertEquals( 1, staleFlushDeleteCount() );
+
+		pipelined = false;
+		rebuildSessionFactory();
+
+		assertEquals( 0, staleFlushDeleteCount() );
+	}
+
+	/**
+	 * Flushes the update of a row deleted by another session and the delete of another row, returning the number
+	 * of deletes executed before the flush failed.
+	 */
+	private long staleFlushDeleteCount() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		final DataPoint stale = dataPoint( 1 );
+		final DataPoint deleted = dataPoint( 2 );
+		s.save( stale );
+		s.save( deleted );
+		t.commit();
+
+		Session other = openSession();
+		other.beginTransaction();
+		other.delete( other.get( DataPoint.class, stale.getId() ) );
+		other.getTransaction().commit();
+		other.close();
+
+		sessionFactory().getStatistics().clear();
+		t = s.beginTransaction();
+		stale.setDescription( "stale" );
+		s.delete( deleted );
+		try {
+			s.flush();
+			fail( "expecting StaleStateException" );
+		}
+		catch (StaleStateException expected) {
+		}
+		t.rollback();
+		s.close();
+		final long deleteCount = sessionFactory().getStatistics().getEntityDeleteCount();
+
+		s = openSession();
+		t = s.beginTransaction();
+		assertNull( s.get( DataPoint.class, stale.getId() ) );
+		s.delete( s.get( DataPoint.class, deleted.getId() ) );
+		t.commit();
+		s.close();
+
+		return deleteCount;
+	}
+
+	private static DataPoint dataPoint(int i) {
+		DataPoint dp = new DataPoint();
+		dp.setX( new BigDecimal( i ) );
+		dp.setY( new BigDecimal( i * 2 ) );
+		return dp;
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.lazy.basic;
+
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.test.bytecode.enhancement.AbstractEnhancerTestTask;
+import org.junit.Assert;
+
+/**
+ * Tests loading the lazy attributes of several instances of an entity at once.
+ */
+public class LazyBasicBatchLoadingTestTask extends AbstractEnhancerTestTask {
+
+	private static final int ENTITY_COUNT = 7;
+
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {Document.class};
+	}
+
+	public void prepare() {
+		Configuration cfg = new Configuration();
+		cfg.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "false" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+		super.prepare( cfg );
+
+		Session s = getFactory().openSession();
+		s.beginTransaction();
+		for ( long i = 0; i < ENTITY_COUNT; i++ ) {
+			Document document = new Document();
+			document.id = i;
+			document.title = "title " + i;
+			document.text = "text " + i;
+			document.summary = "summary " + i;
+			s.persist( document );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@SuppressWarnings("unchecked")
+	public void execute() {
+		Session s = getFactory().openSession();
+		s.beginTransaction();
+
+		List<Document> documents = s.createQuery( "from Document d order by d.id" ).list();
+		Assert.assertEquals( ENTITY_COUNT, documents.size() );
+		for ( Document document : documents ) {
+			Assert.assertFalse( Hibernate.isPropertyInitialized( document, "text" ) );
+		}
+
+		// one select initializes the text of a batch of documents
+		getFactory().getStatistics().clear();
+		Assert.assertEquals( "text 0", documents.get( 0 ).getText() );
+		Assert.assertEquals( 1, getFactory().getStatistics().getPrepareStatementCount() );
+		int initialized = 0;
+		for ( Document document : documents ) {
+			if ( Hibernate.isPropertyInitialized( document, "text" ) ) {
+				initialized++;
+			}
+		}
+		Assert.assertEquals( 4, initialized );
+
+		// the remaining documents are initialized by a second select, padded to the batch size
+		for ( Document document : documents ) {
+			Assert.assertEquals( "text " + document.id, document.getText() );
+		}
+		Assert.assertEquals( 2, getFactory().getStatistics().getPrepareStatementCount() );
+
+		s.getTransaction().commit();
+		s.close();
+
+		// a document initialized by a write is not overwritten by the batch
+		s = getFactory().openSession();
+		s.beginTransaction();
+		documents = s.createQuery( "from Document d order by d.id" ).list();
+		documents.get( 1 ).setText( "changed" );
+		Assert.assertEquals( "text 0", documents.get( 0 ).getText() );
+		Assert.assertEquals( "changed", documents.get( 1 ).getText() );
+		Assert.assertEquals( "text 2", documents.get( 2 ).getText() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = getFactory().openSession();
+		s.beginTransaction();
+		Assert.assertEquals( "changed", s.get( Document.class, 1L ).getText() );
+		s.getTransaction().commit();
+		s.close();
+
+		// the other attributes of the fetch group are loaded around an attribute initialized by a write
+		s = getFactory().openSession();
+		s.beginTransaction();
+		documents = s.createQuery( "from Document d order by d.id" ).list();
+		documents.get( 0 ).setText( "changed 0" );
+		documents.get( 2 ).setText( "changed 2" );
+		Assert.assertEquals( "summary 0", documents.get( 0 ).getSummary() );
+		Assert.assertEquals( "changed 0", documents.get( 0 ).getText() );
+		Assert.assertTrue( Hibernate.isPropertyInitialized( documents.get( 2 ), "summary" ) );
+		Assert.assertEquals( "changed 2", documents.get( 2 ).getText() );
+		Assert.assertEquals( "summary 2", documents.get( 2 ).getSummary() );
+		Assert.assertEquals( "changed", documents.get( 1 ).getText() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = getFactory().openSession();
+		s.beginTransaction();
+		Assert.assertEquals( "changed 0", s.get( Document.class, 0L ).getText() );
+		Assert.assertEquals( "changed 2", s.get( Document.class, 2L ).getText() );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	protected void cleanup() {
+		Session s = getFactory().openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Document" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@javax.persistence.Entity(name = "Document")
+	@Table(name = "lazy_batch_document")
+	@BatchSize(size = 4)
+	public static class Document {
+		@Id
+		private Long id;
+
+		private String title;
+
+		@Basic(fetch = FetchType.LAZY)
+		private String text;
+
+		@Basic(fetch = FetchType.LAZY)
+		private String summary;
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		public String getSummary() {
+			return summary;
+		}
+	}
+}
@@ -8,15 +8,23 @@ package org.hibernate.test.bytecode.javassist;
 
 import org.junit.Test;
 
+import org.hibernate.PropertyAccessException;
 import org.hibernate.bytecode.internal.javassist.BulkAccessor;
 import org.hibernate.bytecode.internal.javassist.BytecodeProviderImpl;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBasicImpl;
+import org.hibernate.property.access.internal.PropertyAccessStrategyFieldImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.PropertyAccessStrategy;
+import org.hibernate.property.access.spi.Setter;
 import org.hibernate.test.bytecode.Bean;
 import org.hibernate.test.bytecode.BeanReflectionHelper;
 import org.hibernate.testing.junit4.BaseUnitTestCase;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
 
 /**
  * @author Steve Ebersole
@@ -55,10 +63,79 @@ public class ReflectionOptimizerTest extends BaseUnitTestCase {
 		assertEquivalent( values, BeanReflectionHelper.TEST_VALUES );
 	}
 
+	@Test
+	public void testDirectAccessOptimization() {
+		final PropertyAccessStrategy field = PropertyAccessStrategyFieldImpl.INSTANCE;
+		final PropertyAccessStrategy basic = PropertyAccessStrategyBasicImpl.INSTANCE;
+		final PropertyAccess[] propertyAccesses = new PropertyAccess[] {
+				// inherited protected field
+				field.buildPropertyAccess( FieldBean.class, "id" ),
+				// private field, accessed through its getter and setter
+				field.buildPropertyAccess( FieldBean.class, "name" ),
+				// primitive field
+				field.buildPropertyAccess( FieldBean.class, "count" ),
+				// accessor methods
+				basic.buildPropertyAccess( FieldBean.class, "description" )
+		};
+		final Getter[] getters = new Getter[propertyAccesses.length];
+		final Setter[] setters = new Setter[propertyAccesses.length];
+		for ( int i = 0; i < propertyAccesses.length; i++ ) {
+			getters[i] = propertyAccesses[i].getGetter();
+			setters[i] = propertyAccesses[i].getSetter();
+		}
+
+		BytecodeProviderImpl provider = new BytecodeProviderImpl();
+		ReflectionOptimizer optimizer = provider.getReflectionOptimizer( FieldBean.class, getters, setters );
+		assertNotNull( optimizer );
+		assertNotNull( optimizer.getInstantiationOptimizer() );
+		assertNotNull( optimizer.getAccessOptimizer() );
+
+		Object instance = optimizer.getInstantiationOptimizer().newInstance();
+		assertEquals( instance.getClass(), FieldBean.class );
+		FieldBean bean = (FieldBean) instance;
+
+		final Object[] testValues = new Object[] { 1L, "name", 2, "description" };
+		optimizer.getAccessOptimizer().setPropertyValues( bean, testValues );
+		assertEquals( Long.valueOf( 1L ), bean.id );
+		assertEquals( "name", bean.getName() );
+		assertEquals( 2, bean.count );
+		assertEquals( "description", bean.getDescription() );
+		assertEquivalent( optimizer.getAccessOptimizer().getPropertyValues( bean ), testValues );
+
+		try {
+			optimizer.getAccessOptimizer().setPropertyValues( bean, new Object[] { 1L, "name", null, "description" } );
+			fail( "expecting PropertyAccessException" );
+		}
+		catch (PropertyAccessException expected) {
+		}
+	}
+
 	private void assertEquivalent(Object[] checkValues, Object[] values) {
 		assertEquals( "Different lengths", checkValues.length, values.length );
 		for ( int i = 0; i < checkValues.length; i++ ) {
 			assertEquals( "different values at index [" + i + "]", checkValues[i], values[i] );
 		}
 	}
+
+	public static class IdentifiedBean {
+		protected Long id;
+	}
+
+	public static class FieldBean extends IdentifiedBean {
+		private String name;
+		int count;
+		private String description;
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+	}
 }
@@ -0,0 +1,195 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.Cacheable;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.OneToMany;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.Version;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.BinaryCollectionCacheEntry;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the storage of the cache entries in the binary format.
+ */
+public class BinaryCacheEntryTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.USE_BINARY_CACHE_ENTRIES, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Invoice.class, CreditNote.class, InvoiceLine.class };
+	}
+
+	@Test
+	public void testStructure() {
+		final EntityPersister persister = (EntityPersister) sessionFactory().getClassMetadata( CreditNote.class );
+		assertTrue( persister.getCacheEntryStructure() instanceof BinaryCacheEntry );
+		assertTrue(
+				sessionFactory().getCollectionPersister( Invoice.class.getName() + ".lines" ).getCacheEntryStructure()
+						instanceof BinaryCollectionCacheEntry
+		);
+
+		final CreditNote creditNote = creditNote();
+		Session s = openSession();
+		try {
+			final CacheEntry entry = persister.buildCacheEntry(
+					creditNote,
+					persister.getPropertyValues( creditNote ),
+					3,
+					(SessionImplementor) s
+			);
+			final Object structured = persister.getCacheEntryStructure().structure( entry );
+			assertTrue( structured instanceof byte[] );
+			assertTrue( ( (byte[]) structured ).length < SerializationHelper.serialize( entry ).length / 3 );
+
+			final CacheEntry destructured = (CacheEntry) persister.getCacheEntryStructure()
+					.destructure( structured, sessionFactory() );
+			assertEquals( entry.getSubclass(), destructured.getSubclass() );
+			assertEquals( entry.getVersion(), destructured.getVersion() );
+			assertTrue( Arrays.deepEquals( entry.getDisassembledState(), destructured.getDisassembledState() ) );
+		}
+		finally {
+			s.close();
+		}
+	}
+
+	@Test
+	public void testLoadFromCache() {
+		Session s = openSession();
+		s.beginTransaction();
+		final CreditNote creditNote = creditNote();
+		for ( long i = 1; i <= 2; i++ ) {
+			final InvoiceLine line = new InvoiceLine();
+			line.id = i;
+			line.description = "line " + i;
+			s.persist( line );
+			creditNote.lines.add( line );
+		}
+		s.persist( creditNote );
+		s.getTransaction().commit();
+		s.close();
+
+		// caches the lines of the invoice
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( 2, s.get( Invoice.class, 1L ).lines.size() );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+		s = openSession();
+		s.beginTransaction();
+		final Invoice loaded = s.get( Invoice.class, 1L );
+		assertTrue( loaded instanceof CreditNote );
+		assertEquals( "ACME", loaded.customer );
+		assertEquals( new BigDecimal( "-12.50" ), loaded.total );
+		assertEquals( creditNote.issued.getTime(), loaded.issued.getTime() );
+		assertEquals( "Main street", loaded.address.street );
+		assertEquals( 42, loaded.address.number );
+		assertEquals( "refund", ( (CreditNote) loaded ).reason );
+		assertEquals( 2, loaded.lines.size() );
+		s.getTransaction().commit();
+		s.close();
+		// the invoice, its lines and the two lines
+		assertEquals( 4, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		assertEquals( 0, sessionFactory().getStatistics().getSecondLevelCacheMissCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		for ( Object invoice : s.createQuery( "from Invoice" ).list() ) {
+			s.delete( invoice );
+		}
+		s.flush();
+		s.createQuery( "delete InvoiceLine" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private static CreditNote creditNote() {
+		final CreditNote creditNote = new CreditNote();
+		creditNote.id = 1L;
+		creditNote.customer = "ACME";
+		creditNote.total = new BigDecimal( "-12.50" );
+		creditNote.issued = new Date();
+		creditNote.address = new Address();
+		creditNote.address.street = "Main street";
+		creditNote.address.number = 42;
+		creditNote.reason = "refund";
+		return creditNote;
+	}
+
+	@Entity(name = "Invoice")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Invoice {
+		@Id
+		Long id;
+		@Version
+		int version;
+		String customer;
+		BigDecimal total;
+		@Temporal(TemporalType.TIMESTAMP)
+		Date issued;
+		boolean paid;
+		@Embedded
+		Address address;
+		@OneToMany
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		Set<InvoiceLine> lines = new HashSet<InvoiceLine>();
+	}
+
+	@Entity(name = "CreditNote")
+	public static class CreditNote extends Invoice {
+		private String reason;
+	}
+
+	@Entity(name = "InvoiceLine")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class InvoiceLine {
+		@Id
+		private Long id;
+		private String description;
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+		private int number;
+	}
+}
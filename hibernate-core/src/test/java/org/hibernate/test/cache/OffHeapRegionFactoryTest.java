@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.Cacheable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.cache.internal.offheap.OffHeapRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the second-level cache regions of the {@link OffHeapRegionFactory}.
+ */
+public class OffHeapRegionFactoryTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.CACHE_REGION_FACTORY, OffHeapRegionFactory.SHORT_NAME );
+		configuration.setProperty( AvailableSettings.CACHE_OFF_HEAP_MAX_SIZE, "1m" );
+		configuration.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Country.class, Product.class };
+	}
+
+	@Test
+	public void testReadWrite() {
+		assertTrue( sessionFactory().getSettings().getRegionFactory() instanceof OffHeapRegionFactory );
+
+		Session s = openSession();
+		s.beginTransaction();
+		final Product product = new Product();
+		product.id = 1L;
+		product.sku = "P-1";
+		product.name = "Pen";
+		product.tags.add( "office" );
+		s.persist( product );
+		s.getTransaction().commit();
+		s.close();
+
+		// caches the tags
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( 1, s.get( Product.class, 1L ).tags.size() );
+		s.getTransaction().commit();
+		s.close();
+
+		sessionFactory().getStatistics().clear();
+		s = openSession();
+		s.beginTransaction();
+		Product loaded = s.bySimpleNaturalId( Product.class ).load( "P-1" );
+		assertEquals( "Pen", loaded.name );
+		assertEquals( 1, loaded.tags.size() );
+		loaded.name = "Pencil";
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 1, sessionFactory().getStatistics().getNaturalIdCacheHitCount() );
+		// the product and its tags
+		assertEquals( 2, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		assertEquals( 0, sessionFactory().getStatistics().getSecondLevelCacheMissCount() );
+
+		final String regionName = sessionFactory().getEntityPersister( Product.class.getName() )
+				.getCacheAccessStrategy()
+				.getRegion()
+				.getName();
+		final SecondLevelCacheStatistics statistics = sessionFactory().getStatistics()
+				.getSecondLevelCacheStatistics( regionName );
+		assertEquals( 1, statistics.getElementCountInMemory() );
+		assertTrue( statistics.getSizeInMemory() > 0 );
+		assertEquals( 1, statistics.getEntries().size() );
+
+		// the update was cached once its transaction completed
+		sessionFactory().getStatistics().clear();
+		s = openSession();
+		s.beginTransaction();
+		loaded = s.get( Product.class, 1L );
+		assertEquals( "Pencil", loaded.name );
+		assertEquals( 1, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		s.delete( loaded );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertNull( s.get( Product.class, 1L ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testReadOnlyAndQueryCache() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( String code : new String[] { "BE", "FR", "NL" } ) {
+			final Country country = new Country();
+			country.code = code;
+			country.name = code.toLowerCase();
+			s.persist( country );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		for ( int i = 0; i < 2; i++ ) {
+			s = openSession();
+			s.beginTransaction();
+			assertEquals(
+					3,
+					s.createQuery( "from Country order by code" ).setCacheable( true ).list().size()
+			);
+			s.getTransaction().commit();
+			s.close();
+		}
+		assertEquals( 1, sessionFactory().getStatistics().getQueryCacheHitCount() );
+		// the countries were read from their region
+		assertEquals( 3, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Country" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "Country")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Country {
+		@Id
+		String code;
+		String name;
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@NaturalIdCache
+	public static class Product {
+		@Id
+		Long id;
+		@Version
+		int version;
+		@NaturalId
+		String sku;
+		String name;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+		Set<String> tags = new HashSet<String>();
+	}
+}
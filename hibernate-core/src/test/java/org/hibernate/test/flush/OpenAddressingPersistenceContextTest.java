@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistenceContextStorage;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the auto-flush tests using the {@link PersistenceContextStorage#OPEN_ADDRESSING} persistence context storage.
+ */
+public class OpenAddressingPersistenceContextTest extends TestAutoFlushBeforeQueryExecution {
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.PERSISTENCE_CONTEXT_STORAGE, "open_addressing" );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSizingHint() {
+		Session s = openSession();
+		s.beginTransaction();
+		final Long[] ids = new Long[50];
+		for ( int i = 0; i < ids.length; i++ ) {
+			Publisher publisher = new Publisher();
+			publisher.setName( "publisher-" + i );
+			ids[i] = (Long) s.save( publisher );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		final PersistenceContext persistenceContext = ( (SessionImplementor) s ).getPersistenceContext();
+		final Map entitiesByKey = persistenceContext.getEntitiesByKey();
+		assertTrue( entitiesByKey instanceof OpenAddressingHashMap );
+		// the multi-load sizes the persistence context up front, in place
+		final List<Publisher> publishers = s.byMultipleIds( Publisher.class ).multiLoad( ids );
+		assertEquals( 50, publishers.size() );
+		assertSame( entitiesByKey, persistenceContext.getEntitiesByKey() );
+		assertEquals( 50, entitiesByKey.size() );
+		for ( Publisher publisher : publishers ) {
+			s.delete( publisher );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+}
@@ -7,11 +7,14 @@
 package org.hibernate.test.hql;
 
 import org.hibernate.Session;
+import org.hibernate.type.StandardBasicTypes;
 
 import org.hibernate.testing.TestForIssue;
 import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+
 /**
  * Isolated test for various usages of parameters
  *
@@ -54,4 +57,42 @@ public class ParameterTest extends BaseCoreFunctionalTestCase {
 		s.getTransaction().commit();
 		s.close();
 	}
+
+	@Test
+	public void testRepeatedExecutionWithCompiledBinder() {
+		Session s = openSession();
+		s.beginTransaction();
+		Animal animal = new Animal();
+		animal.setDescription( "cat" );
+		animal.setBodyWeight( 4 );
+		s.save( animal );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		final String hql = "from Animal a where a.bodyWeight > ? and a.description = :description";
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals(
+					1,
+					s.createQuery( hql ).setParameter( "description", "cat" ).setParameter( 0, 3f ).list().size()
+			);
+			assertEquals(
+					0,
+					s.createQuery( hql ).setParameter( "description", "dog" ).setParameter( 0, 3f ).list().size()
+			);
+		}
+		// a parameter explicitly bound using another type than the expected one
+		assertEquals(
+				1,
+				s.createQuery( hql )
+						.setParameter( "description", "cat", StandardBasicTypes.TEXT )
+						.setParameter( 0, 3f )
+						.list()
+						.size()
+		);
+		s.delete( s.get( Animal.class, animal.getId() ) );
+		s.getTransaction().commit();
+		s.close();
+	}
 }
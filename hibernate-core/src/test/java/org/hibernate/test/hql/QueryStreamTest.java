@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.hql;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests streaming query results.
+ */
+public class QueryStreamTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Order.class, OrderLine.class };
+	}
+
+	@Before
+	public void createTestData() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 0; i < 10; i++ ) {
+			final Order order = new Order();
+			order.id = i;
+			for ( long j = 0; j < 3; j++ ) {
+				final OrderLine line = new OrderLine();
+				line.id = i * 3 + j;
+				s.persist( line );
+				order.lines.add( line );
+			}
+			s.persist( order );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@After
+	public void deleteTestData() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( Object order : s.createQuery( "from Order" ).list() ) {
+			s.delete( order );
+		}
+		s.createQuery( "delete OrderLine" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testReadOnlyStream() {
+		Session s = openSession();
+		s.beginTransaction();
+		final Order first = s.get( Order.class, 0L );
+		final ScrollableResults results = s.createQuery( "from Order o order by o.id" ).setReadOnly( true ).stream();
+		long count = 0;
+		while ( results.next() ) {
+			final Order order = (Order) results.get( 0 );
+			assertEquals( count++, (long) order.id );
+			assertTrue( s.contains( order ) );
+			// the orders of the previous rows are evicted, except the one loaded beforehand
+			assertTrue( getEntityCount( s ) <= 2 );
+		}
+		results.close();
+		assertEquals( 10, count );
+		assertTrue( s.contains( first ) );
+		assertEquals( 1, getEntityCount( s ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testReadOnlyStreamWithCollectionFetch() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.setDefaultReadOnly( true );
+		final ScrollableResults results = s.createQuery( "from Order o join fetch o.lines order by o.id" ).stream();
+		long count = 0;
+		while ( results.next() ) {
+			final Order order = (Order) results.get( 0 );
+			assertEquals( count++, (long) order.id );
+			assertEquals( 3, order.lines.size() );
+			assertTrue( getEntityCount( s ) <= 4 );
+		}
+		results.close();
+		assertEquals( 10, count );
+		assertEquals( 0, getEntityCount( s ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testModifiableStream() {
+		Session s = openSession();
+		s.beginTransaction();
+		final ScrollableResults results = s.createQuery( "from Order o order by o.id" ).stream();
+		final Set<Order> orders = new HashSet<Order>();
+		while ( results.next() ) {
+			orders.add( (Order) results.get( 0 ) );
+		}
+		results.close();
+		assertEquals( 10, orders.size() );
+		// the entities are kept in the session, to be flushed
+		assertEquals( 10, getEntityCount( s ) );
+		for ( Order order : orders ) {
+			assertSame( order, s.get( Order.class, order.id ) );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testStatelessSessionStream() {
+		StatelessSession s = sessionFactory().openStatelessSession();
+		s.beginTransaction();
+		final ScrollableResults results = s.createQuery( "from OrderLine l order by l.id" ).setFetchSize( 4 ).stream();
+		long count = 0;
+		while ( results.next() ) {
+			assertEquals( count++, (long) ( (OrderLine) results.get( 0 ) ).id );
+			assertEquals( 0, ( (SessionImplementor) s ).getPersistenceContext().getNumberOfManagedEntities() );
+		}
+		results.close();
+		assertEquals( 30, count );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testScrollIsNotAffected() {
+		Session s = openSession();
+		s.beginTransaction();
+		final ScrollableResults results = s.createQuery( "from Order o order by o.id" ).setReadOnly( true ).scroll();
+		while ( results.next() ) {
+			assertFalse( results.get( 0 ) == null );
+		}
+		results.close();
+		assertEquals( 10, getEntityCount( s ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private int getEntityCount(Session s) {
+		return ( (SessionImplementor) s ).getPersistenceContext().getNumberOfManagedEntities();
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "orders")
+	public static class Order {
+		@Id
+		private Long id;
+		@OneToMany
+		@JoinColumn(name = "order_id")
+		private Set<OrderLine> lines = new HashSet<OrderLine>();
+	}
+
+	@Entity(name = "OrderLine")
+	public static class OrderLine {
+		@Id
+		private Long id;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.idgen.enhanced.sequence;
+
+import org.junit.Test;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+
+import static org.hibernate.id.IdentifierGeneratorHelper.BasicHolder;
+import static org.hibernate.testing.junit4.ExtraAssertions.assertClassAssignability;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the pooled optimizer reserving the next block of sequence values in the background.
+ */
+public class PrefetchingPooledSequenceTest extends BaseCoreFunctionalTestCase {
+	@Override
+	public String[] getMappings() {
+		return new String[] { "idgen/enhanced/sequence/Pooled.hbm.xml" };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.ID_OPTIMIZER_PREFETCH, "true" );
+		configuration.setProperty( AvailableSettings.ID_OPTIMIZER_PREFETCH_LOW_WATER_MARK, "50" );
+	}
+
+	@Test
+	public void testPrefetchedBoundary() {
+		EntityPersister persister = sessionFactory().getEntityPersister( Entity.class.getName() );
+		SequenceStyleGenerator generator = (SequenceStyleGenerator) persister.getIdentifierGenerator();
+		assertClassAssignability( PooledOptimizer.class, generator.getOptimizer().getClass() );
+		PooledOptimizer optimizer = (PooledOptimizer) generator.getOptimizer();
+
+		// the initial block holds the values 1 to increment + 1
+		int increment = optimizer.getIncrementSize();
+		Entity[] entities = new Entity[ increment + 2 ];
+		Session s = openSession();
+		s.beginTransaction();
+		for ( int i = 0; i < entities.length; i++ ) {
+			entities[i] = new Entity( "" + ( i + 1 ) );
+			s.save( entities[i] );
+		}
+		// initialization calls seq twice, plus once for the prefetched block: the "clock over"
+		// itself did not access the sequence again
+		assertEquals( 3, generator.getDatabaseStructure().getTimesAccessed() );
+		assertEquals( ( increment * 2 ) + 1, ( (BasicHolder) optimizer.getLastSourceValue() ).getActualLongValue() );
+		assertEquals( increment + 2, ( (BasicHolder) optimizer.getLastValue() ).getActualLongValue() );
+		s.getTransaction().commit();
+
+		s.beginTransaction();
+		for ( int i = 0; i < entities.length; i++ ) {
+			assertEquals( i + 1, entities[i].getId().intValue() );
+			s.delete( entities[i] );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+}
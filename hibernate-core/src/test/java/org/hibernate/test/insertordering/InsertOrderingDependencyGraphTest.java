@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.InsertOrdering;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests ordering inserts by the graph of the foreign keys between the entities.
+ */
+public class InsertOrderingDependencyGraphTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { City.class, Department.class, Lab.class, Employee.class, Category.class };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.ORDER_INSERTS, "true" );
+		cfg.setProperty( Environment.STATEMENT_BATCH_SIZE, "20" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testRanks() {
+		final InsertOrdering insertOrdering = sessionFactory().getInsertOrdering();
+		// referenced through the embedded address
+		assertTrue( insertOrdering.getRank( City.class.getName() ) < insertOrdering.getRank( Employee.class.getName() ) );
+		// referenced through the superclass
+		assertTrue( insertOrdering.getRank( Lab.class.getName() ) < insertOrdering.getRank( Employee.class.getName() ) );
+		assertFalse( insertOrdering.isCyclic( Employee.class.getName() ) );
+		assertTrue( insertOrdering.isCyclic( Category.class.getName() ) );
+		assertEquals( -1, insertOrdering.getRank( "Unknown" ) );
+	}
+
+	@Test
+	public void testInsertsAreGroupedPerEntity() {
+		Session s = openSession();
+		s.beginTransaction();
+		Category parent = null;
+		for ( long i = 0; i < 10; i++ ) {
+			final City city = new City();
+			city.id = i;
+			s.persist( city );
+			final Lab lab = new Lab();
+			( (Department) lab ).id = i;
+			s.persist( lab );
+			final Employee employee = new Employee();
+			employee.id = i;
+			employee.address = new Address();
+			employee.address.city = city;
+			employee.department = lab;
+			s.persist( employee );
+			final Category category = new Category();
+			category.id = i;
+			category.parent = parent;
+			s.persist( category );
+			parent = category;
+		}
+		sessionFactory().getStatistics().clear();
+		s.getTransaction().commit();
+		s.close();
+
+		// one batch per entity
+		assertEquals( 4, sessionFactory().getStatistics().getPrepareStatementCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( 10L, s.createQuery( "select count(*) from Employee e where e.address.city.id = e.department.id" ).uniqueResult() );
+		assertEquals( 9L, s.createQuery( "select count(*) from Category c where c.parent.id = c.id - 1" ).uniqueResult() );
+		s.createQuery( "delete Employee" ).executeUpdate();
+		s.createQuery( "delete Department" ).executeUpdate();
+		s.createQuery( "delete City" ).executeUpdate();
+		s.createQuery( "update Category set parent = null" ).executeUpdate();
+		s.createQuery( "delete Category" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "City")
+	public static class City {
+		@Id
+		private Long id;
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Long id;
+	}
+
+	@Entity(name = "Lab")
+	public static class Lab extends Department {
+	}
+
+	@Embeddable
+	public static class Address {
+		@ManyToOne
+		private City city;
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		@Embedded
+		private Address address;
+		@ManyToOne
+		private Department department;
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		private Long id;
+		@ManyToOne
+		private Category parent;
+	}
+}
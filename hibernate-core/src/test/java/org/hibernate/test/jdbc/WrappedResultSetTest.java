@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.ColumnNameCache;
+import org.hibernate.engine.jdbc.internal.ColumnIndexResultSet;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jdbc.Work;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests loading through result sets wrapped to access the columns by index.
+ */
+public class WrappedResultSetTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class, Vendor.class };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.WRAP_RESULT_SETS, "true" );
+	}
+
+	@Test
+	public void testLoading() {
+		Session s = openSession();
+		s.beginTransaction();
+		final Vendor vendor = new Vendor();
+		vendor.id = 1L;
+		vendor.name = "vendor";
+		s.persist( vendor );
+		for ( long i = 0; i < 10; i++ ) {
+			final Item item = new Item();
+			item.id = i;
+			item.name = "item " + i;
+			item.price = new BigDecimal( "1.50" ).multiply( new BigDecimal( i ) );
+			item.quantity = (int) i * 2;
+			item.vendor = vendor;
+			s.persist( item );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		// through the query loader
+		final List items = s.createQuery( "from Item i join fetch i.vendor order by i.id" ).list();
+		assertEquals( 10, items.size() );
+		for ( int i = 0; i < 10; i++ ) {
+			final Item item = (Item) items.get( i );
+			assertEquals( "item " + i, item.name );
+			assertEquals( 0, new BigDecimal( "1.50" ).multiply( new BigDecimal( i ) ).compareTo( item.price ) );
+			assertEquals( i * 2, item.quantity );
+			assertEquals( "vendor", item.vendor.name );
+		}
+		// the wrapped result sets are released along with the result sets they wrap
+		assertFalse( ( (SessionImplementor) s ).getJdbcCoordinator().getResourceRegistry().hasRegisteredResources() );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		// through the load plan based entity loader
+		final Item item = s.get( Item.class, 3L );
+		assertEquals( "item 3", item.name );
+		assertEquals( 6, item.quantity );
+		assertEquals( "vendor", item.vendor.name );
+		assertFalse( ( (SessionImplementor) s ).getJdbcCoordinator().getResourceRegistry().hasRegisteredResources() );
+		s.createQuery( "delete Item" ).executeUpdate();
+		s.createQuery( "delete Vendor" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testReadOrderChangingAcrossRows() {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 0; i < 3; i++ ) {
+			final Item item = new Item();
+			item.id = i;
+			item.name = "item " + i;
+			item.quantity = (int) i * 2;
+			s.persist( item );
+		}
+		s.flush();
+		s.doWork(
+				new Work() {
+					@Override
+					public void execute(Connection connection) throws SQLException {
+						final PreparedStatement ps = connection.prepareStatement(
+								"select id, name, quantity from Item order by id"
+						);
+						try {
+							final ResultSet rs = new ColumnIndexResultSet( ps.executeQuery(), new ColumnNameCache( 3 ) );
+							// reads the labels in the same order, then in another one, then in the first one again
+							assertTrue( rs.next() );
+							assertEquals( 0L, rs.getLong( "id" ) );
+							assertEquals( "item 0", rs.getString( "name" ) );
+							assertEquals( 0, rs.getInt( "quantity" ) );
+							assertTrue( rs.next() );
+							assertEquals( 2, rs.getInt( "quantity" ) );
+							assertEquals( "item 1", rs.getString( "name" ) );
+							assertEquals( 1L, rs.getLong( "id" ) );
+							assertTrue( rs.next() );
+							assertEquals( 2L, rs.getLong( "id" ) );
+							assertEquals( "item 2", rs.getString( "name" ) );
+							assertEquals( 4, rs.getInt( "quantity" ) );
+							assertEquals( 4, rs.getInt( "quantity" ) );
+							assertFalse( rs.next() );
+						}
+						finally {
+							ps.close();
+						}
+					}
+				}
+		);
+		s.createQuery( "delete Item" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+		private BigDecimal price;
+		private int quantity;
+		@ManyToOne
+		private Vendor vendor;
+	}
+
+	@Entity(name = "Vendor")
+	public static class Vendor {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
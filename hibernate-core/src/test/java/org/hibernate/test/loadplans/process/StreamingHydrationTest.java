@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.loadplans.process;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+import javax.persistence.Table;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests initializing the entities without associations as soon as their row is read.
+ */
+public class StreamingHydrationTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Order.class, OrderLine.class };
+	}
+
+	@Override
+	public void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( Environment.STREAMING_HYDRATION, "true" );
+		cfg.setProperty( Environment.USE_SECOND_LEVEL_CACHE, "true" );
+		cfg.setProperty( Environment.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testLoading() {
+		assertTrue( sessionFactory().getSessionFactoryOptions().isStreamingHydrationEnabled() );
+		assertTrue( sessionFactory().getEntityPersister( Order.class.getName() ).getEntityMetamodel().hasAssociations() );
+		assertFalse( sessionFactory().getEntityPersister( OrderLine.class.getName() ).getEntityMetamodel().hasAssociations() );
+
+		Session s = openSession();
+		s.beginTransaction();
+		final Order order = new Order();
+		order.id = 1L;
+		for ( long i = 0; i < 10; i++ ) {
+			final OrderLine line = new OrderLine();
+			line.id = i;
+			line.product = "product " + i;
+			line.quantity = (int) i;
+			s.persist( line );
+			order.lines.add( line );
+		}
+		s.persist( order );
+		s.getTransaction().commit();
+		s.close();
+		sessionFactory().getCache().evictEntityRegions();
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		s.beginTransaction();
+		// the rows of the joined lines repeat the order
+		final Order loaded = s.get( Order.class, 1L );
+		assertEquals( 10, loaded.lines.size() );
+		for ( int i = 0; i < 10; i++ ) {
+			final OrderLine line = loaded.lines.get( i );
+			assertEquals( "product " + i, line.product );
+			assertEquals( i, line.quantity );
+			assertFalse( s.isReadOnly( line ) );
+			assertNotNull( ( (SessionImplementor) s ).getPersistenceContext().getEntry( line ).getLoadedState() );
+		}
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 11, sessionFactory().getStatistics().getSecondLevelCachePutCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		// updates are still detected against the loaded state
+		final Order reloaded = s.get( Order.class, 1L );
+		reloaded.lines.get( 0 ).quantity = 100;
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		assertEquals( 100, s.get( OrderLine.class, 0L ).quantity );
+		s.delete( s.get( Order.class, 1L ) );
+		s.createQuery( "delete OrderLine" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testLoadingMoreRowsThanCachePutChunk() {
+		Session s = openSession();
+		s.beginTransaction();
+		final Order order = new Order();
+		order.id = 1L;
+		for ( long i = 0; i < 250; i++ ) {
+			final OrderLine line = new OrderLine();
+			line.id = i;
+			line.product = "product " + i;
+			line.quantity = (int) i;
+			s.persist( line );
+			order.lines.add( line );
+		}
+		s.persist( order );
+		s.getTransaction().commit();
+		s.close();
+		sessionFactory().getCache().evictEntityRegions();
+		sessionFactory().getStatistics().clear();
+
+		s = openSession();
+		s.beginTransaction();
+		// the cache puts of the lines are applied by chunks while reading the rows, the remaining ones at the end
+		final Order loaded = s.get( Order.class, 1L );
+		assertEquals( 250, loaded.lines.size() );
+		for ( int i = 0; i < 250; i++ ) {
+			assertEquals( "product " + i, loaded.lines.get( i ).product );
+		}
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 251, sessionFactory().getStatistics().getSecondLevelCachePutCount() );
+
+		s = openSession();
+		s.beginTransaction();
+		// the line read from the cache
+		assertEquals( "product 199", s.get( OrderLine.class, 199L ).product );
+		assertEquals( 1, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+		s.delete( s.get( Order.class, 1L ) );
+		s.createQuery( "delete OrderLine" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "Order")
+	@Table(name = "orders")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Order {
+		@Id
+		private Long id;
+		@OneToMany(fetch = FetchType.EAGER)
+		@JoinColumn(name = "order_id")
+		@OrderBy("id")
+		private List<OrderLine> lines = new ArrayList<OrderLine>();
+	}
+
+	@Entity(name = "OrderLine")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class OrderLine {
+		@Id
+		private Long id;
+		private String product;
+		private int quantity;
+	}
+}
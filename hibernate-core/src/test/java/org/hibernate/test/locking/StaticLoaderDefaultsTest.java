@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.locking;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.LockMode;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that, by default, the static entity loader of the plain loads is built during startup.
+ */
+public class StaticLoaderDefaultsTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { StaticLoaderTest.Item.class };
+	}
+
+	@Test
+	public void testPlainLoaderIsBuiltDuringStartup() {
+		assertArrayEquals(
+				new LockMode[] { LockMode.NONE },
+				sessionFactory().getSessionFactoryOptions().getPrewarmedLockModes()
+		);
+		final Map loaders = ( (StaticLoaderTest.ItemPersister) sessionFactory().getEntityPersister(
+				StaticLoaderTest.Item.class.getName()
+		) ).getLoaders();
+		assertEquals( Collections.singleton( LockMode.NONE ), loaders.keySet() );
+	}
+}
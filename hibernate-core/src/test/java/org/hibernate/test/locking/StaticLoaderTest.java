@@ -0,0 +1,119 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.locking;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Session;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Persister;
+import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
+import org.hibernate.cache.spi.access.NaturalIdRegionAccessStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.persister.entity.SingleTableEntityPersister;
+import org.hibernate.persister.spi.PersisterCreationContext;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests that the static entity loaders are built during startup for the prewarmed lock modes only, and on first
+ * use for the other lock modes.
+ */
+public class StaticLoaderTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.PERSISTER_PREWARMED_LOCK_MODES, "none, read" );
+	}
+
+	@Test
+	public void testLoadersAreBuiltOnFirstUse() {
+		final Map loaders = ( (ItemPersister) sessionFactory().getEntityPersister( Item.class.getName() ) ).getLoaders();
+		assertEquals( new HashSet<Object>( Arrays.asList( LockMode.NONE, LockMode.READ ) ), loaders.keySet() );
+
+		Session s = openSession();
+		s.beginTransaction();
+		Item item = new Item();
+		item.id = 1L;
+		item.name = "hammer";
+		s.persist( item );
+		s.getTransaction().commit();
+		s.close();
+
+		s = openSession();
+		s.beginTransaction();
+		item = (Item) s.get( Item.class, 1L, new LockOptions( LockMode.PESSIMISTIC_WRITE ) );
+		assertNotNull( item );
+		s.getTransaction().commit();
+		s.close();
+
+		assertEquals(
+				new HashSet<Object>( Arrays.asList( LockMode.NONE, LockMode.READ, LockMode.PESSIMISTIC_WRITE ) ),
+				loaders.keySet()
+		);
+
+		s = openSession();
+		s.beginTransaction();
+		item.name = "mallet";
+		s.merge( item );
+		s.getTransaction().commit();
+		s.close();
+
+		assertEquals(
+				new HashSet<Object>( Arrays.asList( LockMode.NONE, LockMode.READ, LockMode.PESSIMISTIC_WRITE, "merge" ) ),
+				loaders.keySet()
+		);
+
+		s = openSession();
+		s.beginTransaction();
+		s.delete( s.get( Item.class, 1L ) );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "Item")
+	@BatchSize(size = 10)
+	@Persister(impl = ItemPersister.class)
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+	}
+
+	public static class ItemPersister extends SingleTableEntityPersister {
+		public ItemPersister(
+				PersistentClass persistentClass,
+				EntityRegionAccessStrategy cache,
+				NaturalIdRegionAccessStrategy naturalIdRegionAccessStrategy,
+				PersisterCreationContext creationContext) throws HibernateException {
+			super( persistentClass, cache, naturalIdRegionAccessStrategy, creationContext );
+		}
+
+		@Override
+		public Map getLoaders() {
+			return super.getLoaders();
+		}
+	}
+}
@@ -22,6 +22,7 @@ import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.Statistics;
 
 import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
 import org.junit.After;
@@ -46,6 +47,7 @@ public class MultiLoadTest extends BaseNonConfigCoreFunctionalTestCase {
 	protected void configureStandardServiceRegistryBuilder(StandardServiceRegistryBuilder ssrb) {
 		super.configureStandardServiceRegistryBuilder( ssrb );
 		ssrb.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, true );
+		ssrb.applySetting( AvailableSettings.GENERATE_STATISTICS, true );
 	}
 
 	@Override
@@ -156,6 +158,49 @@ public class MultiLoadTest extends BaseNonConfigCoreFunctionalTestCase {
 		session.close();
 	}
 
+	@Test
+	public void testMultiLoadResolvesFromSecondLevelCache() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		session.byMultipleIds( SimpleEntity.class ).multiLoad( ids(10) );
+		session.getTransaction().commit();
+		session.close();
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		session = openSession();
+		session.getTransaction().begin();
+		List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids(56) );
+		assertEquals( 56, list.size() );
+		for ( int i = 0; i < 56; i++ ) {
+			assertEquals( Integer.valueOf( i + 1 ), list.get( i ).getId() );
+		}
+		session.getTransaction().commit();
+		session.close();
+
+		// the first 10 come from the cache, the remaining 46 are loaded using a single statement
+		assertEquals( 10, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 46, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testMultiLoadRetainsRequestedOrder() {
+		Session session = openSession();
+		session.getTransaction().begin();
+		List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class )
+				.with( CacheMode.IGNORE )
+				.multiLoad( 5, 3, 99, 3, 1 );
+		assertEquals( 4, list.size() );
+		assertEquals( Integer.valueOf( 5 ), list.get( 0 ).getId() );
+		assertEquals( Integer.valueOf( 3 ), list.get( 1 ).getId() );
+		assertSame( list.get( 1 ), list.get( 2 ) );
+		assertEquals( Integer.valueOf( 1 ), list.get( 3 ).getId() );
+		session.getTransaction().commit();
+		session.close();
+	}
+
 	private Integer[] ids(int count) {
 		Integer[] ids = new Integer[count];
 		for ( int i = 1; i <= count; i++ ) {
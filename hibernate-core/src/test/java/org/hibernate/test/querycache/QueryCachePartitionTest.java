@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.QueryException;
+import org.hibernate.Session;
+import org.hibernate.annotations.QueryCachePartition;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.QueryStatistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the invalidation of the cached query results partitioned by {@link QueryCachePartition}.
+ */
+public class QueryCachePartitionTest extends BaseCoreFunctionalTestCase {
+	private static final String QUERY = "from PurchaseOrder o where o.tenant = :tenant";
+	private static final String UNPARTITIONED_QUERY = "from PurchaseOrder o where o.tenant <> :tenant";
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { PurchaseOrder.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		cfg.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testChangesToOtherPartitions() {
+		save( 1L, "a" );
+		save( 2L, "b" );
+		sessionFactory().getStatistics().clear();
+
+		assertEquals( 1, listOrders( "a" ).size() );
+		assertEquals( 1, listOrders( "a" ).size() );
+		assertQueryCacheHits( QUERY, 1 );
+
+		// the results of another partition are left cached
+		save( 3L, "b" );
+		assertEquals( 1, listOrders( "a" ).size() );
+		assertQueryCacheHits( QUERY, 2 );
+
+		save( 4L, "a" );
+		assertEquals( 2, listOrders( "a" ).size() );
+		assertQueryCacheHits( QUERY, 2 );
+
+		Session s = openSession();
+		s.beginTransaction();
+		PurchaseOrder order = s.get( PurchaseOrder.class, 2L );
+		order.amount = 10;
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 2, listOrders( "a" ).size() );
+		assertQueryCacheHits( QUERY, 3 );
+
+		s = openSession();
+		s.beginTransaction();
+		s.delete( s.get( PurchaseOrder.class, 3L ) );
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 2, listOrders( "a" ).size() );
+		assertQueryCacheHits( QUERY, 4 );
+
+		cleanup();
+	}
+
+	@Test
+	public void testChangesOfUnknownPartition() {
+		save( 1L, "a" );
+		save( 2L, "b" );
+		sessionFactory().getStatistics().clear();
+
+		assertEquals( 1, listOrders( "a" ).size() );
+
+		// an order moving to another partition
+		Session s = openSession();
+		s.beginTransaction();
+		PurchaseOrder order = s.get( PurchaseOrder.class, 2L );
+		order.tenant = "a";
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 2, listOrders( "a" ).size() );
+		assertQueryCacheHits( QUERY, 0 );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "update PurchaseOrder set tenant = 'b' where id = 2" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+		assertEquals( 1, listOrders( "a" ).size() );
+		assertQueryCacheHits( QUERY, 0 );
+
+		cleanup();
+	}
+
+	@Test
+	public void testUnpartitionedQuery() {
+		save( 1L, "a" );
+		sessionFactory().getStatistics().clear();
+
+		assertEquals( 1, listUnpartitionedOrders( "b" ).size() );
+		assertEquals( 1, listUnpartitionedOrders( "b" ).size() );
+		assertQueryCacheHits( UNPARTITIONED_QUERY, 1 );
+
+		// the results of a query declaring no partition are invalidated by any change
+		save( 2L, "b" );
+		assertEquals( 1, listUnpartitionedOrders( "b" ).size() );
+		assertQueryCacheHits( UNPARTITIONED_QUERY, 1 );
+
+		cleanup();
+	}
+
+	@Test
+	public void testPartitionOfWrongType() {
+		Session s = openSession();
+		try {
+			// the changes are stamped with String partitions, an Integer one would never be invalidated
+			s.createQuery( "from PurchaseOrder o where o.amount = :amount" )
+					.setParameter( "amount", 1 )
+					.setCacheable( true )
+					.setCachePartition( 1 )
+					.list();
+			fail( "Expecting the partition to be rejected" );
+		}
+		catch (QueryException expected) {
+		}
+		finally {
+			s.close();
+		}
+	}
+
+	private void save(Long id, String tenant) {
+		Session s = openSession();
+		s.beginTransaction();
+		PurchaseOrder order = new PurchaseOrder();
+		order.id = id;
+		order.tenant = tenant;
+		s.persist( order );
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	private List listOrders(String tenant) {
+		Session s = openSession();
+		try {
+			return s.createQuery( QUERY )
+					.setParameter( "tenant", tenant )
+					.setCacheable( true )
+					.setCachePartition( tenant )
+					.list();
+		}
+		finally {
+			s.close();
+		}
+	}
+
+	private List listUnpartitionedOrders(String tenant) {
+		Session s = openSession();
+		try {
+			return s.createQuery( UNPARTITIONED_QUERY )
+					.setParameter( "tenant", tenant )
+					.setCacheable( true )
+					.list();
+		}
+		finally {
+			s.close();
+		}
+	}
+
+	private void assertQueryCacheHits(String query, long hits) {
+		final QueryStatistics statistics = sessionFactory().getStatistics().getQueryStatistics( query );
+		assertEquals( hits, statistics.getCacheHitCount() );
+	}
+
+	private void cleanup() {
+		Session s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete PurchaseOrder" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Table(name = "purchase_order")
+	public static class PurchaseOrder {
+		@Id
+		private Long id;
+		@QueryCachePartition
+		private String tenant;
+		private int amount;
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the coordination of concurrent query cache misses for the same results.
+ */
+public class QueryCacheSingleFlightTest extends BaseCoreFunctionalTestCase {
+	private static final int THREADS = 8;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void configure(Configuration cfg) {
+		super.configure( cfg );
+		cfg.setProperty( AvailableSettings.USE_QUERY_CACHE, "true" );
+		cfg.setProperty( AvailableSettings.QUERY_CACHE_SINGLE_FLIGHT_TIMEOUT, "10000" );
+		cfg.setProperty( AvailableSettings.STATEMENT_INSPECTOR, SlowProductQueries.class.getName() );
+	}
+
+	@Test
+	public void testConcurrentMisses() throws Exception {
+		Session s = openSession();
+		s.beginTransaction();
+		for ( long i = 0; i < 5; i++ ) {
+			final Product product = new Product();
+			product.id = i;
+			product.category = i % 2 == 0 ? "even" : "odd";
+			s.persist( product );
+		}
+		s.getTransaction().commit();
+		s.close();
+
+		SlowProductQueries.executions.set( 0 );
+		final CyclicBarrier barrier = new CyclicBarrier( THREADS );
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+			for ( int i = 0; i < THREADS; i++ ) {
+				results.add(
+						executor.submit(
+								new Callable<Integer>() {
+									@Override
+									public Integer call() throws Exception {
+										barrier.await();
+										Session s = openSession();
+										try {
+											return s.createQuery( "from Product p where p.category = :category" )
+													.setParameter( "category", "even" )
+													.setCacheable( true )
+													.list()
+													.size();
+										}
+										finally {
+											s.close();
+										}
+									}
+								}
+						)
+				);
+			}
+			for ( Future<Integer> result : results ) {
+				assertEquals( 3, (int) result.get() );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		// the misses waited for the single execution of the query
+		assertEquals( 1, SlowProductQueries.executions.get() );
+
+		s = openSession();
+		s.beginTransaction();
+		s.createQuery( "delete Product" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	public static class SlowProductQueries implements StatementInspector {
+		private static final AtomicInteger executions = new AtomicInteger();
+
+		@Override
+		public String inspect(String sql) {
+			if ( sql.startsWith( "select" ) && sql.contains( "category=?" ) ) {
+				executions.incrementAndGet();
+				try {
+					// leaves the time for the other sessions to miss the cache
+					Thread.sleep( 500 );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Long id;
+		private String category;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.util.Collections;
+
+import org.hibernate.Filter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that distinct, rarely used queries do not evict frequently used plans from the query plan cache.
+ */
+public class QueryPlanCacheAdmissionTest extends BaseCoreFunctionalTestCase {
+	private static final int MAX_SIZE = 16;
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "queryplan/filter-defs.hbm.xml", "queryplan/Joined.hbm.xml" };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, String.valueOf( MAX_SIZE ) );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testFrequentlyUsedPlansAreRetained() {
+		final QueryPlanCache cache = sessionFactory().getQueryPlanCache();
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		final HQLQueryPlan[] hotPlans = new HQLQueryPlan[MAX_SIZE / 2];
+		for ( int i = 0; i < hotPlans.length; i++ ) {
+			hotPlans[i] = cache.getHQLQueryPlan( hotQuery( i ), false, Collections.<String, Filter>emptyMap() );
+		}
+		for ( int round = 0; round < 3; round++ ) {
+			for ( int i = 0; i < hotPlans.length; i++ ) {
+				cache.getHQLQueryPlan( hotQuery( i ), false, Collections.<String, Filter>emptyMap() );
+			}
+		}
+
+		// queries with inlined literals, each executed once
+		for ( int i = 0; i < MAX_SIZE * 4; i++ ) {
+			cache.getHQLQueryPlan( "from Person where name = 'name" + i + "'", false, Collections.<String, Filter>emptyMap() );
+		}
+
+		for ( int i = 0; i < hotPlans.length; i++ ) {
+			assertSame(
+					hotPlans[i],
+					cache.getHQLQueryPlan( hotQuery( i ), false, Collections.<String, Filter>emptyMap() )
+			);
+		}
+
+		assertEquals( hotPlans.length * 4, statistics.getQueryPlanCacheHitCount() );
+		assertEquals( hotPlans.length + MAX_SIZE * 4, statistics.getQueryPlanCacheMissCount() );
+		assertTrue( statistics.getQueryPlanCacheEvictionCount() >= MAX_SIZE * 4 - MAX_SIZE / 2 );
+		assertTrue( statistics.getQueryCompilationMaxTime() <= statistics.getQueryCompilationTotalTime() );
+	}
+
+	private static String hotQuery(int i) {
+		return "from Person where id > " + i;
+	}
+}
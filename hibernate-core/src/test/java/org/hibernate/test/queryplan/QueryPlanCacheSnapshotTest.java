@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import org.hibernate.Filter;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the compilation on startup of the HQL queries recorded in the query plan cache snapshot on close.
+ */
+public class QueryPlanCacheSnapshotTest extends BaseCoreFunctionalTestCase {
+	private static final String QUERY = "from Person where name = :name";
+
+	private static File snapshotFile;
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "queryplan/filter-defs.hbm.xml", "queryplan/Joined.hbm.xml" };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		if ( snapshotFile == null ) {
+			try {
+				snapshotFile = File.createTempFile( "query-plan-cache", ".snapshot" );
+			}
+			catch (IOException e) {
+				throw new RuntimeException( e );
+			}
+			snapshotFile.delete();
+		}
+		configuration.setProperty( AvailableSettings.QUERY_PLAN_CACHE_SNAPSHOT_FILE, snapshotFile.getPath() );
+		configuration.setProperty( AvailableSettings.QUERY_STARTUP_CHECK_PARALLELISM, "2" );
+	}
+
+	@AfterClass
+	public static void deleteSnapshotFile() {
+		if ( snapshotFile != null ) {
+			snapshotFile.delete();
+		}
+	}
+
+	@Test
+	public void testQueriesAreCompiledOnStartup() {
+		assertFalse( sessionFactory().getQueryPlanCache().getCachedHQLQueryStrings().contains( QUERY ) );
+
+		Session s = openSession();
+		s.createQuery( QUERY ).setString( "name", "Gavin" ).list();
+		// queries of sessions with enabled filters are not recorded
+		s.enableFilter( "sex" ).setParameter( "sexCode", Character.valueOf( 'F' ) );
+		s.createQuery( "from Person where name is null" ).list();
+		s.close();
+
+		rebuildSessionFactory();
+
+		assertTrue( snapshotFile.exists() );
+		assertTrue( sessionFactory().getQueryPlanCache().getCachedHQLQueryStrings().contains( QUERY ) );
+		assertFalse(
+				sessionFactory().getQueryPlanCache().getCachedHQLQueryStrings().contains( "from Person where name is null" )
+		);
+		assertEquals(
+				1,
+				sessionFactory().getQueryPlanCache().getHQLQueryPlan( QUERY, false, Collections.<String, Filter>emptyMap() )
+						.getSqlStrings().length
+		);
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.HibernateException;
+import org.hibernate.PartitionedScroll;
+import org.hibernate.ScrollableResults;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.HibernateIterator;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests reading the instances of an entity in parallel partitions.
+ */
+public class PartitionedScrollTest extends BaseCoreFunctionalTestCase {
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Measure.class };
+	}
+
+	@Before
+	public void createTestData() {
+		StatelessSession s = sessionFactory().openStatelessSession();
+		s.beginTransaction();
+		for ( int i = 1; i <= 100; i++ ) {
+			final Measure measure = new Measure();
+			measure.id = (long) i;
+			measure.sensor = i % 2 == 0 ? "even" : "odd";
+			measure.sequence = i % 10 == 0 ? null : i;
+			s.insert( measure );
+		}
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@After
+	public void deleteTestData() {
+		StatelessSession s = sessionFactory().openStatelessSession();
+		s.beginTransaction();
+		s.createQuery( "delete Measure" ).executeUpdate();
+		s.getTransaction().commit();
+		s.close();
+	}
+
+	@Test
+	public void testPartitionHandler() {
+		final Set<Long> ids = Collections.newSetFromMap( new ConcurrentHashMap<Long, Boolean>() );
+		final Set<Integer> partitions = Collections.newSetFromMap( new ConcurrentHashMap<Integer, Boolean>() );
+		StatelessSession s = sessionFactory().openStatelessSession();
+		s.createPartitionedScroll( Measure.class )
+				.setPartitions( 3 )
+				.setRestriction( PartitionedScroll.ALIAS + ".sensor = :sensor" )
+				.setParameter( "sensor", "even" )
+				.setFetchSize( 10 )
+				.scroll(
+						new PartitionedScroll.PartitionHandler() {
+							@Override
+							public void handle(int partition, ScrollableResults results) {
+								partitions.add( partition );
+								while ( results.next() ) {
+									assertTrue( ids.add( ( (Measure) results.get( 0 ) ).id ) );
+								}
+							}
+						}
+				);
+		s.close();
+
+		assertEquals( 3, partitions.size() );
+		assertEquals( 50, ids.size() );
+		for ( Long id : ids ) {
+			assertEquals( 0, id % 2 );
+		}
+	}
+
+	@Test
+	public void testMergedResults() {
+		StatelessSession s = sessionFactory().openStatelessSession();
+		final HibernateIterator results = s.createPartitionedScroll( Measure.class.getName() )
+				.setPartitions( 4 )
+				.setFetchSize( 5 )
+				.iterate();
+		final Set<Long> ids = new HashSet<Long>();
+		while ( results.hasNext() ) {
+			assertTrue( ids.add( ( (Measure) results.next() ).id ) );
+		}
+		results.close();
+		assertEquals( 100, ids.size() );
+
+		// closing before the end cancels the partitions
+		final HibernateIterator partialResults = s.createPartitionedScroll( Measure.class )
+				.setPartitions( 2 )
+				.setFetchSize( 1 )
+				.iterate();
+		assertTrue( partialResults.hasNext() );
+		partialResults.next();
+		partialResults.close();
+		assertFalse( partialResults.hasNext() );
+		s.close();
+	}
+
+	@Test
+	public void testNullPartitionValues() {
+		StatelessSession s = sessionFactory().openStatelessSession();
+		HibernateIterator results = s.createPartitionedScroll( Measure.class )
+				.setPartitions( 4 )
+				.setPartitionProperty( "sequence" )
+				.iterate();
+		final Set<Long> ids = new HashSet<Long>();
+		while ( results.hasNext() ) {
+			assertTrue( ids.add( ( (Measure) results.next() ).id ) );
+		}
+		results.close();
+		// the instances without a sequence are read with the first partition
+		assertEquals( 100, ids.size() );
+
+		ids.clear();
+		results = s.createPartitionedScroll( Measure.class )
+				.setPartitions( 4 )
+				.setPartitionProperty( "sequence" )
+				.setRestriction( PartitionedScroll.ALIAS + ".sequence is null" )
+				.iterate();
+		while ( results.hasNext() ) {
+			assertTrue( ids.add( ( (Measure) results.next() ).id ) );
+		}
+		results.close();
+		assertEquals( 10, ids.size() );
+		s.close();
+	}
+
+	@Test
+	public void testFailure() {
+		StatelessSession s = sessionFactory().openStatelessSession();
+		try {
+			s.createPartitionedScroll( Measure.class )
+					.setPartitions( 2 )
+					.scroll(
+							new PartitionedScroll.PartitionHandler() {
+								@Override
+								public void handle(int partition, ScrollableResults results) {
+									throw new IllegalStateException( "partition " + partition );
+								}
+							}
+					);
+			fail( "the failure of the partition should be propagated" );
+		}
+		catch (IllegalStateException expected) {
+		}
+
+		try {
+			s.createPartitionedScroll( Measure.class ).setPartitionProperty( "sensor" ).iterate();
+			fail( "the partition property should be integral" );
+		}
+		catch (HibernateException expected) {
+		}
+		s.close();
+	}
+
+	@Test
+	public void testNoInstance() {
+		StatelessSession s = sessionFactory().openStatelessSession();
+		final HibernateIterator results = s.createPartitionedScroll( Measure.class )
+				.setRestriction( PartitionedScroll.ALIAS + ".id < 0" )
+				.iterate();
+		assertFalse( results.hasNext() );
+		results.close();
+		s.close();
+	}
+
+	@Entity(name = "Measure")
+	public static class Measure {
+		@Id
+		private Long id;
+		private String sensor;
+		private Integer sequence;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.unionsubclass;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Tests building the persisters of distinct entity hierarchies concurrently.
+ */
+public class ParallelPersisterInstantiationTest extends BaseCoreFunctionalTestCase {
+	private int parallelism = 4;
+
+	@Override
+	public String[] getMappings() {
+		return new String[] { "unionsubclass/Beings.hbm.xml" };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.PERSISTER_INSTANTIATION_PARALLELISM, Integer.toString( parallelism ) );
+	}
+
+	@Test
+	public void testPersistersMatchSequentiallyBuiltPersisters() {
+		final Map<String,String> parallelFragments = selectFragments();
+		assertEquals( 12, parallelFragments.size() );
+
+		parallelism = 1;
+		rebuildSessionFactory();
+
+		assertEquals( selectFragments(), parallelFragments );
+	}
+
+	@Test
+	public void testPersistersAreUsable() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		Location mel = new Location( "Earth" );
+		Human gavin = new Human();
+		gavin.setIdentity( "gavin" );
+		gavin.setSex( 'M' );
+		gavin.setLocation( mel );
+		mel.addBeing( gavin );
+		s.persist( mel );
+		t.commit();
+		s.close();
+
+		s = openSession();
+		t = s.beginTransaction();
+		gavin = (Human) s.createQuery( "from Being" ).uniqueResult();
+		assertNotNull( gavin );
+		assertEquals( 1, gavin.getLocation().getBeings().size() );
+		s.delete( gavin );
+		s.delete( gavin.getLocation() );
+		t.commit();
+		s.close();
+	}
+
+	private Map<String,String> selectFragments() {
+		final Map<String,String> fragments = new TreeMap<String, String>();
+		for ( EntityPersister persister : sessionFactory().getEntityPersisters().values() ) {
+			fragments.put(
+					persister.getEntityName(),
+					( (OuterJoinLoadable) persister ).selectFragment( "x", "_0" )
+			);
+		}
+		for ( Object role : sessionFactory().getAllCollectionMetadata().keySet() ) {
+			final CollectionPersister persister = sessionFactory().getCollectionPersister( (String) role );
+			fragments.put( persister.getRole(), ( (QueryableCollection) persister ).selectFragment( "x", "_0" ) );
+		}
+		return fragments;
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class OpenAddressingHashMapTest extends BaseUnitTestCase {
+	@Test
+	public void testBasicOperations() {
+		final Map<String, Integer> map = new OpenAddressingHashMap<String, Integer>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( Integer.valueOf( 1 ), map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( Integer.valueOf( 3 ), map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertTrue( map.containsValue( 2 ) );
+		assertFalse( map.containsKey( "c" ) );
+
+		assertNull( map.put( null, 4 ) );
+		assertEquals( Integer.valueOf( 4 ), map.get( null ) );
+		assertTrue( map.keySet().contains( null ) );
+
+		assertEquals( Integer.valueOf( 2 ), map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertEquals( 2, map.size() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( "a" ) );
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		final OpenAddressingHashMap<CollidingKey, Integer> map = new OpenAddressingHashMap<CollidingKey, Integer>();
+		final Map<CollidingKey, Integer> expected = new HashMap<CollidingKey, Integer>();
+		final Random random = new Random( 42 );
+		for ( int i = 0; i < 20000; i++ ) {
+			final CollidingKey key = new CollidingKey( random.nextInt( 500 ) );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertEquals( expected.remove( key ), map.remove( key ) );
+			}
+			else {
+				assertEquals( expected.put( key, i ), map.put( key, i ) );
+			}
+			assertEquals( expected.size(), map.size() );
+		}
+		assertEquals( expected, map );
+		assertEquals( map, expected );
+		assertEquals( expected.hashCode(), map.hashCode() );
+		for ( CollidingKey key : expected.keySet() ) {
+			assertEquals( expected.get( key ), map.get( key ) );
+		}
+	}
+
+	@Test
+	public void testIteratorRemoval() {
+		final OpenAddressingHashMap<CollidingKey, Integer> map = new OpenAddressingHashMap<CollidingKey, Integer>();
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+
+		final Set<Integer> seen = new HashSet<Integer>();
+		final Iterator<Map.Entry<CollidingKey, Integer>> itr = map.entrySet().iterator();
+		while ( itr.hasNext() ) {
+			final Map.Entry<CollidingKey, Integer> entry = itr.next();
+			assertTrue( "entry visited twice : " + entry, seen.add( entry.getValue() ) );
+			if ( entry.getValue() % 2 == 0 ) {
+				itr.remove();
+			}
+		}
+		assertEquals( 1000, seen.size() );
+		assertEquals( 500, map.size() );
+		for ( int i = 0; i < 1000; i++ ) {
+			assertEquals( i % 2 != 0, map.containsKey( new CollidingKey( i ) ) );
+		}
+
+		// removal after hasNext() has already looked ahead
+		final Iterator<Integer> values = map.values().iterator();
+		while ( values.hasNext() ) {
+			values.next();
+			if ( values.hasNext() ) {
+				values.remove();
+			}
+		}
+		assertEquals( 1, map.size() );
+	}
+
+	@Test
+	public void testEntrySetValueWritesThrough() {
+		final Map<String, Integer> map = new OpenAddressingHashMap<String, Integer>();
+		map.put( "a", 1 );
+		for ( Map.Entry<String, Integer> entry : map.entrySet() ) {
+			entry.setValue( 2 );
+		}
+		assertEquals( Integer.valueOf( 2 ), map.get( "a" ) );
+	}
+
+	@Test
+	public void testFailFastIteration() {
+		final Map<String, Integer> map = new OpenAddressingHashMap<String, Integer>();
+		map.put( "a", 1 );
+		map.put( "b", 2 );
+		try {
+			for ( String key : map.keySet() ) {
+				map.put( key + key, 3 );
+			}
+			fail( "Expecting ConcurrentModificationException" );
+		}
+		catch (ConcurrentModificationException expected) {
+		}
+	}
+
+	@Test
+	public void testEnsureCapacity() {
+		final OpenAddressingHashMap<Integer, Integer> map = new OpenAddressingHashMap<Integer, Integer>();
+		for ( int i = 0; i < 10; i++ ) {
+			map.put( i, i );
+		}
+		map.ensureCapacity( 100000 );
+		for ( int i = 10; i < 100000; i++ ) {
+			map.put( i, i );
+		}
+		assertEquals( 100000, map.size() );
+		for ( int i = 0; i < 100000; i++ ) {
+			assertEquals( Integer.valueOf( i ), map.get( i ) );
+		}
+	}
+
+	private static class CollidingKey {
+		private final int value;
+
+		private CollidingKey(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			// plenty of collisions, forming long probe sequences
+			return value % 7;
+		}
+
+		@Override
+		public String toString() {
+			return "CollidingKey(" + value + ")";
+		}
+	}
+}
@@ -6,10 +6,16 @@
  */
 package org.hibernate.cache.ehcache.internal.nonstop;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.access.BulkRegionAccessStrategy;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -23,7 +29,7 @@ import org.hibernate.persister.collection.CollectionPersister;
  * @author Abhishek Sanoujam
  * @author Alex Snaps
  */
-public class NonstopAwareCollectionRegionAccessStrategy implements CollectionRegionAccessStrategy {
+public class NonstopAwareCollectionRegionAccessStrategy implements CollectionRegionAccessStrategy, BulkRegionAccessStrategy {
 	private final CollectionRegionAccessStrategy actualStrategy;
 	private final HibernateNonstopCacheExceptionHandler hibernateNonstopExceptionHandler;
 
@@ -76,6 +82,28 @@ public class NonstopAwareCollectionRegionAccessStrategy implements CollectionReg
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp)
+			throws CacheException {
+		try {
+			if ( actualStrategy instanceof BulkRegionAccessStrategy ) {
+				return ( (BulkRegionAccessStrategy) actualStrategy ).getAll( session, keys, txTimestamp );
+			}
+			final Map<Object, Object> result = new HashMap<Object, Object>();
+			for ( Object key : keys ) {
+				final Object value = actualStrategy.get( session, key, txTimestamp );
+				if ( value != null ) {
+					result.put( key, value );
+				}
+			}
+			return result;
+		}
+		catch (NonStopCacheException nonStopCacheException) {
+			hibernateNonstopExceptionHandler.handleNonstopCacheException( nonStopCacheException );
+			return Collections.emptyMap();
+		}
+	}
+
 	@Override
 	public SoftLock lockItem(SessionImplementor session, Object key, Object version) throws CacheException {
 		try {
@@ -121,6 +149,39 @@ public class NonstopAwareCollectionRegionAccessStrategy implements CollectionReg
 		}
 	}
 
+	@Override
+	public int putAllFromLoad(
+			SessionImplementor session,
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException {
+		try {
+			if ( actualStrategy instanceof BulkRegionAccessStrategy ) {
+				return ( (BulkRegionAccessStrategy) actualStrategy ).putAllFromLoad(
+						session,
+						keys,
+						values,
+						txTimestamp,
+						versions,
+						minimalPutOverride
+				);
+			}
+			int count = 0;
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( actualStrategy.putFromLoad( session, keys[i], values[i], txTimestamp, versions[i], minimalPutOverride ) ) {
+					count++;
+				}
+			}
+			return count;
+		}
+		catch (NonStopCacheException nonStopCacheException) {
+			hibernateNonstopExceptionHandler.handleNonstopCacheException( nonStopCacheException );
+			return 0;
+		}
+	}
+
 	@Override
 	public void remove(SessionImplementor session, Object key) throws CacheException {
 		try {
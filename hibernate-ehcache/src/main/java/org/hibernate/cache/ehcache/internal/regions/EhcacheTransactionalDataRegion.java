@@ -6,13 +6,24 @@
  */
 package org.hibernate.cache.ehcache.internal.regions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
 import net.sf.ehcache.concurrent.CacheLockProvider;
 import net.sf.ehcache.concurrent.LockType;
+import net.sf.ehcache.concurrent.ReadWriteLockSync;
+import net.sf.ehcache.concurrent.StripedReadWriteLock;
 import net.sf.ehcache.concurrent.StripedReadWriteLockSync;
+import net.sf.ehcache.concurrent.Sync;
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
@@ -112,6 +123,36 @@ public class EhcacheTransactionalDataRegion extends EhcacheDataRegion implements
 		}
 	}
 
+	/**
+	 * Get the values mapped to the given keys, using a single bulk read of the underlying cache.
+	 *
+	 * @param keys The cache keys
+	 *
+	 * @return The cached data, keyed by cache key; keys not mapped to a value are not contained
+	 */
+	public final Map<Object, Object> getAll(Collection<?> keys) {
+		try {
+			final Map<Object, Element> elements = getCache().getAll( keys );
+			final Map<Object, Object> result = new HashMap<Object, Object>( elements.size() );
+			for ( Map.Entry<Object, Element> entry : elements.entrySet() ) {
+				if ( entry.getValue() != null ) {
+					result.put( entry.getKey(), entry.getValue().getObjectValue() );
+				}
+			}
+			return result;
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+				return Collections.emptyMap();
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
 	/**
 	 * Map the given value to the given key, replacing any existing mapping for this key
 	 *
@@ -142,6 +183,39 @@ public class EhcacheTransactionalDataRegion extends EhcacheDataRegion implements
 		}
 	}
 
+	/**
+	 * Map each of the given values to its key using a single bulk write of the underlying cache, replacing any
+	 * existing mappings for those keys
+	 *
+	 * @param values The data to cache, keyed by cache key
+	 *
+	 * @throws CacheException Indicates a problem accessing the cache
+	 */
+	public final void putAll(Map<Object, Object> values) throws CacheException {
+		try {
+			final List<Element> elements = new ArrayList<Element>( values.size() );
+			for ( Map.Entry<Object, Object> entry : values.entrySet() ) {
+				elements.add( new Element( entry.getKey(), entry.getValue() ) );
+			}
+			getCache().putAll( elements );
+		}
+		catch (IllegalArgumentException e) {
+			throw new CacheException( e );
+		}
+		catch (IllegalStateException e) {
+			throw new CacheException( e );
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
 	/**
 	 * Remove the mapping for this key (if any exists).
 	 *
@@ -237,6 +311,48 @@ public class EhcacheTransactionalDataRegion extends EhcacheDataRegion implements
 		}
 	}
 
+	/**
+	 * Attempts to write lock the mappings for all of the given keys.  The lock stripes are acquired in their order
+	 * within the lock provider, so that concurrent bulk lockers cannot deadlock.
+	 *
+	 * @param keys The cache keys
+	 *
+	 * @return The acquired locks, to be released through {@link #writeUnlockAll}, or <code>null</code> if nothing
+	 * was locked because the lock provider of the cache is not striped (as for a clustered cache)
+	 *
+	 * @throws CacheException Indicates a problem accessing the cache
+	 */
+	public final List<Sync> writeLockAll(Collection<?> keys) throws CacheException {
+		if ( !( lockProvider instanceof StripedReadWriteLock ) ) {
+			return null;
+		}
+		final Set<Sync> syncs = Collections.newSetFromMap( new IdentityHashMap<Sync, Boolean>() );
+		for ( Object key : keys ) {
+			syncs.add( lockProvider.getSyncForKey( key ) );
+		}
+		final List<Sync> locks = new ArrayList<Sync>( syncs.size() );
+		for ( ReadWriteLockSync stripe : ( (StripedReadWriteLock) lockProvider ).getAllSyncs() ) {
+			if ( syncs.contains( stripe ) ) {
+				stripe.lock( LockType.WRITE );
+				locks.add( stripe );
+			}
+		}
+		return locks;
+	}
+
+	/**
+	 * Write unlocks the locks acquired by {@link #writeLockAll}.
+	 *
+	 * @param locks The acquired locks
+	 *
+	 * @throws CacheException Indicates a problem accessing the cache
+	 */
+	public final void writeUnlockAll(List<Sync> locks) throws CacheException {
+		for ( int i = locks.size() - 1; i >= 0; i-- ) {
+			locks.get( i ).unlock( LockType.WRITE );
+		}
+	}
+
 	/**
 	 * Attempts to read lock the mapping for the given key.
 	 *
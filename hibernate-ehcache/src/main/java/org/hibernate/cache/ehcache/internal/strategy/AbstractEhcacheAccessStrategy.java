@@ -6,6 +6,12 @@
  */
 package org.hibernate.cache.ehcache.internal.strategy;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.ehcache.internal.regions.EhcacheTransactionalDataRegion;
@@ -71,6 +77,42 @@ abstract class AbstractEhcacheAccessStrategy<T extends EhcacheTransactionalDataR
 	public abstract boolean putFromLoad(SessionImplementor session, Object key, Object value, long txTimestamp, Object version, boolean minimalPutOverride)
 			throws CacheException;
 
+	/**
+	 * Reads all of the given keys using a single bulk read of the region.
+	 *
+	 * @see org.hibernate.cache.spi.access.BulkRegionAccessStrategy#getAll(SessionImplementor, Collection, long)
+	 */
+	public Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp)
+			throws CacheException {
+		return region.getAll( keys );
+	}
+
+	/**
+	 * Puts all of the items not already cached (when minimal puts are requested) using a single bulk write of the
+	 * region, the minimal put check reading the region in bulk as well.
+	 *
+	 * @see org.hibernate.cache.spi.access.BulkRegionAccessStrategy#putAllFromLoad
+	 */
+	public int putAllFromLoad(
+			SessionImplementor session,
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException {
+		final Map<Object, Object> cached = minimalPutOverride
+				? region.getAll( Arrays.asList( keys ) )
+				: Collections.<Object, Object>emptyMap();
+		final Map<Object, Object> puts = new HashMap<Object, Object>( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( !cached.containsKey( keys[i] ) ) {
+				puts.put( keys[i], values[i] );
+			}
+		}
+		region.putAll( puts );
+		return puts.size();
+	}
+
 	/**
 	 * Region locks are not supported.
 	 *
@@ -7,10 +7,17 @@
 package org.hibernate.cache.ehcache.internal.strategy;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 
+import net.sf.ehcache.concurrent.Sync;
+
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.ehcache.EhCacheMessageLogger;
@@ -74,6 +81,35 @@ abstract class AbstractReadWriteEhcacheAccessStrategy<T extends EhcacheTransacti
 		}
 	}
 
+	/**
+	 * Bulk counterpart of {@link #get(SessionImplementor, Object, long)}; unreadable items are omitted.  When the
+	 * region requires explicit read locks, each key is read (and locked) individually.
+	 *
+	 * @see org.hibernate.cache.spi.access.BulkRegionAccessStrategy#getAll(SessionImplementor, Collection, long)
+	 */
+	@Override
+	public final Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp)
+			throws CacheException {
+		final Map<Object, Object> result = new HashMap<Object, Object>();
+		if ( region().locksAreIndependentOfCache() ) {
+			for ( Object key : keys ) {
+				final Object value = get( session, key, txTimestamp );
+				if ( value != null ) {
+					result.put( key, value );
+				}
+			}
+		}
+		else {
+			for ( Map.Entry<Object, Object> entry : region().getAll( keys ).entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item != null && item.isReadable( txTimestamp ) ) {
+					result.put( entry.getKey(), item.getValue() );
+				}
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Returns <code>false</code> and fails to put the value if there is an existing un-writeable item mapped to this
 	 * key.
@@ -107,6 +143,50 @@ abstract class AbstractReadWriteEhcacheAccessStrategy<T extends EhcacheTransacti
 		}
 	}
 
+	/**
+	 * Write locks all of the keys, then puts the items for which there is no un-writeable item mapped to their key
+	 * using a single bulk read and a single bulk write of the region.  When the lock provider of the cache cannot
+	 * lock the keys in bulk, each item is put through
+	 * {@link #putFromLoad(SessionImplementor, Object, Object, long, Object, boolean)} instead.
+	 *
+	 * @see org.hibernate.cache.spi.access.BulkRegionAccessStrategy#putAllFromLoad
+	 */
+	@Override
+	public final int putAllFromLoad(
+			SessionImplementor session,
+			Object[] keys,
+			Object[] values,
+			long txTimestamp,
+			Object[] versions,
+			boolean minimalPutOverride) throws CacheException {
+		final List<Object> keyList = Arrays.asList( keys );
+		final List<Sync> locks = region().writeLockAll( keyList );
+		if ( locks == null ) {
+			int count = 0;
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( putFromLoad( session, keys[i], values[i], txTimestamp, versions[i], minimalPutOverride ) ) {
+					count++;
+				}
+			}
+			return count;
+		}
+		try {
+			final Map<Object, Object> items = region().getAll( keyList );
+			final Map<Object, Object> puts = new HashMap<Object, Object>( keys.length );
+			for ( int i = 0; i < keys.length; i++ ) {
+				final Lockable item = (Lockable) items.get( keys[i] );
+				if ( item == null || item.isWriteable( txTimestamp, versions[i], versionComparator ) ) {
+					puts.put( keys[i], new Item( values[i], versions[i], region().nextTimestamp() ) );
+				}
+			}
+			region().putAll( puts );
+			return puts.size();
+		}
+		finally {
+			region().writeUnlockAll( locks );
+		}
+	}
+
 	/**
 	 * Soft-lock a cache item.
 	 *
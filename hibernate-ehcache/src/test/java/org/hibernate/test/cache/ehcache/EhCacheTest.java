@@ -6,6 +6,7 @@
  */
 package org.hibernate.test.cache.ehcache;
 
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.Session;
@@ -97,6 +98,45 @@ public abstract class EhCacheTest extends BaseNonConfigCoreFunctionalTestCase {
 		s.close();
 	}
 
+	@Test
+	public void testQueryResultsAreCachedInBulk() {
+		Session s = openSession();
+		Transaction t = s.beginTransaction();
+		for ( int i = 0; i < 3; i++ ) {
+			Item item = new Item();
+			item.setName( "widget" + i );
+			item.setDescription( "A widget" );
+			s.persist( item );
+		}
+		t.commit();
+		s.close();
+
+		sessionFactory().getCache().evictEntityRegion( Item.class.getName() );
+		sessionFactory().getStatistics().clear();
+		SecondLevelCacheStatistics slcs = sessionFactory().getStatistics()
+				.getSecondLevelCacheStatistics( Item.class.getName() );
+
+		s = openSession();
+		t = s.beginTransaction();
+		List items = s.createQuery( "from Item" ).list();
+		t.commit();
+		s.close();
+
+		assertEquals( 3, items.size() );
+		assertEquals( 3, slcs.getPutCount() );
+		assertEquals( 3, slcs.getElementCountInMemory() );
+
+		s = openSession();
+		t = s.beginTransaction();
+		for ( Object item : items ) {
+			s.get( Item.class, ( (Item) item ).getId() );
+		}
+		assertEquals( 3, slcs.getHitCount() );
+		s.createQuery( "delete Item" ).executeUpdate();
+		t.commit();
+		s.close();
+	}
+
 	protected abstract Map getMapFromCacheEntry(final Object entry);
 
 	@Test
@@ -26,6 +26,7 @@ import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.collection.CollectionRegionImpl;
 import org.hibernate.cache.infinispan.entity.EntityRegionImpl;
 import org.hibernate.cache.infinispan.impl.BaseRegion;
+import org.hibernate.cache.infinispan.impl.BaseTransactionalDataRegion;
 import org.hibernate.cache.infinispan.naturalid.NaturalIdRegionImpl;
 import org.hibernate.cache.infinispan.query.QueryResultsRegionImpl;
 import org.hibernate.cache.infinispan.timestamp.ClusteredTimestampsRegionImpl;
@@ -35,6 +36,7 @@ import org.hibernate.cache.infinispan.tm.HibernateTransactionManagerLookup;
 import org.hibernate.cache.infinispan.util.CacheCommandFactory;
 import org.hibernate.cache.infinispan.util.Caches;
 import org.hibernate.cache.infinispan.util.Externalizers;
+import org.hibernate.cache.infinispan.util.NearCache;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheDataDescription;
@@ -48,6 +50,7 @@ import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
 
 import org.infinispan.AdvancedCache;
 import org.infinispan.commands.module.ModuleCommandFactory;
@@ -95,6 +98,10 @@ public class InfinispanRegionFactory implements RegionFactory {
 
 	private static final String MAX_IDLE_SUFFIX = ".expiration.max_idle";
 
+	private static final String NEAR_CACHE_MAX_ENTRIES_SUFFIX = ".near_cache.max_entries";
+
+	private static final String NEAR_CACHE_LIFESPAN_SUFFIX = ".near_cache.lifespan";
+
 //   private static final String STATISTICS_SUFFIX = ".statistics";
 
 	/**
@@ -266,6 +273,7 @@ public class InfinispanRegionFactory implements RegionFactory {
 		}
 		final AdvancedCache cache = getCache( regionName, COLLECTION_KEY, properties, metadata);
 		final CollectionRegionImpl region = new CollectionRegionImpl( cache, regionName, transactionManager, metadata, this, buildCacheKeysFactory() );
+		configureNearCache( region, regionName, COLLECTION_KEY, metadata.getKeyType() );
 		startRegion( region, regionName );
 		return region;
 	}
@@ -281,8 +289,10 @@ public class InfinispanRegionFactory implements RegionFactory {
 					metadata.isVersioned()
 			);
 		}
-		final AdvancedCache cache = getCache( regionName, metadata.isMutable() ? ENTITY_KEY : IMMUTABLE_ENTITY_KEY, properties, metadata );
+		final String typeKey = metadata.isMutable() ? ENTITY_KEY : IMMUTABLE_ENTITY_KEY;
+		final AdvancedCache cache = getCache( regionName, typeKey, properties, metadata );
 		final EntityRegionImpl region = new EntityRegionImpl( cache, regionName, transactionManager, metadata, this, buildCacheKeysFactory() );
+		configureNearCache( region, regionName, typeKey, metadata.getKeyType() );
 		startRegion( region, regionName );
 		return region;
 	}
@@ -295,6 +305,8 @@ public class InfinispanRegionFactory implements RegionFactory {
 		}
 		final AdvancedCache cache = getCache( regionName, NATURAL_ID_KEY, properties, metadata);
 		final NaturalIdRegionImpl region = new NaturalIdRegionImpl( cache, regionName, transactionManager, metadata, this, buildCacheKeysFactory());
+		// the key type of the metadata is the id type of the entity, not the type of its natural-id cache keys
+		configureNearCache( region, regionName, NATURAL_ID_KEY, null );
 		startRegion( region, regionName );
 		return region;
 	}
@@ -512,6 +524,37 @@ public class InfinispanRegionFactory implements RegionFactory {
 		return new DefaultCacheManager( holder, true );
 	}
 
+	private void configureNearCache(
+			BaseTransactionalDataRegion region,
+			String regionName,
+			String typeKey,
+			Type keyType) {
+		TypeOverrides override = typeOverrides.get( regionName );
+		if ( override == null || !override.isNearCacheMaxEntriesOverridden() ) {
+			override = typeOverrides.get( typeKey );
+		}
+		if ( override == null || override.getNearCacheMaxEntries() <= 0 ) {
+			return;
+		}
+		if ( log.isDebugEnabled() ) {
+			log.debugf(
+					"Near cache of region [%s]: max entries=%d, lifespan=%d",
+					regionName,
+					override.getNearCacheMaxEntries(),
+					override.getNearCacheLifespan()
+			);
+		}
+		// with multi-tenancy the keys are wrapped, otherwise they may not define hashCode/equals correctly
+		final boolean rawKeys = settings.getMultiTenancyStrategy() == MultiTenancyStrategy.NONE;
+		region.setNearCache(
+				new NearCache(
+						override.getNearCacheMaxEntries(),
+						override.getNearCacheLifespan(),
+						rawKeys ? keyType : null
+				)
+		);
+	}
+
 	private void startRegion(BaseRegion region, String regionName) {
 		regionNames.add( regionName );
 		getCacheCommandFactory( region.getCache() ).addRegion( regionName, region );
@@ -566,6 +609,14 @@ public class InfinispanRegionFactory implements RegionFactory {
 			cfgOverride = getOrCreateConfig( prefixLoc, key, suffixLoc );
 			cfgOverride.setExpirationMaxIdle( Long.parseLong( extractProperty( key, properties ) ) );
 		}
+		else if ( (suffixLoc = key.indexOf( NEAR_CACHE_MAX_ENTRIES_SUFFIX )) != -1 ) {
+			cfgOverride = getOrCreateConfig( prefixLoc, key, suffixLoc );
+			cfgOverride.setNearCacheMaxEntries( Integer.parseInt( extractProperty( key, properties ) ) );
+		}
+		else if ( (suffixLoc = key.indexOf( NEAR_CACHE_LIFESPAN_SUFFIX )) != -1 ) {
+			cfgOverride = getOrCreateConfig( prefixLoc, key, suffixLoc );
+			cfgOverride.setNearCacheLifespan( Long.parseLong( extractProperty( key, properties ) ) );
+		}
 	}
 
 	private String extractProperty(String key, Properties properties) {
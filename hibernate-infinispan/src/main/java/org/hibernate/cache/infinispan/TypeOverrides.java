@@ -42,6 +42,10 @@ public class TypeOverrides implements Serializable {
 
 	private boolean isExposeStatistics;
 
+	private int nearCacheMaxEntries;
+
+	private long nearCacheLifespan = -1;
+
 	public String getCacheName() {
 		return cacheName;
 	}
@@ -148,6 +152,43 @@ public class TypeOverrides implements Serializable {
 		this.isExposeStatistics = isExposeStatistics;
 	}
 
+	public int getNearCacheMaxEntries() {
+		return nearCacheMaxEntries;
+	}
+
+   /**
+    * Maximum number of entries kept in the near cache of each region of this
+    * cached type: a local copy of the hot entries, read without going through
+    * Infinispan and invalidated along with the cache entries. 0 disables the
+    * near cache. Only regions in invalidation mode can have a near cache.
+    *
+    * @param nearCacheMaxEntries number of maximum near cache entries
+    */
+	public void setNearCacheMaxEntries(int nearCacheMaxEntries) {
+		markAsOverriden( "nearCacheMaxEntries" );
+		this.nearCacheMaxEntries = nearCacheMaxEntries;
+	}
+
+	public boolean isNearCacheMaxEntriesOverridden() {
+		return overridden.contains( "nearCacheMaxEntries" );
+	}
+
+	public long getNearCacheLifespan() {
+		return nearCacheLifespan;
+	}
+
+   /**
+    * Maximum lifespan of a near cache entry, in milliseconds. -1 means the
+    * entries are only removed by invalidation or eviction.
+    *
+    * @param nearCacheLifespan long representing the maximum lifespan,
+    *                          in milliseconds, for a near cache entry
+    */
+	public void setNearCacheLifespan(long nearCacheLifespan) {
+		markAsOverriden( "nearCacheLifespan" );
+		this.nearCacheLifespan = nearCacheLifespan;
+	}
+
    /**
     * Apply the configuration overrides in this {@link TypeOverrides} instance
     * to the cache configuration builder passed as parameter.
@@ -195,6 +236,8 @@ public class TypeOverrides implements Serializable {
 				+ ", maxEntries=" + evictionMaxEntries
 				+ ", lifespan=" + expirationLifespan
 				+ ", maxIdle=" + expirationMaxIdle
+				+ ", nearCacheMaxEntries=" + nearCacheMaxEntries
+				+ ", nearCacheLifespan=" + nearCacheLifespan
 				+ '}';
 	}
 
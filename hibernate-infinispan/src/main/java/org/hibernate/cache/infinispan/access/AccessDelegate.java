@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.infinispan.access;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -22,6 +25,18 @@ import org.hibernate.engine.spi.SessionImplementor;
 public interface AccessDelegate {
 	Object get(SessionImplementor session, Object key, long txTimestamp) throws CacheException;
 
+	/**
+	 * Attempt to retrieve several objects from the cache at once.
+	 *
+	 * @param session Current session
+	 * @param keys The keys of the items to be retrieved
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @return the cached objects keyed by their key; keys not found are not contained
+	 * @throws CacheException if the cache retrieval failed
+	 * @see org.hibernate.cache.spi.access.BulkRegionAccessStrategy#getAll
+	 */
+	Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp) throws CacheException;
+
 	/**
 	 * Attempt to cache an object, after loading from the database.
 	 *
@@ -50,6 +65,22 @@ public interface AccessDelegate {
 	boolean putFromLoad(SessionImplementor session, Object key, Object value, long txTimestamp, Object version, boolean minimalPutOverride)
 			throws CacheException;
 
+	/**
+	 * Attempt to cache several objects, after loading them from the database.
+	 *
+	 * @param session Current session.
+	 * @param keys The item keys
+	 * @param values The items, in the same order as the keys
+	 * @param txTimestamp a timestamp prior to the transaction start time
+	 * @param versions the item version numbers, in the same order as the keys
+	 * @param minimalPutOverride Explicit minimalPut flag
+	 * @return the number of objects successfully cached
+	 * @throws CacheException if storing the objects failed
+	 * @see org.hibernate.cache.spi.access.BulkRegionAccessStrategy#putAllFromLoad
+	 */
+	int putAllFromLoad(SessionImplementor session, Object[] keys, Object[] values, long txTimestamp, Object[] versions, boolean minimalPutOverride)
+			throws CacheException;
+
 	/**
 	 * Called after an item has been inserted (before the transaction completes),
 	 * instead of calling evict().
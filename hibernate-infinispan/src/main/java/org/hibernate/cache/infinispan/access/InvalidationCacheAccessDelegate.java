@@ -6,9 +6,18 @@
  */
 package org.hibernate.cache.infinispan.access;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.impl.BaseRegion;
 import org.hibernate.cache.infinispan.util.Caches;
+import org.hibernate.cache.infinispan.util.NearCache;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.infinispan.AdvancedCache;
 import org.infinispan.util.logging.Log;
@@ -58,13 +67,72 @@ public abstract class InvalidationCacheAccessDelegate implements AccessDelegate
 		if ( !region.checkValid() ) {
 			return null;
 		}
-		final Object val = cache.get( key );
+		final NearCache nearCache = putValidator.getNearCache();
+		if ( nearCache == null ) {
+			final Object val = cache.get( key );
+			if ( val == null ) {
+				putValidator.registerPendingPut(session, key, txTimestamp );
+			}
+			return val;
+		}
+		Object val = nearCache.get( key );
+		if ( val != null ) {
+			return val;
+		}
+		final long invalidations = nearCache.getInvalidations();
+		val = cache.get( key );
 		if ( val == null ) {
 			putValidator.registerPendingPut(session, key, txTimestamp );
 		}
+		else {
+			nearCache.putFromRegion( key, val, invalidations );
+		}
 		return val;
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp) throws CacheException {
+		if ( !region.checkValid() ) {
+			return Collections.emptyMap();
+		}
+		final NearCache nearCache = putValidator.getNearCache();
+		if ( nearCache == null ) {
+			final Map<Object, Object> values = Caches.getAll( cache, keys );
+			for ( Object key : keys ) {
+				if ( !values.containsKey( key ) ) {
+					putValidator.registerPendingPut( session, key, txTimestamp );
+				}
+			}
+			return values;
+		}
+		final Map<Object, Object> values = new HashMap<Object, Object>();
+		final List<Object> missingKeys = new ArrayList<Object>();
+		for ( Object key : keys ) {
+			final Object val = nearCache.get( key );
+			if ( val != null ) {
+				values.put( key, val );
+			}
+			else {
+				missingKeys.add( key );
+			}
+		}
+		if ( !missingKeys.isEmpty() ) {
+			final long invalidations = nearCache.getInvalidations();
+			final Map<Object, Object> regionValues = Caches.getAll( cache, missingKeys );
+			for ( Object key : missingKeys ) {
+				final Object val = regionValues.get( key );
+				if ( val == null ) {
+					putValidator.registerPendingPut( session, key, txTimestamp );
+				}
+				else {
+					nearCache.putFromRegion( key, val, invalidations );
+					values.put( key, val );
+				}
+			}
+		}
+		return values;
+	}
+
 	@Override
 	public boolean putFromLoad(SessionImplementor session, Object key, Object value, long txTimestamp, Object version) {
 		return putFromLoad(session, key, value, txTimestamp, version, false );
@@ -121,6 +189,54 @@ public abstract class InvalidationCacheAccessDelegate implements AccessDelegate
 		return true;
 	}
 
+	@Override
+	public int putAllFromLoad(SessionImplementor session, Object[] keys, Object[] values, long txTimestamp, Object[] versions, boolean minimalPutOverride)
+			throws CacheException {
+		if ( Caches.isTransactionalCache( cache ) ) {
+			// putForExternalRead suspends the ongoing transaction, the bulk read of the cached keys would be enlisted in it
+			int count = 0;
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( putFromLoad( session, keys[i], values[i], txTimestamp, versions[i], minimalPutOverride ) ) {
+					count++;
+				}
+			}
+			return count;
+		}
+		if ( !region.checkValid() ) {
+			if ( TRACE_ENABLED ) {
+				log.tracef( "Region %s not valid", region.getName() );
+			}
+			return 0;
+		}
+
+		final Map<Object, Object> cached = minimalPutOverride
+				? Caches.getAll( cache, Arrays.asList( keys ) )
+				: Collections.<Object, Object>emptyMap();
+		// the puts remain one putForExternalRead per key, which leaves the cached items in place and keeps the
+		// put local; only the region validity and the minimal put lookups are shared by the keys
+		int count = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( cached.containsKey( keys[i] ) ) {
+				continue;
+			}
+			PutFromLoadValidator.Lock lock = putValidator.acquirePutFromLoadLock( session, keys[i], txTimestamp );
+			if ( lock == null ) {
+				if ( TRACE_ENABLED ) {
+					log.tracef( "Put from load lock not acquired for key %s", keys[i] );
+				}
+				continue;
+			}
+			try {
+				writeCache.putForExternalRead( keys[i], values[i] );
+			}
+			finally {
+				putValidator.releasePutFromLoadLock( keys[i], lock );
+			}
+			count++;
+		}
+		return count;
+	}
+
 	@Override
 	public void remove(SessionImplementor session, Object key) throws CacheException {
 		if ( !putValidator.beginInvalidatingKey(session, key)) {
@@ -155,6 +271,7 @@ public abstract class InvalidationCacheAccessDelegate implements AccessDelegate
 
 	@Override
 	public void evict(Object key) throws CacheException {
+		putValidator.invalidateNearCache( key );
 		writeCache.remove( key );
 	}
 
@@ -20,7 +20,12 @@ import org.infinispan.context.Flag;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -71,6 +76,24 @@ public class NonStrictAccessDelegate implements AccessDelegate {
 		return value;
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp) throws CacheException {
+		if (txTimestamp < region.getLastRegionInvalidation() ) {
+			return Collections.emptyMap();
+		}
+		final Map<Object, Object> values = new HashMap<Object, Object>();
+		for ( Map.Entry<Object, Object> entry : Caches.getAll( cache, keys ).entrySet() ) {
+			Object value = entry.getValue();
+			if ( value instanceof VersionedEntry ) {
+				value = ( (VersionedEntry) value ).getValue();
+			}
+			if ( value != null ) {
+				values.put( entry.getKey(), value );
+			}
+		}
+		return values;
+	}
+
 	@Override
 	public boolean putFromLoad(SessionImplementor session, Object key, Object value, long txTimestamp, Object version) {
 		return putFromLoad(session, key, value, txTimestamp, version, false);
@@ -85,26 +108,8 @@ public class NonStrictAccessDelegate implements AccessDelegate {
 		}
 		assert version != null;
 
-		if (minimalPutOverride) {
-			Object prev = cache.get(key);
-			if (prev != null) {
-				Object oldVersion = getVersion(prev);
-				if (oldVersion != null) {
-					if (versionComparator.compare(version, oldVersion) <= 0) {
-						if (trace) {
-							log.tracef("putFromLoad not executed since version(%s) <= oldVersion(%s)", version, oldVersion);
-						}
-						return false;
-					}
-				}
-				else if (prev instanceof VersionedEntry && txTimestamp <= ((VersionedEntry) prev).getTimestamp()) {
-					if (trace) {
-						log.tracef("putFromLoad not executed since tx started at %d and entry was invalidated at %d",
-								txTimestamp, ((VersionedEntry) prev).getTimestamp());
-					}
-					return false;
-				}
-			}
+		if (minimalPutOverride && !canOverride(cache.get(key), version, txTimestamp)) {
+			return false;
 		}
 		// we can't use putForExternalRead since the PFER flag means that entry is not wrapped into context
 		// when it is present in the container. TombstoneCallInterceptor will deal with this.
@@ -115,6 +120,55 @@ public class NonStrictAccessDelegate implements AccessDelegate {
 		return true;
 	}
 
+	@Override
+	public int putAllFromLoad(SessionImplementor session, Object[] keys, Object[] values, long txTimestamp, Object[] versions, boolean minimalPutOverride)
+			throws CacheException {
+		long lastRegionInvalidation = region.getLastRegionInvalidation();
+		if (txTimestamp < lastRegionInvalidation) {
+			log.tracef("putAllFromLoad not executed since tx started at %d, before last region invalidation finished = %d", txTimestamp, lastRegionInvalidation);
+			return 0;
+		}
+		Map<Object, Object> prevs = minimalPutOverride ? Caches.getAll(cache, Arrays.asList(keys)) : Collections.<Object, Object>emptyMap();
+		Map<Object, Object> puts = new HashMap<Object, Object>(keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			assert versions[i] != null;
+			if (minimalPutOverride && !canOverride(prevs.get(keys[i]), versions[i], txTimestamp)) {
+				continue;
+			}
+			Object value = values[i];
+			if (!(value instanceof CacheEntry)) {
+				value = new VersionedEntry(value, versions[i], txTimestamp);
+			}
+			puts.put(keys[i], value);
+		}
+		// VersionedCallInterceptor compares the versions of each entry
+		putFromLoadCache.putAll(puts);
+		return puts.size();
+	}
+
+	private boolean canOverride(Object prev, Object version, long txTimestamp) {
+		if (prev == null) {
+			return true;
+		}
+		Object oldVersion = getVersion(prev);
+		if (oldVersion != null) {
+			if (versionComparator.compare(version, oldVersion) <= 0) {
+				if (trace) {
+					log.tracef("putFromLoad not executed since version(%s) <= oldVersion(%s)", version, oldVersion);
+				}
+				return false;
+			}
+		}
+		else if (prev instanceof VersionedEntry && txTimestamp <= ((VersionedEntry) prev).getTimestamp()) {
+			if (trace) {
+				log.tracef("putFromLoad not executed since tx started at %d and entry was invalidated at %d",
+						txTimestamp, ((VersionedEntry) prev).getTimestamp());
+			}
+			return false;
+		}
+		return true;
+	}
+
 	@Override
 	public boolean insert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
 		return false;
@@ -43,9 +43,17 @@ public class NonTxPutFromLoadInterceptor extends BaseCustomInterceptor {
 
 	@Override
 	public Object visitInvalidateCommand(InvocationContext ctx, InvalidateCommand command) throws Throwable {
-		if (!ctx.isOriginLocal() && command instanceof BeginInvalidationCommand) {
-			for (Object key : command.getKeys()) {
-				putFromLoadValidator.beginInvalidatingKey(((BeginInvalidationCommand) command).getSessionTransactionId(), key);
+		if (!ctx.isOriginLocal()) {
+			if (command instanceof BeginInvalidationCommand) {
+				for (Object key : command.getKeys()) {
+					putFromLoadValidator.beginInvalidatingKey(((BeginInvalidationCommand) command).getSessionTransactionId(), key);
+				}
+			}
+			else {
+				// plain invalidations (evictions) do not go through the validator, but still apply to the near cache
+				for (Object key : command.getKeys()) {
+					putFromLoadValidator.invalidateNearCache(key);
+				}
 			}
 		}
 		return invokeNextInterceptor(ctx, command);
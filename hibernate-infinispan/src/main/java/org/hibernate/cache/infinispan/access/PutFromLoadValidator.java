@@ -20,6 +20,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.cache.infinispan.InfinispanRegionFactory;
 import org.hibernate.cache.infinispan.util.CacheCommandInitializer;
+import org.hibernate.cache.infinispan.util.NearCache;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.resource.transaction.TransactionCoordinator;
@@ -124,6 +125,11 @@ public class PutFromLoadValidator {
 	 */
 	private final ThreadLocal<SessionImplementor> currentSession = new ThreadLocal<SessionImplementor>();
 
+	/**
+	 * Local copy of the hot entries of the region, invalidated along with them, if configured
+	 */
+	private volatile NearCache nearCache;
+
 	/**
 	 * Creates a new put from load validator instance.
 	 *
@@ -406,6 +412,7 @@ public class PutFromLoadValidator {
 			regionInvalidationTimestamp = Long.MAX_VALUE;
 			regionInvalidations++;
 		}
+		invalidateNearCache();
 
 		try {
 			// Acquire the lock for each entry to ensure any ongoing
@@ -438,6 +445,7 @@ public class PutFromLoadValidator {
 	 * Called when the region invalidation is finished.
 	 */
 	public void endInvalidatingRegion() {
+		invalidateNearCache();
 		synchronized (this) {
 			if (--regionInvalidations == 0) {
 				regionInvalidationTimestamp = System.currentTimeMillis();
@@ -534,6 +542,7 @@ public class PutFromLoadValidator {
 	}
 
 	public boolean beginInvalidatingWithPFER(Object lockOwner, Object key, Object valueForPFER) {
+		invalidateNearCache(key);
 		for (;;) {
 			PendingPutMap pending = new PendingPutMap(null);
 			PendingPutMap prev = pendingPuts.putIfAbsent(key, pending);
@@ -580,6 +589,8 @@ public class PutFromLoadValidator {
 	 * @return
 	 */
 	public boolean endInvalidatingKey(Object lockOwner, Object key, boolean doPFER) {
+		// values read while the key was being invalidated are not cached
+		invalidateNearCache(key);
 		PendingPutMap pending = pendingPuts.get(key);
 		if (pending == null) {
 			if (trace) {
@@ -610,6 +621,38 @@ public class PutFromLoadValidator {
 		}
 	}
 
+	public NearCache getNearCache() {
+		return nearCache;
+	}
+
+	/**
+	 * Sets the near cache of the region, invalidated along with the region entries.
+	 *
+	 * @param nearCache The near cache, or null if the region has none
+	 */
+	public void setNearCache(NearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	/**
+	 * Removes a key from the near cache of the region, if any, as its entry is being invalidated.
+	 *
+	 * @param key The key being invalidated
+	 */
+	public void invalidateNearCache(Object key) {
+		final NearCache nearCache = this.nearCache;
+		if (nearCache != null) {
+			nearCache.invalidate(key);
+		}
+	}
+
+	private void invalidateNearCache() {
+		final NearCache nearCache = this.nearCache;
+		if (nearCache != null) {
+			nearCache.invalidateAll();
+		}
+	}
+
 	public Object registerRemoteInvalidations(Object[] keys) {
 		SessionImplementor session = currentSession.get();
 		TransactionCoordinator transactionCoordinator = session == null ? null : session.getTransactionCoordinator();
@@ -21,6 +21,11 @@ import org.infinispan.context.Flag;
 import org.infinispan.util.logging.Log;
 import org.infinispan.util.logging.LogFactory;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -70,6 +75,27 @@ public class TombstoneAccessDelegate implements AccessDelegate {
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp) throws CacheException {
+		if (txTimestamp < region.getLastRegionInvalidation() ) {
+			return Collections.emptyMap();
+		}
+		final Map<Object, Object> values = new HashMap<Object, Object>();
+		for ( Map.Entry<Object, Object> entry : Caches.getAll( cache, keys ).entrySet() ) {
+			Object value = entry.getValue();
+			if ( value instanceof Tombstone ) {
+				continue;
+			}
+			else if ( value instanceof FutureUpdate ) {
+				value = ( (FutureUpdate) value ).getValue();
+			}
+			if ( value != null ) {
+				values.put( entry.getKey(), value );
+			}
+		}
+		return values;
+	}
+
 	@Override
 	public boolean putFromLoad(SessionImplementor session, Object key, Object value, long txTimestamp, Object version) {
 		return putFromLoad(session, key, value, txTimestamp, version, false);
@@ -82,20 +108,8 @@ public class TombstoneAccessDelegate implements AccessDelegate {
 			log.tracef("putFromLoad not executed since tx started at %d, before last region invalidation finished = %d", txTimestamp, lastRegionInvalidation);
 			return false;
 		}
-		if (minimalPutOverride) {
-			Object prev = cache.get(key);
-			if (prev instanceof Tombstone) {
-				Tombstone tombstone = (Tombstone) prev;
-				long lastTimestamp = tombstone.getLastTimestamp();
-				if (txTimestamp <= lastTimestamp) {
-					log.tracef("putFromLoad not executed since tx started at %d, before last invalidation finished = %d", txTimestamp, lastTimestamp);
-					return false;
-				}
-			}
-			else if (prev != null) {
-				log.tracef("putFromLoad not executed since cache contains %s", prev);
-				return false;
-			}
+		if (minimalPutOverride && !canOverride(cache.get(key), txTimestamp)) {
+			return false;
 		}
 		// we can't use putForExternalRead since the PFER flag means that entry is not wrapped into context
 		// when it is present in the container. TombstoneCallInterceptor will deal with this.
@@ -103,6 +117,41 @@ public class TombstoneAccessDelegate implements AccessDelegate {
 		return true;
 	}
 
+	@Override
+	public int putAllFromLoad(SessionImplementor session, Object[] keys, Object[] values, long txTimestamp, Object[] versions, boolean minimalPutOverride)
+			throws CacheException {
+		long lastRegionInvalidation = region.getLastRegionInvalidation();
+		if (txTimestamp < lastRegionInvalidation) {
+			log.tracef("putAllFromLoad not executed since tx started at %d, before last region invalidation finished = %d", txTimestamp, lastRegionInvalidation);
+			return 0;
+		}
+		Map<Object, Object> prevs = minimalPutOverride ? Caches.getAll(cache, Arrays.asList(keys)) : Collections.<Object, Object>emptyMap();
+		Map<Object, Object> puts = new HashMap<Object, Object>(keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			if (!minimalPutOverride || canOverride(prevs.get(keys[i]), txTimestamp)) {
+				puts.put(keys[i], new TombstoneUpdate(session.getTimestamp(), values[i]));
+			}
+		}
+		// TombstoneCallInterceptor applies each TombstoneUpdate as in putFromLoad
+		putFromLoadCache.putAll(puts);
+		return puts.size();
+	}
+
+	private boolean canOverride(Object prev, long txTimestamp) {
+		if (prev instanceof Tombstone) {
+			long lastTimestamp = ((Tombstone) prev).getLastTimestamp();
+			if (txTimestamp <= lastTimestamp) {
+				log.tracef("putFromLoad not executed since tx started at %d, before last invalidation finished = %d", txTimestamp, lastTimestamp);
+				return false;
+			}
+		}
+		else if (prev != null) {
+			log.tracef("putFromLoad not executed since cache contains %s", prev);
+			return false;
+		}
+		return true;
+	}
+
 	@Override
 	public boolean insert(SessionImplementor session, Object key, Object value, Object version) throws CacheException {
 		write(session, key, value);
@@ -12,6 +12,7 @@ import org.hibernate.cache.infinispan.util.Tombstone;
 import org.infinispan.AdvancedCache;
 import org.infinispan.commands.read.SizeCommand;
 import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.PutMapCommand;
 import org.infinispan.commons.util.CloseableIterable;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.container.entries.MVCCEntry;
@@ -74,6 +75,31 @@ public class TombstoneCallInterceptor extends CallInterceptor {
 		}
 	}
 
+	@Override
+	public Object visitPutMapCommand(InvocationContext ctx, PutMapCommand command) throws Throwable {
+		for (Map.Entry<Object, Object> entry : command.getMap().entrySet()) {
+			MVCCEntry e = (MVCCEntry) ctx.lookupEntry(entry.getKey());
+			if (e == null) {
+				continue;
+			}
+			Object value = entry.getValue();
+			if (value instanceof TombstoneUpdate) {
+				handleTombstoneUpdate(e, (TombstoneUpdate) value);
+			}
+			else if (value instanceof Tombstone) {
+				handleTombstone(e, (Tombstone) value);
+			}
+			else if (value instanceof FutureUpdate) {
+				// a conflicting future update has to override the metadata of the whole command
+				throw new UnsupportedOperationException("Future updates cannot be written in bulk");
+			}
+			else {
+				setValue(e, value);
+			}
+		}
+		return null;
+	}
+
 	private Object handleFutureUpdate(MVCCEntry e, FutureUpdate futureUpdate, PutKeyValueCommand command) {
 		Object storedValue = e.getValue();
 		if (storedValue instanceof FutureUpdate) {
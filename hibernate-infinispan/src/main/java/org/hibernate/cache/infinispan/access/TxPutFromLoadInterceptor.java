@@ -70,11 +70,13 @@ class TxPutFromLoadInterceptor extends BaseRpcInterceptor {
 					// ISPN-5605 InvalidateCommand does not correctly implement getAffectedKeys()
 					for (Object key : ((InvalidateCommand) wc).getKeys()) {
 						dataContainer.remove(key);
+						putFromLoadValidator.invalidateNearCache(key);
 					}
 				}
 				else {
 					for (Object key : wc.getAffectedKeys()) {
 						dataContainer.remove(key);
+						putFromLoadValidator.invalidateNearCache(key);
 					}
 				}
 			}
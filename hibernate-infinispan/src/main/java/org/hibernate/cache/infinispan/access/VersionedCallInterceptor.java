@@ -10,6 +10,7 @@ import org.hibernate.cache.infinispan.util.VersionedEntry;
 import org.infinispan.AdvancedCache;
 import org.infinispan.commands.read.SizeCommand;
 import org.infinispan.commands.write.PutKeyValueCommand;
+import org.infinispan.commands.write.PutMapCommand;
 import org.infinispan.commons.util.CloseableIterable;
 import org.infinispan.container.entries.CacheEntry;
 import org.infinispan.container.entries.MVCCEntry;
@@ -20,6 +21,7 @@ import org.infinispan.filter.NullValueConverter;
 import org.infinispan.interceptors.CallInterceptor;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -46,10 +48,24 @@ public class VersionedCallInterceptor extends CallInterceptor {
 	@Override
 	public Object visitPutKeyValueCommand(InvocationContext ctx, PutKeyValueCommand command) throws Throwable {
 		MVCCEntry e = (MVCCEntry) ctx.lookupEntry(command.getKey());
-		if (e == null) {
-			return null;
+		if (e != null) {
+			handlePut(e, command.getValue());
 		}
+		return null;
+	}
 
+	@Override
+	public Object visitPutMapCommand(InvocationContext ctx, PutMapCommand command) throws Throwable {
+		for (Map.Entry<Object, Object> entry : command.getMap().entrySet()) {
+			MVCCEntry e = (MVCCEntry) ctx.lookupEntry(entry.getKey());
+			if (e != null) {
+				handlePut(e, entry.getValue());
+			}
+		}
+		return null;
+	}
+
+	private void handlePut(MVCCEntry e, Object newValue) {
 		Object oldValue = e.getValue();
 		Object oldVersion = null;
 		long oldTimestamp = Long.MIN_VALUE;
@@ -62,7 +78,6 @@ public class VersionedCallInterceptor extends CallInterceptor {
 			oldVersion = ((org.hibernate.cache.spi.entry.CacheEntry) oldValue).getVersion();
 		}
 
-		Object newValue = command.getValue();
 		Object newVersion = null;
 		long newTimestamp = Long.MIN_VALUE;
 		Object actualNewValue = newValue;
@@ -85,7 +100,7 @@ public class VersionedCallInterceptor extends CallInterceptor {
 		if (newVersion == null) {
 			// eviction or post-commit removal: we'll store it with given timestamp
 			setValue(e, newValue);
-			return null;
+			return;
 		}
 		if (oldVersion == null) {
 			assert oldValue == null || oldTimestamp != Long.MIN_VALUE;
@@ -102,7 +117,7 @@ public class VersionedCallInterceptor extends CallInterceptor {
 			else {
 				setValue(e, newValue);
 			}
-			return null;
+			return;
 		}
 		int compareResult = versionComparator.compare(newVersion, oldVersion);
 		if (isRemoval && compareResult >= 0) {
@@ -111,7 +126,6 @@ public class VersionedCallInterceptor extends CallInterceptor {
 		else if (compareResult > 0) {
 			setValue(e, actualNewValue);
 		}
-		return null;
 	}
 
 	private Object setValue(MVCCEntry e, Object value) {
@@ -6,9 +6,13 @@
  */
 package org.hibernate.cache.infinispan.collection;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.access.AccessDelegate;
 import org.hibernate.cache.spi.CollectionRegion;
+import org.hibernate.cache.spi.access.BulkRegionAccessStrategy;
 import org.hibernate.cache.spi.access.CollectionRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -22,7 +26,7 @@ import org.hibernate.persister.collection.CollectionPersister;
  * @author Galder Zamarreño
  * @since 3.5
  */
-class CollectionAccess implements CollectionRegionAccessStrategy {
+class CollectionAccess implements CollectionRegionAccessStrategy, BulkRegionAccessStrategy {
 	private final CollectionRegionImpl region;
 	private final AccessDelegate delegate;
 
@@ -43,6 +47,11 @@ class CollectionAccess implements CollectionRegionAccessStrategy {
 		return delegate.get( session, key, txTimestamp );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp) throws CacheException {
+		return delegate.getAll( session, keys, txTimestamp );
+	}
+
 	public boolean putFromLoad(SessionImplementor session, Object key, Object value, long txTimestamp, Object version) throws CacheException {
 		return delegate.putFromLoad( session, key, value, txTimestamp, version );
 	}
@@ -52,6 +61,12 @@ class CollectionAccess implements CollectionRegionAccessStrategy {
 		return delegate.putFromLoad( session, key, value, txTimestamp, version, minimalPutOverride );
 	}
 
+	@Override
+	public int putAllFromLoad(SessionImplementor session, Object[] keys, Object[] values, long txTimestamp, Object[] versions, boolean minimalPutOverride)
+			throws CacheException {
+		return delegate.putAllFromLoad( session, keys, values, txTimestamp, versions, minimalPutOverride );
+	}
+
 	public void remove(SessionImplementor session, Object key) throws CacheException {
 		delegate.remove( session, key );
 	}
@@ -6,9 +6,13 @@
  */
 package org.hibernate.cache.infinispan.entity;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.access.AccessDelegate;
 import org.hibernate.cache.spi.EntityRegion;
+import org.hibernate.cache.spi.access.BulkRegionAccessStrategy;
 import org.hibernate.cache.spi.access.EntityRegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -22,7 +26,7 @@ import org.hibernate.persister.entity.EntityPersister;
  * @author Galder Zamarreño
  * @since 3.5
  */
-class ReadOnlyAccess implements EntityRegionAccessStrategy {
+class ReadOnlyAccess implements EntityRegionAccessStrategy, BulkRegionAccessStrategy {
 
 	protected final EntityRegionImpl region;
 	protected final AccessDelegate delegate;
@@ -44,6 +48,11 @@ class ReadOnlyAccess implements EntityRegionAccessStrategy {
 		return delegate.get( session, key, txTimestamp );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SessionImplementor session, Collection<?> keys, long txTimestamp) throws CacheException {
+		return delegate.getAll( session, keys, txTimestamp );
+	}
+
 	public EntityRegion getRegion() {
 		return this.region;
 	}
@@ -57,6 +66,12 @@ class ReadOnlyAccess implements EntityRegionAccessStrategy {
 		return delegate.putFromLoad( session, key, value, txTimestamp, version, minimalPutOverride );
 	}
 
+	@Override
+	public int putAllFromLoad(SessionImplementor session, Object[] keys, Object[] values, long txTimestamp, Object[] versions, boolean minimalPutOverride)
+			throws CacheException {
+		return delegate.putAllFromLoad( session, keys, values, txTimestamp, versions, minimalPutOverride );
+	}
+
 	public void remove(SessionImplementor session, Object key) throws CacheException {
 		delegate.remove ( session, key );
 	}
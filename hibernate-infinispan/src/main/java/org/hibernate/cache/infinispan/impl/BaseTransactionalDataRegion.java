@@ -17,6 +17,7 @@ import org.hibernate.cache.infinispan.access.TxInvalidationCacheAccessDelegate;
 import org.hibernate.cache.infinispan.access.VersionedCallInterceptor;
 import org.hibernate.cache.infinispan.util.Caches;
 import org.hibernate.cache.infinispan.util.FutureUpdate;
+import org.hibernate.cache.infinispan.util.NearCache;
 import org.hibernate.cache.infinispan.util.Tombstone;
 import org.hibernate.cache.infinispan.util.VersionedEntry;
 import org.hibernate.cache.spi.CacheDataDescription;
@@ -59,6 +60,7 @@ public abstract class BaseTransactionalDataRegion
 
 	private long tombstoneExpiration;
 	private PutFromLoadValidator validator;
+	private NearCache nearCache;
 
 	private AccessType accessType;
 	private Strategy strategy;
@@ -110,6 +112,19 @@ public abstract class BaseTransactionalDataRegion
 		return cacheKeysFactory;
 	}
 
+	/**
+	 * Sets the near cache of the region, to be used once the region is accessed in invalidation mode.
+	 *
+	 * @param nearCache local copy of the hot entries of the region
+	 */
+	public void setNearCache(NearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	public NearCache getNearCache() {
+		return nearCache;
+	}
+
 	protected synchronized AccessDelegate createAccessDelegate(AccessType accessType) {
 		if (accessType == null) {
 			throw new IllegalArgumentException();
@@ -120,6 +135,11 @@ public abstract class BaseTransactionalDataRegion
 		this.accessType = accessType;
 
 		CacheMode cacheMode = cache.getCacheConfiguration().clustering().cacheMode();
+		if (nearCache != null && (accessType == AccessType.NONSTRICT_READ_WRITE || !cacheMode.isInvalidation())) {
+			// the near cache relies on the invalidations sent to all the nodes
+			log.warnf("Near cache of region %s ignored: it requires an invalidation mode cache and a strict access type", name);
+			nearCache = null;
+		}
 		if (accessType == AccessType.NONSTRICT_READ_WRITE) {
 			prepareForVersionedEntries();
 			return new NonStrictAccessDelegate(this);
@@ -145,6 +165,7 @@ public abstract class BaseTransactionalDataRegion
 			return;
 		}
 		validator = new PutFromLoadValidator(cache);
+		validator.setNearCache(nearCache);
 		strategy = Strategy.VALIDATION;
 	}
 
@@ -196,7 +217,12 @@ public abstract class BaseTransactionalDataRegion
 		}
 		switch (strategy) {
 			case NONE:
+				super.runInvalidation(inTransaction);
+				return;
 			case VALIDATION:
+				if (nearCache != null) {
+					nearCache.invalidateAll();
+				}
 				super.runInvalidation(inTransaction);
 				return;
 			case TOMBSTONES:
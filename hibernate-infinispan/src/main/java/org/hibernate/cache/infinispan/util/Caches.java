@@ -6,6 +6,7 @@
  */
 package org.hibernate.cache.infinispan.util;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -277,6 +278,26 @@ public class Caches {
 	}
 
 
+	/**
+	 * Retrieve the values of several keys using a single (possibly remote) read.
+	 *
+	 * @param cache to read from
+	 * @param keys to look up
+	 * @return the non-null values found, keyed by their key
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<Object, Object> getAll(AdvancedCache cache, Collection<?> keys) {
+		final Set<?> keySet = keys instanceof Set ? (Set<?>) keys : new HashSet<Object>( keys );
+		final Map<Object, Object> found = cache.getAll( keySet );
+		final Map<Object, Object> values = new HashMap<Object, Object>( found.size() );
+		for ( Map.Entry<Object, Object> entry : found.entrySet() ) {
+			if ( entry.getValue() != null ) {
+				values.put( entry.getKey(), entry.getValue() );
+			}
+		}
+		return values;
+	}
+
 	public static void removeAll(AdvancedCache cache) {
 		CloseableIterator it = cache.keySet().iterator();
 		try {
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.infinispan.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.type.Type;
+
+/**
+ * Bounded local copy of the hot entries of a region, serving reads without going through the Infinispan cache.
+ * The least recently used entries are evicted beyond the maximum number of entries, and entries expire after
+ * their lifespan.
+ * <p/>
+ * Entries are invalidated along with the entries of the region, on this node and on the other nodes, through the
+ * {@link org.hibernate.cache.infinispan.access.PutFromLoadValidator} of the region. A value read from the region
+ * is only cached if no invalidation happened while it was read, so that a read racing with an invalidation
+ * cannot bring back a stale value.
+ *
+ * @see org.hibernate.cache.infinispan.TypeOverrides#setNearCacheMaxEntries(int)
+ */
+public class NearCache {
+	private final BoundedConcurrentHashMap<Object, Entry> entries;
+	private final long lifespan;
+	// the keys may not define hashCode/equals correctly (e.g. arrays)
+	private final Type keyType;
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * Creates a near cache.
+	 *
+	 * @param maxEntries maximum number of entries
+	 * @param lifespan lifespan of the entries in milliseconds, -1 for no expiration
+	 * @param keyType type comparing the keys, or {@code null} to compare them with their {@code equals}
+	 */
+	public NearCache(int maxEntries, long lifespan, Type keyType) {
+		this.entries = new BoundedConcurrentHashMap<Object, Entry>(
+				maxEntries,
+				16,
+				BoundedConcurrentHashMap.Eviction.LRU
+		);
+		this.lifespan = lifespan;
+		this.keyType = keyType;
+	}
+
+	/**
+	 * @param key key of the region entry
+	 * @return the cached value, or {@code null} if the key is not cached
+	 */
+	public Object get(Object key) {
+		final Object nearKey = toNearKey( key );
+		final Entry entry = entries.get( nearKey );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( entry.expiration != Long.MAX_VALUE && entry.expiration < System.currentTimeMillis() ) {
+			entries.remove( nearKey, entry );
+			return null;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * To be called before reading a value from the region, the result being passed to {@link #putFromRegion}.
+	 *
+	 * @return the number of invalidations so far
+	 */
+	public long getInvalidations() {
+		return invalidations.get();
+	}
+
+	/**
+	 * Caches a value read from the region, unless an invalidation happened since the read began.
+	 *
+	 * @param key key of the region entry
+	 * @param value value read from the region
+	 * @param invalidationsBeforeRead the {@link #getInvalidations() number of invalidations} before the read
+	 */
+	public void putFromRegion(Object key, Object value, long invalidationsBeforeRead) {
+		if ( invalidations.get() != invalidationsBeforeRead ) {
+			return;
+		}
+		final Object nearKey = toNearKey( key );
+		final Entry entry = new Entry(
+				value,
+				lifespan > 0 ? System.currentTimeMillis() + lifespan : Long.MAX_VALUE
+		);
+		entries.put( nearKey, entry );
+		// an invalidation may have happened while the entry was being put
+		if ( invalidations.get() != invalidationsBeforeRead ) {
+			entries.remove( nearKey, entry );
+		}
+	}
+
+	/**
+	 * Invalidates a key, as its region entry is being invalidated.
+	 *
+	 * @param key key of the region entry
+	 */
+	public void invalidate(Object key) {
+		invalidations.incrementAndGet();
+		entries.remove( toNearKey( key ) );
+	}
+
+	/**
+	 * Invalidates all the keys, as the region is being invalidated.
+	 */
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		entries.clear();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private Object toNearKey(Object key) {
+		return keyType == null ? key : new TypedKey( keyType, key );
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long expiration;
+
+		private Entry(Object value, long expiration) {
+			this.value = value;
+			this.expiration = expiration;
+		}
+	}
+
+	private static final class TypedKey {
+		private final Type type;
+		private final Object key;
+		private final int hashCode;
+
+		private TypedKey(Type type, Object key) {
+			this.type = type;
+			this.key = key;
+			this.hashCode = type.getHashCode( key );
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof TypedKey && type.isEqual( key, ( (TypedKey) other ).key );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -8,6 +8,7 @@ import org.hibernate.cache.infinispan.impl.BaseRegion;
 import org.hibernate.cache.infinispan.util.Caches;
 import org.hibernate.cache.internal.CacheDataDescriptionImpl;
 import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.access.BulkRegionAccessStrategy;
 import org.hibernate.cache.spi.access.RegionAccessStrategy;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
@@ -47,6 +48,7 @@ import java.util.concurrent.CountDownLatch;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -256,6 +258,43 @@ public abstract class AbstractRegionAccessStrategyTest<R extends BaseRegion, S e
 				new TestSynchronization.UnlockItem(strategy, session, key, softLock));
 	}
 
+	@Test
+	public void testPutAllFromLoad() throws Exception {
+		final Object[] keys = { generateNextKey(), generateNextKey() };
+		BulkRegionAccessStrategy bulkAccessStrategy = (BulkRegionAccessStrategy) localAccessStrategy;
+
+		SessionImplementor s1 = mockedSession();
+		assertEquals(2, bulkAccessStrategy.putAllFromLoad(s1, keys, new Object[] { VALUE1, VALUE2 }, s1.getTimestamp(), new Object[] { 1, 1 }, false));
+		SessionImplementor s2 = mockedSession();
+		assertEquals(VALUE1, localAccessStrategy.get(s2, keys[0], s2.getTimestamp()));
+		assertEquals(VALUE2, localAccessStrategy.get(s2, keys[1], s2.getTimestamp()));
+
+		// the cached items are left in place by minimal puts
+		SessionImplementor s3 = mockedSession();
+		assertEquals(0, bulkAccessStrategy.putAllFromLoad(s3, keys, new Object[] { VALUE2, VALUE1 }, s3.getTimestamp(), new Object[] { 1, 1 }, true));
+		SessionImplementor s4 = mockedSession();
+		assertEquals(VALUE1, localAccessStrategy.get(s4, keys[0], s4.getTimestamp()));
+		assertEquals(VALUE2, localAccessStrategy.get(s4, keys[1], s4.getTimestamp()));
+	}
+
+	@Test
+	public void testPutAllFromLoadKeepsCachedItems() throws Exception {
+		final Object[] keys = { generateNextKey(), generateNextKey() };
+		BulkRegionAccessStrategy bulkAccessStrategy = (BulkRegionAccessStrategy) localAccessStrategy;
+
+		SessionImplementor s1 = mockedSession();
+		assertTrue(localAccessStrategy.putFromLoad(s1, keys[0], VALUE1, s1.getTimestamp(), 1));
+
+		// without minimal puts, the items are still put for external read, which leaves the cached ones in place
+		SessionImplementor s2 = mockedSession();
+		bulkAccessStrategy.putAllFromLoad(s2, keys, new Object[] { VALUE2, VALUE2 }, s2.getTimestamp(), new Object[] { 1, 1 }, false);
+		SessionImplementor s3 = mockedSession();
+		if (isUsingInvalidation()) {
+			assertEquals(VALUE1, localAccessStrategy.get(s3, keys[0], s3.getTimestamp()));
+		}
+		assertEquals(VALUE2, localAccessStrategy.get(s3, keys[1], s3.getTimestamp()));
+	}
+
 	@Test
 	public void testRemoveAll() throws Exception {
 		evictOrRemoveAllTest(false);
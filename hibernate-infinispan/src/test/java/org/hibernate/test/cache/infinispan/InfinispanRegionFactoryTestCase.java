@@ -16,15 +16,18 @@ import org.hibernate.cache.CacheException;
 import org.hibernate.cache.infinispan.InfinispanRegionFactory;
 import org.hibernate.cache.infinispan.collection.CollectionRegionImpl;
 import org.hibernate.cache.infinispan.entity.EntityRegionImpl;
+import org.hibernate.cache.infinispan.naturalid.NaturalIdRegionImpl;
 import org.hibernate.cache.infinispan.query.QueryResultsRegionImpl;
 import org.hibernate.cache.infinispan.timestamp.TimestampsRegionImpl;
 import org.hibernate.cache.infinispan.tm.HibernateTransactionManagerLookup;
+import org.hibernate.cache.infinispan.util.NearCache;
 import org.hibernate.cache.internal.CacheDataDescriptionImpl;
 import org.hibernate.cache.spi.CacheDataDescription;
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.transaction.jta.platform.internal.AbstractJtaPlatform;
 import org.hibernate.engine.transaction.jta.platform.internal.JBossStandAloneJtaPlatform;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.BinaryType;
 
 import org.hibernate.test.cache.infinispan.util.InfinispanTestingSetup;
 import org.hibernate.test.cache.infinispan.util.TestInfinispanRegionFactory;
@@ -293,6 +296,50 @@ public class InfinispanRegionFactoryTestCase  {
 		}
 	}
 
+	@Test
+	public void testBuildEntityRegionsWithNearCache() {
+		final String person = "com.acme.Person";
+		final String address = "com.acme.Address";
+		final String car = "com.acme.Car";
+		Properties p = createProperties();
+		p.setProperty("hibernate.cache.infinispan.entity.near_cache.max_entries", "1000");
+		p.setProperty("hibernate.cache.infinispan.com.acme.Person.near_cache.max_entries", "5000");
+		p.setProperty("hibernate.cache.infinispan.com.acme.Person.near_cache.lifespan", "60000");
+		p.setProperty("hibernate.cache.infinispan.com.acme.Car.near_cache.max_entries", "0");
+		InfinispanRegionFactory factory = createRegionFactory(p);
+		try {
+			assertEquals(1000, factory.getTypeOverrides().get("entity").getNearCacheMaxEntries());
+			assertEquals(5000, factory.getTypeOverrides().get(person).getNearCacheMaxEntries());
+			assertEquals(60000, factory.getTypeOverrides().get(person).getNearCacheLifespan());
+			EntityRegionImpl region = (EntityRegionImpl) factory.buildEntityRegion(person, p, MUTABLE_NON_VERSIONED);
+			assertNotNull(region.getNearCache());
+			region = (EntityRegionImpl) factory.buildEntityRegion(address, p, MUTABLE_NON_VERSIONED);
+			assertNotNull(region.getNearCache());
+			region = (EntityRegionImpl) factory.buildEntityRegion(car, p, MUTABLE_NON_VERSIONED);
+			assertNull(region.getNearCache());
+		} finally {
+			factory.stop();
+		}
+	}
+
+	@Test
+	public void testBuildNaturalIdRegionWithNearCache() {
+		Properties p = createProperties();
+		p.setProperty("hibernate.cache.infinispan.naturalid.near_cache.max_entries", "1000");
+		InfinispanRegionFactory factory = createRegionFactory(p);
+		try {
+			// the natural-id keys are not values of the entity id type
+			CacheDataDescription metadata = new CacheDataDescriptionImpl(true, false, null, BinaryType.INSTANCE);
+			NaturalIdRegionImpl region = (NaturalIdRegionImpl) factory.buildNaturalIdRegion("com.acme.Person##NaturalId", p, metadata);
+			NearCache nearCache = region.getNearCache();
+			assertNotNull(nearCache);
+			nearCache.putFromRegion("naturalId", "1", nearCache.getInvalidations());
+			assertEquals("1", nearCache.get("naturalId"));
+		} finally {
+			factory.stop();
+		}
+	}
+
 	@Test
 	public void testBuildImmutableEntityRegion() {
 		AdvancedCache cache;
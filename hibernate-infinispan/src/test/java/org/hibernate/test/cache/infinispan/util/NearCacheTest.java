@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache.infinispan.util;
+
+import org.hibernate.cache.infinispan.util.NearCache;
+import org.hibernate.cache.internal.OldNaturalIdCacheKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.type.BinaryType;
+import org.hibernate.type.StringType;
+import org.hibernate.type.Type;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the near cache of the regions.
+ */
+public class NearCacheTest {
+	@Test
+	public void testInvalidation() {
+		NearCache nearCache = new NearCache(100, -1, null);
+		nearCache.putFromRegion("a", "1", nearCache.getInvalidations());
+		nearCache.putFromRegion("b", "2", nearCache.getInvalidations());
+		assertEquals("1", nearCache.get("a"));
+		nearCache.invalidate("a");
+		assertNull(nearCache.get("a"));
+		assertEquals("2", nearCache.get("b"));
+		nearCache.invalidateAll();
+		assertNull(nearCache.get("b"));
+		assertEquals(0, nearCache.size());
+	}
+
+	@Test
+	public void testReadRacingWithInvalidation() {
+		NearCache nearCache = new NearCache(100, -1, null);
+		long invalidations = nearCache.getInvalidations();
+		// the key is invalidated while its value is read from the region
+		nearCache.invalidate("a");
+		nearCache.putFromRegion("a", "stale", invalidations);
+		assertNull(nearCache.get("a"));
+	}
+
+	@Test
+	public void testBounds() throws Exception {
+		NearCache nearCache = new NearCache(10, -1, null);
+		for (int i = 0; i < 100; i++) {
+			nearCache.putFromRegion(i, i, nearCache.getInvalidations());
+		}
+		assertTrue(nearCache.size() <= 10);
+
+		nearCache = new NearCache(10, 1, null);
+		nearCache.putFromRegion("a", "1", nearCache.getInvalidations());
+		Thread.sleep(10);
+		assertNull(nearCache.get("a"));
+	}
+
+	@Test
+	public void testKeyType() {
+		NearCache nearCache = new NearCache(100, -1, BinaryType.INSTANCE);
+		nearCache.putFromRegion(new byte[] {1, 2}, "1", nearCache.getInvalidations());
+		assertEquals("1", nearCache.get(new byte[] {1, 2}));
+		nearCache.invalidate(new byte[] {1, 2});
+		assertNull(nearCache.get(new byte[] {1, 2}));
+	}
+
+	@Test
+	public void testNaturalIdKeys() {
+		// the natural-id regions compare their keys with equals, whatever the id type of the entity
+		NearCache nearCache = new NearCache(100, -1, null);
+		nearCache.putFromRegion(naturalIdKey("a"), "1", nearCache.getInvalidations());
+		assertEquals("1", nearCache.get(naturalIdKey("a")));
+		assertNull(nearCache.get(naturalIdKey("b")));
+		nearCache.invalidate(naturalIdKey("a"));
+		assertNull(nearCache.get(naturalIdKey("a")));
+	}
+
+	private static Object naturalIdKey(String naturalId) {
+		SessionImplementor session = mock(SessionImplementor.class);
+		when(session.getFactory()).thenReturn(mock(SessionFactoryImplementor.class));
+		return new OldNaturalIdCacheKey(
+				new Object[] {naturalId}, new Type[] {StringType.INSTANCE}, new int[] {0}, "Person", session);
+	}
+}